@@ -0,0 +1,472 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.array;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.annotation.processing.Generated;
+
+import primavera.MemoryStats;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * {@link ArrayList} like data structure for numeric primitive type.
+ */
+@Generated("SpecializedCodeGenerator")
+public class CharList {
+
+    /** The current size. */
+    private volatile int size = 0;
+
+    /** The maximum length of the base array. */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /** The actual data store. */
+    private char[] array;
+
+    /** The factor to multiply the base array's length when it is full. */
+    private final float growthFactor;
+
+    /**
+     * Create empty array.
+     */
+    public CharList() {
+        this(16);
+    }
+
+    /**
+     * Create empty array with the specified array size.
+     */
+    public CharList(int initialRawArraySize) {
+        this(initialRawArraySize, 1.5f);
+    }
+
+    /**
+     * Create empty array with the specified array size and growth policy. The base array is
+     * widened geometrically, so appending n elements copies O(n) elements in total. For very large
+     * lists, consider {@link SegmentedCharList} which never copies the existing elements.
+     * 
+     * @param initialRawArraySize The initial length of the base array.
+     * @param growthFactor The factor to multiply the base array's length when it is full, it must
+     *            be greater than 1.
+     */
+    public CharList(int initialRawArraySize, float growthFactor) {
+        if (!(1 < growthFactor)) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1. [" + growthFactor + "]");
+        }
+        this.array = new char[initialRawArraySize];
+        this.growthFactor = growthFactor;
+    }
+
+    /**
+     * Add new value at last.
+     * 
+     * @param value A value to append.
+     * @return Chainable API.
+     */
+    public CharList add(char value) {
+        if (array.length <= size) {
+            widenBaseArary(size + 1);
+        }
+
+        array[size++] = value;
+        return this;
+    }
+
+    /**
+     * Add all values at last.
+     * 
+     * @param values Values to append.
+     * @return Chainable API.
+     */
+    public CharList addAll(char... values) {
+        return addAll(values, 0, values.length);
+    }
+
+    /**
+     * Add all values of the specified list at last.
+     * 
+     * @param values Values to append.
+     * @return Chainable API.
+     */
+    public CharList addAll(CharList values) {
+        return addAll(values.array, 0, values.size);
+    }
+
+    /**
+     * Add the specified range of values at last.
+     * 
+     * @param values Values to append.
+     * @param from The index of the first value to append (inclusive).
+     * @param to The index of the last value to append (exclusive).
+     * @return Chainable API.
+     */
+    private CharList addAll(char[] values, int from, int to) {
+        int length = to - from;
+        if (array.length < size + length) {
+            widenBaseArary(size + length);
+        }
+
+        System.arraycopy(values, from, array, size, length);
+        size += length;
+        return this;
+    }
+
+    /**
+     * Widen the base array's capacity.
+     */
+    private synchronized void widenBaseArary(int require) {
+        int length = array.length;
+        if (length <= require) {
+            int grown = (int) Math.min(MAX_ARRAY_SIZE, Math.max(length + 1, (long) (length * (double) growthFactor)));
+            char[] large = new char[Math.max(require, grown)];
+            System.arraycopy(array, 0, large, 0, length);
+            array = large;
+        }
+    }
+
+    /**
+     * Get the first element. If this array has no element, 0 will be returned.
+     * 
+     * @return A first element.
+     */
+    public char first() {
+        return size == 0 ? (char) 0 : array[0];
+    }
+
+    /**
+     * Get the last element. If this array has no element, 0 will be returned.
+     * 
+     * @return A last element.
+     */
+    public char last() {
+        return size == 0 ? (char) 0 : array[size - 1];
+    }
+
+    /**
+     * Get the value at the specified index. If out of bounded index is specified, 0 will be
+     * returned.
+     * 
+     * @param index An index to get.
+     * @return The indexed value.
+     */
+    public char get(int index) {
+        return 0 <= index && index < size ? array[index] : (char) 0;
+    }
+
+    /**
+     * Set the value at the specified index.
+     * 
+     * @param index An index to set.
+     * @param value A value to set.
+     * @return Chainable API.
+     */
+    public CharList set(int index, char value) {
+        ensureSize(index);
+        array[index] = value;
+        return this;
+    }
+
+    /**
+     * Increment the value at the specified index.
+     * 
+     * @param index An index to set.
+     * @param increment A value to increment.
+     * @return An updated value.
+     */
+    public char increment(int index, char increment) {
+        ensureSize(index);
+        return array[index] += increment;
+    }
+
+    /**
+     * Decrement the value at the specified index.
+     * 
+     * @param index An index to set.
+     * @param decrement A value to decrement.
+     * @return An updated value.
+     */
+    public char decrement(int index, char decrement) {
+        ensureSize(index);
+        return array[index] -= decrement;
+    }
+
+    /**
+     * Ensure size and base array' size.
+     * 
+     * @param index
+     */
+    private void ensureSize(int index) {
+        if (size <= index) {
+            size = index + 1;
+            if (array.length <= index) {
+                widenBaseArary(size);
+            }
+        } else if (index < 0) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    /**
+     * Get the number of elemenets.
+     * 
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check whether this array is empty or not.
+     * 
+     * @return
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Check whether this array is empty or not.
+     * 
+     * @return
+     */
+    public boolean isNotEmpty() {
+        return size != 0;
+    }
+
+    /**
+     * Clear all elements.
+     * 
+     * @return Chainable API.
+     */
+    public CharList clear() {
+        size = 0;
+        return this;
+    }
+
+    /**
+     * Replace all elements with the specified value.
+     * 
+     * @param value A value to fill.
+     * @return Chainable API.
+     */
+    public CharList fill(char value) {
+        Arrays.fill(array, 0, size, value);
+        return this;
+    }
+
+    /**
+     * Sort all elements into ascending numerical order.
+     * 
+     * @return Chainable API.
+     */
+    public CharList sort() {
+        Arrays.sort(array, 0, size);
+        return this;
+    }
+
+    /**
+     * Sort all elements into ascending numerical order by the parallel sort-merge.
+     * 
+     * @return Chainable API.
+     */
+    public CharList parallelSort() {
+        Arrays.parallelSort(array, 0, size);
+        return this;
+    }
+
+    /**
+     * Search the specified value using the binary search algorithm. The elements must be sorted.
+     * 
+     * @param value A value to search.
+     * @return The index of the value if it is contained, otherwise
+     *         <code>(-(<i>insertion point</i>) - 1)</code>.
+     * @see Arrays#binarySearch
+     */
+    public int binarySearch(char value) {
+        return Arrays.binarySearch(array, 0, size, value);
+    }
+
+    /**
+     * Find the index of the first occurrence of the specified value in the order of
+     * {@link Character#compare}, the same order as {@link #sort()} and {@link #binarySearch}.
+     * 
+     * @param value A value to search.
+     * @return The index of the value, or -1 if this array does not contain it.
+     */
+    public int indexOf(char value) {
+        char[] array = this.array;
+        for (int i = 0, size = this.size; i < size; i++) {
+            if (Character.compare(array[i], value) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Remove the elements in the specified range and shift the subsequent elements to left.
+     * 
+     * @param from The index of the first element to remove (inclusive).
+     * @param to The index of the last element to remove (exclusive).
+     * @return Chainable API.
+     */
+    public CharList removeRange(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+
+        System.arraycopy(array, to, array, from, size - to);
+        size -= to - from;
+        return this;
+    }
+
+    /**
+     * Remove all elements that satisfy the given predicate. The predicate is applied to all elements
+     * before any element is moved, so this list is left unchanged if it throws. The retained
+     * elements are then compacted in a single pass, keeping their order.
+     * 
+     * @param filter A predicate which returns {@code true} for elements to be removed.
+     * @return {@code true} if any elements were removed.
+     */
+    public boolean removeIf(IntPredicate filter) {
+        Objects.requireNonNull(filter);
+
+        char[] array = this.array;
+        int size = this.size;
+        int first = 0;
+        while (first < size && !filter.test(array[first])) {
+            first++;
+        }
+        if (first == size) {
+            return false;
+        }
+
+        // the bit set of the removed elements after the first one
+        long[] removed = new long[((size - first) >>> 6) + 1];
+        for (int i = first + 1; i < size; i++) {
+            if (filter.test(array[i])) {
+                int bit = i - first;
+                removed[bit >>> 6] |= 1L << bit;
+            }
+        }
+
+        int retained = first;
+        for (int i = first + 1; i < size; i++) {
+            int bit = i - first;
+            if ((removed[bit >>> 6] & (1L << bit)) == 0) {
+                array[retained++] = array[i];
+            }
+        }
+        this.size = retained;
+        return true;
+    }
+
+    /**
+     * Compute the sum of all elements. The sum of int and long overflows silently, see
+     * {@link CharArrays#sum}.
+     * 
+     * @return The sum, 0 if this array is empty.
+     */
+    public long sum() {
+        return CharArrays.sum(array, 0, size);
+    }
+
+    /**
+     * Compute the minimum value of all elements.
+     * 
+     * @return The minimum value, 0 if this array is empty.
+     */
+    public char min() {
+        return CharArrays.min(array, 0, size);
+    }
+
+    /**
+     * Compute the maximum value of all elements.
+     * 
+     * @return The maximum value, 0 if this array is empty.
+     */
+    public char max() {
+        return CharArrays.max(array, 0, size);
+    }
+
+    /**
+     * Compute the arithmetic mean of all elements.
+     * 
+     * @return The mean, {@link Double#NaN} if this array is empty.
+     */
+    public double mean() {
+        return CharArrays.mean(array, 0, size);
+    }
+
+    /**
+     * Compute the dot product with the specified array.
+     * 
+     * @param other An array which has the same size.
+     * @return The dot product.
+     * @throws IllegalArgumentException If the sizes are different.
+     */
+    public long dot(CharList other) {
+        if (size != other.size) {
+            throw new IllegalArgumentException("Size mismatch. [" + size + " : " + other.size + "]");
+        }
+        return CharArrays.dot(array, 0, other.array, 0, size);
+    }
+
+    /**
+     * Count the elements which are greater than the specified threshold.
+     * 
+     * @param threshold A threshold value.
+     * @return The number of the greater elements.
+     */
+    public int countGreaterThan(char threshold) {
+        return CharArrays.countGreaterThan(array, 0, size, threshold);
+    }
+
+    /**
+     * Create the sequential stream over all elements. The stream is sized and can be split at any
+     * index for the parallel processing.
+     * 
+     * @return A new created stream.
+     */
+    public IntStream stream() {
+        char[] array = this.array;
+        return java.util.stream.IntStream.range(0, size).map(i -> array[i]);
+    }
+
+    /**
+     * Expose low-level array.
+     * 
+     * @return Actual array.
+     */
+    public char[] asArray() {
+        return array;
+    }
+
+    /**
+     * Estimate the memory footprint of this list. The slack is the unused tail of the base array.
+     * 
+     * @return The memory statistics.
+     */
+    public MemoryStats footprint() {
+        char[] array = this.array;
+        long retained = MemoryStats.sizeOfObject(4 + 4 + MemoryStats.REFERENCE) + MemoryStats.sizeOfArray(array.length, Character.BYTES);
+        return MemoryStats.ofArray(size, array.length, Character.BYTES, retained);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "PrefixArray[Size: " + size + " Items: " + Arrays.toString(array) + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,268 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.array;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.processing.Generated;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Thread-safe append-only list for numeric primitive type. Any number of threads can append
+ * concurrently without locking, and readers can scan the elements up to {@link #size()} while the
+ * writers are working.
+ * <p>
+ * The elements are stored in the chunks whose length doubles (16, 32, 64, ...), so the list never
+ * copies the existing elements when it grows. An appender reserves its slot by incrementing the
+ * reservation counter, writes the value into the slot and marks it as filled. The published size
+ * is advanced over the contiguous filled slots by whichever appender observes them first, so it
+ * never exposes the slot whose value is not written yet.
+ */
+@Generated("SpecializedCodeGenerator")
+public class ConcurrentByteList {
+
+    /** The field updater. */
+    private static final AtomicIntegerFieldUpdater<ConcurrentByteList> RESERVED = AtomicIntegerFieldUpdater
+            .newUpdater(ConcurrentByteList.class, "reserved");
+
+    /** The field updater. */
+    private static final AtomicIntegerFieldUpdater<ConcurrentByteList> PUBLISHED = AtomicIntegerFieldUpdater
+            .newUpdater(ConcurrentByteList.class, "published");
+
+    /** The bit shift of the first chunk length. */
+    private static final int FIRST_SHIFT = 4;
+
+    /** The length of the first chunk. */
+    private static final int FIRST = 1 << FIRST_SHIFT;
+
+    /** The maximum number of elements. */
+    private static final int MAX_SIZE = Integer.MAX_VALUE - FIRST;
+
+    /** The chunks, the i-th chunk holds (FIRST << i) elements. */
+    private final AtomicReferenceArray<Chunk> chunks = new AtomicReferenceArray<>(31 - FIRST_SHIFT);
+
+    /** The number of reserved slots. */
+    private volatile int reserved;
+
+    /** The number of published (readable) elements. */
+    private volatile int published;
+
+    /**
+     * Add new value at last. This method is safe to call from multiple threads.
+     *
+     * @param value A value to append.
+     * @return Chainable API.
+     */
+    public ConcurrentByteList add(byte value) {
+        int index = RESERVED.getAndIncrement(this);
+        if (index < 0 || MAX_SIZE <= index) {
+            throw new IllegalStateException("Capacity exceeded");
+        }
+
+        int position = index + FIRST;
+        int bit = 31 - Integer.numberOfLeadingZeros(position);
+        Chunk chunk = chunk(bit - FIRST_SHIFT);
+        int offset = position - (1 << bit);
+        chunk.values[offset] = value;
+        chunk.fill(offset);
+        publish();
+        return this;
+    }
+
+    /**
+     * Get the chunk at the specified bucket, create it if needed.
+     *
+     * @param bucket A bucket index.
+     * @return The chunk.
+     */
+    private Chunk chunk(int bucket) {
+        Chunk chunk = chunks.get(bucket);
+        if (chunk == null) {
+            Chunk created = new Chunk(FIRST << bucket);
+            chunk = chunks.compareAndExchange(bucket, null, created);
+            if (chunk == null) {
+                chunk = created;
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Advance the published size over the contiguous filled slots.
+     */
+    private void publish() {
+        for (;;) {
+            int size = published;
+            if (size == reserved) {
+                return;
+            }
+
+            int position = size + FIRST;
+            int bit = 31 - Integer.numberOfLeadingZeros(position);
+            Chunk chunk = chunks.get(bit - FIRST_SHIFT);
+            // The appender of the unfilled slot will publish it and all the following filled slots.
+            if (chunk == null || !chunk.isFilled(position - (1 << bit))) {
+                return;
+            }
+            PUBLISHED.compareAndSet(this, size, size + 1);
+        }
+    }
+
+    /**
+     * Get the value at the specified index. If out of published index is specified, 0 will be
+     * returned.
+     *
+     * @param index An index to get.
+     * @return The indexed value.
+     */
+    public byte get(int index) {
+        if (index < 0 || published <= index) {
+            return (byte) 0;
+        }
+
+        int position = index + FIRST;
+        int bit = 31 - Integer.numberOfLeadingZeros(position);
+        return chunks.get(bit - FIRST_SHIFT).values[position - (1 << bit)];
+    }
+
+    /**
+     * Get the first element. If this list has no element, 0 will be returned.
+     *
+     * @return A first element.
+     */
+    public byte first() {
+        return get(0);
+    }
+
+    /**
+     * Get the last published element. If this list has no element, 0 will be returned.
+     *
+     * @return A last element.
+     */
+    public byte last() {
+        return get(published - 1);
+    }
+
+    /**
+     * Get the number of published elements. All elements below this size are readable.
+     *
+     * @return
+     */
+    public int size() {
+        return published;
+    }
+
+    /**
+     * Check whether this list is empty or not.
+     *
+     * @return
+     */
+    public boolean isEmpty() {
+        return published == 0;
+    }
+
+    /**
+     * Check whether this list is empty or not.
+     *
+     * @return
+     */
+    public boolean isNotEmpty() {
+        return published != 0;
+    }
+
+    /**
+     * Performs the given action for each published element in order. The elements appended during
+     * the iteration are not visited.
+     *
+     * @param action The action to be performed for each element.
+     */
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action);
+
+        int remaining = published;
+        for (int bucket = 0; 0 < remaining; bucket++) {
+            byte[] values = chunks.get(bucket).values;
+            int length = Math.min(values.length, remaining);
+            for (int i = 0; i < length; i++) {
+                action.accept(values[i]);
+            }
+            remaining -= length;
+        }
+    }
+
+    /**
+     * Copy the published elements into the new array.
+     *
+     * @return A snapshot of this list.
+     */
+    public byte[] toArray() {
+        int size = published;
+        byte[] array = new byte[size];
+        for (int bucket = 0, copied = 0; copied < size; bucket++) {
+            byte[] values = chunks.get(bucket).values;
+            int length = Math.min(values.length, size - copied);
+            System.arraycopy(values, 0, array, copied, length);
+            copied += length;
+        }
+        return array;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ConcurrentList[Size: " + published + "]";
+    }
+
+    /**
+     * The fixed length storage with the filled flags.
+     */
+    private static final class Chunk {
+
+        /** The element store. */
+        private final byte[] values;
+
+        /** The bit set of the filled slots. */
+        private final AtomicLongArray filled;
+
+        /**
+         * @param length The number of slots.
+         */
+        private Chunk(int length) {
+            this.values = new byte[length];
+            this.filled = new AtomicLongArray((length + 63) >>> 6);
+        }
+
+        /**
+         * Mark the specified slot as filled. The preceding write into the slot happens-before the
+         * read of this flag.
+         *
+         * @param offset A slot index.
+         */
+        private void fill(int offset) {
+            filled.getAndAccumulate(offset >>> 6, 1L << offset, (prev, bit) -> prev | bit);
+        }
+
+        /**
+         * Test whether the specified slot is filled.
+         *
+         * @param offset A slot index.
+         * @return The result.
+         */
+        private boolean isFilled(int offset) {
+            return (filled.get(offset >>> 6) & (1L << offset)) != 0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.array;
+
+import java.util.Objects;
+
+import javax.annotation.processing.Generated;
+
+
+/**
+ * Aggregation kernels over the range of primitive array. The loops are unrolled by four with the
+ * independent accumulators, so the consecutive additions do not wait for each other and the JIT
+ * compiler can keep the loop body in registers (and vectorize it where the type allows).
+ */
+@Generated("SpecializedCodeGenerator")
+public final class IntArrays {
+
+    /**
+     * Hide constructor.
+     */
+    private IntArrays() {
+    }
+
+    /**
+     * Compute the sum of the specified range. The sum of int and long overflows silently like the
+     * Java arithmetic of the element type, use {@link #mean} which accumulates in double when the
+     * sum can exceed its range. The small integral types (short, char and byte) are accumulated in
+     * long, so their sum never overflows.
+     *
+     * @param array A target array.
+     * @param from The index of the first element (inclusive).
+     * @param to The index of the last element (exclusive).
+     * @return The sum, 0 if the range is empty.
+     */
+    public static int sum(int[] array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.length);
+
+        int s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += array[i];
+            s1 += array[i + 1];
+            s2 += array[i + 2];
+            s3 += array[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += array[i];
+        }
+        s0 += s1;
+        s2 += s3;
+        s0 += s2;
+        return s0;
+    }
+
+    /**
+     * Compute the minimum value of the specified range in the order of {@link Integer#compare}.
+     *
+     * @param array A target array.
+     * @param from The index of the first element (inclusive).
+     * @param to The index of the last element (exclusive).
+     * @return The minimum value, 0 if the range is empty.
+     */
+    public static int min(int[] array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.length);
+        if (from == to) {
+            return 0;
+        }
+
+        int m0 = array[from], m1 = m0, m2 = m0, m3 = m0;
+        int i = from + 1;
+        for (; i + 3 < to; i += 4) {
+            if (Integer.compare(array[i], m0) < 0) m0 = array[i];
+            if (Integer.compare(array[i + 1], m1) < 0) m1 = array[i + 1];
+            if (Integer.compare(array[i + 2], m2) < 0) m2 = array[i + 2];
+            if (Integer.compare(array[i + 3], m3) < 0) m3 = array[i + 3];
+        }
+        for (; i < to; i++) {
+            if (Integer.compare(array[i], m0) < 0) m0 = array[i];
+        }
+        if (Integer.compare(m1, m0) < 0) m0 = m1;
+        if (Integer.compare(m3, m2) < 0) m2 = m3;
+        return Integer.compare(m2, m0) < 0 ? m2 : m0;
+    }
+
+    /**
+     * Compute the maximum value of the specified range in the order of {@link Integer#compare}.
+     *
+     * @param array A target array.
+     * @param from The index of the first element (inclusive).
+     * @param to The index of the last element (exclusive).
+     * @return The maximum value, 0 if the range is empty.
+     */
+    public static int max(int[] array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.length);
+        if (from == to) {
+            return 0;
+        }
+
+        int m0 = array[from], m1 = m0, m2 = m0, m3 = m0;
+        int i = from + 1;
+        for (; i + 3 < to; i += 4) {
+            if (Integer.compare(array[i], m0) > 0) m0 = array[i];
+            if (Integer.compare(array[i + 1], m1) > 0) m1 = array[i + 1];
+            if (Integer.compare(array[i + 2], m2) > 0) m2 = array[i + 2];
+            if (Integer.compare(array[i + 3], m3) > 0) m3 = array[i + 3];
+        }
+        for (; i < to; i++) {
+            if (Integer.compare(array[i], m0) > 0) m0 = array[i];
+        }
+        if (Integer.compare(m1, m0) > 0) m0 = m1;
+        if (Integer.compare(m3, m2) > 0) m2 = m3;
+        return Integer.compare(m2, m0) > 0 ? m2 : m0;
+    }
+
+    /**
+     * Compute the arithmetic mean of the specified range.
+     *
+     * @param array A target array.
+     * @param from The index of the first element (inclusive).
+     * @param to The index of the last element (exclusive).
+     * @return The mean, {@link Double#NaN} if the range is empty.
+     */
+    public static double mean(int[] array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.length);
+        if (from == to) {
+            return Double.NaN;
+        }
+
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += (double) array[i];
+            s1 += (double) array[i + 1];
+            s2 += (double) array[i + 2];
+            s3 += (double) array[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += (double) array[i];
+        }
+        return (s0 + s1 + s2 + s3) / (to - from);
+    }
+
+    /**
+     * Compute the dot product of the specified ranges. The products and the sum of int and long
+     * overflow silently like the Java arithmetic of the element type. The small integral types are
+     * multiplied and accumulated in long, so their dot product never overflows.
+     *
+     * @param one A target array.
+     * @param oneFrom The index of the first element in the first array.
+     * @param other A target array.
+     * @param otherFrom The index of the first element in the second array.
+     * @param length The number of elements to multiply.
+     * @return The dot product, 0 if the length is zero.
+     */
+    public static int dot(int[] one, int oneFrom, int[] other, int otherFrom, int length) {
+        Objects.checkFromIndexSize(oneFrom, length, one.length);
+        Objects.checkFromIndexSize(otherFrom, length, other.length);
+
+        int s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (; i + 3 < length; i += 4) {
+            s0 += one[oneFrom + i] * other[otherFrom + i];
+            s1 += one[oneFrom + i + 1] * other[otherFrom + i + 1];
+            s2 += one[oneFrom + i + 2] * other[otherFrom + i + 2];
+            s3 += one[oneFrom + i + 3] * other[otherFrom + i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += one[oneFrom + i] * other[otherFrom + i];
+        }
+        s0 += s1;
+        s2 += s3;
+        s0 += s2;
+        return s0;
+    }
+
+    /**
+     * Count the elements in the specified range which are greater than the threshold in the order
+     * of {@link Integer#compare}.
+     *
+     * @param array A target array.
+     * @param from The index of the first element (inclusive).
+     * @param to The index of the last element (exclusive).
+     * @param threshold A threshold value.
+     * @return The number of the greater elements.
+     */
+    public static int countGreaterThan(int[] array, int from, int to, int threshold) {
+        Objects.checkFromToIndex(from, to, array.length);
+
+        int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            c0 += Integer.compare(array[i], threshold) > 0 ? 1 : 0;
+            c1 += Integer.compare(array[i + 1], threshold) > 0 ? 1 : 0;
+            c2 += Integer.compare(array[i + 2], threshold) > 0 ? 1 : 0;
+            c3 += Integer.compare(array[i + 3], threshold) > 0 ? 1 : 0;
+        }
+        for (; i < to; i++) {
+            c0 += Integer.compare(array[i], threshold) > 0 ? 1 : 0;
+        }
+        return c0 + c1 + c2 + c3;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.array;
+
+import java.util.Arrays;
+
+import javax.annotation.processing.Generated;
+
+import primavera.MemoryStats;
+
+/**
+ * {@link DoubleList} like data structure for numeric primitive type which stores the elements in
+ * the fixed size segments. The segment and the position in it are addressed by shift and mask, and
+ * growing only allocates a new segment, so the existing elements are never copied. It is suitable
+ * for the very large list which would repeatedly copy the huge contiguous array.
+ */
+@Generated("SpecializedCodeGenerator")
+public class SegmentedDoubleList {
+
+    /** The current size. */
+    private volatile int size = 0;
+
+    /** The bit shift of the segment length. */
+    private final int shift;
+
+    /** The bit mask of the position in segment. */
+    private final int mask;
+
+    /** The actual data store. */
+    private double[][] segments;
+
+    /**
+     * Create empty array whose segment holds 16384 elements.
+     */
+    public SegmentedDoubleList() {
+        this(14);
+    }
+
+    /**
+     * Create empty array with the specified segment length.
+     *
+     * @param segmentShift The segment holds (1 << segmentShift) elements, it must be between 0 and
+     *            30.
+     */
+    public SegmentedDoubleList(int segmentShift) {
+        if (segmentShift < 0 || 30 < segmentShift) {
+            throw new IllegalArgumentException("Segment shift must be between 0 and 30. [" + segmentShift + "]");
+        }
+        this.shift = segmentShift;
+        this.mask = (1 << segmentShift) - 1;
+        this.segments = new double[4][];
+    }
+
+    /**
+     * Add new value at last.
+     *
+     * @param value A value to append.
+     * @return Chainable API.
+     */
+    public SegmentedDoubleList add(double value) {
+        int index = size;
+        ensureCapacity(index);
+        segments[index >>> shift][index & mask] = value;
+        size = index + 1;
+        return this;
+    }
+
+    /**
+     * Allocate the segments up to the specified index.
+     */
+    private void ensureCapacity(int index) {
+        int segment = index >>> shift;
+        if (segments.length <= segment) {
+            segments = Arrays.copyOf(segments, Math.max(segment + 1, segments.length * 2));
+        }
+
+        if (segments[segment] == null) {
+            for (int i = segment; 0 <= i && segments[i] == null; i--) {
+                segments[i] = new double[mask + 1];
+            }
+        }
+    }
+
+    /**
+     * Get the first element. If this array has no element, 0 will be returned.
+     *
+     * @return A first element.
+     */
+    public double first() {
+        return size == 0 ? 0d : segments[0][0];
+    }
+
+    /**
+     * Get the last element. If this array has no element, 0 will be returned.
+     *
+     * @return A last element.
+     */
+    public double last() {
+        return size == 0 ? 0d : get(size - 1);
+    }
+
+    /**
+     * Get the value at the specified index. If out of bounded index is specified, 0 will be
+     * returned.
+     *
+     * @param index An index to get.
+     * @return The indexed value.
+     */
+    public double get(int index) {
+        return 0 <= index && index < size ? segments[index >>> shift][index & mask] : 0d;
+    }
+
+    /**
+     * Set the value at the specified index.
+     *
+     * @param index An index to set.
+     * @param value A value to set.
+     * @return Chainable API.
+     */
+    public SegmentedDoubleList set(int index, double value) {
+        ensureSize(index);
+        segments[index >>> shift][index & mask] = value;
+        return this;
+    }
+
+    /**
+     * Increment the value at the specified index.
+     *
+     * @param index An index to set.
+     * @param increment A value to increment.
+     * @return An updated value.
+     */
+    public double increment(int index, double increment) {
+        ensureSize(index);
+        return segments[index >>> shift][index & mask] += increment;
+    }
+
+    /**
+     * Decrement the value at the specified index.
+     *
+     * @param index An index to set.
+     * @param decrement A value to decrement.
+     * @return An updated value.
+     */
+    public double decrement(int index, double decrement) {
+        ensureSize(index);
+        return segments[index >>> shift][index & mask] -= decrement;
+    }
+
+    /**
+     * Ensure size and segments.
+     *
+     * @param index
+     */
+    private void ensureSize(int index) {
+        if (size <= index) {
+            ensureCapacity(index);
+            size = index + 1;
+        } else if (index < 0) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    /**
+     * Get the number of elemenets.
+     *
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check whether this array is empty or not.
+     *
+     * @return
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Check whether this array is empty or not.
+     *
+     * @return
+     */
+    public boolean isNotEmpty() {
+        return size != 0;
+    }
+
+    /**
+     * Clear all elements. The allocated segments are kept for reuse.
+     *
+     * @return Chainable API.
+     */
+    public SegmentedDoubleList clear() {
+        size = 0;
+        return this;
+    }
+
+    /**
+     * Copy all elements into the new contiguous array.
+     *
+     * @return A snapshot of this array.
+     */
+    public double[] toArray() {
+        double[] array = new double[size];
+        for (int copied = 0; copied < array.length;) {
+            int length = Math.min(mask + 1, array.length - copied);
+            System.arraycopy(segments[copied >>> shift], 0, array, copied, length);
+            copied += length;
+        }
+        return array;
+    }
+
+    /**
+     * Estimate the memory footprint of this list. The slack is the unused part of the allocated
+     * segments.
+     * 
+     * @return The memory statistics.
+     */
+    public MemoryStats footprint() {
+        int allocated = 0;
+        while (allocated < segments.length && segments[allocated] != null) {
+            allocated++;
+        }
+
+        long capacity = (long) allocated << shift;
+        long retained = MemoryStats.sizeOfObject(4 + 4 + 4 + MemoryStats.REFERENCE) + MemoryStats.sizeOfArray(segments.length, MemoryStats.REFERENCE);
+        retained += allocated * MemoryStats.sizeOfArray(mask + 1, Double.BYTES);
+        return MemoryStats.ofArray(size, capacity, Double.BYTES, retained);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "SegmentedArray[Size: " + size + " Items: " + Arrays.toString(toArray()) + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.function;
+
+import javax.annotation.processing.Generated;
+
+
+@Generated("SpecializedCodeGenerator")
+public interface BytePentaFunction {
+
+    /**
+     * Composes a single value from five arguments.
+     * 
+     * @param param1 First parameter.
+     * @param param2 Second parameter.
+     * @param param3 Third parameter.
+     * @param param4 Fourth parameter.
+     * @param param5 Fifth parameter.
+     * @return A calculated result.
+     */
+    byte applyAsByte(byte param1, byte param2, byte param3, byte param4, byte param5);
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.function;
+
+import javax.annotation.processing.Generated;
+
+
+@Generated("SpecializedCodeGenerator")
+public interface CharTetraFunction {
+
+    /**
+     * Composes a single value from four arguments.
+     * 
+     * @param param1 First parameter.
+     * @param param2 Second parameter.
+     * @param param3 Third parameter.
+     * @param param4 Fourth parameter.
+     * @return A calculated result.
+     */
+    char applyAsChar(char param1, char param2, char param3, char param4);
+}
\ No newline at end of file
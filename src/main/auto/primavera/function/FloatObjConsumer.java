@@ -0,0 +1,25 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.function;
+
+import javax.annotation.processing.Generated;
+
+
+@Generated("SpecializedCodeGenerator")
+public interface FloatObjConsumer<V> {
+
+    /**
+     * Performs this operation on the given arguments.
+     * 
+     * @param param1 First parameter.
+     * @param param2 Second parameter.
+     */
+    void accept(float param1, V param2);
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.util.DoubleSummaryStatistics;
+
+import javax.annotation.processing.Generated;
+
+
+/**
+ * {@link NavigableByteMap} which keeps the aggregates (count, sum, min and max) of the measured
+ * values in its index, so the statistics of any key range can be computed in O(log n) without
+ * walking the entries.
+ */
+@Generated("SpecializedCodeGenerator")
+public interface AggregatingNavigableByteMap<V> extends NavigableByteMap<V> {
+
+    /**
+     * Returns the statistics of the measured values of all entries in this map.
+     *
+     * @return A new created statistics.
+     */
+    DoubleSummaryStatistics aggregate();
+
+    /**
+     * Returns the statistics of the measured values of the entries whose keys range from
+     * {@code fromKey} to {@code toKey} in this map's order. The range is clipped by the range of
+     * this map.
+     *
+     * @param fromKey low endpoint of the keys in the range
+     * @param fromInclusive {@code true} if the low endpoint is to be included
+     * @param toKey high endpoint of the keys in the range
+     * @param toInclusive {@code true} if the high endpoint is to be included
+     * @return A new created statistics.
+     */
+    DoubleSummaryStatistics aggregate(byte fromKey, boolean fromInclusive, byte toKey, boolean toInclusive);
+
+    /**
+     * Equivalent to {@code aggregate(fromKey, true, toKey, false)}.
+     *
+     * @param fromKey low endpoint (inclusive) of the keys in the range
+     * @param toKey high endpoint (exclusive) of the keys in the range
+     * @return A new created statistics.
+     */
+    default DoubleSummaryStatistics aggregate(byte fromKey, byte toKey) {
+        return aggregate(fromKey, true, toKey, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    AggregatingNavigableByteMap<V> descendingMap();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    AggregatingNavigableByteMap<V> subMap(byte fromKey, boolean fromInclusive, byte toKey, boolean toInclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    AggregatingNavigableByteMap<V> headMap(byte toKey, boolean inclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    AggregatingNavigableByteMap<V> tailMap(byte fromKey, boolean inclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    AggregatingNavigableByteMap<V> subMap(byte fromKey, byte toKey);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    AggregatingNavigableByteMap<V> headMap(byte toKey);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    AggregatingNavigableByteMap<V> tailMap(byte fromKey);
+}
\ No newline at end of file
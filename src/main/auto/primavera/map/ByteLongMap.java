@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import javax.annotation.processing.Generated;
+
+import primavera.MemoryStats;
+
+/**
+ * Map from primitive byte key to primitive long value. Neither the key nor the value
+ * is boxed, so the lookup and update operations don't allocate any object.
+ * <p>
+ * Because the value is primitive, the methods which return the previous value use
+ * {@code 0L} to represent "no mapping". Use {@link #containsKey(byte)}
+ * to distinguish these two cases if the map may hold such value.
+ */
+@Generated("SpecializedCodeGenerator")
+public interface ByteLongMap {
+
+    /**
+     * Returns the number of key-value mappings in this map.
+     *
+     * @return the number of key-value mappings in this map
+     */
+    int size();
+
+    /**
+     * Returns {@code true} if this map contains no key-value mappings.
+     *
+     * @return {@code true} if this map contains no key-value mappings
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified key.
+     *
+     * @param key key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     */
+    boolean containsKey(byte key);
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code 0L}
+     * if this map contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped
+     */
+    default long get(byte key) {
+        return getOrDefault(key, 0L);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code defaultValue} if this map
+     * contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @param defaultValue the default mapping of the key
+     * @return the value to which the specified key is mapped, or {@code defaultValue} if this map
+     *         contains no mapping for the key
+     */
+    long getOrDefault(byte key, long defaultValue);
+
+    /**
+     * Associates the specified value with the specified key in this map.
+     *
+     * @param key key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or {@code 0L} if
+     *         there was no mapping for {@code key}.
+     */
+    long put(byte key, long value);
+
+    /**
+     * If the specified key is not already associated with a value, associates it with the given
+     * value.
+     *
+     * @param key key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or {@code 0L} if
+     *         there was no mapping for {@code key}.
+     */
+    long putIfAbsent(byte key, long value);
+
+    /**
+     * Adds the specified delta to the value associated with the specified key. If the key is not
+     * already associated with a value, it is associated with the delta.
+     *
+     * @param key key with which the specified value is to be associated
+     * @param delta the value to add
+     * @return the new value associated with {@code key}
+     */
+    long addTo(byte key, long delta);
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or {@code 0L} if
+     *         there was no mapping for {@code key}.
+     */
+    long remove(byte key);
+
+    /**
+     * Removes all of the mappings from this map.
+     */
+    void clear();
+
+    /**
+     * Performs the given action for each entry in this map until all entries have been processed.
+     *
+     * @param action The action to be performed for each entry
+     */
+    void forEach(ByteLongConsumer action);
+
+    /**
+     * Returns the snapshot of all keys in this map.
+     *
+     * @return A new created array.
+     */
+    byte[] keys();
+
+    /**
+     * Returns the snapshot of all values in this map. The order is same as {@link #keys()}.
+     *
+     * @return A new created array.
+     */
+    long[] values();
+
+    /**
+     * Estimate the memory footprint of the key table and the value table of this map.
+     *
+     * @return The memory statistics.
+     */
+    MemoryStats footprint();
+
+    /**
+     * Represents an operation that accepts a primitive key and a primitive value.
+     */
+    @FunctionalInterface
+    interface ByteLongConsumer {
+
+        /**
+         * Performs this operation on the given mapping.
+         *
+         * @param key A key.
+         * @param value A value.
+         */
+        void accept(byte key, long value);
+    }
+
+    /**
+     * Create the hash map for primitive byte key and primitive long value which is
+     * backed by the flat open addressing table.
+     *
+     * @return A new created map.
+     */
+    public static ByteLongMap createHashMap() {
+        return new HashByteLongMap(0);
+    }
+
+    /**
+     * Create the hash map for primitive byte key and primitive long value which is
+     * backed by the flat open addressing table.
+     *
+     * @param expectedSize The number of mappings which the map will hold without resizing.
+     * @return A new created map.
+     */
+    public static ByteLongMap createHashMap(int expectedSize) {
+        return new HashByteLongMap(expectedSize);
+    }
+}
\ No newline at end of file
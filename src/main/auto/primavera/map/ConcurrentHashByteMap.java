@@ -0,0 +1,918 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.processing.Generated;
+
+import primavera.MemoryStats;
+import java.util.function.IntFunction;
+
+/**
+ * Concurrent hash table based implementation of {@link ConcurrentByteMap}. The map is divided
+ * into the fixed number of segments by the high bits of hash, and each segment is an open
+ * addressing table like {@link HashByteMap} guarded by its own {@link StampedLock}.
+ * <p>
+ * Retrievals don't block and don't write any shared memory, they read the table optimistically and
+ * fall back to the read lock only if a concurrent update is detected. Updates lock only the segment
+ * which the key belongs to, so the writers on the different segments never contend. Each segment
+ * resizes its table independently while the others are still available.
+ * <p>
+ * {@link #computeIfAbsent(byte, IntFunction)} and
+ * {@link #merge(byte, Object, BiFunction)} apply the supplied function outside the segment
+ * lock and store its result only if the mapping is not changed in the meantime, so the function can
+ * access this map freely. The function is applied at most once per invocation of
+ * {@code computeIfAbsent}, but it may be applied by several threads racing on the same key (only
+ * one result is stored), and {@code merge} may apply it again when the value was changed
+ * concurrently.
+ * <p>
+ * Like most other concurrent collection implementations, this map does <em>not</em> permit
+ * {@code null} values. Iterators are weakly consistent, each segment is copied at the time the
+ * iterator reaches it. The {@code Map.Entry} pairs returned by this map and its views do
+ * <em>not</em> support the {@code Entry.setValue} method.
+ *
+ * @param <V> the type of mapped values
+ */
+@Generated("SpecializedCodeGenerator")
+class ConcurrentHashByteMap<V> extends AbstractMap<Byte, V> implements ConcurrentByteMap<V> {
+
+    /** The minimum table size of segment. */
+    private static final int MINIMUM_CAPACITY = 4;
+
+    /** The maximum table size of segment. */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /** The load factor of table. */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /** The number of segments, four times of the available processors. */
+    private static final int SEGMENTS = Integer
+            .highestOneBit(Math.min(1 << 16, Math.max(16, Runtime.getRuntime().availableProcessors() * 4)) - 1) << 1;
+
+    /** The segments. */
+    private final Segment[] segments;
+
+    /** The shift size to compute segment index. */
+    private final int segmentShift;
+
+    /** Lazily initialized entry set */
+    private transient Entries entrySet;
+
+    /**
+     * Constructs a new, empty map with the specified expected size.
+     *
+     * @param expectedSize The number of mappings which this map will hold without resizing.
+     */
+    ConcurrentHashByteMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative size: " + expectedSize);
+        }
+
+        int capacity = capacityFor((expectedSize + SEGMENTS - 1) / SEGMENTS);
+        this.segments = new Segment[SEGMENTS];
+        this.segmentShift = Integer.numberOfLeadingZeros(SEGMENTS - 1);
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(capacity);
+        }
+    }
+
+    /**
+     * Compute the table size to hold the specified number of mappings.
+     *
+     * @param expectedSize The number of mappings.
+     * @return The power of two table size.
+     */
+    private static int capacityFor(int expectedSize) {
+        long required = (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1;
+        if (MAXIMUM_CAPACITY <= required) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(MINIMUM_CAPACITY, Integer.highestOneBit((int) required - 1) << 1);
+    }
+
+    /**
+     * Compute the scrambled hash of the specified key. The high bits select the segment and the low
+     * bits select the slot in the segment.
+     *
+     * @param key A target key.
+     * @return A hash.
+     */
+    private static int hash(byte key) {
+        int h = Byte.hashCode(key) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Find the segment for the specified hash.
+     *
+     * @param hash A hash of key.
+     * @return A segment.
+     */
+    private Segment segmentFor(int hash) {
+        return segments[hash >>> segmentShift];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        long sum = 0;
+        for (Segment segment : segments) {
+            sum += segment.size;
+        }
+        return (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        for (Segment segment : segments) {
+            if (segment.size != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return containsKey((byte) key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(byte key) {
+        return get(key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsValue(Object value) {
+        if (value != null) {
+            for (Segment segment : segments) {
+                if (segment.containsValue(value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(Object key) {
+        return get((byte) key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(byte key) {
+        int hash = hash(key);
+        return (V) segmentFor(hash).get(key, hash);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return getOrDefault((byte) key, defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V put(Byte key, V value) {
+        return put((byte) key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V put(byte key, V value) {
+        Objects.requireNonNull(value);
+        int hash = hash(key);
+        return (V) segmentFor(hash).put(key, hash, value, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V putIfAbsent(byte key, V value) {
+        Objects.requireNonNull(value);
+        int hash = hash(key);
+        return (V) segmentFor(hash).put(key, hash, value, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V remove(Object key) {
+        return remove((byte) key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V remove(byte key) {
+        int hash = hash(key);
+        return (V) segmentFor(hash).remove(key, hash, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(byte key, Object value) {
+        if (value == null) {
+            return false;
+        }
+        int hash = hash(key);
+        return segmentFor(hash).remove(key, hash, value) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean replace(byte key, V oldValue, V newValue) {
+        Objects.requireNonNull(oldValue);
+        Objects.requireNonNull(newValue);
+        int hash = hash(key);
+        return segmentFor(hash).replace(key, hash, oldValue, newValue) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V replace(byte key, V value) {
+        Objects.requireNonNull(value);
+        int hash = hash(key);
+        return (V) segmentFor(hash).replace(key, hash, null, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V computeIfAbsent(Byte key, Function<? super Byte, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        return computeIfAbsent((byte) key, (IntFunction<V>) k -> mappingFunction.apply(key));
+    }
+
+    /**
+     * If the specified key is not already associated with a value, attempts to compute its value
+     * using the given mapping function and enters it into this map unless {@code null}. The
+     * function is applied without any lock. When multiple threads compute the same key, the function
+     * may be applied by each of them, but only the first stored value is retained and returned to
+     * all of them.
+     *
+     * @param key key with which the specified value is to be associated
+     * @param mappingFunction the function to compute a value
+     * @return the current (existing or computed) value associated with the specified key, or null
+     *         if the computed value is null
+     */
+    @Override
+    public V computeIfAbsent(byte key, IntFunction<? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+
+        Object value = segment.get(key, hash);
+        if (value == null && (value = mappingFunction.apply(key)) != null) {
+            // the concurrent computation may have stored its value in the meantime
+            Object previous = segment.put(key, hash, value, true);
+            if (previous != null) {
+                value = previous;
+            }
+        }
+        return (V) value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V merge(Byte key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        return merge((byte) key, value, remappingFunction);
+    }
+
+    /**
+     * If the specified key is not already associated with a value, associates it with the given
+     * value. Otherwise, replaces the value with the results of the given remapping function, or
+     * removes if {@code null}. The remapping function is applied without any lock, and it is
+     * applied again to the new value when the value was changed concurrently.
+     *
+     * @param key key with which the specified value is to be associated
+     * @param value the value to use if absent
+     * @param remappingFunction the function to recompute a value if present
+     * @return the new value associated with the specified key, or null if none
+     */
+    @Override
+    public V merge(byte key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(remappingFunction);
+        int hash = hash(key);
+        return (V) segmentFor(hash).merge(key, hash, value, (BiFunction) remappingFunction);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Entry<Byte, V>> entrySet() {
+        return (Set) byteEntrySet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<ByteEntry<V>> byteEntrySet() {
+        Entries es;
+        if ((es = entrySet) != null) return es;
+        return entrySet = new Entries();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The segments are read without locking, so the result is a weakly consistent estimate while
+     * the other threads are updating.
+     */
+    @Override
+    public MemoryStats footprint() {
+        long elements = 0, capacity = 0;
+        long retained = MemoryStats.sizeOfObject(4 * MemoryStats.REFERENCE + 4) + MemoryStats.sizeOfArray(segments.length, MemoryStats.REFERENCE);
+        for (Segment segment : segments) {
+            Table table = segment.table;
+            elements += segment.size;
+            capacity += table.keys.length;
+
+            // segment, lock, table and its arrays
+            retained += MemoryStats.sizeOfObject(2 * MemoryStats.REFERENCE + 4 + 4);
+            retained += MemoryStats.sizeOfObject(5 * MemoryStats.REFERENCE + 4 + 8);
+            retained += MemoryStats.sizeOfObject(2 * MemoryStats.REFERENCE + 4);
+            retained += MemoryStats.sizeOfArray(table.keys.length, Byte.BYTES) + MemoryStats.sizeOfArray(table.values.length, MemoryStats.REFERENCE);
+        }
+        return MemoryStats.ofArray(elements, capacity, Byte.BYTES + MemoryStats.REFERENCE, retained);
+    }
+
+    /**
+     * The immutable table of segment. The optimistic reader can see the keys and values of the same
+     * generation through this holder.
+     */
+    private static final class Table {
+
+        /** The key table. */
+        private final byte[] keys;
+
+        /** The value table, the empty slot holds null. */
+        private final Object[] values;
+
+        /** The bit mask to compute slot index. */
+        private final int mask;
+
+        /**
+         * @param capacity A power of two table size.
+         */
+        private Table(int capacity) {
+            this.keys = new byte[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+        }
+    }
+
+    /**
+     * The hash table guarded by its own lock. All updates are performed under the write lock.
+     */
+    private static final class Segment {
+
+        /** The lock to guard the table. */
+        private final StampedLock lock = new StampedLock();
+
+        /** The current table. */
+        private Table table;
+
+        /** The number of mappings. */
+        private volatile int size;
+
+        /** The size limit to resize table. */
+        private int threshold;
+
+        /**
+         * @param capacity A power of two table size.
+         */
+        private Segment(int capacity) {
+            allocate(capacity);
+        }
+
+        /**
+         * Create the new empty table.
+         *
+         * @param capacity A power of two table size.
+         */
+        private void allocate(int capacity) {
+            table = new Table(capacity);
+            threshold = capacity == MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+        }
+
+        /**
+         * Find the value of the specified key without blocking.
+         *
+         * @param key A target key.
+         * @param hash A hash of key.
+         * @return A value or null.
+         */
+        private Object get(byte key, int hash) {
+            long stamp = lock.tryOptimisticRead();
+            Object value = lookup(table, key, hash);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    value = lookup(table, key, hash);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return value;
+        }
+
+        /**
+         * Find the value of the specified key in the specified table. The table may be modified
+         * concurrently, so the probe length is bounded by the table size.
+         *
+         * @param table A target table.
+         * @param key A target key.
+         * @param hash A hash of key.
+         * @return A value or null.
+         */
+        private static Object lookup(Table table, byte key, int hash) {
+            byte[] keys = table.keys;
+            Object[] values = table.values;
+            int mask = table.mask;
+            int i = hash & mask;
+
+            for (int n = 0; n <= mask; n++) {
+                Object value = values[i];
+                if (value == null) {
+                    return null;
+                }
+                if (Byte.compare(keys[i], key) == 0) {
+                    return value;
+                }
+                i = (i + 1) & mask;
+            }
+            return null;
+        }
+
+        /**
+         * Find the slot index of the specified key. The caller must hold the write lock.
+         *
+         * @param key A target key.
+         * @param hash A hash of key.
+         * @return A slot index if the key is found, otherwise {@code -(insertion point) - 1}.
+         */
+        private int find(byte key, int hash) {
+            byte[] keys = table.keys;
+            Object[] values = table.values;
+            int mask = table.mask;
+            int i = hash & mask;
+
+            while (values[i] != null) {
+                if (Byte.compare(keys[i], key) == 0) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+            return -i - 1;
+        }
+
+        /**
+         * Store the new mapping at the specified empty slot. The caller must hold the write lock.
+         *
+         * @param index An empty slot index.
+         * @param key A key to store.
+         * @param value A value to store.
+         */
+        private void insert(int index, byte key, Object value) {
+            Table table = this.table;
+            table.keys[index] = key;
+            table.values[index] = value;
+
+            if (threshold < ++size) {
+                resize(table.keys.length << 1);
+            }
+        }
+
+        /**
+         * Rebuild the table with the specified size. The caller must hold the write lock.
+         *
+         * @param capacity A new table size.
+         */
+        private void resize(int capacity) {
+            Table old = table;
+            if (capacity <= old.keys.length) {
+                return;
+            }
+
+            Table table = new Table(capacity);
+            byte[] keys = table.keys;
+            Object[] values = table.values;
+            int mask = table.mask;
+
+            for (int i = 0; i < old.values.length; i++) {
+                Object value = old.values[i];
+                if (value != null) {
+                    byte key = old.keys[i];
+                    int index = hash(key) & mask;
+                    while (values[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    keys[index] = key;
+                    values[index] = value;
+                }
+            }
+            this.table = table;
+            this.threshold = capacity == MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+        }
+
+        /**
+         * Remove the mapping at the specified slot. The following entries in the same cluster are
+         * shifted backward to fill the hole. The caller must hold the write lock.
+         *
+         * @param index A slot index to remove.
+         */
+        private void delete(int index) {
+            byte[] keys = table.keys;
+            Object[] values = table.values;
+            int mask = table.mask;
+
+            for (int i = (index + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+                // the entry can move into the hole only if the hole is on its probe sequence
+                if (((i - index) & mask) <= ((i - hash(keys[i])) & mask)) {
+                    keys[index] = keys[i];
+                    values[index] = values[i];
+                    index = i;
+                }
+            }
+            values[index] = null;
+            size--;
+        }
+
+        /**
+         * Associate the value with the key.
+         *
+         * @param key A key.
+         * @param hash A hash of key.
+         * @param value A value.
+         * @param onlyIfAbsent If true, don't change existing value.
+         * @return The previous value or null.
+         */
+        private Object put(byte key, int hash, Object value, boolean onlyIfAbsent) {
+            long stamp = lock.writeLock();
+            try {
+                int index = find(key, hash);
+                if (0 <= index) {
+                    Object old = table.values[index];
+                    if (!onlyIfAbsent) table.values[index] = value;
+                    return old;
+                } else {
+                    insert(-index - 1, key, value);
+                    return null;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Remove the mapping of the key.
+         *
+         * @param key A key.
+         * @param hash A hash of key.
+         * @param expected The expected value, null matches any value.
+         * @return The removed value or null.
+         */
+        private Object remove(byte key, int hash, Object expected) {
+            long stamp = lock.writeLock();
+            try {
+                int index = find(key, hash);
+                if (index < 0) {
+                    return null;
+                }
+
+                Object old = table.values[index];
+                if (expected != null && !expected.equals(old)) {
+                    return null;
+                }
+                delete(index);
+                return old;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Replace the value of the key only if it is currently mapped.
+         *
+         * @param key A key.
+         * @param hash A hash of key.
+         * @param expected The expected value, null matches any value.
+         * @param value A new value.
+         * @return The replaced value or null.
+         */
+        private Object replace(byte key, int hash, Object expected, Object value) {
+            long stamp = lock.writeLock();
+            try {
+                int index = find(key, hash);
+                if (index < 0) {
+                    return null;
+                }
+
+                Object old = table.values[index];
+                if (expected != null && !expected.equals(old)) {
+                    return null;
+                }
+                table.values[index] = value;
+                return old;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Merge the value of the key. The function is applied outside the lock, and the result is
+         * stored only if the value is not changed in the meantime, otherwise it is retried.
+         *
+         * @param key A key.
+         * @param hash A hash of key.
+         * @param value A value to use if absent.
+         * @param function A value remapper.
+         * @return The new value or null.
+         */
+        private Object merge(byte key, int hash, Object value, BiFunction<Object, Object, Object> function) {
+            while (true) {
+                Object old = get(key, hash);
+                Object merged = old == null ? value : function.apply(old, value);
+
+                long stamp = lock.writeLock();
+                try {
+                    int index = find(key, hash);
+                    if (index < 0) {
+                        if (old == null) {
+                            insert(-index - 1, key, merged);
+                            return merged;
+                        }
+                    } else if (table.values[index] == old) {
+                        if (merged == null) {
+                            delete(index);
+                        } else {
+                            table.values[index] = merged;
+                        }
+                        return merged;
+                    }
+                } finally {
+                    lock.unlockWrite(stamp);
+                }
+            }
+        }
+
+        /**
+         * Test whether this segment contains the value or not.
+         *
+         * @param value A non-null value.
+         * @return A result.
+         */
+        private boolean containsValue(Object value) {
+            long stamp = lock.readLock();
+            try {
+                for (Object v : table.values) {
+                    if (value.equals(v)) {
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * Remove all mappings.
+         */
+        private void clear() {
+            long stamp = lock.writeLock();
+            try {
+                if (size != 0) {
+                    allocate(MINIMUM_CAPACITY);
+                    size = 0;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Copy all mappings into the specified buffers.
+         *
+         * @param keys A key buffer which is reused if it is large enough.
+         * @param values A value buffer which is reused if it is large enough.
+         * @return The number of copied mappings.
+         */
+        private int copy(byte[][] keys, Object[][] values) {
+            long stamp = lock.readLock();
+            try {
+                int size = this.size;
+                if (keys[0].length < size) {
+                    keys[0] = new byte[size];
+                    values[0] = new Object[size];
+                }
+
+                int count = 0;
+                Table table = this.table;
+                for (int i = 0; i < table.values.length; i++) {
+                    Object value = table.values[i];
+                    if (value != null) {
+                        keys[0][count] = table.keys[i];
+                        values[0][count++] = value;
+                    }
+                }
+                return count;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    /**
+     * Entry view.
+     */
+    private class Entries extends AbstractSet<ByteEntry<V>> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<ByteEntry<V>> iterator() {
+            return new EntryIterator();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean contains(Object o) {
+            if (o instanceof Map.Entry e && e.getKey() instanceof Byte key) {
+                V v = get(key);
+                return v != null && v.equals(e.getValue());
+            }
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean remove(Object o) {
+            if (o instanceof Map.Entry e && e.getKey() instanceof Byte key) {
+                return ConcurrentHashByteMap.this.remove(key, e.getValue());
+            }
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return ConcurrentHashByteMap.this.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isEmpty() {
+            return ConcurrentHashByteMap.this.isEmpty();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            ConcurrentHashByteMap.this.clear();
+        }
+    }
+
+    /**
+     * Weakly consistent iterator, each segment is copied when the iterator reaches it.
+     */
+    private class EntryIterator implements Iterator<ByteEntry<V>> {
+
+        /** The next segment index. */
+        private int segment;
+
+        /** The copied keys of the current segment. */
+        private final byte[][] keys = {new byte[0]};
+
+        /** The copied values of the current segment. */
+        private final Object[][] values = {new Object[0]};
+
+        /** The number of copied mappings. */
+        private int count;
+
+        /** The next index in the copied mappings. */
+        private int index;
+
+        /** The last returned entry. */
+        private ByteEntry<V> last;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            while (index == count) {
+                if (segment == segments.length) {
+                    return false;
+                }
+                count = segments[segment++].copy(keys, values);
+                index = 0;
+            }
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ByteEntry<V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int i = index++;
+            return last = ByteEntry.immutable(keys[0][i], (V) values[0][i]);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashByteMap.this.remove(last.getByteKey(), last.getValue());
+            last = null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.util.NoSuchElementException;
+
+import javax.annotation.processing.Generated;
+
+
+/**
+ * Cursor over the mappings of {@link FloatMap}. Unlike {@link java.util.Iterator}, the cursor
+ * exposes the primitive key and the value of the current mapping directly, so the traversal
+ * doesn't allocate any entry or boxed key.
+ * 
+ * <pre>{@code
+ * FloatMapCursor<V> cursor = map.cursor();
+ * while (cursor.next()) {
+ *     use(cursor.key(), cursor.value());
+ * }
+ * }</pre>
+ * 
+ * The cursor is positioned before the first mapping at first.
+ */
+@Generated("SpecializedCodeGenerator")
+public interface FloatMapCursor<V> {
+
+    /**
+     * Move to the next mapping.
+     * 
+     * @return {@code true} if the cursor is positioned at the next mapping, {@code false} if there is
+     *         no more mapping.
+     */
+    boolean next();
+
+    /**
+     * Returns the key of the current mapping.
+     * 
+     * @return The current key.
+     * @throws NoSuchElementException If the cursor is not positioned at any mapping.
+     */
+    float key();
+
+    /**
+     * Returns the value of the current mapping.
+     * 
+     * @return The current value.
+     * @throws NoSuchElementException If the cursor is not positioned at any mapping.
+     */
+    V value();
+}
\ No newline at end of file
@@ -0,0 +1,407 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.util.Arrays;
+
+import javax.annotation.processing.Generated;
+
+import primavera.MemoryStats;
+
+/**
+ * Hash table based implementation of {@link ByteIntMap}. The keys and values are stored
+ * in the parallel flat primitive arrays and the collision is resolved by linear probing, so neither
+ * lookup nor update allocates any object. Removal uses backward shift deletion instead of
+ * tombstones.
+ * <p>
+ * The empty slot is marked by the key {@code (byte) 0}, the mapping for that key itself
+ * is held out of the table (in the extra last slot of the value array).
+ * <p>
+ * This map is not thread-safe. Iteration order is unspecified.
+ */
+@Generated("SpecializedCodeGenerator")
+class HashByteIntMap implements ByteIntMap {
+
+    /** The minimum table size. */
+    private static final int MINIMUM_CAPACITY = 4;
+
+    /** The maximum table size. */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /** The load factor of table. */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /** The key table, the empty slot holds the free key. */
+    private byte[] keys;
+
+    /** The value table, the last extra slot holds the value of the free key. */
+    private int[] values;
+
+    /** The flag whether this map contains the free key or not. */
+    private boolean hasFreeKey;
+
+    /** The bit mask to compute slot index. */
+    private int mask;
+
+    /** The number of mappings. */
+    private int size;
+
+    /** The size limit to resize table. */
+    private int threshold;
+
+    /**
+     * Constructs a new, empty map with the specified expected size.
+     *
+     * @param expectedSize The number of mappings which this map will hold without resizing.
+     */
+    HashByteIntMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative size: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Compute the table size to hold the specified number of mappings.
+     *
+     * @param expectedSize The number of mappings.
+     * @return The power of two table size.
+     */
+    private static int capacityFor(int expectedSize) {
+        long required = (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1;
+        if (MAXIMUM_CAPACITY <= required) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(MINIMUM_CAPACITY, Integer.highestOneBit((int) required - 1) << 1);
+    }
+
+    /**
+     * Create the new empty table.
+     *
+     * @param capacity A power of two table size.
+     */
+    private void allocate(int capacity) {
+        keys = new byte[capacity];
+        values = new int[capacity + 1];
+        mask = capacity - 1;
+        threshold = capacity == MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Test whether the specified key is the free key which marks the empty slot.
+     *
+     * @param key A target key.
+     * @return A result.
+     */
+    private static boolean isFree(byte key) {
+        return Byte.compare(key, (byte) 0) == 0;
+    }
+
+    /**
+     * Compute the home slot of the specified key. The hash code is scrambled because the
+     * sequential keys are very common.
+     *
+     * @param key A target key.
+     * @return A home slot index.
+     */
+    private int slot(byte key) {
+        int h = Byte.hashCode(key) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Find the slot index of the specified key. The free key is located at the extra last slot.
+     *
+     * @param key A target key.
+     * @return A slot index if the key is found, otherwise {@code -(insertion point) - 1}.
+     */
+    private int find(byte key) {
+        if (isFree(key)) {
+            return hasFreeKey ? keys.length : -keys.length - 1;
+        }
+
+        byte[] keys = this.keys;
+        int mask = this.mask;
+        int i = slot(key);
+        byte k;
+
+        while (!isFree(k = keys[i])) {
+            if (Byte.compare(k, key) == 0) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -i - 1;
+    }
+
+    /**
+     * Store the new mapping at the specified empty slot.
+     *
+     * @param index An empty slot index.
+     * @param key A key to store.
+     * @param value A value to store.
+     */
+    private void insert(int index, byte key, int value) {
+        values[index] = value;
+
+        if (index == keys.length) {
+            hasFreeKey = true;
+            size++;
+        } else {
+            keys[index] = key;
+            if (threshold < ++size) {
+                resize(keys.length << 1);
+            }
+        }
+    }
+
+    /**
+     * Rebuild the table with the specified size.
+     *
+     * @param capacity A new table size.
+     */
+    private void resize(int capacity) {
+        if (capacity <= keys.length) {
+            return;
+        }
+
+        byte[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        values[capacity] = oldValues[oldKeys.length];
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            byte key = oldKeys[i];
+            if (!isFree(key)) {
+                int index = slot(key);
+                while (!isFree(keys[index])) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Remove the mapping at the specified slot. The following entries in the same cluster are
+     * shifted backward to fill the hole.
+     *
+     * @param index A slot index to remove.
+     */
+    private void delete(int index) {
+        size--;
+
+        if (index == keys.length) {
+            hasFreeKey = false;
+            values[index] = 0;
+            return;
+        }
+
+        byte[] keys = this.keys;
+        int[] values = this.values;
+        int mask = this.mask;
+
+        for (int i = (index + 1) & mask; !isFree(keys[i]); i = (i + 1) & mask) {
+            // the entry can move into the hole only if the hole is on its probe sequence
+            if (((i - index) & mask) <= ((i - slot(keys[i])) & mask)) {
+                keys[index] = keys[i];
+                values[index] = values[i];
+                index = i;
+            }
+        }
+        keys[index] = (byte) 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(byte key) {
+        return 0 <= find(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getOrDefault(byte key, int defaultValue) {
+        int index = find(key);
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int put(byte key, int value) {
+        int index = find(key);
+        if (0 <= index) {
+            int old = values[index];
+            values[index] = value;
+            return old;
+        } else {
+            insert(-index - 1, key, value);
+            return 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int putIfAbsent(byte key, int value) {
+        int index = find(key);
+        if (0 <= index) {
+            return values[index];
+        } else {
+            insert(-index - 1, key, value);
+            return 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int addTo(byte key, int delta) {
+        int index = find(key);
+        if (0 <= index) {
+            return values[index] += delta;
+        } else {
+            insert(-index - 1, key, delta);
+            return delta;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int remove(byte key) {
+        int index = find(key);
+        if (index < 0) {
+            return 0;
+        } else {
+            int old = values[index];
+            delete(index);
+            return old;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (size != 0) {
+            Arrays.fill(keys, (byte) 0);
+            values[keys.length] = 0;
+            hasFreeKey = false;
+            size = 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(ByteIntConsumer action) {
+        byte[] keys = this.keys;
+        int[] values = this.values;
+
+        if (hasFreeKey) {
+            action.accept((byte) 0, values[keys.length]);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            byte key = keys[i];
+            if (!isFree(key)) {
+                action.accept(key, values[i]);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] keys() {
+        byte[] result = new byte[size];
+        int index = 0;
+
+        if (hasFreeKey) {
+            result[index++] = (byte) 0;
+        }
+        for (byte key : keys) {
+            if (!isFree(key)) {
+                result[index++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] values() {
+        int[] result = new int[size];
+        int index = 0;
+
+        if (hasFreeKey) {
+            result[index++] = values[keys.length];
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (!isFree(keys[i])) {
+                result[index++] = values[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MemoryStats footprint() {
+        long retained = MemoryStats.sizeOfObject(2 * MemoryStats.REFERENCE + 1 + 4 + 4 + 4);
+        retained += MemoryStats.sizeOfArray(keys.length, Byte.BYTES) + MemoryStats.sizeOfArray(values.length, Integer.BYTES);
+        return MemoryStats.ofArray(size, values.length, Byte.BYTES + Integer.BYTES, retained);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (builder.length() != 1) builder.append(", ");
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,610 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.processing.Generated;
+
+import primavera.MemoryStats;
+import primavera.function.CharObjConsumer;
+
+/**
+ * Hash table based implementation of {@link CharMap}. The keys and values are stored in the
+ * parallel flat arrays and the collision is resolved by linear probing, so neither lookup nor
+ * insertion allocates any object. Removal uses backward shift deletion instead of tombstones, the
+ * probe sequences stay short even if the map is updated heavily.
+ * <p>
+ * This map does <em>not</em> permit {@code null} values, the empty slot is detected by its
+ * {@code null} value. So the whole key domain is available.
+ * <p>
+ * This map is not thread-safe. Iteration order is unspecified. The {@code Map.Entry} pairs
+ * returned by this map and its views represent snapshots of mappings at the time they were
+ * produced, they do <em>not</em> support the {@code Entry.setValue} method.
+ *
+ * @param <V> the type of mapped values
+ */
+@Generated("SpecializedCodeGenerator")
+class HashCharMap<V> extends AbstractMap<Character, V> implements CharMap<V> {
+
+    /** The minimum table size. */
+    private static final int MINIMUM_CAPACITY = 4;
+
+    /** The maximum table size. */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /** The load factor of table. */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /** The key table. */
+    private char[] keys;
+
+    /** The value table, the empty slot holds null. */
+    private Object[] values;
+
+    /** The bit mask to compute slot index. */
+    private int mask;
+
+    /** The number of mappings. */
+    private int size;
+
+    /** The size limit to resize table. */
+    private int threshold;
+
+    /** Lazily initialized entry set */
+    private transient Entries entrySet;
+
+    /**
+     * Constructs a new, empty map with the specified expected size.
+     *
+     * @param expectedSize The number of mappings which this map will hold without resizing.
+     */
+    HashCharMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative size: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Compute the table size to hold the specified number of mappings.
+     *
+     * @param expectedSize The number of mappings.
+     * @return The power of two table size.
+     */
+    private static int capacityFor(int expectedSize) {
+        long required = (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1;
+        if (MAXIMUM_CAPACITY <= required) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(MINIMUM_CAPACITY, Integer.highestOneBit((int) required - 1) << 1);
+    }
+
+    /**
+     * Create the new empty table.
+     *
+     * @param capacity A power of two table size.
+     */
+    private void allocate(int capacity) {
+        keys = new char[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Compute the home slot of the specified key. The hash code is scrambled because the
+     * sequential keys are very common.
+     *
+     * @param key A target key.
+     * @return A home slot index.
+     */
+    private int slot(char key) {
+        int h = Character.hashCode(key) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Find the slot index of the specified key.
+     *
+     * @param key A target key.
+     * @return A slot index if the key is found, otherwise {@code -(insertion point) - 1}.
+     */
+    private int find(char key) {
+        char[] keys = this.keys;
+        Object[] values = this.values;
+        int mask = this.mask;
+        int i = slot(key);
+
+        while (values[i] != null) {
+            if (Character.compare(keys[i], key) == 0) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -i - 1;
+    }
+
+    /**
+     * Store the new mapping at the specified empty slot.
+     *
+     * @param index An empty slot index.
+     * @param key A key to store.
+     * @param value A value to store.
+     */
+    private void insert(int index, char key, Object value) {
+        keys[index] = key;
+        values[index] = value;
+
+        if (threshold < ++size) {
+            resize(keys.length << 1);
+        }
+    }
+
+    /**
+     * Rebuild the table with the specified size.
+     *
+     * @param capacity A new table size.
+     */
+    private void resize(int capacity) {
+        if (capacity <= keys.length) {
+            return;
+        }
+
+        char[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+
+        for (int i = 0; i < oldValues.length; i++) {
+            Object value = oldValues[i];
+            if (value != null) {
+                char key = oldKeys[i];
+                int index = slot(key);
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = value;
+            }
+        }
+    }
+
+    /**
+     * Remove the mapping at the specified slot. The following entries in the same cluster are
+     * shifted backward to fill the hole.
+     *
+     * @param index A slot index to remove.
+     */
+    private void delete(int index) {
+        char[] keys = this.keys;
+        Object[] values = this.values;
+        int mask = this.mask;
+
+        for (int i = (index + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            // the entry can move into the hole only if the hole is on its probe sequence
+            if (((i - index) & mask) <= ((i - slot(keys[i])) & mask)) {
+                keys[index] = keys[i];
+                values[index] = values[i];
+                index = i;
+            }
+        }
+        values[index] = null;
+        size--;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return containsKey((char) key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(char key) {
+        return 0 <= find(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsValue(Object value) {
+        if (value != null) {
+            for (Object v : values) {
+                if (value.equals(v)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(Object key) {
+        return get((char) key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(char key) {
+        int index = find(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V put(Character key, V value) {
+        return put((char) key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V put(char key, V value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+
+        int index = find(key);
+        if (0 <= index) {
+            V old = (V) values[index];
+            values[index] = value;
+            return old;
+        } else {
+            insert(-index - 1, key, value);
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V remove(Object key) {
+        return remove((char) key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V remove(char key) {
+        int index = find(key);
+        if (index < 0) {
+            return null;
+        } else {
+            V old = (V) values[index];
+            delete(index);
+            return old;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (size != 0) {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Entry<Character, V>> entrySet() {
+        return (Set) charEntrySet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<CharEntry<V>> charEntrySet() {
+        Entries es;
+        if ((es = entrySet) != null) return es;
+        return entrySet = new Entries();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachChar(CharObjConsumer<V> action) {
+        Objects.requireNonNull(action);
+        char[] keys = this.keys;
+        Object[] values = this.values;
+
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value != null) {
+                action.accept(keys[i], (V) value);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MemoryStats footprint() {
+        long retained = MemoryStats.sizeOfObject(5 * MemoryStats.REFERENCE + 4 + 4 + 4);
+        retained += MemoryStats.sizeOfArray(keys.length, Character.BYTES) + MemoryStats.sizeOfArray(values.length, MemoryStats.REFERENCE);
+        return MemoryStats.ofArray(size, keys.length, Character.BYTES + MemoryStats.REFERENCE, retained);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharMapCursor<V> cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Cursor over the table slots. The map must not be modified while the cursor is in use.
+     */
+    private class Cursor implements CharMapCursor<V> {
+
+        /** The key table. */
+        private final char[] keys = HashCharMap.this.keys;
+
+        /** The value table. */
+        private final Object[] values = HashCharMap.this.values;
+
+        /** The current slot index. */
+        private int index = -1;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean next() {
+            while (++index < values.length) {
+                if (values[index] != null) {
+                    return true;
+                }
+            }
+            index = values.length;
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char key() {
+            check();
+            return keys[index];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public V value() {
+            check();
+            return (V) values[index];
+        }
+
+        /**
+         * Check the current position.
+         */
+        private void check() {
+            if (index < 0 || values.length <= index) {
+                throw new NoSuchElementException();
+            }
+        }
+    }
+
+    /**
+     * Entry view.
+     */
+    private class Entries extends AbstractSet<CharEntry<V>> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<CharEntry<V>> iterator() {
+            return new EntryIterator();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean contains(Object o) {
+            if (o instanceof Map.Entry e && e.getKey() instanceof Character key) {
+                V v = get(key);
+                return v != null && v.equals(e.getValue());
+            }
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean remove(Object o) {
+            if (o instanceof Map.Entry e && e.getKey() instanceof Character key) {
+                return HashCharMap.this.remove(key, e.getValue());
+            }
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            HashCharMap.this.clear();
+        }
+    }
+
+    /**
+     * Iterates slots from the end of table to the beginning. When the iterator removes an entry,
+     * the backward shift deletion may move an unvisited entry (wrapped around the table end) into
+     * the visited area, such entries are kept aside and returned at last.
+     */
+    private abstract class Slots<R> implements Iterator<R> {
+
+        /** The current slot index. */
+        private int index = keys.length;
+
+        /** The number of entries to return. */
+        private int remaining = size;
+
+        /** The slot of the last returned entry, -1 for none. */
+        private int last = -1;
+
+        /** The key of the last returned entry. */
+        protected char key;
+
+        /** The value of the last returned entry. */
+        protected V value;
+
+        /** The entries moved from the unvisited area into the visited area. */
+        private ArrayList<CharEntry<V>> wrapped;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return remaining != 0;
+        }
+
+        /**
+         * Move to the next entry.
+         */
+        protected final void advance() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+
+            while (0 < index) {
+                Object v = values[--index];
+                if (v != null) {
+                    last = index;
+                    key = keys[index];
+                    value = (V) v;
+                    return;
+                }
+            }
+
+            // all slots are visited, return the moved entries
+            if (wrapped == null || wrapped.isEmpty()) {
+                throw new ConcurrentModificationException();
+            }
+            CharEntry<V> entry = wrapped.remove(wrapped.size() - 1);
+            last = Integer.MAX_VALUE;
+            key = entry.getCharKey();
+            value = entry.getValue();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void remove() {
+            if (last == -1) {
+                throw new IllegalStateException();
+            }
+
+            if (last == Integer.MAX_VALUE) {
+                HashCharMap.this.remove(key);
+            } else {
+                char[] keys = HashCharMap.this.keys;
+                Object[] values = HashCharMap.this.values;
+                int mask = HashCharMap.this.mask;
+                int hole = last;
+
+                for (int i = (hole + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+                    if (((i - hole) & mask) <= ((i - slot(keys[i])) & mask)) {
+                        if (i < index && index <= hole) {
+                            if (wrapped == null) wrapped = new ArrayList();
+                            wrapped.add(CharEntry.immutable(keys[i], (V) values[i]));
+                        }
+                        keys[hole] = keys[i];
+                        values[hole] = values[i];
+                        hole = i;
+                    }
+                }
+                values[hole] = null;
+                size--;
+            }
+            last = -1;
+        }
+    }
+
+    /**
+     * Entry iterator.
+     */
+    private class EntryIterator extends Slots<CharEntry<V>> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CharEntry<V> next() {
+            advance();
+            return CharEntry.immutable(key, value);
+        }
+    }
+}
\ No newline at end of file
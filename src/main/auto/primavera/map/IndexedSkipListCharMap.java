@@ -0,0 +1,1511 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.DoubleSummaryStatistics;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import javax.annotation.processing.Generated;
+
+import primavera.MemoryStats;
+import primavera.function.CharObjConsumer;
+import primavera.set.NavigableCharSet;
+
+/**
+ * Sorted map which is backed by the indexable skip list. Each link of the index levels holds its
+ * span (the number of entries it jumps over), so {@link #rank(char)}, {@link #select(int)}
+ * and {@link #size()} of the submap views run in O(log n) instead of walking the entries.
+ * <p>
+ * If the value extractor is given, each link also holds the count, sum, min and max of the measured
+ * values it jumps over, so {@link #aggregate(char, boolean, char, boolean)} runs in
+ * O(log n) too.
+ * <p>
+ * This map is not thread-safe. Use {@link SkipListCharMap} for the concurrent access.
+ */
+@Generated("SpecializedCodeGenerator")
+class IndexedSkipListCharMap<V> extends AbstractMap<Character, V> implements AggregatingNavigableCharMap<V> {
+
+    /** The maximum number of levels, each level has 1/4 nodes of the level below. */
+    private static final int MAX_LEVEL = 16;
+
+    /** The shared skip list. */
+    private final Core<V> core;
+
+    /** The lower bound key, meaningful only if loBounded. */
+    private final char lo;
+
+    /** The upper bound key, meaningful only if hiBounded. */
+    private final char hi;
+
+    /** True if this view has the lower bound. */
+    private final boolean loBounded;
+
+    /** True if this view has the upper bound. */
+    private final boolean hiBounded;
+
+    /** The inclusion flag for lo. */
+    private final boolean loInclusive;
+
+    /** The inclusion flag for hi. */
+    private final boolean hiInclusive;
+
+    /** The direction. */
+    private final boolean descending;
+
+    /** Lazily initialized key set. */
+    private transient KeySet<V> keySet;
+
+    /** Lazily initialized values collection. */
+    private transient Values<V> values;
+
+    /** Lazily initialized entry set. */
+    private transient EntrySet<V> entrySet;
+
+    /** Lazily initialized descending map. */
+    private transient IndexedSkipListCharMap<V> descendingMap;
+
+    /**
+     * Constructs a new, empty map, sorted according to the specified comparator.
+     *
+     * @param comparator the comparator that will be used to order this map. If {@code null}, the
+     *            {@linkplain Comparable natural ordering} of the keys will be used.
+     */
+    IndexedSkipListCharMap(CharComparator comparator) {
+        this(comparator, null);
+    }
+
+    /**
+     * Constructs a new, empty map, sorted according to the specified comparator.
+     *
+     * @param comparator the comparator that will be used to order this map. If {@code null}, the
+     *            {@linkplain Comparable natural ordering} of the keys will be used.
+     * @param extractor the function to measure the value for {@link #aggregate()}. If {@code null},
+     *            this map doesn't maintain the aggregates.
+     */
+    IndexedSkipListCharMap(CharComparator comparator, ToDoubleFunction<? super V> extractor) {
+        this(new Core<V>(comparator == null ? Character::compare : comparator, extractor), false, (char) 0, false, false, (char) 0, false, false);
+    }
+
+    /**
+     * Constructs the view of the specified range.
+     */
+    private IndexedSkipListCharMap(Core<V> core, boolean loBounded, char lo, boolean loInclusive, boolean hiBounded, char hi, boolean hiInclusive, boolean descending) {
+        if (loBounded && hiBounded && core.comparator.compare(lo, hi) > 0) {
+            throw new IllegalArgumentException("inconsistent range");
+        }
+        this.core = core;
+        this.lo = lo;
+        this.hi = hi;
+        this.loBounded = loBounded;
+        this.hiBounded = hiBounded;
+        this.loInclusive = loInclusive;
+        this.hiInclusive = hiInclusive;
+        this.descending = descending;
+    }
+
+    /**
+     * Test whether the specified key is below the lower bound of this view.
+     */
+    private boolean tooLow(char key) {
+        if (!loBounded) return false;
+        int c = core.comparator.compare(key, lo);
+        return c < 0 || (c == 0 && !loInclusive);
+    }
+
+    /**
+     * Test whether the specified key is above the upper bound of this view.
+     */
+    private boolean tooHigh(char key) {
+        if (!hiBounded) return false;
+        int c = core.comparator.compare(key, hi);
+        return c > 0 || (c == 0 && !hiInclusive);
+    }
+
+    /**
+     * Test whether the specified key is in the range of this view.
+     */
+    private boolean inRange(char key) {
+        return !tooLow(key) && !tooHigh(key);
+    }
+
+    /**
+     * Returns the number of entries below the range of this view.
+     */
+    private int loRank() {
+        return loBounded ? core.count(lo, !loInclusive) : 0;
+    }
+
+    /**
+     * Returns the number of entries below or in the range of this view.
+     */
+    private int hiRank() {
+        return hiBounded ? core.count(hi, hiInclusive) : core.size;
+    }
+
+    /**
+     * Returns the lowest node in range (ignoring directionality), or null.
+     */
+    private Node<V> absLowest() {
+        Node<V> n = loBounded ? core.ceiling(lo, loInclusive) : core.head.next[0];
+        return n == null || tooHigh(n.key) ? null : n;
+    }
+
+    /**
+     * Returns the highest node in range (ignoring directionality), or null.
+     */
+    private Node<V> absHighest() {
+        Node<V> n = hiBounded ? core.floor(hi, hiInclusive) : core.tail;
+        return n == null || tooLow(n.key) ? null : n;
+    }
+
+    /**
+     * Returns the lowest node in range which is greater than (or equal to) the specified key
+     * (ignoring directionality), or null.
+     */
+    private Node<V> absCeiling(char key, boolean inclusive) {
+        if (tooLow(key)) return absLowest();
+        Node<V> n = core.ceiling(key, inclusive);
+        return n == null || tooHigh(n.key) ? null : n;
+    }
+
+    /**
+     * Returns the highest node in range which is less than (or equal to) the specified key
+     * (ignoring directionality), or null.
+     */
+    private Node<V> absFloor(char key, boolean inclusive) {
+        if (tooHigh(key)) return absHighest();
+        Node<V> n = core.floor(key, inclusive);
+        return n == null || tooLow(n.key) ? null : n;
+    }
+
+    /**
+     * Returns the first node in this view's order, or null.
+     */
+    private Node<V> firstNode() {
+        return descending ? absHighest() : absLowest();
+    }
+
+    /**
+     * Returns the last node in this view's order, or null.
+     */
+    private Node<V> lastNode() {
+        return descending ? absLowest() : absHighest();
+    }
+
+    /**
+     * Returns the next node of the specified node in this view's order, or null.
+     */
+    private Node<V> successor(Node<V> node) {
+        if (descending) {
+            Node<V> n = node.prev;
+            return n == null || tooLow(n.key) ? null : n;
+        } else {
+            Node<V> n = node.next[0];
+            return n == null || tooHigh(n.key) ? null : n;
+        }
+    }
+
+    /**
+     * Returns the key of the specified node or throws {@link NoSuchElementException} if it is null.
+     */
+    private static char key(Node<?> node) {
+        if (node == null) {
+            throw new NoSuchElementException();
+        }
+        return node.key;
+    }
+
+    /**
+     * Returns the snapshot entry of the specified node, or null.
+     */
+    private static <V> CharEntry<V> entry(Node<V> node) {
+        return node == null ? null : CharEntry.immutable(node.key, node.value);
+    }
+
+    /**
+     * Removes the specified node and returns its snapshot entry, or null.
+     */
+    private CharEntry<V> poll(Node<V> node) {
+        if (node == null) return null;
+        core.remove(node.key);
+        return CharEntry.immutable(node.key, node.value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return hiRank() - loRank();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return firstNode() == null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int rank(char key) {
+        int lo = loRank();
+        int hi = hiRank();
+        if (descending) {
+            return hi - Math.min(Math.max(core.count(key, true), lo), hi);
+        } else {
+            return Math.min(Math.max(core.count(key, false), lo), hi) - lo;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char select(int index) {
+        int lo = loRank();
+        int size = hiRank() - lo;
+        if (index < 0 || size <= index) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return core.nodeAt(descending ? lo + size - 1 - index : lo + index).key;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException if this map has no value extractor
+     */
+    @Override
+    public DoubleSummaryStatistics aggregate() {
+        return core.aggregate(loBounded, lo, loInclusive, hiBounded, hi, hiInclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException if this map has no value extractor
+     */
+    @Override
+    public DoubleSummaryStatistics aggregate(char fromKey, boolean fromInclusive, char toKey, boolean toInclusive) {
+        if (descending) { // flip senses
+            char tk = fromKey;
+            fromKey = toKey;
+            toKey = tk;
+            boolean ti = fromInclusive;
+            fromInclusive = toInclusive;
+            toInclusive = ti;
+        }
+        if (tooLow(fromKey)) {
+            fromKey = lo;
+            fromInclusive = loInclusive;
+        }
+        if (tooHigh(toKey)) {
+            toKey = hi;
+            toInclusive = hiInclusive;
+        }
+        return core.aggregate(true, fromKey, fromInclusive, true, toKey, toInclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return containsKey((char) key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(char key) {
+        return inRange(key) && core.find(key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(Object key) {
+        return get((char) key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(char key) {
+        if (!inRange(key)) return null;
+        Node<V> n = core.find(key);
+        return n == null ? null : n.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V put(Character key, V value) {
+        return put((char) key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V put(char key, V value) {
+        Objects.requireNonNull(value);
+        if (!inRange(key)) throw new IllegalArgumentException("key out of range");
+        return core.put(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V remove(Object key) {
+        return remove((char) key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V remove(char key) {
+        return inRange(key) ? core.remove(key) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (!loBounded && !hiBounded) {
+            core.clear();
+        } else {
+            Iterator<Character> iterator = navigableKeySet().iterator();
+            while (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachChar(CharObjConsumer<V> action) {
+        Objects.requireNonNull(action);
+        for (Node<V> n = firstNode(); n != null; n = successor(n)) {
+            action.accept(n.key, n.value);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MemoryStats footprint() {
+        return core.footprint(MemoryStats.sizeOfObject(7 * MemoryStats.REFERENCE + 2 * Character.BYTES + 5));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Comparator<Character> comparator() {
+        return descending ? Collections.reverseOrder(core.comparator) : core.comparator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char firstCharKey() {
+        return key(firstNode());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char lastCharKey() {
+        return key(lastNode());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharEntry<V> firstEntry() {
+        return entry(firstNode());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharEntry<V> lastEntry() {
+        return entry(lastNode());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharEntry<V> pollFirstEntry() {
+        return poll(firstNode());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharEntry<V> pollLastEntry() {
+        return poll(lastNode());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharEntry<V> lowerEntry(char key) {
+        return entry(descending ? absCeiling(key, false) : absFloor(key, false));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char lowerKey(char key) {
+        return key(descending ? absCeiling(key, false) : absFloor(key, false));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharEntry<V> floorEntry(char key) {
+        return entry(descending ? absCeiling(key, true) : absFloor(key, true));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char floorKey(char key) {
+        return key(descending ? absCeiling(key, true) : absFloor(key, true));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharEntry<V> ceilingEntry(char key) {
+        return entry(descending ? absFloor(key, true) : absCeiling(key, true));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char ceilingKey(char key) {
+        return key(descending ? absFloor(key, true) : absCeiling(key, true));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharEntry<V> higherEntry(char key) {
+        return entry(descending ? absFloor(key, false) : absCeiling(key, false));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char higherKey(char key) {
+        return key(descending ? absFloor(key, false) : absCeiling(key, false));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NavigableSet<Character> keySet() {
+        return navigableKeySet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NavigableCharSet navigableKeySet() {
+        KeySet<V> ks;
+        if ((ks = keySet) != null) return ks;
+        return keySet = new KeySet<>(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NavigableCharSet descendingKeySet() {
+        return descendingMap().navigableKeySet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<V> values() {
+        Values<V> vs;
+        if ((vs = values) != null) return vs;
+        return values = new Values<>(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Entry<Character, V>> entrySet() {
+        return (Set) charEntrySet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<CharEntry<V>> charEntrySet() {
+        EntrySet<V> es;
+        if ((es = entrySet) != null) return es;
+        return entrySet = new EntrySet<>(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AggregatingNavigableCharMap<V> descendingMap() {
+        IndexedSkipListCharMap<V> dm;
+        if ((dm = descendingMap) != null) return dm;
+        return descendingMap = new IndexedSkipListCharMap<>(core, loBounded, lo, loInclusive, hiBounded, hi, hiInclusive, !descending);
+    }
+
+    /**
+     * Utility to create submaps, where given bounds override unbounded ones and/or are checked
+     * against bounded ones.
+     */
+    private AggregatingNavigableCharMap<V> newSubMap(boolean fromBounded, char fromKey, boolean fromInclusive, boolean toBounded, char toKey, boolean toInclusive) {
+        CharComparator cmp = core.comparator;
+        if (descending) { // flip senses
+            boolean tb = fromBounded;
+            fromBounded = toBounded;
+            toBounded = tb;
+            char tk = fromKey;
+            fromKey = toKey;
+            toKey = tk;
+            boolean ti = fromInclusive;
+            fromInclusive = toInclusive;
+            toInclusive = ti;
+        }
+        if (loBounded) {
+            if (!fromBounded) {
+                fromBounded = true;
+                fromKey = lo;
+                fromInclusive = loInclusive;
+            } else {
+                int c = cmp.compare(fromKey, lo);
+                if (c < 0 || (c == 0 && !loInclusive && fromInclusive)) throw new IllegalArgumentException("key out of range");
+            }
+        }
+        if (hiBounded) {
+            if (!toBounded) {
+                toBounded = true;
+                toKey = hi;
+                toInclusive = hiInclusive;
+            } else {
+                int c = cmp.compare(toKey, hi);
+                if (c > 0 || (c == 0 && !hiInclusive && toInclusive)) throw new IllegalArgumentException("key out of range");
+            }
+        }
+        return new IndexedSkipListCharMap<>(core, fromBounded, fromKey, fromInclusive, toBounded, toKey, toInclusive, descending);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AggregatingNavigableCharMap<V> subMap(char fromKey, boolean fromInclusive, char toKey, boolean toInclusive) {
+        return newSubMap(true, fromKey, fromInclusive, true, toKey, toInclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AggregatingNavigableCharMap<V> headMap(char toKey, boolean inclusive) {
+        return newSubMap(false, (char) 0, false, true, toKey, inclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AggregatingNavigableCharMap<V> tailMap(char fromKey, boolean inclusive) {
+        return newSubMap(true, fromKey, inclusive, false, (char) 0, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AggregatingNavigableCharMap<V> subMap(char fromKey, char toKey) {
+        return subMap(fromKey, true, toKey, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AggregatingNavigableCharMap<V> headMap(char toKey) {
+        return headMap(toKey, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AggregatingNavigableCharMap<V> tailMap(char fromKey) {
+        return tailMap(fromKey, true);
+    }
+
+    /**
+     * Skip list node. The span at each level is the number of nodes between this node and the next
+     * node at the same level, the next node is counted but this node is not.
+     */
+    private static final class Node<V> {
+
+        /** The entry key. */
+        private final char key;
+
+        /** The entry value. */
+        private V value;
+
+        /** The next nodes for each level. */
+        private final Node<V>[] next;
+
+        /** The spans for each level. */
+        private final int[] span;
+
+        /** The previous node in the base level, null if this is the first node. */
+        private Node<V> prev;
+
+        /** The measured value. */
+        private double measure;
+
+        /** The sum, min and max of the measured values for each level, null if not aggregated. */
+        private final double[] aggregate;
+
+        @SuppressWarnings("unchecked")
+        private Node(char key, V value, int level, boolean aggregated) {
+            this.key = key;
+            this.value = value;
+            this.next = new Node[level];
+            this.span = new int[level];
+            this.aggregate = aggregated ? new double[level * 3] : null;
+        }
+    }
+
+    /**
+     * The skip list shared by the map and all its views.
+     */
+    private static final class Core<V> {
+
+        /** The comparator. */
+        private final CharComparator comparator;
+
+        /** The value extractor for aggregation, null if not aggregated. */
+        private final ToDoubleFunction<? super V> extractor;
+
+        /** The header node which has all levels. */
+        private final Node<V> head;
+
+        /** The last node, null if empty. */
+        private Node<V> tail;
+
+        /** The current number of levels. */
+        private int level = 1;
+
+        /** The number of entries. */
+        private int size;
+
+        /** The modification counter for the fail-fast iterator. */
+        private int modCount;
+
+        /**
+         * @param comparator
+         * @param extractor
+         */
+        private Core(CharComparator comparator, ToDoubleFunction<? super V> extractor) {
+            this.comparator = comparator;
+            this.extractor = extractor;
+            this.head = new Node<>((char) 0, null, MAX_LEVEL, extractor != null);
+        }
+
+        /**
+         * Returns the last node (or head) whose key is less than (or equal to) the specified key.
+         */
+        private Node<V> findLast(char key, boolean inclusive) {
+            Node<V> x = head;
+            for (int i = level - 1; 0 <= i; i--) {
+                Node<V> n;
+                while ((n = x.next[i]) != null && before(n.key, key, inclusive)) {
+                    x = n;
+                }
+            }
+            return x;
+        }
+
+        /**
+         * Test whether the first key is less than (or equal to) the second key.
+         */
+        private boolean before(char key, char bound, boolean inclusive) {
+            int c = comparator.compare(key, bound);
+            return c < 0 || (inclusive && c == 0);
+        }
+
+        /**
+         * Returns the node of the specified key, or null.
+         */
+        private Node<V> find(char key) {
+            Node<V> n = findLast(key, false).next[0];
+            return n != null && comparator.compare(n.key, key) == 0 ? n : null;
+        }
+
+        /**
+         * Returns the highest node whose key is less than (or equal to) the specified key, or null.
+         */
+        private Node<V> floor(char key, boolean inclusive) {
+            Node<V> n = findLast(key, inclusive);
+            return n == head ? null : n;
+        }
+
+        /**
+         * Returns the lowest node whose key is greater than (or equal to) the specified key, or
+         * null.
+         */
+        private Node<V> ceiling(char key, boolean inclusive) {
+            return findLast(key, !inclusive).next[0];
+        }
+
+        /**
+         * Returns the number of keys which are less than (or equal to) the specified key.
+         */
+        private int count(char key, boolean inclusive) {
+            int rank = 0;
+            Node<V> x = head;
+            for (int i = level - 1; 0 <= i; i--) {
+                Node<V> n;
+                while ((n = x.next[i]) != null && before(n.key, key, inclusive)) {
+                    rank += x.span[i];
+                    x = n;
+                }
+            }
+            return rank;
+        }
+
+        /**
+         * Returns the node at the specified zero-based position.
+         */
+        private Node<V> nodeAt(int index) {
+            int target = index + 1;
+            int traversed = 0;
+            Node<V> x = head;
+            for (int i = level - 1; 0 <= i; i--) {
+                while (x.next[i] != null && traversed + x.span[i] <= target) {
+                    traversed += x.span[i];
+                    x = x.next[i];
+                }
+                if (traversed == target) {
+                    return x;
+                }
+            }
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        /**
+         * Associates the specified value with the specified key.
+         */
+        private V put(char key, V value) {
+            Node<V>[] update = new Node[MAX_LEVEL];
+            int[] rank = new int[MAX_LEVEL];
+            Node<V> x = head;
+            for (int i = level - 1; 0 <= i; i--) {
+                rank[i] = i == level - 1 ? 0 : rank[i + 1];
+                Node<V> n;
+                while ((n = x.next[i]) != null && comparator.compare(n.key, key) < 0) {
+                    rank[i] += x.span[i];
+                    x = n;
+                }
+                update[i] = x;
+            }
+
+            Node<V> n = x.next[0];
+            if (n != null && comparator.compare(n.key, key) == 0) {
+                V old = n.value;
+                n.value = value;
+                if (extractor != null) {
+                    n.measure = extractor.applyAsDouble(value);
+                    reaggregate(update, null);
+                }
+                return old;
+            }
+
+            int lv = randomLevel();
+            if (level < lv) {
+                for (int i = level; i < lv; i++) {
+                    rank[i] = 0;
+                    update[i] = head;
+                    head.span[i] = size;
+                }
+                level = lv;
+            }
+
+            Node<V> z = new Node<>(key, value, lv, extractor != null);
+            for (int i = 0; i < lv; i++) {
+                z.next[i] = update[i].next[i];
+                update[i].next[i] = z;
+                z.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+                update[i].span[i] = rank[0] - rank[i] + 1;
+            }
+            for (int i = lv; i < level; i++) {
+                update[i].span[i]++;
+            }
+
+            z.prev = update[0] == head ? null : update[0];
+            if (z.next[0] != null) {
+                z.next[0].prev = z;
+            } else {
+                tail = z;
+            }
+            if (extractor != null) {
+                z.measure = extractor.applyAsDouble(value);
+                reaggregate(update, z);
+            }
+            size++;
+            modCount++;
+            return null;
+        }
+
+        /**
+         * Removes the mapping for the specified key.
+         */
+        private V remove(char key) {
+            Node<V>[] update = new Node[MAX_LEVEL];
+            Node<V> x = head;
+            for (int i = level - 1; 0 <= i; i--) {
+                Node<V> n;
+                while ((n = x.next[i]) != null && comparator.compare(n.key, key) < 0) {
+                    x = n;
+                }
+                update[i] = x;
+            }
+
+            Node<V> z = x.next[0];
+            if (z == null || comparator.compare(z.key, key) != 0) {
+                return null;
+            }
+
+            for (int i = 0; i < level; i++) {
+                if (update[i].next[i] == z) {
+                    update[i].span[i] += z.span[i] - 1;
+                    update[i].next[i] = z.next[i];
+                } else {
+                    update[i].span[i]--;
+                }
+            }
+            if (z.next[0] != null) {
+                z.next[0].prev = z.prev;
+            } else {
+                tail = z.prev;
+            }
+            while (1 < level && head.next[level - 1] == null) {
+                level--;
+            }
+            if (extractor != null) {
+                reaggregate(update, null);
+            }
+            size--;
+            modCount++;
+            return z.value;
+        }
+
+        /**
+         * Removes all mappings.
+         */
+        private void clear() {
+            for (int i = 0; i < MAX_LEVEL; i++) {
+                head.next[i] = null;
+                head.span[i] = 0;
+            }
+            tail = null;
+            level = 1;
+            size = 0;
+            modCount++;
+        }
+
+        /**
+         * Recomputes the aggregates of the links which are changed by the modification. The lower
+         * level is computed first because the upper link is combined from the lower links.
+         *
+         * @param update The last nodes before the modified key at each level.
+         * @param added The added node, or null.
+         */
+        private void reaggregate(Node<V>[] update, Node<V> added) {
+            for (int i = 0; i < level; i++) {
+                aggregate(update[i], i);
+                if (added != null && i < added.next.length) {
+                    aggregate(added, i);
+                }
+            }
+        }
+
+        /**
+         * Computes the aggregate of the link from the specified node at the specified level.
+         */
+        private void aggregate(Node<V> node, int level) {
+            double sum = 0;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            Node<V> end = node.next[level];
+
+            if (end != null) {
+                if (level == 0) {
+                    sum = min = max = end.measure;
+                } else {
+                    int lower = (level - 1) * 3;
+                    for (Node<V> x = node; x != end; x = x.next[level - 1]) {
+                        sum += x.aggregate[lower];
+                        min = Math.min(min, x.aggregate[lower + 1]);
+                        max = Math.max(max, x.aggregate[lower + 2]);
+                    }
+                }
+            }
+
+            int index = level * 3;
+            node.aggregate[index] = sum;
+            node.aggregate[index + 1] = min;
+            node.aggregate[index + 2] = max;
+        }
+
+        /**
+         * Computes the statistics of the specified key range. It starts from the last node before
+         * the range and takes the highest link which doesn't go beyond the range at each step, so
+         * only O(log n) links are visited.
+         */
+        private DoubleSummaryStatistics aggregate(boolean fromBounded, char from, boolean fromInclusive, boolean toBounded, char to, boolean toInclusive) {
+            if (extractor == null) {
+                throw new UnsupportedOperationException("This map has no value extractor.");
+            }
+
+            long count = 0;
+            double sum = 0;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            Node<V> x = fromBounded ? findLast(from, !fromInclusive) : head;
+
+            for (;;) {
+                int i = Math.min(x.next.length, level) - 1;
+                Node<V> n;
+                while (0 <= i && ((n = x.next[i]) == null || (toBounded && !before(n.key, to, toInclusive)))) {
+                    i--;
+                }
+                if (i < 0) {
+                    break;
+                }
+
+                int index = i * 3;
+                count += x.span[i];
+                sum += x.aggregate[index];
+                min = Math.min(min, x.aggregate[index + 1]);
+                max = Math.max(max, x.aggregate[index + 2]);
+                x = x.next[i];
+            }
+            return count == 0 ? new DoubleSummaryStatistics() : new DoubleSummaryStatistics(count, min, max, sum);
+        }
+
+        /**
+         * Returns the random level, each level is selected with the probability 1/4.
+         */
+        private static int randomLevel() {
+            int level = 1;
+            int random = ThreadLocalRandom.current().nextInt();
+            while (level < MAX_LEVEL && (random & 3) == 0) {
+                level++;
+                random >>>= 2;
+            }
+            return level;
+        }
+
+        /**
+         * Estimate the memory footprint of this skip list.
+         *
+         * @param mapBytes The estimated size of the map object.
+         * @return The memory statistics.
+         */
+        private MemoryStats footprint(long mapBytes) {
+            long indexes = 0, nodes = 0;
+            long retained = mapBytes + MemoryStats.sizeOfObject(4 * MemoryStats.REFERENCE + 4 + 4 + 4);
+            for (Node<V> n = head; n != null; n = n.next[0]) {
+                int levels = n.next.length;
+                nodes++;
+                if (n != head) indexes += levels - 1;
+
+                retained += MemoryStats.sizeOfObject(Character.BYTES + 5 * MemoryStats.REFERENCE + 8);
+                retained += MemoryStats.sizeOfArray(levels, MemoryStats.REFERENCE) + MemoryStats.sizeOfArray(levels, 4);
+                if (n.aggregate != null) retained += MemoryStats.sizeOfArray(n.aggregate.length, 8);
+            }
+            return MemoryStats.ofLinked(size, nodes, indexes, retained);
+        }
+    }
+
+    /**
+     * Fail-fast iterator over the nodes of the view.
+     */
+    private static final class ViewIterator<V, T> implements Iterator<T> {
+
+        /** The iterating view. */
+        private final IndexedSkipListCharMap<V> m;
+
+        /** The value extractor. */
+        private final Function<Node<V>, T> extractor;
+
+        /** The next node. */
+        private Node<V> next;
+
+        /** The last returned node. */
+        private Node<V> lastReturned;
+
+        /** The expected modification count. */
+        private int expectedModCount;
+
+        /**
+         * @param map
+         * @param extractor
+         */
+        private ViewIterator(IndexedSkipListCharMap<V> map, Function<Node<V>, T> extractor) {
+            this.m = map;
+            this.extractor = extractor;
+            this.next = map.firstNode();
+            this.expectedModCount = map.core.modCount;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public T next() {
+            Node<V> n = next;
+            if (n == null) throw new NoSuchElementException();
+            if (m.core.modCount != expectedModCount) throw new ConcurrentModificationException();
+            lastReturned = n;
+            next = m.successor(n);
+            return extractor.apply(n);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException();
+            if (m.core.modCount != expectedModCount) throw new ConcurrentModificationException();
+            m.core.remove(lastReturned.key);
+            lastReturned = null;
+            expectedModCount = m.core.modCount;
+        }
+    }
+
+    /**
+     * Key set view.
+     */
+    private static final class KeySet<V> extends AbstractSet<Character> implements NavigableCharSet {
+
+        /** The original map. */
+        private final IndexedSkipListCharMap<V> m;
+
+        /**
+         * Build key-set view.
+         *
+         * @param map
+         */
+        private KeySet(IndexedSkipListCharMap<V> map) {
+            m = map;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public MemoryStats footprint() {
+            return m.footprint();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return m.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isEmpty() {
+            return m.isEmpty();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean add(char e) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean contains(char o) {
+            return m.containsKey(o);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean remove(char o) {
+            return m.remove(o) != null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            m.clear();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char lower(char e) {
+            return m.lowerKey(e);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char floor(char e) {
+            return m.floorKey(e);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char ceiling(char e) {
+            return m.ceilingKey(e);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char higher(char e) {
+            return m.higherKey(e);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Comparator<? super Character> comparator() {
+            return m.comparator();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char firstChar() {
+            return m.firstCharKey();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char lastChar() {
+            return m.lastCharKey();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char pollFirstChar() {
+            CharEntry<V> entry = m.pollFirstEntry();
+            if (entry == null) {
+                throw new NoSuchElementException();
+            }
+            return entry.getCharKey();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char pollLastChar() {
+            CharEntry<V> entry = m.pollLastEntry();
+            if (entry == null) {
+                throw new NoSuchElementException();
+            }
+            return entry.getCharKey();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<Character> iterator() {
+            return new ViewIterator<>(m, n -> n.key);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<Character> descendingIterator() {
+            return descendingSet().iterator();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableCharSet descendingSet() {
+            return m.descendingMap().navigableKeySet();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableCharSet subSet(char fromElement, boolean fromInclusive, char toElement, boolean toInclusive) {
+            return m.subMap(fromElement, fromInclusive, toElement, toInclusive).navigableKeySet();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableCharSet headSet(char toElement, boolean inclusive) {
+            return m.headMap(toElement, inclusive).navigableKeySet();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableCharSet tailSet(char fromElement, boolean inclusive) {
+            return m.tailMap(fromElement, inclusive).navigableKeySet();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableCharSet subSet(char fromElement, char toElement) {
+            return subSet(fromElement, true, toElement, false);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableCharSet headSet(char toElement) {
+            return headSet(toElement, false);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableCharSet tailSet(char fromElement) {
+            return tailSet(fromElement, true);
+        }
+    }
+
+    /**
+     * Values view.
+     */
+    private static final class Values<V> extends AbstractCollection<V> {
+
+        /** The original map. */
+        private final IndexedSkipListCharMap<V> m;
+
+        /**
+         * Build view.
+         *
+         * @param map
+         */
+        private Values(IndexedSkipListCharMap<V> map) {
+            m = map;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return m.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isEmpty() {
+            return m.isEmpty();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            m.clear();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<V> iterator() {
+            return new ViewIterator<>(m, n -> n.value);
+        }
+    }
+
+    /**
+     * Entry set view.
+     */
+    private static final class EntrySet<V> extends AbstractSet<CharEntry<V>> {
+
+        /** The original map. */
+        private final IndexedSkipListCharMap<V> m;
+
+        /**
+         * Build view.
+         *
+         * @param map
+         */
+        private EntrySet(IndexedSkipListCharMap<V> map) {
+            m = map;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return m.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isEmpty() {
+            return m.isEmpty();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            m.clear();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            V v = m.get(e.getKey());
+            return v != null && v.equals(e.getValue());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) return false;
+            m.remove(((Map.Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<CharEntry<V>> iterator() {
+            return new ViewIterator<>(m, n -> CharEntry.immutable(n.key, n.value));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,523 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+
+import javax.annotation.processing.Generated;
+
+import primavera.map.CharMap.CharEntry;
+import primavera.set.NavigableCharSet;
+
+@Generated("SpecializedCodeGenerator")
+public interface NavigableCharMap<V> extends NavigableMap<Character, V>, CharMap<V> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Entry<Character, V> lowerEntry(Character key) {
+        return lowerEntry((char) key);
+    }
+
+    /**
+     * Returns a key-value mapping associated with the greatest key strictly less than the given
+     * key, or {@code null} if there is no such key.
+     *
+     * @param key the key
+     * @return an entry with the greatest key less than {@code key}, or {@code null} if there is no
+     *         such key
+     * @throws ClassCastException if the specified key cannot be compared with the keys currently in
+     *             the map
+     * @throws NullPointerException if the specified key is null and this map does not permit null
+     *             keys
+     */
+    CharEntry<V> lowerEntry(char key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Character lowerKey(Character key) {
+        return lowerKey((char) key);
+    }
+
+    /**
+     * Returns the greatest key strictly less than the given key, or {@code null} if there is no
+     * such key.
+     *
+     * @param key the key
+     * @return the greatest key less than {@code key}, or {@code null} if there is no such key
+     * @throws ClassCastException if the specified key cannot be compared with the keys currently in
+     *             the map
+     * @throws NullPointerException if the specified key is null and this map does not permit null
+     *             keys
+     */
+    char lowerKey(char key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Entry<Character, V> floorEntry(Character key) {
+        return floorEntry((char) key);
+    }
+
+    /**
+     * Returns a key-value mapping associated with the greatest key less than or equal to the given
+     * key, or {@code null} if there is no such key.
+     *
+     * @param key the key
+     * @return an entry with the greatest key less than or equal to {@code key}, or {@code null} if
+     *         there is no such key
+     * @throws ClassCastException if the specified key cannot be compared with the keys currently in
+     *             the map
+     * @throws NullPointerException if the specified key is null and this map does not permit null
+     *             keys
+     */
+    CharEntry<V> floorEntry(char key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Character floorKey(Character key) {
+        return floorKey((char) key);
+    }
+
+    /**
+     * Returns the greatest key less than or equal to the given key, or {@code null} if there is no
+     * such key.
+     *
+     * @param key the key
+     * @return the greatest key less than or equal to {@code key}, or {@code null} if there is no
+     *         such key
+     * @throws ClassCastException if the specified key cannot be compared with the keys currently in
+     *             the map
+     * @throws NullPointerException if the specified key is null and this map does not permit null
+     *             keys
+     */
+    char floorKey(char key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Entry<Character, V> ceilingEntry(Character key) {
+        return ceilingEntry((char) key);
+    }
+
+    /**
+     * Returns a key-value mapping associated with the least key greater than or equal to the given
+     * key, or {@code null} if there is no such key.
+     *
+     * @param key the key
+     * @return an entry with the least key greater than or equal to {@code key}, or {@code null} if
+     *         there is no such key
+     * @throws ClassCastException if the specified key cannot be compared with the keys currently in
+     *             the map
+     * @throws NullPointerException if the specified key is null and this map does not permit null
+     *             keys
+     */
+    CharEntry<V> ceilingEntry(char key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Character ceilingKey(Character key) {
+        return ceilingKey((char) key);
+    }
+
+    /**
+     * Returns the least key greater than or equal to the given key, or {@code null} if there is no
+     * such key.
+     *
+     * @param key the key
+     * @return the least key greater than or equal to {@code key}, or {@code null} if there is no
+     *         such key
+     * @throws ClassCastException if the specified key cannot be compared with the keys currently in
+     *             the map
+     * @throws NullPointerException if the specified key is null and this map does not permit null
+     *             keys
+     */
+    char ceilingKey(char key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Entry<Character, V> higherEntry(Character key) {
+        return higherEntry((char) key);
+    }
+
+    /**
+     * Returns a key-value mapping associated with the least key strictly greater than the given
+     * key, or {@code null} if there is no such key.
+     *
+     * @param key the key
+     * @return an entry with the least key greater than {@code key}, or {@code null} if there is no
+     *         such key
+     * @throws ClassCastException if the specified key cannot be compared with the keys currently in
+     *             the map
+     * @throws NullPointerException if the specified key is null and this map does not permit null
+     *             keys
+     */
+    CharEntry<V> higherEntry(char key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Character higherKey(Character key) {
+        return higherKey((char) key);
+    }
+
+    /**
+     * Returns the least key strictly greater than the given key, or {@code null} if there is no
+     * such key.
+     *
+     * @param key the key
+     * @return the least key greater than {@code key}, or {@code null} if there is no such key
+     * @throws ClassCastException if the specified key cannot be compared with the keys currently in
+     *             the map
+     * @throws NullPointerException if the specified key is null and this map does not permit null
+     *             keys
+     */
+    char higherKey(char key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Character firstKey() {
+        return firstCharKey();
+    }
+
+    /**
+     * Returns the first (lowest) key currently in this map.
+     *
+     * @return the first (lowest) key currently in this map
+     * @throws NoSuchElementException if this map is empty
+     */
+    char firstCharKey();
+
+    /**
+     * Returns a value mapping associated with the least key in this map, or {@code null} if the map
+     * is empty.
+     *
+     * @return A value with the least key, or {@code null} if this map is empty
+     */
+    default V firstValue() {
+        CharEntry<V> entry = firstEntry();
+        return entry == null ? null : entry.getValue();
+    }
+
+    /**
+     * Returns a key-value mapping associated with the least key in this map, or {@code null} if the
+     * map is empty.
+     *
+     * @return an entry with the least key, or {@code null} if this map is empty
+     */
+    @Override
+    CharEntry<V> firstEntry();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Character lastKey() {
+        return lastCharKey();
+    }
+
+    /**
+     * Returns the last (highest) key currently in this map.
+     *
+     * @return the last (highest) key currently in this map
+     * @throws NoSuchElementException if this map is empty
+     */
+    char lastCharKey();
+
+    /**
+     * Returns a value mapping associated with the greatest key in this map, or {@code null} if the
+     * map is empty.
+     *
+     * @return A value with the greatest key, or {@code null} if this map is empty
+     */
+    default V lastValue() {
+        CharEntry<V> entry = lastEntry();
+        return entry == null ? null : entry.getValue();
+    }
+
+    /**
+     * Returns a key-value mapping associated with the greatest key in this map, or {@code null} if
+     * the map is empty.
+     *
+     * @return an entry with the greatest key, or {@code null} if this map is empty
+     */
+    @Override
+    CharEntry<V> lastEntry();
+
+    /**
+     * Removes and returns a key-value mapping associated with the least key in this map, or
+     * {@code null} if the map is empty.
+     *
+     * @return the removed first entry of this map, or {@code null} if this map is empty
+     */
+    @Override
+    CharEntry<V> pollFirstEntry();
+
+    /**
+     * Removes and returns a key-value mapping associated with the greatest key in this map, or
+     * {@code null} if the map is empty.
+     *
+     * @return the removed last entry of this map, or {@code null} if this map is empty
+     */
+    @Override
+    CharEntry<V> pollLastEntry();
+
+    /**
+     * Returns a reverse order view of the mappings contained in this map. The descending map is
+     * backed by this map, so changes to the map are reflected in the descending map, and
+     * vice-versa. If either map is modified while an iteration over a collection view of either map
+     * is in progress (except through the iterator's own {@code remove} operation), the results of
+     * the iteration are undefined.
+     * <p>
+     * The returned map has an ordering equivalent to {@link Collections#reverseOrder(Comparator)
+     * Collections.reverseOrder}{@code (comparator())}. The expression
+     * {@code m.descendingMap().descendingMap()} returns a view of {@code m} essentially equivalent
+     * to {@code m}.
+     *
+     * @return a reverse order view of this map
+     */
+    @Override
+    NavigableCharMap<V> descendingMap();
+
+    /**
+     * Returns a {@link NavigableSet} view of the keys contained in this map. The set's iterator
+     * returns the keys in ascending order. The set is backed by the map, so changes to the map are
+     * reflected in the set, and vice-versa. If the map is modified while an iteration over the set
+     * is in progress (except through the iterator's own {@code
+     * remove} operation), the results of the iteration are undefined. The set supports element
+     * removal, which removes the corresponding mapping from the map, via the
+     * {@code Iterator.remove}, {@code Set.remove}, {@code removeAll}, {@code retainAll}, and
+     * {@code clear} operations. It does not support the {@code add} or {@code addAll} operations.
+     *
+     * @return a navigable set view of the keys in this map
+     */
+    @Override
+    NavigableCharSet navigableKeySet();
+
+    /**
+     * Returns a reverse order {@link NavigableSet} view of the keys contained in this map. The
+     * set's iterator returns the keys in descending order. The set is backed by the map, so changes
+     * to the map are reflected in the set, and vice-versa. If the map is modified while an
+     * iteration over the set is in progress (except through the iterator's own {@code
+     * remove} operation), the results of the iteration are undefined. The set supports element
+     * removal, which removes the corresponding mapping from the map, via the
+     * {@code Iterator.remove}, {@code Set.remove}, {@code removeAll}, {@code retainAll}, and
+     * {@code clear} operations. It does not support the {@code add} or {@code addAll} operations.
+     *
+     * @return a reverse order navigable set view of the keys in this map
+     */
+    @Override
+    NavigableCharSet descendingKeySet();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default NavigableMap<Character, V> subMap(Character fromKey, boolean fromInclusive, Character toKey, boolean toInclusive) {
+        return subMap((char) fromKey, fromInclusive, (char) toKey, toInclusive);
+    }
+
+    /**
+     * Returns a view of the portion of this map whose keys range from {@code fromKey} to
+     * {@code toKey}. If {@code fromKey} and {@code toKey} are equal, the returned map is empty
+     * unless {@code fromInclusive} and {@code toInclusive} are both true. The returned map is
+     * backed by this map, so changes in the returned map are reflected in this map, and vice-versa.
+     * The returned map supports all optional map operations that this map supports.
+     * <p>
+     * The returned map will throw an {@code IllegalArgumentException} on an attempt to insert a key
+     * outside of its range, or to construct a submap either of whose endpoints lie outside its
+     * range.
+     *
+     * @param fromKey low endpoint of the keys in the returned map
+     * @param fromInclusive {@code true} if the low endpoint is to be included in the returned view
+     * @param toKey high endpoint of the keys in the returned map
+     * @param toInclusive {@code true} if the high endpoint is to be included in the returned view
+     * @return a view of the portion of this map whose keys range from {@code fromKey} to
+     *         {@code toKey}
+     * @throws ClassCastException if {@code fromKey} and {@code toKey} cannot be compared to one
+     *             another using this map's comparator (or, if the map has no comparator, using
+     *             natural ordering). Implementations may, but are not required to, throw this
+     *             exception if {@code fromKey} or {@code toKey} cannot be compared to keys
+     *             currently in the map.
+     * @throws NullPointerException if {@code fromKey} or {@code toKey} is null and this map does
+     *             not permit null keys
+     * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}; or if this
+     *             map itself has a restricted range, and {@code fromKey} or {@code toKey} lies
+     *             outside the bounds of the range
+     */
+    NavigableCharMap<V> subMap(char fromKey, boolean fromInclusive, char toKey, boolean toInclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default NavigableCharMap<V> headMap(Character toKey, boolean inclusive) {
+        return headMap((char) toKey, inclusive);
+    }
+
+    /**
+     * Returns a view of the portion of this map whose keys are less than (or equal to, if
+     * {@code inclusive} is true) {@code toKey}. The returned map is backed by this map, so changes
+     * in the returned map are reflected in this map, and vice-versa. The returned map supports all
+     * optional map operations that this map supports.
+     * <p>
+     * The returned map will throw an {@code IllegalArgumentException} on an attempt to insert a key
+     * outside its range.
+     *
+     * @param toKey high endpoint of the keys in the returned map
+     * @param inclusive {@code true} if the high endpoint is to be included in the returned view
+     * @return a view of the portion of this map whose keys are less than (or equal to, if
+     *         {@code inclusive} is true) {@code toKey}
+     * @throws ClassCastException if {@code toKey} is not compatible with this map's comparator (or,
+     *             if the map has no comparator, if {@code toKey} does not implement
+     *             {@link Comparable}). Implementations may, but are not required to, throw this
+     *             exception if {@code toKey} cannot be compared to keys currently in the map.
+     * @throws NullPointerException if {@code toKey} is null and this map does not permit null keys
+     * @throws IllegalArgumentException if this map itself has a restricted range, and {@code toKey}
+     *             lies outside the bounds of the range
+     */
+    NavigableCharMap<V> headMap(char toKey, boolean inclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default NavigableCharMap<V> tailMap(Character fromKey, boolean inclusive) {
+        return tailMap((char) fromKey, inclusive);
+    }
+
+    /**
+     * Returns a view of the portion of this map whose keys are greater than (or equal to, if
+     * {@code inclusive} is true) {@code fromKey}. The returned map is backed by this map, so
+     * changes in the returned map are reflected in this map, and vice-versa. The returned map
+     * supports all optional map operations that this map supports.
+     * <p>
+     * The returned map will throw an {@code IllegalArgumentException} on an attempt to insert a key
+     * outside its range.
+     *
+     * @param fromKey low endpoint of the keys in the returned map
+     * @param inclusive {@code true} if the low endpoint is to be included in the returned view
+     * @return a view of the portion of this map whose keys are greater than (or equal to, if
+     *         {@code inclusive} is true) {@code fromKey}
+     * @throws ClassCastException if {@code fromKey} is not compatible with this map's comparator
+     *             (or, if the map has no comparator, if {@code fromKey} does not implement
+     *             {@link Comparable}). Implementations may, but are not required to, throw this
+     *             exception if {@code fromKey} cannot be compared to keys currently in the map.
+     * @throws NullPointerException if {@code fromKey} is null and this map does not permit null
+     *             keys
+     * @throws IllegalArgumentException if this map itself has a restricted range, and
+     *             {@code fromKey} lies outside the bounds of the range
+     */
+    NavigableCharMap<V> tailMap(char fromKey, boolean inclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default NavigableCharMap<V> subMap(Character fromKey, Character toKey) {
+        return subMap((char) fromKey, (char) toKey);
+    }
+
+    /**
+     * Equivalent to {@code subMap(fromKey, true, toKey, false)}.
+     */
+    NavigableCharMap<V> subMap(char fromKey, char toKey);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default NavigableCharMap<V> headMap(Character toKey) {
+        return headMap((char) toKey);
+    }
+
+    /**
+     * Equivalent to {@code headMap(toKey, false)}.
+     */
+    NavigableCharMap<V> headMap(char toKey);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default NavigableCharMap<V> tailMap(Character fromKey) {
+        return tailMap((char) fromKey);
+    }
+
+    /**
+     * Equivalent to {@code tailMap(fromKey, true)}.
+     */
+    NavigableCharMap<V> tailMap(char fromKey);
+
+    /**
+     * Returns the number of keys which precede the specified key in this map's order, that is the
+     * position where the key is or would be placed. The specified key doesn't need to be contained
+     * in this map.
+     *
+     * @implSpec The default implementation walks the entries from the first one, so it takes
+     *           linear time. The map which maintains the positional index should override it.
+     * @param key the key to search for
+     * @return the number of keys which precede the specified key
+     */
+    default int rank(char key) {
+        CharEntry<V> ceiling = ceilingEntry(key);
+        if (ceiling == null) {
+            return size();
+        }
+
+        char bound = ceiling.getCharKey();
+        CharMapCursor<V> cursor = cursor();
+        int rank = 0;
+        while (cursor.next() && Character.compare(cursor.key(), bound) != 0) {
+            rank++;
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the key at the specified position in this map's order.
+     *
+     * @implSpec The default implementation walks the entries from the first one, so it takes
+     *           linear time. The map which maintains the positional index should override it.
+     * @param index the zero-based position of the key
+     * @return the key at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *             ({@code index < 0 || index >= size()})
+     */
+    default char select(int index) {
+        if (0 <= index) {
+            CharMapCursor<V> cursor = cursor();
+            for (int i = 0; cursor.next(); i++) {
+                if (i == index) {
+                    return cursor.key();
+                }
+            }
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+    }
+}
\ No newline at end of file
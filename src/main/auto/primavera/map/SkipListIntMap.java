@@ -1,2871 +1,3543 @@
-/*
- * Copyright (C) 2025 The PRIMAVERA Development Team
- *
- * Licensed under the MIT License (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *          https://opensource.org/licenses/MIT
- */
-package primavera.map;
-
-import java.lang.invoke.VarHandle;
-import java.util.AbstractCollection;
-import java.util.AbstractMap;
-import java.util.AbstractSet;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableSet;
-import java.util.NoSuchElementException;
-import java.util.Objects;
-import java.util.Set;
-import java.util.SortedMap;
-import java.util.Spliterator;
-import java.util.Spliterators;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
-import java.util.concurrent.atomic.LongAdder;
-import java.util.function.BiConsumer;
-import java.util.function.BiFunction;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
-
-import kiss.I;
-import java.util.function.IntFunction;
-import primavera.set.NavigableIntSet;
-
-/**
- * A scalable concurrent {@link ConcurrentNavigableMap} implementation. The map is sorted according
- * to the {@linkplain Comparable natural ordering} of its keys, or by a {@link Comparator} provided
- * at map creation time, depending on which constructor is used.
- * <p>
- * This class implements a concurrent variant of
- * <a href="http://en.wikipedia.org/wiki/Skip_list" target="_top">SkipLists</a> providing expected
- * average <i>log(n)</i> time cost for the {@code containsKey}, {@code get}, {@code put} and
- * {@code remove} operations and their variants. Insertion, removal, update, and access operations
- * safely execute concurrently by multiple threads.
- * <p>
- * Iterators and spliterators are <a href="package-summary.html#Weakly"><i>weakly
- * consistent</i></a>.
- * <p>
- * Ascending key ordered views and their iterators are faster than descending ones.
- * <p>
- * All {@code Map.Entry} pairs returned by methods in this class and its views represent snapshots
- * of mappings at the time they were produced. They do <em>not</em> support the
- * {@code Entry.setValue} method. (Note however that it is possible to change mappings in the
- * associated map using {@code put}, {@code putIfAbsent}, or {@code replace}, depending on exactly
- * which effect you need.)
- * <p>
- * Beware that bulk operations {@code putAll}, {@code equals}, {@code toArray},
- * {@code containsValue}, and {@code clear} are <em>not</em> guaranteed to be performed atomically.
- * For example, an iterator operating concurrently with a {@code putAll} operation might view only
- * some of the added elements.
- * <p>
- * This class and its views and iterators implement all of the <em>optional</em> methods of the
- * {@link Map} and {@link Iterator} interfaces. Like most other concurrent collections, this class
- * does <em>not</em> permit the use of {@code null} keys or values because some null return values
- * cannot be reliably distinguished from the absence of elements.
- *
- * @param <V> the type of mapped values
- */
-class SkipListIntMap<V> extends AbstractMap<Integer, V> implements ConcurrentNavigableIntMap<V> {
-
-    /** The field updater. */
-    private static final AtomicReferenceFieldUpdater<SkipListIntMap, Index> HEAD = AtomicReferenceFieldUpdater
-            .newUpdater(SkipListIntMap.class, Index.class, "head");
-
-    /** The field updater. */
-    private static final AtomicReferenceFieldUpdater<SkipListIntMap, LongAdder> ADDER = AtomicReferenceFieldUpdater
-            .newUpdater(SkipListIntMap.class, LongAdder.class, "adder");
-
-    /** The field updater. */
-    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT = AtomicReferenceFieldUpdater
-            .newUpdater(Node.class, Node.class, "next");
-
-    /** The field updater. */
-    private static final AtomicReferenceFieldUpdater<Node, Object> VALUE = AtomicReferenceFieldUpdater
-            .newUpdater(Node.class, Object.class, "value");
-
-    /** The field updater. */
-    private static final AtomicReferenceFieldUpdater<Index, Index> RIGHT = AtomicReferenceFieldUpdater
-            .newUpdater(Index.class, Index.class, "right");
-
-    // Control values OR'ed as arguments to findNear
-    private static final int EQ = 1;
-
-    private static final int LT = 2;
-
-    private static final int GT = 0; // Actually checked as !LT
-
-    private static final int EMPTY = Integer.MIN_VALUE;
-
-    /** Lazily initialized topmost index of the skiplist. */
-    private transient volatile Index<V> head;
-
-    /** Lazily initialized element count */
-    private transient volatile LongAdder adder;
-
-    /** Lazily initialized key set */
-    private transient volatile NavigableIntSet keySet;
-
-    /** Lazily initialized values collection */
-    private transient volatile Values<V> values;
-
-    /** Lazily initialized entry set */
-    private transient Entries<V> entrySet;
-
-    /** Lazily initialized descending map */
-    private transient SubMap<V> descendingMap;
-
-    /**
-     * The comparator used to maintain order in this map. (Non-private to simplify access in nested
-     * classes.)
-     */
-    private final IntComparator comparator;
-
-    /**
-     * Returns the header for base node list, or null if uninitialized
-     */
-    private final Node<V> baseHead() {
-        Index<V> h;
-        VarHandle.acquireFence();
-        return ((h = head) == null) ? null : h.node;
-    }
-
-    /**
-     * Tries to unlink deleted node n from predecessor b (if both exist), by first splicing in a
-     * marker if not already present. Upon return, node n is sure to be unlinked from b, possibly
-     * via the actions of some other thread.
-     *
-     * @param b if nonnull, predecessor
-     * @param n if nonnull, node known to be deleted
-     */
-    private static <V> void unlinkNode(Node<V> b, Node<V> n) {
-        if (b != null && n != null) {
-            Node<V> f, p;
-            for (;;) {
-                if ((f = n.next) != null && f.key == EMPTY) {
-                    p = f.next; // already marked
-                    break;
-                } else if (NEXT.compareAndSet(n, f, new Node<V>(EMPTY, null, f))) {
-                    p = f; // add marker
-                    break;
-                }
-            }
-            NEXT.compareAndSet(b, n, p);
-        }
-    }
-
-    /**
-     * Adds to element count, initializing adder if necessary
-     *
-     * @param c count to add
-     */
-    private void addCount(long c) {
-        LongAdder a;
-        do {
-        } while ((a = adder) == null && !ADDER.compareAndSet(this, null, a = new LongAdder()));
-        a.add(c);
-    }
-
-    /**
-     * Returns element count, initializing adder if necessary.
-     */
-    private final long getAdderCount() {
-        LongAdder a;
-        long c;
-        do {
-        } while ((a = adder) == null && !ADDER.compareAndSet(this, null, a = new LongAdder()));
-        return ((c = a.sum()) <= 0L) ? 0L : c; // ignore transient negatives
-    }
-
-    /**
-     * Returns an index node with key strictly less than given key. Also unlinks indexes to deleted
-     * nodes found aint the way. Callers rely on this side-effect of clearing indices to
-     * deleted nodes.
-     *
-     * @param key if nonnull the key
-     * @return a predecessor node of key, or null if uninitialized or null key
-     */
-    private Node<V> findPredecessor(int key, IntComparator cmp) {
-        Index<V> q;
-        VarHandle.acquireFence();
-        if ((q = head) == null || key == EMPTY) {
-            return null;
-        } else {
-            for (Index<V> r, d;;) {
-                while ((r = q.right) != null) {
-                    Node<V> p;
-                    int k;
-                    if ((p = r.node) == null || (k = p.key) == EMPTY || p.value == null) {
-                        // unlink index to deleted node
-                        RIGHT.compareAndSet(q, r, r.right);
-                    } else if (cmp.compare(key, k) > 0) {
-                        q = r;
-                    } else {
-                        break;
-                    }
-                }
-
-                if ((d = q.down) != null) {
-                    q = d;
-                } else {
-                    return q.node;
-                }
-            }
-        }
-    }
-
-    /**
-     * Returns node holding key or null if no such, clearing out any deleted nodes seen aint
-     * the way. Repeatedly traverses at base-level looking for key starting at predecessor returned
-     * from findPredecessor, processing base-level deletions as encountered. Restarts occur, at
-     * traversal step encountering node n, if n's key field is null, indicating it is a marker, so
-     * its predecessor is deleted before continuing, which we help do by re-finding a valid
-     * predecessor. The traversal loops in doPut, doRemove, and findNear all include the same
-     * checks.
-     *
-     * @param key the key
-     * @return node holding key, or null if no such
-     */
-    private Node<V> findNode(int key) {
-        IntComparator cmp = comparator;
-        Node<V> b;
-        outer: while ((b = findPredecessor(key, cmp)) != null) {
-            for (;;) {
-                Node<V> node;
-                int k;
-                int c;
-                if ((node = b.next) == null) {
-                    break outer; // empty
-                } else if ((k = node.key) == EMPTY) {
-                    break; // b is deleted
-                } else if (node.value == null) {
-                    unlinkNode(b, node); // n is deleted
-                } else if ((c = cmp.compare(key, k)) > 0) {
-                    b = node;
-                } else if (c == 0) {
-                    return node;
-                } else {
-                    break outer;
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Add indices after an insertion. Descends iteratively to the highest level of insertion, then
-     * recursively, to chain index nodes to lower ones. Returns null on (staleness) failure,
-     * disabling higher-level insertions. Recursion depths are exponentially less probable.
-     *
-     * @param q starting index for current level
-     * @param skips levels to skip before inserting
-     * @param x index for this insertion
-     * @param cmp comparator
-     */
-    private static <V> boolean addIndices(Index<V> q, int skips, Index<V> x, IntComparator cmp) {
-        Node<V> z;
-        int key;
-        if (x != null && (z = x.node) != null && (key = z.key) != EMPTY && q != null) {
-            // hoist checks
-            boolean retrying = false;
-            for (;;) { // find splice point
-                Index<V> r, d;
-                int c;
-                if ((r = q.right) != null) {
-                    Node<V> p;
-                    int k;
-                    if ((p = r.node) == null || (k = p.key) == EMPTY || p.value == null) {
-                        RIGHT.compareAndSet(q, r, r.right);
-                        c = 0;
-                    } else if ((c = cmp.compare(key, k)) > 0)
-                        q = r;
-                    else if (c == 0) break; // stale
-                } else {
-                    c = -1;
-                }
-
-                if (c < 0) {
-                    if ((d = q.down) != null && skips > 0) {
-                        --skips;
-                        q = d;
-                    } else if (d != null && !retrying && !addIndices(d, 0, x.down, cmp)) {
-                        break;
-                    } else {
-                        x.right = r;
-                        if (RIGHT.compareAndSet(q, r, x)) {
-                            return true;
-                        } else {
-                            retrying = true; // re-find splice point
-                        }
-                    }
-                }
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Constructs a new, empty map, sorted according to the specified comparator.
-     *
-     * @param comparator the comparator that will be used to order this map. If {@code null}, the
-     *            {@linkplain Comparable natural ordering} of the keys will be used.
-     */
-    SkipListIntMap(IntComparator comparator) {
-        this.comparator = comparator == null ? Integer::compare : comparator;
-    }
-
-    /**
-     * Possibly reduce head level if it has no nodes. This method can (rarely) make mistakes, in
-     * which case levels can disappear even though they are about to contain index nodes. This
-     * impacts performance, not correctness. To minimize mistakes as well as to reduce hysteresis,
-     * the level is reduced by one only if the topmost three levels look empty. Also, if the removed
-     * level looks non-empty after CAS, we try to change it back quick before anyone notices our
-     * mistake! (This trick works pretty well because this method will practically never make
-     * mistakes unless current thread stalls immediately before first CAS, in which case it is very
-     * unlikely to stall again immediately afterwards, so will recover.) We put up with all this
-     * rather than just let levels grow because otherwise, even a small map that has undergone a
-     * large number of insertions and removals will have a lot of levels, slowing down access more
-     * than would an occasional unwanted reduction.
-     */
-    private void tryReduceLevel() {
-        Index<V> h, d, e;
-        if ((h = head) != null && h.right == null && (d = h.down) != null && d.right == null && (e = d.down) != null && e.right == null && HEAD
-                .compareAndSet(this, h, d) && h.right != null) {
-            HEAD.compareAndSet(this, d, h); // try to backout
-        }
-
-    }
-
-    /**
-     * Gets first valid node, unlinking deleted nodes if encountered.
-     * 
-     * @return first node or null if empty
-     */
-    private Node<V> findFirst() {
-        Node<V> b, n;
-        if ((b = baseHead()) != null) {
-            while ((n = b.next) != null) {
-                if (n.value == null) {
-                    unlinkNode(b, n);
-                } else {
-                    return n;
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Specialized version of find to get last valid node.
-     * 
-     * @return last node or null if empty
-     */
-    private Node<V> findLast() {
-        outer: for (;;) {
-            Index<V> q;
-            Node<V> b;
-            VarHandle.acquireFence();
-            if ((q = head) == null) break;
-            for (Index<V> r, d;;) {
-                while ((r = q.right) != null) {
-                    Node<V> p;
-                    if ((p = r.node) == null || p.value == null) {
-                        RIGHT.compareAndSet(q, r, r.right);
-                    } else {
-                        q = r;
-                    }
-                }
-
-                if ((d = q.down) != null) {
-                    q = d;
-                } else {
-                    b = q.node;
-                    break;
-                }
-            }
-            if (b != null) {
-                for (;;) {
-                    Node<V> n;
-                    if ((n = b.next) == null) {
-                        if (b.key == EMPTY) {
-                            break outer;
-                        } else {
-                            return b;
-                        }
-                    } else if (n.key == EMPTY) {
-                        break;
-                    } else if (n.value == null) {
-                        unlinkNode(b, n);
-                    } else {
-                        b = n;
-                    }
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Utility for ceiling, floor, lower, higher methods.
-     * 
-     * @param key the key
-     * @param rel the relation -- OR'ed combination of EQ, LT, GT
-     * @return nearest node fitting relation, or null if no such
-     */
-    private Node<V> findNear(int key, int rel, IntComparator cmp) {
-        Node<V> result;
-        outer: for (Node<V> b;;) {
-            if ((b = findPredecessor(key, cmp)) == null) {
-                result = null;
-                break; // empty
-            }
-            for (;;) {
-                Node<V> n;
-                int k;
-                int c;
-                if ((n = b.next) == null) {
-                    result = ((rel & LT) != 0 && b.key != EMPTY) ? b : null;
-                    break outer;
-                } else if ((k = n.key) == EMPTY) {
-                    break;
-                } else if (n.value == null) {
-                    unlinkNode(b, n);
-                } else if (((c = cmp.compare(key, k)) == 0 && (rel & EQ) != 0) || (c < 0 && (rel & LT) == 0)) {
-                    result = n;
-                    break outer;
-                } else if (c <= 0 && (rel & LT) != 0) {
-                    result = (b.key != EMPTY) ? b : null;
-                    break outer;
-                } else {
-                    b = n;
-                }
-            }
-        }
-        return result;
-    }
-
-    /**
-     * Variant of findNear returning SimpleImmutableEntry
-     * 
-     * @param key the key
-     * @param rel the relation -- OR'ed combination of EQ, LT, GT
-     * @return Entry fitting relation, or null if no such
-     */
-    private IntEntry<V> findNearEntry(int key, int rel, IntComparator cmp) {
-        for (;;) {
-            Node<V> n;
-            V v;
-            if ((n = findNear(key, rel, cmp)) == null) return null;
-            if ((v = n.value) != null) return IntEntry.immutable(n.key, v);
-        }
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean containsKey(int key) {
-        return doGet(key) != null;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public V get(int key) {
-        return doGet(key);
-    }
-
-    /**
-     * Gets value for key. Same idea as findNode, except skips over deletions and markers, and
-     * returns first encountered value to avoid possibly inconsistent rereads.
-     *
-     * @param key the key
-     * @return the value, or null if absent
-     */
-    private V doGet(int key) {
-        Index<V> q;
-        VarHandle.acquireFence();
-        IntComparator cmp = comparator;
-        V result = null;
-        if ((q = head) != null) {
-            outer: for (Index<V> r, d;;) {
-                while ((r = q.right) != null) {
-                    Node<V> p;
-                    int k;
-                    V v;
-                    int c;
-                    if ((p = r.node) == null || (k = p.key) == EMPTY || (v = p.value) == null) {
-                        RIGHT.compareAndSet(q, r, r.right);
-                    } else if ((c = cmp.compare(key, k)) > 0) {
-                        q = r;
-                    } else if (c == 0) {
-                        result = v;
-                        break outer;
-                    } else {
-                        break;
-                    }
-                }
-                if ((d = q.down) != null) {
-                    q = d;
-                } else {
-                    Node<V> b, n;
-                    if ((b = q.node) != null) {
-                        while ((n = b.next) != null) {
-                            V v;
-                            int c;
-                            int k = n.key;
-                            if ((v = n.value) == null || k == EMPTY || (c = cmp.compare(key, k)) > 0) {
-                                b = n;
-                            } else {
-                                if (c == 0) result = v;
-                                break;
-                            }
-                        }
-                    }
-                    break;
-                }
-            }
-        }
-        return result;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public V put(int key, V value) {
-        if (value == null) {
-            throw new NullPointerException();
-        }
-        return doPut(key, value, false);
-    }
-
-    /**
-     * Main insertion method. Adds element if not present, or replaces value if present and
-     * onlyIfAbsent is false.
-     *
-     * @param key the key
-     * @param value the value that must be associated with key
-     * @param onlyIfAbsent if should not insert if already present
-     * @return the old value, or null if newly inserted
-     */
-    private V doPut(int key, V value, boolean onlyIfAbsent) {
-        IntComparator cmp = comparator;
-        for (;;) {
-            Index<V> h;
-            Node<V> b;
-            VarHandle.acquireFence();
-            int levels = 0; // number of levels descended
-            if ((h = head) == null) { // try to initialize
-                Node<V> base = new Node<V>(EMPTY, null, null);
-                h = new Index<V>(base, null, null);
-                b = (HEAD.compareAndSet(this, null, h)) ? base : null;
-            } else {
-                for (Index<V> q = h, r, d;;) { // count while descending
-                    while ((r = q.right) != null) {
-                        Node<V> p;
-                        int k;
-                        if ((p = r.node) == null || (k = p.key) == EMPTY || p.value == null) {
-                            RIGHT.compareAndSet(q, r, r.right);
-                        } else if (cmp.compare(key, k) > 0) {
-                            q = r;
-                        } else {
-                            break;
-                        }
-                    }
-                    if ((d = q.down) != null) {
-                        ++levels;
-                        q = d;
-                    } else {
-                        b = q.node;
-                        break;
-                    }
-                }
-            }
-            if (b != null) {
-                Node<V> z = null; // new node, if inserted
-                for (;;) { // find insertion point
-                    Node<V> n, p;
-                    int k;
-                    V v;
-                    int c;
-                    if ((n = b.next) == null) {
-                        if (b.key == EMPTY) // if empty, type check key now
-                            cmp.compare(key, key);
-                        c = -1;
-                    } else if ((k = n.key) == EMPTY) {
-                        break; // can't append; restart
-                    } else if ((v = n.value) == null) {
-                        unlinkNode(b, n);
-                        c = 1;
-                    } else if ((c = cmp.compare(key, k)) > 0) {
-                        b = n;
-                    } else if (c == 0 && (onlyIfAbsent || VALUE.compareAndSet(n, v, value))) {
-                        return v;
-                    }
-
-                    if (c < 0 && NEXT.compareAndSet(b, n, p = new Node<V>(key, value, n))) {
-                        z = p;
-                        break;
-                    }
-                }
-
-                if (z != null) {
-                    int lr = ThreadLocalRandom.current().nextInt();
-                    if ((lr & 0x3) == 0) { // add indices with 1/4 prob
-                        int hr = ThreadLocalRandom.current().nextInt();
-                        long rnd = ((long) hr << 32) | (lr & 0xffffffffL);
-                        int skips = levels; // levels to descend before add
-                        Index<V> x = null;
-                        for (;;) { // create at most 62 indices
-                            x = new Index<V>(z, x, null);
-                            if (rnd >= 0L || --skips < 0) {
-                                break;
-                            } else {
-                                rnd <<= 1;
-                            }
-                        }
-                        if (addIndices(h, skips, x, cmp) && skips < 0 && head == h) {
-                            // try to add new level
-                            Index<V> hx = new Index<V>(z, x, null);
-                            Index<V> nh = new Index<V>(h.node, h, hx);
-                            HEAD.compareAndSet(this, h, nh);
-                        }
-                        if (z.value == null) {
-                            // deleted while adding indices
-                            findPredecessor(key, cmp); // clean
-                        }
-                    }
-                    addCount(1L);
-                    return null;
-                }
-            }
-        }
-    }
-
-    /**
-     * Removes the mapping for the specified key from this map if present.
-     *
-     * @param key key for which mapping should be removed
-     * @return the previous value associated with the specified key, or {@code null} if there was no
-     *         mapping for the key
-     * @throws ClassCastException if the specified key cannot be compared with the keys currently in
-     *             the map
-     * @throws NullPointerException if the specified key is null
-     */
-    @Override
-    public V remove(int key) {
-        return doRemove(key, null);
-    }
-
-    /**
-     * Main deletion method. Locates node, nulls value, appends a deletion marker, unlinks
-     * predecessor, removes associated index nodes, and possibly reduces head index level.
-     *
-     * @param key the key
-     * @param value if non-null, the value that must be associated with key
-     * @return the node, or null if not found
-     */
-    private V doRemove(int key, Object value) {
-        IntComparator cmp = comparator;
-        V result = null;
-        Node<V> b;
-        outer: while ((b = findPredecessor(key, cmp)) != null && result == null) {
-            for (;;) {
-                Node<V> n;
-                int k;
-                V v;
-                int c;
-                if ((n = b.next) == null) {
-                    break outer;
-                } else if ((k = n.key) == EMPTY) {
-                    break;
-                } else if ((v = n.value) == null) {
-                    unlinkNode(b, n);
-                } else if ((c = cmp.compare(key, k)) > 0) {
-                    b = n;
-                } else if (c < 0) {
-                    break outer;
-                } else if (value != null && !value.equals(v)) {
-                    break outer;
-                } else if (VALUE.compareAndSet(n, v, null)) {
-                    result = v;
-                    unlinkNode(b, n);
-                    break; // loop to clean up
-                }
-            }
-        }
-        if (result != null) {
-            tryReduceLevel();
-            addCount(-1L);
-        }
-        return result;
-    }
-
-    /**
-     * Returns {@code true} if this map maps one or more keys to the specified value. This operation
-     * requires time linear in the map size. Additionally, it is possible for the map to change
-     * during execution of this method, in which case the returned result may be inaccurate.
-     *
-     * @param value value whose presence in this map is to be tested
-     * @return {@code true} if a mapping to {@code value} exists; {@code false} otherwise
-     * @throws NullPointerException if the specified value is null
-     */
-    @Override
-    public boolean containsValue(Object value) {
-        if (value == null) throw new NullPointerException();
-        Node<V> b, n;
-        V v;
-        if ((b = baseHead()) != null) {
-            while ((n = b.next) != null) {
-                if ((v = n.value) != null && value.equals(v)) {
-                    return true;
-                } else {
-                    b = n;
-                }
-            }
-        }
-        return false;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public int size() {
-        long c;
-        return ((baseHead() == null) ? 0 : ((c = getAdderCount()) >= Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) c);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean isEmpty() {
-        return findFirst() == null;
-    }
-
-    /**
-     * Removes all of the mappings from this map.
-     */
-    @Override
-    public void clear() {
-        Index<V> h, r, d;
-        Node<V> b;
-        VarHandle.acquireFence();
-        while ((h = head) != null) {
-            if ((r = h.right) != null) // remove indices
-                RIGHT.compareAndSet(h, r, null);
-            else if ((d = h.down) != null) // remove levels
-                HEAD.compareAndSet(this, h, d);
-            else {
-                long count = 0L;
-                if ((b = h.node) != null) { // remove nodes
-                    Node<V> n;
-                    V v;
-                    while ((n = b.next) != null) {
-                        if ((v = n.value) != null && VALUE.compareAndSet(n, v, null)) {
-                            --count;
-                            v = null;
-                        }
-                        if (v == null) unlinkNode(b, n);
-                    }
-                }
-                if (count != 0L) {
-                    addCount(count);
-                } else {
-                    break;
-                }
-            }
-        }
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public V computeIfAbsent(int key, IntFunction<? extends V> mappingFunction) {
-        if (key == EMPTY || mappingFunction == null) throw new NullPointerException();
-        V v, p, r;
-        if ((v = doGet(key)) == null && (r = mappingFunction.apply(key)) != null) v = (p = doPut(key, r, true)) == null ? r : p;
-        return v;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public V merge(int key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
-        Objects.requireNonNull(value);
-        Objects.requireNonNull(remappingFunction);
-
-        for (;;) {
-            Node<V> n;
-            V v;
-            V r;
-            if ((n = findNode(key)) == null) {
-                if (doPut(key, value, true) == null) return value;
-            } else if ((v = n.value) != null) {
-                if ((r = remappingFunction.apply(v, value)) != null) {
-                    if (VALUE.compareAndSet(n, v, r)) return r;
-                } else if (doRemove(key, v) != null) return null;
-            }
-        }
-    }
-
-    /**
-     * Returns a {@link NavigableSet} view of the keys contained in this map.
-     * <p>
-     * The set's iterator returns the keys in ascending order. The set's spliterator additionally
-     * reports {@link Spliterator#CONCURRENT}, {@link Spliterator#NONNULL},
-     * {@link Spliterator#SORTED} and {@link Spliterator#ORDERED}, with an encounter order that is
-     * ascending key order.
-     * <p>
-     * The {@linkplain Spliterator#getComparator() spliterator's comparator} is {@code null} if the
-     * {@linkplain #comparator() map's comparator} is {@code null}. Otherwise, the spliterator's
-     * comparator is the same as or imposes the same total ordering as the map's comparator.
-     * <p>
-     * The set is backed by the map, so changes to the map are reflected in the set, and vice-versa.
-     * The set supports element removal, which removes the corresponding mapping from the map, via
-     * the {@code Iterator.remove}, {@code Set.remove}, {@code removeAll}, {@code retainAll}, and
-     * {@code clear} operations. It does not support the {@code add} or {@code addAll} operations.
-     * <p>
-     * The view's iterators and spliterators are <a href="package-summary.html#Weakly"><i>weakly
-     * consistent</i></a>.
-     * <p>
-     * This method is equivalent to method {@code navigableKeySet}.
-     *
-     * @return a navigable set view of the keys in this map
-     */
-    @Override
-    public NavigableSet<Integer> keySet() {
-        NavigableIntSet ks;
-        if ((ks = keySet) != null) return ks;
-        return keySet = new Keys<>(this);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public NavigableIntSet navigableKeySet() {
-        NavigableIntSet ks;
-        if ((ks = keySet) != null) return ks;
-        return keySet = new Keys<>(this);
-    }
-
-    /**
-     * Returns a {@link Collection} view of the values contained in this map.
-     * <p>
-     * The collection's iterator returns the values in ascending order of the corresponding keys.
-     * The collections's spliterator additionally reports {@link Spliterator#CONCURRENT},
-     * {@link Spliterator#NONNULL} and {@link Spliterator#ORDERED}, with an encounter order that is
-     * ascending order of the corresponding keys.
-     * <p>
-     * The collection is backed by the map, so changes to the map are reflected in the collection,
-     * and vice-versa. The collection supports element removal, which removes the corresponding
-     * mapping from the map, via the {@code Iterator.remove}, {@code Collection.remove},
-     * {@code removeAll}, {@code retainAll} and {@code clear} operations. It does not support the
-     * {@code add} or {@code addAll} operations.
-     * <p>
-     * The view's iterators and spliterators are <a href="package-summary.html#Weakly"><i>weakly
-     * consistent</i></a>.
-     */
-    @Override
-    public Collection<V> values() {
-        Values<V> vs;
-        if ((vs = values) != null) return vs;
-        return values = new Values<>(this);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Set<Entry<Integer, V>> entrySet() {
-        return (Set) intEntrySet();
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Set<IntEntry<V>> intEntrySet() {
-        Entries<V> es;
-        if ((es = entrySet) != null) return es;
-        return entrySet = new Entries<V>(this);
-    }
-
-    @Override
-    public ConcurrentNavigableIntMap<V> descendingMap() {
-        ConcurrentNavigableIntMap<V> dm;
-        if ((dm = descendingMap) != null) return dm;
-        return descendingMap = new SubMap<V>(this, EMPTY, false, EMPTY, false, true);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public NavigableIntSet descendingKeySet() {
-        return descendingMap().navigableKeySet();
-    }
-
-    /**
-     * Compares the specified object with this map for equality. Returns {@code true} if the given
-     * object is also a map and the two maps represent the same mappings. More formally, two maps
-     * {@code m1} and {@code m2} represent the same mappings if
-     * {@code m1.entrySet().equals(m2.entrySet())}. This operation may return misleading results if
-     * either map is concurrently modified during execution of this method.
-     *
-     * @param o object to be compared for equality with this map
-     * @return {@code true} if the specified object is equal to this map
-     */
-    @Override
-    public boolean equals(Object o) {
-        if (o == this) return true;
-        if (!(o instanceof Map)) return false;
-        Map<?, ?> m = (Map<?, ?>) o;
-        try {
-            IntComparator cmp = comparator;
-            // See JDK-8223553 for Iterator type wildcard rationale
-            Iterator<? extends Map.Entry<?, ?>> it = m.entrySet().iterator();
-            if (m instanceof SortedMap && ((SortedMap<?, ?>) m).comparator() == cmp) {
-                Node<V> b, n;
-                if ((b = baseHead()) != null) {
-                    while ((n = b.next) != null) {
-                        int k;
-                        V v;
-                        if ((v = n.value) != null && (k = n.key) != EMPTY) {
-                            if (!it.hasNext()) return false;
-                            Map.Entry<?, ?> e = it.next();
-                            int mk = (int) e.getKey();
-                            Object mv = e.getValue();
-                            if (mk == EMPTY || mv == null) return false;
-                            try {
-                                if (cmp.compare(k, mk) != 0) return false;
-                            } catch (ClassCastException cce) {
-                                return false;
-                            }
-                            if (!mv.equals(v)) return false;
-                        }
-                        b = n;
-                    }
-                }
-                return !it.hasNext();
-            } else {
-                while (it.hasNext()) {
-                    V v;
-                    Map.Entry<?, ?> e = it.next();
-                    Object mk = e.getKey();
-                    Object mv = e.getValue();
-                    if (mk == null || mv == null || (v = get(mk)) == null || !v.equals(mv)) return false;
-                }
-                Node<V> b, n;
-                if ((b = baseHead()) != null) {
-                    int k;
-                    V v;
-                    Object mv;
-                    while ((n = b.next) != null) {
-                        if ((v = n.value) != null && (k = n.key) != EMPTY && ((mv = m.get(k)) == null || !mv.equals(v))) return false;
-                        b = n;
-                    }
-                }
-                return true;
-            }
-        } catch (ClassCastException | NullPointerException unused) {
-            return false;
-        }
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public V putIfAbsent(int key, V value) {
-        return doPut(key, value, true);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean remove(int key, Object value) {
-        return value != null && doRemove(key, value) != null;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean replace(int key, V oldValue, V newValue) {
-        if (key == EMPTY || oldValue == null || newValue == null) throw new NullPointerException();
-        for (;;) {
-            Node<V> n;
-            V v;
-            if ((n = findNode(key)) == null) return false;
-            if ((v = n.value) != null) {
-                if (!oldValue.equals(v)) return false;
-                if (VALUE.compareAndSet(n, v, newValue)) return true;
-            }
-        }
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public V replace(int key, V value) {
-        if (key == EMPTY || value == null) throw new NullPointerException();
-        for (;;) {
-            Node<V> n;
-            V v;
-            if ((n = findNode(key)) == null) return null;
-            if ((v = n.value) != null && VALUE.compareAndSet(n, v, value)) return v;
-        }
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public IntComparator comparator() {
-        return comparator;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public int firstIntKey() {
-        Node<V> n = findFirst();
-        if (n == null) {
-            throw new NoSuchElementException();
-        }
-        return n.key;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public int lastIntKey() {
-        Node<V> n = findLast();
-        if (n == null) {
-            throw new NoSuchElementException();
-        }
-        return n.key;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public ConcurrentNavigableIntMap<V> subMap(int fromKey, boolean fromInclusive, int toKey, boolean toInclusive) {
-        return new SubMap<V>(this, fromKey, fromInclusive, toKey, toInclusive, false);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public ConcurrentNavigableIntMap<V> headMap(int toKey, boolean inclusive) {
-        return new SubMap<V>(this, EMPTY, false, toKey, inclusive, false);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public ConcurrentNavigableIntMap<V> tailMap(int fromKey, boolean inclusive) {
-        return new SubMap<V>(this, fromKey, inclusive, EMPTY, false, false);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public ConcurrentNavigableIntMap<V> subMap(int fromKey, int toKey) {
-        return subMap(fromKey, true, toKey, false);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public ConcurrentNavigableIntMap<V> headMap(int toKey) {
-        return headMap(toKey, false);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public ConcurrentNavigableIntMap<V> tailMap(int fromKey) {
-        return tailMap(fromKey, true);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public IntEntry<V> lowerEntry(int key) {
-        return findNearEntry(key, LT, comparator);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public int lowerKey(int key) {
-        Node<V> node = findNear(key, LT, comparator);
-        if (node == null) {
-            throw new NoSuchElementException();
-        }
-        return node.key;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public IntEntry<V> floorEntry(int key) {
-        return findNearEntry(key, LT | EQ, comparator);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public int floorKey(int key) {
-        Node<V> node = findNear(key, LT | EQ, comparator);
-        if (node == null) {
-            throw new NoSuchElementException();
-        }
-        return node.key;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public IntEntry<V> ceilingEntry(int key) {
-        return findNearEntry(key, GT | EQ, comparator);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public int ceilingKey(int key) {
-        Node<V> node = findNear(key, GT | EQ, comparator);
-        if (node == null) {
-            throw new NoSuchElementException();
-        }
-        return node.key;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public IntEntry<V> higherEntry(int key) {
-        return findNearEntry(key, GT, comparator);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public int higherKey(int key) {
-        Node<V> node = findNear(key, GT, comparator);
-        if (node == null) {
-            throw new NoSuchElementException();
-        }
-        return node.key;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public IntEntry firstEntry() {
-        Node<V> node = findFirst();
-        return node == null || node.value == null ? null : IntEntry.immutable(node.key, node.value);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public IntEntry<V> lastEntry() {
-        Node<V> node = findLast();
-        return node == null || node.value == null ? null : IntEntry.immutable(node.key, node.value);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public IntEntry<V> pollFirstEntry() {
-        Node<V> b, n;
-        V v;
-        if ((b = baseHead()) != null) {
-            while ((n = b.next) != null) {
-                if ((v = n.value) == null || VALUE.compareAndSet(n, v, null)) {
-                    int k = n.key;
-                    unlinkNode(b, n);
-                    if (v != null) {
-                        tryReduceLevel();
-                        findPredecessor(k, comparator); // clean index
-                        addCount(-1L);
-                        return IntEntry.immutable(k, v);
-                    }
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public IntEntry<V> pollLastEntry() {
-        outer: for (;;) {
-            Index<V> q;
-            Node<V> b;
-            VarHandle.acquireFence();
-            if ((q = head) == null) break;
-            for (;;) {
-                Index<V> d, r;
-                Node<V> p;
-                while ((r = q.right) != null) {
-                    if ((p = r.node) == null || p.value == null)
-                        RIGHT.compareAndSet(q, r, r.right);
-                    else if (p.next != null)
-                        q = r; // continue only if a successor
-                    else
-                        break;
-                }
-                if ((d = q.down) != null)
-                    q = d;
-                else {
-                    b = q.node;
-                    break;
-                }
-            }
-            if (b != null) {
-                for (;;) {
-                    Node<V> n;
-                    int k;
-                    V v;
-                    if ((n = b.next) == null) {
-                        if (b.key == EMPTY) // empty
-                            break outer;
-                        else
-                            break; // retry
-                    } else if ((k = n.key) == EMPTY)
-                        break;
-                    else if ((v = n.value) == null)
-                        unlinkNode(b, n);
-                    else if (n.next != null)
-                        b = n;
-                    else if (VALUE.compareAndSet(n, v, null)) {
-                        unlinkNode(b, n);
-                        tryReduceLevel();
-                        findPredecessor(k, comparator); // clean index
-                        addCount(-1L);
-                        return IntEntry.immutable(k, v);
-                    }
-                }
-            }
-        }
-        return null;
-    }
-
-    // default Map method overrides
-
-    @Override
-    public void forEach(BiConsumer<? super Integer, ? super V> action) {
-        if (action == null) throw new NullPointerException();
-        Node<V> b, n;
-        V v;
-        if ((b = baseHead()) != null) {
-            while ((n = b.next) != null) {
-                if ((v = n.value) != null) action.accept(n.key, v);
-                b = n;
-            }
-        }
-    }
-
-    @Override
-    public void replaceAll(BiFunction<? super Integer, ? super V, ? extends V> function) {
-        if (function == null) throw new NullPointerException();
-        Node<V> b, n;
-        V v;
-        if ((b = baseHead()) != null) {
-            while ((n = b.next) != null) {
-                while ((v = n.value) != null) {
-                    V r = function.apply(n.key, v);
-                    if (r == null) throw new NullPointerException();
-                    if (VALUE.compareAndSet(n, v, r)) break;
-                }
-                b = n;
-            }
-        }
-    }
-
-    /**
-     * Helper method for EntrySet.removeIf.
-     */
-    private boolean removeEntryIf(Predicate<? super IntEntry<V>> function) {
-        if (function == null) throw new NullPointerException();
-        boolean removed = false;
-        Node<V> b, n;
-        V v;
-        if ((b = baseHead()) != null) {
-            while ((n = b.next) != null) {
-                if ((v = n.value) != null) {
-                    int k = n.key;
-                    IntEntry<V> e = IntEntry.immutable(k, v);
-                    if (function.test(e) && remove(k, v)) removed = true;
-                }
-                b = n;
-            }
-        }
-        return removed;
-    }
-
-    /**
-     * Helper method for Values.removeIf.
-     */
-    private boolean removeValueIf(Predicate<? super V> function) {
-        if (function == null) throw new NullPointerException();
-        boolean removed = false;
-        Node<V> b, n;
-        V v;
-        if ((b = baseHead()) != null) {
-            while ((n = b.next) != null) {
-                if ((v = n.value) != null && function.test(v) && remove(n.key, v)) removed = true;
-                b = n;
-            }
-        }
-        return removed;
-    }
-
-    /**
-     * Submaps returned by {@link SkipListIntMap} submap operations represent a subrange of
-     * mappings of their underlying maps. Instances of this class support all methods of their
-     * underlying maps, differing in that mappings outside their range are ignored, and attempts to
-     * add mappings outside their ranges result in {@link IllegalArgumentException}. Instances of
-     * this class are constructed only using the {@code subMap}, {@code headMap}, and
-     * {@code tailMap} methods of their underlying maps.
-     */
-    private static class SubMap<V> extends AbstractMap<Integer, V> implements ConcurrentNavigableIntMap<V> {
-
-        /** Underlying map */
-        private final SkipListIntMap<V> m;
-
-        /** lower bound key, or null if from start */
-        private final int lo;
-
-        /** upper bound key, or null if to end */
-        private final int hi;
-
-        /** inclusion flag for lo */
-        private final boolean loInclusive;
-
-        /** inclusion flag for hi */
-        private final boolean hiInclusive;
-
-        /** direction */
-        private final boolean isDescending;
-
-        // Lazily initialized view holders
-        private transient Keys<V> keySetView;
-
-        private transient Values<V> valuesView;
-
-        private transient Entries<V> entrySetView;
-
-        /**
-         * Creates a new submap, initializing all fields.
-         */
-        SubMap(SkipListIntMap<V> map, int fromKey, boolean fromInclusive, int toKey, boolean toInclusive, boolean isDescending) {
-            IntComparator cmp = map.comparator;
-            if (fromKey != EMPTY && toKey != EMPTY && cmp.compare(fromKey, toKey) > 0)
-                throw new IllegalArgumentException("inconsistent range");
-            this.m = map;
-            this.lo = fromKey;
-            this.hi = toKey;
-            this.loInclusive = fromInclusive;
-            this.hiInclusive = toInclusive;
-            this.isDescending = isDescending;
-        }
-
-        boolean tooLow(int key, IntComparator cmp) {
-            int c;
-            return (lo != EMPTY && ((c = cmp.compare(key, lo)) < 0 || (c == 0 && !loInclusive)));
-        }
-
-        boolean tooHigh(int key, IntComparator cmp) {
-            int c;
-            return (hi != EMPTY && ((c = cmp.compare(key, hi)) > 0 || (c == 0 && !hiInclusive)));
-        }
-
-        boolean inBounds(int key, IntComparator cmp) {
-            return !tooLow(key, cmp) && !tooHigh(key, cmp);
-        }
-
-        void checkKeyBounds(int key, IntComparator cmp) {
-            if (!inBounds(key, cmp)) throw new IllegalArgumentException("key out of range");
-        }
-
-        /**
-         * Returns true if node key is less than upper bound of range.
-         */
-        boolean isBeforeEnd(SkipListIntMap.Node<V> n, IntComparator cmp) {
-            if (n == null) return false;
-            if (hi == EMPTY) return true;
-            int k = n.key;
-            if (k == EMPTY) // pass by markers and headers
-                return true;
-            int c = cmp.compare(k, hi);
-            return c < 0 || (c == 0 && hiInclusive);
-        }
-
-        /**
-         * Returns lowest node. This node might not be in range, so most usages need to check
-         * bounds.
-         */
-        SkipListIntMap.Node<V> loNode(IntComparator cmp) {
-            if (lo == EMPTY)
-                return m.findFirst();
-            else if (loInclusive)
-                return m.findNear(lo, GT | EQ, cmp);
-            else
-                return m.findNear(lo, GT, cmp);
-        }
-
-        /**
-         * Returns highest node. This node might not be in range, so most usages need to check
-         * bounds.
-         */
-        SkipListIntMap.Node<V> hiNode(IntComparator cmp) {
-            if (hi == EMPTY)
-                return m.findLast();
-            else if (hiInclusive)
-                return m.findNear(hi, LT | EQ, cmp);
-            else
-                return m.findNear(hi, LT, cmp);
-        }
-
-        /**
-         * Returns lowest absolute key (ignoring directionality).
-         */
-        int lowestKey() {
-            IntComparator cmp = m.comparator;
-            SkipListIntMap.Node<V> n = loNode(cmp);
-            if (isBeforeEnd(n, cmp))
-                return n.key;
-            else
-                throw new NoSuchElementException();
-        }
-
-        /**
-         * Returns highest absolute key (ignoring directionality).
-         */
-        int highestKey() {
-            IntComparator cmp = m.comparator;
-            SkipListIntMap.Node<V> n = hiNode(cmp);
-            if (n != null) {
-                int last = n.key;
-                if (inBounds(last, cmp)) return last;
-            }
-            throw new NoSuchElementException();
-        }
-
-        IntEntry<V> lowestEntry() {
-            IntComparator cmp = m.comparator;
-            for (;;) {
-                SkipListIntMap.Node<V> n;
-                V v;
-                if ((n = loNode(cmp)) == null || !isBeforeEnd(n, cmp))
-                    return null;
-                else if ((v = n.value) != null) return IntEntry.immutable(n.key, v);
-            }
-        }
-
-        IntEntry<V> highestEntry() {
-            IntComparator cmp = m.comparator;
-            for (;;) {
-                SkipListIntMap.Node<V> n;
-                V v;
-                if ((n = hiNode(cmp)) == null || !inBounds(n.key, cmp))
-                    return null;
-                else if ((v = n.value) != null) return IntEntry.immutable(n.key, v);
-            }
-        }
-
-        IntEntry<V> removeLowest() {
-            IntComparator cmp = m.comparator;
-            for (;;) {
-                SkipListIntMap.Node<V> n;
-                int k;
-                V v;
-                if ((n = loNode(cmp)) == null)
-                    return null;
-                else if (!inBounds((k = n.key), cmp))
-                    return null;
-                else if ((v = m.doRemove(k, null)) != null) return IntEntry.immutable(k, v);
-            }
-        }
-
-        IntEntry<V> removeHighest() {
-            IntComparator cmp = m.comparator;
-            for (;;) {
-                SkipListIntMap.Node<V> n;
-                int k;
-                V v;
-                if ((n = hiNode(cmp)) == null)
-                    return null;
-                else if (!inBounds((k = n.key), cmp))
-                    return null;
-                else if ((v = m.doRemove(k, null)) != null) return IntEntry.immutable(k, v);
-            }
-        }
-
-        /**
-         * Submap version of ConcurrentSkipListIntMap.findNearEntry.
-         */
-        IntEntry<V> getNearEntry(int key, int rel) {
-            IntComparator cmp = m.comparator;
-            if (isDescending) { // adjust relation for direction
-                if ((rel & LT) == 0)
-                    rel |= LT;
-                else
-                    rel &= ~LT;
-            }
-            if (tooLow(key, cmp)) return ((rel & LT) != 0) ? null : lowestEntry();
-            if (tooHigh(key, cmp)) return ((rel & LT) != 0) ? highestEntry() : null;
-            IntEntry<V> e = m.findNearEntry(key, rel, cmp);
-            if (e == null || !inBounds(e.getIntKey(), cmp))
-                return null;
-            else
-                return e;
-        }
-
-        // Almost the same as getNearEntry, except for keys
-        int getNearKey(int key, int rel) {
-            IntComparator cmp = m.comparator;
-            if (isDescending) { // adjust relation for direction
-                if ((rel & LT) == 0)
-                    rel |= LT;
-                else
-                    rel &= ~LT;
-            }
-            if (tooLow(key, cmp)) {
-                if ((rel & LT) == 0) {
-                    SkipListIntMap.Node<V> n = loNode(cmp);
-                    if (isBeforeEnd(n, cmp)) return n.key;
-                }
-                return EMPTY;
-            }
-            if (tooHigh(key, cmp)) {
-                if ((rel & LT) != 0) {
-                    SkipListIntMap.Node<V> n = hiNode(cmp);
-                    if (n != null) {
-                        int last = n.key;
-                        if (inBounds(last, cmp)) return last;
-                    }
-                }
-                return EMPTY;
-            }
-            for (;;) {
-                Node<V> n = m.findNear(key, rel, cmp);
-                if (n == null || !inBounds(n.key, cmp)) return EMPTY;
-                if (n.value != null) return n.key;
-            }
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean containsKey(int key) {
-            return inBounds(key, m.comparator) && m.containsKey(key);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public V get(int key) {
-            return (!inBounds(key, m.comparator)) ? null : m.get(key);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public V put(int key, V value) {
-            checkKeyBounds(key, m.comparator);
-            return m.put(key, value);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public V remove(int key) {
-            return (!inBounds(key, m.comparator)) ? null : m.remove(key);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int size() {
-            IntComparator cmp = m.comparator;
-            long count = 0;
-            for (SkipListIntMap.Node<V> n = loNode(cmp); isBeforeEnd(n, cmp); n = n.next) {
-                if (n.value != null) ++count;
-            }
-            return count >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) count;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean isEmpty() {
-            IntComparator cmp = m.comparator;
-            return !isBeforeEnd(loNode(cmp), cmp);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean containsValue(Object value) {
-            if (value == null) throw new NullPointerException();
-            IntComparator cmp = m.comparator;
-            for (SkipListIntMap.Node<V> n = loNode(cmp); isBeforeEnd(n, cmp); n = n.next) {
-                V v = n.value;
-                if (v != null && value.equals(v)) return true;
-            }
-            return false;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public void clear() {
-            IntComparator cmp = m.comparator;
-            for (SkipListIntMap.Node<V> n = loNode(cmp); isBeforeEnd(n, cmp); n = n.next) {
-                if (n.value != null) m.remove(n.key);
-            }
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public V putIfAbsent(int key, V value) {
-            checkKeyBounds(key, m.comparator);
-            return m.putIfAbsent(key, value);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean remove(int key, Object value) {
-            return inBounds(key, m.comparator) && m.remove(key, value);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean replace(int key, V oldValue, V newValue) {
-            checkKeyBounds(key, m.comparator);
-            return m.replace(key, oldValue, newValue);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public V replace(int key, V value) {
-            checkKeyBounds(key, m.comparator);
-            return m.replace(key, value);
-        }
-
-        @Override
-        public Comparator<Integer> comparator() {
-            IntComparator cmp = m.comparator();
-            if (isDescending) {
-                return Collections.reverseOrder(cmp);
-            } else {
-                return cmp;
-            }
-        }
-
-        /**
-         * Utility to create submaps, where given bounds override unbounded(null) ones and/or are
-         * checked against bounded ones.
-         */
-        SubMap<V> newSubMap(int fromKey, boolean fromInclusive, int toKey, boolean toInclusive) {
-            IntComparator cmp = m.comparator;
-            if (isDescending) { // flip senses
-                int tk = fromKey;
-                fromKey = toKey;
-                toKey = tk;
-                boolean ti = fromInclusive;
-                fromInclusive = toInclusive;
-                toInclusive = ti;
-            }
-            if (lo != EMPTY) {
-                if (fromKey == EMPTY) {
-                    fromKey = lo;
-                    fromInclusive = loInclusive;
-                } else {
-                    int c = cmp.compare(fromKey, lo);
-                    if (c < 0 || (c == 0 && !loInclusive && fromInclusive)) throw new IllegalArgumentException("key out of range");
-                }
-            }
-            if (hi != EMPTY) {
-                if (toKey == EMPTY) {
-                    toKey = hi;
-                    toInclusive = hiInclusive;
-                } else {
-                    int c = cmp.compare(toKey, hi);
-                    if (c > 0 || (c == 0 && !hiInclusive && toInclusive)) throw new IllegalArgumentException("key out of range");
-                }
-            }
-            return new SubMap<V>(m, fromKey, fromInclusive, toKey, toInclusive, isDescending);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public ConcurrentNavigableIntMap<V> subMap(int fromKey, boolean fromInclusive, int toKey, boolean toInclusive) {
-            return newSubMap(fromKey, fromInclusive, toKey, toInclusive);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public ConcurrentNavigableIntMap<V> headMap(int toKey, boolean inclusive) {
-            return newSubMap(EMPTY, false, toKey, inclusive);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public ConcurrentNavigableIntMap<V> tailMap(int fromKey, boolean inclusive) {
-            return newSubMap(fromKey, inclusive, EMPTY, false);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public ConcurrentNavigableIntMap<V> subMap(int fromKey, int toKey) {
-            return subMap(fromKey, true, toKey, false);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public ConcurrentNavigableIntMap<V> headMap(int toKey) {
-            return headMap(toKey, false);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public ConcurrentNavigableIntMap<V> tailMap(int fromKey) {
-            return tailMap(fromKey, true);
-        }
-
-        @Override
-        public SubMap<V> descendingMap() {
-            return new SubMap<V>(m, lo, loInclusive, hi, hiInclusive, !isDescending);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public IntEntry<V> lowerEntry(int key) {
-            return getNearEntry(key, LT);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int lowerKey(int key) {
-            return getNearKey(key, LT);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public IntEntry<V> floorEntry(int key) {
-            return getNearEntry(key, LT | EQ);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int floorKey(int key) {
-            return getNearKey(key, LT | EQ);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public IntEntry<V> ceilingEntry(int key) {
-            return getNearEntry(key, GT | EQ);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int ceilingKey(int key) {
-            return getNearKey(key, GT | EQ);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public IntEntry<V> higherEntry(int key) {
-            return getNearEntry(key, GT);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int higherKey(int key) {
-            return getNearKey(key, GT);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Entry<Integer, V> lowerEntry(Integer key) {
-            return null;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Integer lowerKey(Integer key) {
-            return null;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Entry<Integer, V> floorEntry(Integer key) {
-            return null;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Integer floorKey(Integer key) {
-            return null;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Entry<Integer, V> ceilingEntry(Integer key) {
-            return null;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Integer ceilingKey(Integer key) {
-            return null;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Entry<Integer, V> higherEntry(Integer key) {
-            return null;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Integer higherKey(Integer key) {
-            return null;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int firstIntKey() {
-            return isDescending ? highestKey() : lowestKey();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public IntEntry<V> firstEntry() {
-            return isDescending ? highestEntry() : lowestEntry();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int lastIntKey() {
-            return isDescending ? lowestKey() : highestKey();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public IntEntry<V> lastEntry() {
-            return isDescending ? lowestEntry() : highestEntry();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public IntEntry<V> pollFirstEntry() {
-            return isDescending ? removeHighest() : removeLowest();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public IntEntry<V> pollLastEntry() {
-            return isDescending ? removeLowest() : removeHighest();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public NavigableIntSet keySet() {
-            NavigableIntSet ks;
-            if ((ks = keySetView) != null) return ks;
-            return keySetView = new Keys<>(this);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public NavigableIntSet navigableKeySet() {
-            NavigableIntSet ks;
-            if ((ks = keySetView) != null) return ks;
-            return keySetView = new Keys<>(this);
-        }
-
-        @Override
-        public Collection<V> values() {
-            Values<V> vs;
-            if ((vs = valuesView) != null) return vs;
-            return valuesView = new Values<>(this);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Set<Entry<Integer, V>> entrySet() {
-            return (Set) intEntrySet();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Set<IntEntry<V>> intEntrySet() {
-            if (entrySetView == null) {
-                entrySetView = new Entries(this);
-            }
-            return entrySetView;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public NavigableIntSet descendingKeySet() {
-            return descendingMap().navigableKeySet();
-        }
-
-        /**
-         * Variant of main Iter class to traverse through submaps. Also serves as back-up
-         * Spliterator for views.
-         */
-        private class SubMapGenericIterator implements Iterator<V>, Spliterator<V> {
-
-            /** The node access type. */
-            private final Type type;
-
-            /** the last node returned by next() */
-            private Node<V> lastReturned;
-
-            /** the next node to return from next(); */
-            private Node<V> next;
-
-            /** Cache of next value field to maintain weak consistency */
-            private V nextValue;
-
-            /**
-             * @param type
-             */
-            private SubMapGenericIterator(Type type) {
-                this.type = type;
-
-                VarHandle.acquireFence();
-                IntComparator cmp = m.comparator;
-                for (;;) {
-                    next = isDescending ? hiNode(cmp) : loNode(cmp);
-                    if (next == null) break;
-                    V x = next.value;
-                    if (x != null) {
-                        if (!inBounds(next.key, cmp))
-                            next = null;
-                        else
-                            nextValue = x;
-                        break;
-                    }
-                }
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public final int characteristics() {
-                return type.characteristics;
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public final V next() {
-                Node<V> node = next;
-                V value = nextValue;
-                advance();
-                return (V) type.create(node.key, value);
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public final boolean hasNext() {
-                return next != null;
-            }
-
-            private void advance() {
-                if (next == null) throw new NoSuchElementException();
-                lastReturned = next;
-                if (isDescending)
-                    descend();
-                else
-                    ascend();
-            }
-
-            private void ascend() {
-                IntComparator cmp = m.comparator;
-                for (;;) {
-                    next = next.next;
-                    if (next == null) break;
-                    V x = next.value;
-                    if (x != null) {
-                        if (tooHigh(next.key, cmp))
-                            next = null;
-                        else
-                            nextValue = x;
-                        break;
-                    }
-                }
-            }
-
-            private void descend() {
-                IntComparator cmp = m.comparator;
-                for (;;) {
-                    next = m.findNear(lastReturned.key, LT, cmp);
-                    if (next == null) break;
-                    V x = next.value;
-                    if (x != null) {
-                        if (tooLow(next.key, cmp))
-                            next = null;
-                        else
-                            nextValue = x;
-                        break;
-                    }
-                }
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public void remove() {
-                Node<V> l = lastReturned;
-                if (l == null) throw new IllegalStateException();
-                m.remove(l.key);
-                lastReturned = null;
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public Spliterator<V> trySplit() {
-                return null;
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public boolean tryAdvance(Consumer<? super V> action) {
-                if (hasNext()) {
-                    action.accept(next());
-                    return true;
-                }
-                return false;
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public void forEachRemaining(Consumer<? super V> action) {
-                while (hasNext())
-                    action.accept(next());
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public long estimateSize() {
-                return Long.MAX_VALUE;
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public final Comparator<? super V> getComparator() {
-                if (type == Type.Key) {
-                    return (Comparator<? super V>) SubMap.this.comparator();
-                } else {
-                    return null;
-                }
-            }
-        }
-    }
-
-    /**
-     * 
-     */
-    private static final class Keys<V> extends AbstractSet<Integer> implements NavigableIntSet {
-
-        /** The original map. */
-        private final ConcurrentNavigableIntMap<V> m;
-
-        /**
-         * Build key-set view.
-         * 
-         * @param map
-         */
-        private Keys(ConcurrentNavigableIntMap<V> map) {
-            m = map;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int size() {
-            return m.size();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean isEmpty() {
-            return m.isEmpty();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean add(int e) {
-            throw new UnsupportedOperationException();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean contains(int o) {
-            return m.containsKey(o);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean remove(int o) {
-            return m.remove(o) != null;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public void clear() {
-            m.clear();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int lower(int e) {
-            return m.lowerKey(e);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int floor(int e) {
-            return m.floorKey(e);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int ceiling(int e) {
-            return m.ceilingKey(e);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int higher(int e) {
-            return m.higherKey(e);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Comparator<? super Integer> comparator() {
-            return m.comparator();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int firstInt() {
-            return m.firstIntKey();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int lastInt() {
-            return m.lastIntKey();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int pollFirstInt() {
-            IntEntry<V> entry = m.pollFirstEntry();
-            if (entry == null) {
-                throw new NoSuchElementException();
-            }
-            return entry.getIntKey();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int pollLastInt() {
-            IntEntry<V> entry = m.pollLastEntry();
-            if (entry == null) {
-                throw new NoSuchElementException();
-            }
-            return entry.getIntKey();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean equals(Object o) {
-            if (o == this) return true;
-            if (!(o instanceof Set)) return false;
-            Collection<?> c = (Collection<?>) o;
-            try {
-                return containsAll(c) && c.containsAll(this);
-            } catch (ClassCastException | NullPointerException unused) {
-                return false;
-            }
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Iterator<Integer> descendingIterator() {
-            return descendingSet().iterator();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public NavigableIntSet subSet(int fromElement, boolean fromInclusive, int toElement, boolean toInclusive) {
-            return new Keys(m.subMap(fromElement, fromInclusive, toElement, toInclusive));
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public NavigableIntSet headSet(int toElement, boolean inclusive) {
-            return new Keys<>(m.headMap(toElement, inclusive));
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public NavigableIntSet tailSet(int fromElement, boolean inclusive) {
-            return new Keys<>(m.tailMap(fromElement, inclusive));
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public NavigableIntSet subSet(int fromElement, int toElement) {
-            return subSet(fromElement, true, toElement, false);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public NavigableIntSet headSet(int toElement) {
-            return headSet(toElement, false);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public NavigableIntSet tailSet(int fromElement) {
-            return tailSet(fromElement, true);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public NavigableIntSet descendingSet() {
-            return new Keys<>(m.descendingMap());
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Iterator<Integer> iterator() {
-            if (m instanceof SkipListIntMap) {
-                return ((SkipListIntMap) m).createIteratorFor(Type.Key);
-            } else {
-                return ((SubMap) m).new SubMapGenericIterator(Type.Key);
-            }
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Spliterator<Integer> spliterator() {
-            if (m instanceof SkipListIntMap) {
-                return ((SkipListIntMap) m).createSpliteratorFor(Type.Key);
-            } else {
-                return ((SubMap) m).new SubMapGenericIterator(Type.Key);
-            }
-        }
-    }
-
-    /**
-     * 
-     */
-    private static class Values<V> extends AbstractCollection<V> {
-
-        /** The original view. */
-        private final ConcurrentNavigableIntMap<V> m;
-
-        /**
-         * Build view.
-         * 
-         * @param map
-         */
-        private Values(ConcurrentNavigableIntMap<V> map) {
-            m = map;
-        }
-
-        @Override
-        public int size() {
-            return m.size();
-        }
-
-        @Override
-        public boolean isEmpty() {
-            return m.isEmpty();
-        }
-
-        @Override
-        public boolean contains(Object o) {
-            return m.containsValue(o);
-        }
-
-        @Override
-        public void clear() {
-            m.clear();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Object[] toArray() {
-            return I.signal(this).toList().toArray();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public <T> T[] toArray(T[] a) {
-            return I.signal(this).toList().toArray(a);
-        }
-
-        @Override
-        public Iterator<V> iterator() {
-            if (m instanceof SkipListIntMap) {
-                return ((SkipListIntMap) m).createIteratorFor(Type.Value);
-            } else {
-                return ((SubMap) m).new SubMapGenericIterator(Type.Value);
-            }
-        }
-
-        @Override
-        public Spliterator<V> spliterator() {
-            return (m instanceof SkipListIntMap) ? ((SkipListIntMap<V>) m).createSpliteratorFor(Type.Value)
-                    : ((SubMap) m).new SubMapGenericIterator(Type.Value);
-        }
-
-        @Override
-        public boolean removeIf(Predicate<? super V> filter) {
-            if (filter == null) throw new NullPointerException();
-            if (m instanceof SkipListIntMap) return ((SkipListIntMap<V>) m).removeValueIf(filter);
-            // else use iterator
-            Iterator<IntEntry<V>> it = ((SubMap) m).new SubMapGenericIterator(Type.Entry);
-            boolean removed = false;
-            while (it.hasNext()) {
-                IntEntry<V> e = it.next();
-                V v = e.getValue();
-                if (filter.test(v) && m.remove(e.getIntKey(), v)) removed = true;
-            }
-            return removed;
-        }
-    }
-
-    /**
-     * 
-     */
-    private static class Entries<V> extends AbstractSet<IntEntry<V>> {
-
-        /** The original view. */
-        private final ConcurrentNavigableIntMap<V> m;
-
-        /**
-         * Build view.
-         * 
-         * @param map
-         */
-        private Entries(ConcurrentNavigableIntMap<V> map) {
-            m = map;
-        }
-
-        @Override
-        public Iterator<IntEntry<V>> iterator() {
-            if (m instanceof SkipListIntMap) {
-                return ((SkipListIntMap) m).createIteratorFor(Type.Entry);
-            } else {
-                return ((SubMap) m).new SubMapGenericIterator(Type.Entry);
-            }
-        }
-
-        @Override
-        public boolean contains(Object o) {
-            if (!(o instanceof Map.Entry)) return false;
-            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
-            V v = m.get(e.getKey());
-            return v != null && v.equals(e.getValue());
-        }
-
-        @Override
-        public boolean remove(Object o) {
-            if (!(o instanceof Map.Entry)) return false;
-            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
-            return m.remove(e.getKey(), e.getValue());
-        }
-
-        @Override
-        public boolean isEmpty() {
-            return m.isEmpty();
-        }
-
-        @Override
-        public int size() {
-            return m.size();
-        }
-
-        @Override
-        public void clear() {
-            m.clear();
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (o == this) return true;
-            if (!(o instanceof Set)) return false;
-            Collection<?> c = (Collection<?>) o;
-            try {
-                return containsAll(c) && c.containsAll(this);
-            } catch (ClassCastException | NullPointerException unused) {
-                return false;
-            }
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public Object[] toArray() {
-            return I.signal(this).toList().toArray();
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public <T> T[] toArray(T[] a) {
-            return I.signal(this).toList().toArray(a);
-        }
-
-        @Override
-        public Spliterator<IntEntry<V>> spliterator() {
-            return (m instanceof SkipListIntMap) ? ((SkipListIntMap<V>) m).createSpliteratorFor(Type.Entry)
-                    : ((SubMap) m).new SubMapGenericIterator(Type.Entry);
-        }
-
-        @Override
-        public boolean removeIf(Predicate<? super IntEntry<V>> filter) {
-            if (filter == null) throw new NullPointerException();
-            if (m instanceof SkipListIntMap) return ((SkipListIntMap<V>) m).removeEntryIf(filter);
-            // else use iterator
-            Iterator<IntEntry<V>> it = ((SubMap) m).new SubMapGenericIterator(Type.Entry);
-            boolean removed = false;
-            while (it.hasNext()) {
-                IntEntry<V> e = it.next();
-                if (filter.test(e) && m.remove(e.getIntKey(), e.getValue())) removed = true;
-            }
-            return removed;
-        }
-    }
-
-    /**
-     * Nodes hold keys and values, and are singly linked in sorted order, possibly with some
-     * intervening marker nodes. The list is headed by a header node accessible as head.node.
-     * Headers and marker nodes have null keys. The val field (but currently not the key field) is
-     * nulled out upon deletion.
-     */
-    private static final class Node<V> {
-
-        /** The entry key. */
-        private final int key;
-
-        /** The entry value. */
-        private volatile V value;
-
-        /** The next entry. */
-        private volatile Node<V> next;
-
-        private Node(int key, V value, Node<V> next) {
-            this.key = key;
-            this.value = value;
-            this.next = next;
-        }
-    }
-
-    /**
-     * Index nodes represent the levels of the skip list.
-     */
-    private static final class Index<V> {
-
-        private final Node<V> node;
-
-        private final Index<V> down;
-
-        private volatile Index<V> right;
-
-        private Index(Node<V> node, Index<V> down, Index<V> right) {
-            this.node = node;
-            this.down = down;
-            this.right = right;
-        }
-    }
-
-    /**
-     * Node access type.
-     */
-    private static enum Type {
-
-        Key(Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.CONCURRENT | Spliterator.NONNULL) {
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public Object create(int key, Object value) {
-                return key;
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public Comparator create(IntComparator comparator) {
-                return comparator;
-            }
-        },
-
-        Value(Spliterator.ORDERED | Spliterator.CONCURRENT | Spliterator.NONNULL) {
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public Object create(int key, Object value) {
-                return value;
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public Comparator create(IntComparator comparator) {
-                return null;
-            }
-        },
-
-        Entry(Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.CONCURRENT | Spliterator.NONNULL) {
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public Object create(int key, Object value) {
-                return IntEntry.immutable(key, value);
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public Comparator<IntEntry> create(IntComparator comparator) {
-                return (one, other) -> comparator.compare(one.getIntKey(), other.getIntKey());
-            }
-        };
-
-        /** The characteristics of {@link Spliterator}. */
-        private final int characteristics;
-
-        /**
-         * Build.
-         * 
-         * @param characteristics
-         */
-        private Type(int characteristics) {
-            this.characteristics = characteristics;
-        }
-
-        /**
-         * Create value from {@link Node}.
-         * 
-         * @param key
-         * @param value
-         * @return
-         */
-        public abstract Object create(int key, Object value);
-
-        /**
-         * Create specila {@link Comparator} for {@link Spliterator}.
-         * 
-         * @param comparator
-         * @return
-         */
-        public abstract Comparator create(IntComparator comparator);
-    }
-
-    private Iterator createIteratorFor(Type type) {
-        return new GenericIterator(type);
-    }
-
-    private Spliterator createSpliteratorFor(Type type) {
-        return Spliterators.spliteratorUnknownSize(createIteratorFor(type), type.characteristics);
-    }
-
-    /**
-     * Generic iterator.
-     */
-    private class GenericIterator<R> implements Iterator<R> {
-
-        /** The node access type. */
-        private final Type type;
-
-        /** the last node returned by next() */
-        private Node<V> lastReturned;
-
-        /** the next node to return from next(); */
-        private Node<V> next;
-
-        /** Cache of next value field to maintain weak consistency */
-        private V nextValue;
-
-        /** Initializes ascending iterator for entire range. */
-        private GenericIterator(Type type) {
-            this.type = type;
-            advance(baseHead());
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public final boolean hasNext() {
-            return next != null;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public R next() {
-            Node<V> node;
-            if ((node = next) == null) {
-                throw new NoSuchElementException();
-            }
-            int key = node.key;
-            V value = nextValue;
-            advance(node);
-            return (R) type.create(key, value);
-        }
-
-        /**
-         * Advances next to higher entry.
-         * 
-         * @param base
-         */
-        private void advance(Node<V> base) {
-            Node<V> node = null;
-            V value = null;
-            if ((lastReturned = base) != null) {
-                while ((node = base.next) != null && (value = node.value) == null) {
-                    base = node;
-                }
-            }
-            nextValue = value;
-            next = node;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public final void remove() {
-            Node<V> node;
-            int key;
-            if ((node = lastReturned) == null || (key = node.key) == EMPTY) {
-                throw new IllegalStateException();
-            }
-            // It would not be worth all of the overhead to directly
-            // unlink from here. Using remove is fast enough.
-            SkipListIntMap.this.remove(key);
-            lastReturned = null;
-        }
-    }
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.lang.invoke.VarHandle;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import kiss.I;
+import primavera.MemoryStats;
+import java.util.function.IntFunction;
+import primavera.function.IntObjConsumer;
+import primavera.set.NavigableIntSet;
+
+/**
+ * A scalable concurrent {@link ConcurrentNavigableMap} implementation. The map is sorted according
+ * to the {@linkplain Comparable natural ordering} of its keys, or by a {@link Comparator} provided
+ * at map creation time, depending on which constructor is used.
+ * <p>
+ * This class implements a concurrent variant of
+ * <a href="http://en.wikipedia.org/wiki/Skip_list" target="_top">SkipLists</a> providing expected
+ * average <i>log(n)</i> time cost for the {@code containsKey}, {@code get}, {@code put} and
+ * {@code remove} operations and their variants. Insertion, removal, update, and access operations
+ * safely execute concurrently by multiple threads.
+ * <p>
+ * Iterators and spliterators are <a href="package-summary.html#Weakly"><i>weakly
+ * consistent</i></a>.
+ * <p>
+ * Ascending key ordered views and their iterators are faster than descending ones.
+ * <p>
+ * All {@code Map.Entry} pairs returned by methods in this class and its views represent snapshots
+ * of mappings at the time they were produced. They do <em>not</em> support the
+ * {@code Entry.setValue} method. (Note however that it is possible to change mappings in the
+ * associated map using {@code put}, {@code putIfAbsent}, or {@code replace}, depending on exactly
+ * which effect you need.)
+ * <p>
+ * Beware that bulk operations {@code putAll}, {@code equals}, {@code toArray},
+ * {@code containsValue}, and {@code clear} are <em>not</em> guaranteed to be performed atomically.
+ * For example, an iterator operating concurrently with a {@code putAll} operation might view only
+ * some of the added elements.
+ * <p>
+ * This class and its views and iterators implement all of the <em>optional</em> methods of the
+ * {@link Map} and {@link Iterator} interfaces. Like most other concurrent collections, this class
+ * does <em>not</em> permit the use of {@code null} keys or values because some null return values
+ * cannot be reliably distinguished from the absence of elements.
+ *
+ * @param <V> the type of mapped values
+ */
+class SkipListIntMap<V> extends AbstractMap<Integer, V> implements ConcurrentNavigableIntMap<V> {
+
+    /** The field updater. */
+    private static final AtomicReferenceFieldUpdater<SkipListIntMap, Index> HEAD = AtomicReferenceFieldUpdater
+            .newUpdater(SkipListIntMap.class, Index.class, "head");
+
+    /** The field updater. */
+    private static final AtomicReferenceFieldUpdater<SkipListIntMap, LongAdder> ADDER = AtomicReferenceFieldUpdater
+            .newUpdater(SkipListIntMap.class, LongAdder.class, "adder");
+
+    /** The field updater. */
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT = AtomicReferenceFieldUpdater
+            .newUpdater(Node.class, Node.class, "next");
+
+    /** The field updater. */
+    private static final AtomicReferenceFieldUpdater<Node, Object> VALUE = AtomicReferenceFieldUpdater
+            .newUpdater(Node.class, Object.class, "value");
+
+    /** The field updater. */
+    private static final AtomicReferenceFieldUpdater<Index, Index> RIGHT = AtomicReferenceFieldUpdater
+            .newUpdater(Index.class, Index.class, "right");
+
+    // Control values OR'ed as arguments to findNear
+    private static final int EQ = 1;
+
+    private static final int LT = 2;
+
+    private static final int GT = 0; // Actually checked as !LT
+
+    /** Lazily initialized topmost index of the skiplist. */
+    private transient volatile Index<V> head;
+
+    /** Lazily initialized element count */
+    private transient volatile LongAdder adder;
+
+    /** Lazily initialized key set */
+    private transient volatile NavigableIntSet keySet;
+
+    /** Lazily initialized values collection */
+    private transient volatile Values<V> values;
+
+    /** Lazily initialized entry set */
+    private transient Entries<V> entrySet;
+
+    /** Lazily initialized descending map */
+    private transient SubMap<V> descendingMap;
+
+    /**
+     * The comparator used to maintain order in this map. (Non-private to simplify access in nested
+     * classes.)
+     */
+    private final IntComparator comparator;
+
+    /** The internal metrics, null if disabled. */
+    private final transient SkipListMetrics metrics = SkipListMetrics.ENABLED ? new SkipListMetrics(this::levels) : null;
+
+    /**
+     * Returns the header for base node list, or null if uninitialized
+     */
+    private final Node<V> baseHead() {
+        Index<V> h;
+        VarHandle.acquireFence();
+        return ((h = head) == null) ? null : h.node;
+    }
+
+    /**
+     * Tries to unlink deleted node n from predecessor b (if both exist), by first splicing in a
+     * marker if not already present. Upon return, node n is sure to be unlinked from b, possibly
+     * via the actions of some other thread.
+     *
+     * @param b if nonnull, predecessor
+     * @param n if nonnull, node known to be deleted
+     */
+    private static <V> void unlinkNode(Node<V> b, Node<V> n) {
+        if (b != null && n != null) {
+            Node<V> f, p;
+            for (;;) {
+                if ((f = n.next) != null && f instanceof Marker) {
+                    p = f.next; // already marked
+                    break;
+                } else if (NEXT.compareAndSet(n, f, new Marker<V>(f))) {
+                    p = f; // add marker
+                    break;
+                }
+            }
+            NEXT.compareAndSet(b, n, p);
+        }
+    }
+
+    /**
+     * Adds to element count, initializing adder if necessary
+     *
+     * @param c count to add
+     */
+    private void addCount(long c) {
+        LongAdder a;
+        do {
+        } while ((a = adder) == null && !ADDER.compareAndSet(this, null, a = new LongAdder()));
+        a.add(c);
+    }
+
+    /**
+     * Returns element count, initializing adder if necessary.
+     */
+    private final long getAdderCount() {
+        LongAdder a;
+        long c;
+        do {
+        } while ((a = adder) == null && !ADDER.compareAndSet(this, null, a = new LongAdder()));
+        return ((c = a.sum()) <= 0L) ? 0L : c; // ignore transient negatives
+    }
+
+    /**
+     * Returns an index node with key strictly less than given key. Also unlinks indexes to deleted
+     * nodes found aint the way. Callers rely on this side-effect of clearing indices to
+     * deleted nodes.
+     *
+     * @param key if nonnull the key
+     * @return a predecessor node of key, or null if uninitialized or null key
+     */
+    private Node<V> findPredecessor(int key, IntComparator cmp) {
+        return findPredecessor(key, cmp, null);
+    }
+
+    /**
+     * Returns an index node with key strictly less than given key, counting the traversed links.
+     *
+     * @param key if nonnull the key
+     * @param hops if nonnull, its first element is set to the number of traversed links
+     * @return a predecessor node of key, or null if uninitialized or null key
+     */
+    private Node<V> findPredecessor(int key, IntComparator cmp, int[] hops) {
+        Index<V> q;
+        VarHandle.acquireFence();
+        if ((q = head) == null) {
+            return null;
+        } else {
+            int count = 0;
+            for (Index<V> r, d;;) {
+                while ((r = q.right) != null) {
+                    Node<V> p;
+                    int k;
+                    if ((p = r.node) == null || p.value == null) {
+                        // unlink index to deleted node
+                        RIGHT.compareAndSet(q, r, r.right);
+                    } else if (cmp.compare(key, k = p.key) > 0) {
+                        q = r;
+                        count++;
+                    } else {
+                        break;
+                    }
+                }
+
+                if ((d = q.down) != null) {
+                    q = d;
+                    count++;
+                } else {
+                    if (hops != null) hops[0] = count;
+                    return q.node;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns node holding key or null if no such, clearing out any deleted nodes seen aint
+     * the way. Repeatedly traverses at base-level looking for key starting at predecessor returned
+     * from findPredecessor, processing base-level deletions as encountered. Restarts occur, at
+     * traversal step encountering node n, if n's key field is null, indicating it is a marker, so
+     * its predecessor is deleted before continuing, which we help do by re-finding a valid
+     * predecessor. The traversal loops in doPut, doRemove, and findNear all include the same
+     * checks.
+     *
+     * @param key the key
+     * @return node holding key, or null if no such
+     */
+    private Node<V> findNode(int key) {
+        IntComparator cmp = comparator;
+        Node<V> b;
+        outer: while ((b = findPredecessor(key, cmp)) != null) {
+            for (;;) {
+                Node<V> node;
+                int k;
+                int c;
+                if ((node = b.next) == null) {
+                    break outer; // empty
+                } else if (node instanceof Marker) {
+                    break; // b is deleted
+                } else if (node.value == null) {
+                    unlinkNode(b, node); // n is deleted
+                } else if ((c = cmp.compare(key, k = node.key)) > 0) {
+                    b = node;
+                } else if (c == 0) {
+                    return node;
+                } else {
+                    break outer;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Add indices after an insertion. Descends iteratively to the highest level of insertion, then
+     * recursively, to chain index nodes to lower ones. Returns null on (staleness) failure,
+     * disabling higher-level insertions. Recursion depths are exponentially less probable.
+     *
+     * @param q starting index for current level
+     * @param skips levels to skip before inserting
+     * @param x index for this insertion
+     * @param cmp comparator
+     */
+    private static <V> boolean addIndices(Index<V> q, int skips, Index<V> x, IntComparator cmp) {
+        Node<V> z;
+        if (x != null && (z = x.node) != null && q != null) {
+            int key = z.key; // hoist checks
+            boolean retrying = false;
+            for (;;) { // find splice point
+                Index<V> r, d;
+                int c;
+                if ((r = q.right) != null) {
+                    Node<V> p;
+                    int k;
+                    if ((p = r.node) == null || p.value == null) {
+                        RIGHT.compareAndSet(q, r, r.right);
+                        c = 0;
+                    } else if ((c = cmp.compare(key, k = p.key)) > 0)
+                        q = r;
+                    else if (c == 0) break; // stale
+                } else {
+                    c = -1;
+                }
+
+                if (c < 0) {
+                    if ((d = q.down) != null && skips > 0) {
+                        --skips;
+                        q = d;
+                    } else if (d != null && !retrying && !addIndices(d, 0, x.down, cmp)) {
+                        break;
+                    } else {
+                        x.right = r;
+                        if (RIGHT.compareAndSet(q, r, x)) {
+                            return true;
+                        } else {
+                            retrying = true; // re-find splice point
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Constructs a new, empty map, sorted according to the specified comparator.
+     *
+     * @param comparator the comparator that will be used to order this map. If {@code null}, the
+     *            {@linkplain Comparable natural ordering} of the keys will be used.
+     */
+    SkipListIntMap(IntComparator comparator) {
+        this.comparator = comparator == null ? Integer::compare : comparator;
+    }
+
+    /**
+     * Constructs a new map containing the specified mappings. The keys must be sorted in strictly
+     * ascending order by the specified comparator, so the base list and index levels are built in
+     * a single linear pass without any search. Every fourth node is indexed, every eighth node has
+     * two levels and so on, which gives the same expected shape as the random level selection.
+     *
+     * @param comparator the comparator that will be used to order this map. If {@code null}, the
+     *            {@linkplain Comparable natural ordering} of the keys will be used.
+     * @param keys the sorted keys
+     * @param values the values, the value at index i is mapped to the key at index i
+     * @param size the number of mappings to use from the head of the arrays
+     * @throws IllegalArgumentException if the keys are not sorted strictly or the arrays are too
+     *             short
+     * @throws NullPointerException if the arrays or any value is null
+     */
+    @SuppressWarnings("unchecked")
+    SkipListIntMap(IntComparator comparator, int[] keys, V[] values, int size) {
+        this(comparator);
+
+        if (size < 0 || keys.length < size || values.length < size) {
+            throw new IllegalArgumentException("The size [" + size + "] exceeds the length of keys [" + keys.length + "] or values [" + values.length + "].");
+        }
+
+        IntComparator cmp = this.comparator;
+        Node<V> b = new Marker<V>(null);
+        Index<V> h = new Index<V>(b, null, null);
+        Index<V>[] preds = (Index<V>[]) new Index<?>[64];
+        preds[0] = h;
+
+        for (int k = 0; k < size; k++) {
+            if (0 < k && cmp.compare(keys[k - 1], keys[k]) >= 0) {
+                throw new IllegalArgumentException("The keys are not sorted in strictly ascending order at index " + k + ".");
+            }
+            V v = values[k];
+            if (v == null) throw new NullPointerException();
+
+            Node<V> z = new Node<V>(keys[k], v, null);
+            b = b.next = z;
+
+            // index every fourth node, and double the spacing on each upper level
+            long count = k + 1L;
+            if ((count & 3L) == 0L) {
+                int levels = 1 + Long.numberOfTrailingZeros(count >>> 2);
+                Index<V> idx = null, q;
+                for (int i = 0; i < levels; i++) {
+                    idx = new Index<V>(z, idx, null);
+                    if ((q = preds[i]) == null) {
+                        h = new Index<V>(h.node, h, idx);
+                    } else {
+                        q.right = idx;
+                    }
+                    preds[i] = idx;
+                }
+            }
+        }
+
+        if (0 < size) {
+            VarHandle.releaseFence(); // emulate volatile stores
+            addCount(size);
+            head = h;
+            VarHandle.fullFence();
+        }
+    }
+
+    /**
+     * Possibly reduce head level if it has no nodes. This method can (rarely) make mistakes, in
+     * which case levels can disappear even though they are about to contain index nodes. This
+     * impacts performance, not correctness. To minimize mistakes as well as to reduce hysteresis,
+     * the level is reduced by one only if the topmost three levels look empty. Also, if the removed
+     * level looks non-empty after CAS, we try to change it back quick before anyone notices our
+     * mistake! (This trick works pretty well because this method will practically never make
+     * mistakes unless current thread stalls immediately before first CAS, in which case it is very
+     * unlikely to stall again immediately afterwards, so will recover.) We put up with all this
+     * rather than just let levels grow because otherwise, even a small map that has undergone a
+     * large number of insertions and removals will have a lot of levels, slowing down access more
+     * than would an occasional unwanted reduction.
+     */
+    private void tryReduceLevel() {
+        Index<V> h, d, e;
+        if ((h = head) != null && h.right == null && (d = h.down) != null && d.right == null && (e = d.down) != null && e.right == null && HEAD
+                .compareAndSet(this, h, d)) {
+            boolean backout = h.right != null;
+            if (backout) HEAD.compareAndSet(this, d, h); // try to backout
+            if (SkipListMetrics.ENABLED) metrics.reduceLevel(backout);
+        }
+
+    }
+
+    /**
+     * Gets first valid node, unlinking deleted nodes if encountered.
+     * 
+     * @return first node or null if empty
+     */
+    private Node<V> findFirst() {
+        Node<V> b, n;
+        if ((b = baseHead()) != null) {
+            while ((n = b.next) != null) {
+                if (n.value == null) {
+                    unlinkNode(b, n);
+                } else {
+                    return n;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Specialized version of find to get last valid node.
+     * 
+     * @return last node or null if empty
+     */
+    private Node<V> findLast() {
+        outer: for (;;) {
+            Index<V> q;
+            Node<V> b;
+            VarHandle.acquireFence();
+            if ((q = head) == null) break;
+            for (Index<V> r, d;;) {
+                while ((r = q.right) != null) {
+                    Node<V> p;
+                    if ((p = r.node) == null || p.value == null) {
+                        RIGHT.compareAndSet(q, r, r.right);
+                    } else {
+                        q = r;
+                    }
+                }
+
+                if ((d = q.down) != null) {
+                    q = d;
+                } else {
+                    b = q.node;
+                    break;
+                }
+            }
+            if (b != null) {
+                for (;;) {
+                    Node<V> n;
+                    if ((n = b.next) == null) {
+                        if (b instanceof Marker) {
+                            break outer;
+                        } else {
+                            return b;
+                        }
+                    } else if (n instanceof Marker) {
+                        break;
+                    } else if (n.value == null) {
+                        unlinkNode(b, n);
+                    } else {
+                        b = n;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Utility for ceiling, floor, lower, higher methods.
+     * 
+     * @param key the key
+     * @param rel the relation -- OR'ed combination of EQ, LT, GT
+     * @return nearest node fitting relation, or null if no such
+     */
+    private Node<V> findNear(int key, int rel, IntComparator cmp) {
+        Node<V> result;
+        outer: for (Node<V> b;;) {
+            if ((b = findPredecessor(key, cmp)) == null) {
+                result = null;
+                break; // empty
+            }
+            for (;;) {
+                Node<V> n;
+                int k;
+                int c;
+                if ((n = b.next) == null) {
+                    result = ((rel & LT) != 0 && !(b instanceof Marker)) ? b : null;
+                    break outer;
+                } else if (n instanceof Marker) {
+                    break;
+                } else if (n.value == null) {
+                    unlinkNode(b, n);
+                } else if (((c = cmp.compare(key, k = n.key)) == 0 && (rel & EQ) != 0) || (c < 0 && (rel & LT) == 0)) {
+                    result = n;
+                    break outer;
+                } else if (c <= 0 && (rel & LT) != 0) {
+                    result = !(b instanceof Marker) ? b : null;
+                    break outer;
+                } else {
+                    b = n;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Variant of findNear returning SimpleImmutableEntry
+     * 
+     * @param key the key
+     * @param rel the relation -- OR'ed combination of EQ, LT, GT
+     * @return Entry fitting relation, or null if no such
+     */
+    private IntEntry<V> findNearEntry(int key, int rel, IntComparator cmp) {
+        for (;;) {
+            Node<V> n;
+            V v;
+            if ((n = findNear(key, rel, cmp)) == null) return null;
+            if ((v = n.value) != null) return IntEntry.immutable(n.key, v);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return containsKey((int) key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(int key) {
+        return doGet(key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(Object key) {
+        return get((int) key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(int key) {
+        return doGet(key);
+    }
+
+    /**
+     * Gets value for key. Same idea as findNode, except skips over deletions and markers, and
+     * returns first encountered value to avoid possibly inconsistent rereads.
+     *
+     * @param key the key
+     * @return the value, or null if absent
+     */
+    private V doGet(int key) {
+        Index<V> q;
+        VarHandle.acquireFence();
+        IntComparator cmp = comparator;
+        V result = null;
+        int hops = 0;
+        if ((q = head) != null) {
+            outer: for (Index<V> r, d;;) {
+                while ((r = q.right) != null) {
+                    Node<V> p;
+                    int k;
+                    V v;
+                    int c;
+                    if ((p = r.node) == null || (v = p.value) == null) {
+                        RIGHT.compareAndSet(q, r, r.right);
+                    } else if ((c = cmp.compare(key, k = p.key)) > 0) {
+                        q = r;
+                        hops++;
+                    } else if (c == 0) {
+                        result = v;
+                        break outer;
+                    } else {
+                        break;
+                    }
+                }
+                if ((d = q.down) != null) {
+                    q = d;
+                    hops++;
+                } else {
+                    Node<V> b, n;
+                    if ((b = q.node) != null) {
+                        while ((n = b.next) != null) {
+                            V v;
+                            int c;
+                            int k = n.key;
+                            if ((v = n.value) == null || (c = cmp.compare(key, k)) > 0) {
+                                b = n;
+                                hops++;
+                            } else {
+                                if (c == 0) result = v;
+                                break;
+                            }
+                        }
+                    }
+                    break;
+                }
+            }
+        }
+        if (SkipListMetrics.ENABLED) metrics.lookup(hops);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V put(Integer key, V value) {
+        return put((int) key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        return doPut(key, value, false);
+    }
+
+    /**
+     * Main insertion method. Adds element if not present, or replaces value if present and
+     * onlyIfAbsent is false.
+     *
+     * @param key the key
+     * @param value the value that must be associated with key
+     * @param onlyIfAbsent if should not insert if already present
+     * @return the old value, or null if newly inserted
+     */
+    private V doPut(int key, V value, boolean onlyIfAbsent) {
+        IntComparator cmp = comparator;
+        int restarts = -1, failures = 0;
+        for (;;) {
+            Index<V> h;
+            Node<V> b;
+            VarHandle.acquireFence();
+            int levels = 0; // number of levels descended
+            int hops = 0;
+            restarts++;
+            if ((h = head) == null) { // try to initialize
+                Node<V> base = new Marker<V>(null);
+                h = new Index<V>(base, null, null);
+                b = (HEAD.compareAndSet(this, null, h)) ? base : null;
+                if (b == null) failures++;
+            } else {
+                for (Index<V> q = h, r, d;;) { // count while descending
+                    while ((r = q.right) != null) {
+                        Node<V> p;
+                        int k;
+                        if ((p = r.node) == null || p.value == null) {
+                            RIGHT.compareAndSet(q, r, r.right);
+                        } else if (cmp.compare(key, k = p.key) > 0) {
+                            q = r;
+                            hops++;
+                        } else {
+                            break;
+                        }
+                    }
+                    if ((d = q.down) != null) {
+                        ++levels;
+                        q = d;
+                        hops++;
+                    } else {
+                        b = q.node;
+                        break;
+                    }
+                }
+            }
+            if (b != null) {
+                Node<V> z = null; // new node, if inserted
+                for (;;) { // find insertion point
+                    Node<V> n, p;
+                    int k;
+                    V v;
+                    int c;
+                    if ((n = b.next) == null) {
+                        c = -1;
+                    } else if (n instanceof Marker) {
+                        break; // can't append; restart
+                    } else if ((v = n.value) == null) {
+                        unlinkNode(b, n);
+                        c = 1;
+                    } else if ((c = cmp.compare(key, k = n.key)) > 0) {
+                        b = n;
+                        hops++;
+                    } else if (c == 0 && (onlyIfAbsent || VALUE.compareAndSet(n, v, value))) {
+                        if (SkipListMetrics.ENABLED) metrics.put(hops, restarts, failures);
+                        return v;
+                    }
+
+                    if (c < 0 && NEXT.compareAndSet(b, n, p = new Node<V>(key, value, n))) {
+                        z = p;
+                        break;
+                    } else if (c <= 0) {
+                        failures++;
+                    }
+                }
+
+                if (z != null) {
+                    int lr = ThreadLocalRandom.current().nextInt();
+                    if ((lr & 0x3) == 0) { // add indices with 1/4 prob
+                        int hr = ThreadLocalRandom.current().nextInt();
+                        long rnd = ((long) hr << 32) | (lr & 0xffffffffL);
+                        int skips = levels; // levels to descend before add
+                        Index<V> x = null;
+                        for (;;) { // create at most 62 indices
+                            x = new Index<V>(z, x, null);
+                            if (rnd >= 0L || --skips < 0) {
+                                break;
+                            } else {
+                                rnd <<= 1;
+                            }
+                        }
+                        if (addIndices(h, skips, x, cmp) && skips < 0 && head == h) {
+                            // try to add new level
+                            Index<V> hx = new Index<V>(z, x, null);
+                            Index<V> nh = new Index<V>(h.node, h, hx);
+                            HEAD.compareAndSet(this, h, nh);
+                        }
+                        if (z.value == null) {
+                            // deleted while adding indices
+                            findPredecessor(key, cmp); // clean
+                        }
+                    }
+                    addCount(1L);
+                    if (SkipListMetrics.ENABLED) metrics.put(hops, restarts, failures);
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V remove(Object key) {
+        return remove((int) key);
+    }
+
+    /**
+     * Removes the mapping for the specified key from this map if present.
+     *
+     * @param key key for which mapping should be removed
+     * @return the previous value associated with the specified key, or {@code null} if there was no
+     *         mapping for the key
+     * @throws ClassCastException if the specified key cannot be compared with the keys currently in
+     *             the map
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public V remove(int key) {
+        return doRemove(key, null);
+    }
+
+    /**
+     * Main deletion method. Locates node, nulls value, appends a deletion marker, unlinks
+     * predecessor, removes associated index nodes, and possibly reduces head index level.
+     *
+     * @param key the key
+     * @param value if non-null, the value that must be associated with key
+     * @return the node, or null if not found
+     */
+    private V doRemove(int key, Object value) {
+        IntComparator cmp = comparator;
+        V result = null;
+        Node<V> b;
+        int restarts = -1, failures = 0;
+        int[] hops = SkipListMetrics.ENABLED ? new int[1] : null;
+        outer: while ((b = findPredecessor(key, cmp, hops)) != null && result == null) {
+            restarts++;
+            for (;;) {
+                Node<V> n;
+                int k;
+                V v;
+                int c;
+                if ((n = b.next) == null) {
+                    break outer;
+                } else if (n instanceof Marker) {
+                    break;
+                } else if ((v = n.value) == null) {
+                    unlinkNode(b, n);
+                } else if ((c = cmp.compare(key, k = n.key)) > 0) {
+                    b = n;
+                    if (hops != null) hops[0]++;
+                } else if (c < 0) {
+                    break outer;
+                } else if (value != null && !value.equals(v)) {
+                    break outer;
+                } else if (VALUE.compareAndSet(n, v, null)) {
+                    result = v;
+                    unlinkNode(b, n);
+                    break; // loop to clean up
+                } else {
+                    failures++;
+                }
+            }
+        }
+        if (result != null) {
+            tryReduceLevel();
+            addCount(-1L);
+        }
+        if (SkipListMetrics.ENABLED) metrics.remove(hops[0], restarts, failures);
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if this map maps one or more keys to the specified value. This operation
+     * requires time linear in the map size. Additionally, it is possible for the map to change
+     * during execution of this method, in which case the returned result may be inaccurate.
+     *
+     * @param value value whose presence in this map is to be tested
+     * @return {@code true} if a mapping to {@code value} exists; {@code false} otherwise
+     * @throws NullPointerException if the specified value is null
+     */
+    @Override
+    public boolean containsValue(Object value) {
+        if (value == null) throw new NullPointerException();
+        Node<V> b, n;
+        V v;
+        if ((b = baseHead()) != null) {
+            while ((n = b.next) != null) {
+                if ((v = n.value) != null && value.equals(v)) {
+                    return true;
+                } else {
+                    b = n;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        long c;
+        return ((baseHead() == null) ? 0 : ((c = getAdderCount()) >= Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) c);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MemoryStats footprint() {
+        long elements = 0, nodes = 0, indexes = 0, levels = 0;
+        VarHandle.acquireFence();
+        for (Index<V> q = head; q != null; q = q.down) {
+            levels++;
+            for (Index<V> r = q.right; r != null; r = r.right) {
+                indexes++;
+            }
+        }
+        for (Node<V> n = baseHead(); n != null; n = n.next) {
+            nodes++;
+            if (n.value != null) elements++;
+        }
+
+        long retained = MemoryStats.sizeOfObject(7 * MemoryStats.REFERENCE);
+        if (adder != null) retained += MemoryStats.sizeOfObject(MemoryStats.REFERENCE + 8 + 4);
+        retained += nodes * MemoryStats.sizeOfObject(Integer.BYTES + 2 * MemoryStats.REFERENCE);
+        retained += (levels + indexes) * MemoryStats.sizeOfObject(3 * MemoryStats.REFERENCE);
+        return MemoryStats.ofLinked(elements, nodes, indexes, retained);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SkipListMetrics metrics() {
+        return metrics != null ? metrics : new SkipListMetrics(this::levels);
+    }
+
+    /**
+     * Collect the keys of the live entries in the specified index row.
+     * 
+     * @param level The index level, 1 is the lowest row above the base list.
+     * @return The keys in ascending order, empty if the row does not exist.
+     */
+    int[] indexRow(int level) {
+        VarHandle.acquireFence();
+        int depth = 0;
+        for (Index<V> q = head; q != null; q = q.down) {
+            depth++;
+        }
+
+        Index<V> row = head;
+        for (int i = level; i < depth && row != null; i++) {
+            row = row.down;
+        }
+        if (level < 1 || depth < level || row == null) {
+            return new int[0];
+        }
+
+        int count = 0;
+        for (Index<V> r = row.right; r != null; r = r.right) {
+            if (r.node.value != null) count++;
+        }
+        int[] keys = new int[count];
+        int i = 0;
+        for (Index<V> r = row.right; r != null && i < count; r = r.right) {
+            if (r.node.value != null) keys[i++] = r.node.key;
+        }
+        return keys;
+    }
+
+    /**
+     * Compute the index level histogram of the live entries.
+     * 
+     * @return The histogram.
+     */
+    private long[] levels() {
+        long[] rows = new long[64];
+        int depth = 0;
+        VarHandle.acquireFence();
+        for (Index<V> q = head; q != null && depth < rows.length; q = q.down) {
+            for (Index<V> r = q.right; r != null; r = r.right) {
+                Node<V> n = r.node;
+                if (n != null && n.value != null) rows[depth]++;
+            }
+            depth++;
+        }
+
+        long elements = 0;
+        for (Node<V> n = baseHead(); n != null; n = n.next) {
+            if (n.value != null) elements++;
+        }
+
+        // the top row holds the entries of the highest level
+        long[] histogram = new long[depth + 1];
+        long above = 0;
+        for (int i = 0; i < depth; i++) {
+            histogram[depth - i] = Math.max(0, rows[i] - above);
+            above = Math.max(above, rows[i]);
+        }
+        histogram[0] = Math.max(0, elements - above);
+        return histogram;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return findFirst() == null;
+    }
+
+    /**
+     * Removes all of the mappings from this map.
+     */
+    @Override
+    public void clear() {
+        Index<V> h, r, d;
+        Node<V> b;
+        VarHandle.acquireFence();
+        while ((h = head) != null) {
+            if ((r = h.right) != null) // remove indices
+                RIGHT.compareAndSet(h, r, null);
+            else if ((d = h.down) != null) // remove levels
+                HEAD.compareAndSet(this, h, d);
+            else {
+                long count = 0L;
+                if ((b = h.node) != null) { // remove nodes
+                    Node<V> n;
+                    V v;
+                    while ((n = b.next) != null) {
+                        if ((v = n.value) != null && VALUE.compareAndSet(n, v, null)) {
+                            --count;
+                            v = null;
+                        }
+                        if (v == null) unlinkNode(b, n);
+                    }
+                }
+                if (count != 0L) {
+                    addCount(count);
+                } else {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V computeIfAbsent(int key, IntFunction<? extends V> mappingFunction) {
+        if (mappingFunction == null) throw new NullPointerException();
+        V v, p, r;
+        if ((v = doGet(key)) == null && (r = mappingFunction.apply(key)) != null) v = (p = doPut(key, r, true)) == null ? r : p;
+        return v;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V merge(int key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(remappingFunction);
+
+        for (;;) {
+            Node<V> n;
+            V v;
+            V r;
+            if ((n = findNode(key)) == null) {
+                if (doPut(key, value, true) == null) return value;
+            } else if ((v = n.value) != null) {
+                if ((r = remappingFunction.apply(v, value)) != null) {
+                    if (VALUE.compareAndSet(n, v, r)) return r;
+                } else if (doRemove(key, v) != null) return null;
+            }
+        }
+    }
+
+    /**
+     * Returns a {@link NavigableSet} view of the keys contained in this map.
+     * <p>
+     * The set's iterator returns the keys in ascending order. The set's spliterator additionally
+     * reports {@link Spliterator#CONCURRENT}, {@link Spliterator#NONNULL},
+     * {@link Spliterator#SORTED} and {@link Spliterator#ORDERED}, with an encounter order that is
+     * ascending key order.
+     * <p>
+     * The {@linkplain Spliterator#getComparator() spliterator's comparator} is {@code null} if the
+     * {@linkplain #comparator() map's comparator} is {@code null}. Otherwise, the spliterator's
+     * comparator is the same as or imposes the same total ordering as the map's comparator.
+     * <p>
+     * The set is backed by the map, so changes to the map are reflected in the set, and vice-versa.
+     * The set supports element removal, which removes the corresponding mapping from the map, via
+     * the {@code Iterator.remove}, {@code Set.remove}, {@code removeAll}, {@code retainAll}, and
+     * {@code clear} operations. It does not support the {@code add} or {@code addAll} operations.
+     * <p>
+     * The view's iterators and spliterators are <a href="package-summary.html#Weakly"><i>weakly
+     * consistent</i></a>.
+     * <p>
+     * This method is equivalent to method {@code navigableKeySet}.
+     *
+     * @return a navigable set view of the keys in this map
+     */
+    @Override
+    public NavigableSet<Integer> keySet() {
+        NavigableIntSet ks;
+        if ((ks = keySet) != null) return ks;
+        return keySet = new Keys<>(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NavigableIntSet navigableKeySet() {
+        NavigableIntSet ks;
+        if ((ks = keySet) != null) return ks;
+        return keySet = new Keys<>(this);
+    }
+
+    /**
+     * Returns a {@link Collection} view of the values contained in this map.
+     * <p>
+     * The collection's iterator returns the values in ascending order of the corresponding keys.
+     * The collections's spliterator additionally reports {@link Spliterator#CONCURRENT},
+     * {@link Spliterator#NONNULL} and {@link Spliterator#ORDERED}, with an encounter order that is
+     * ascending order of the corresponding keys.
+     * <p>
+     * The collection is backed by the map, so changes to the map are reflected in the collection,
+     * and vice-versa. The collection supports element removal, which removes the corresponding
+     * mapping from the map, via the {@code Iterator.remove}, {@code Collection.remove},
+     * {@code removeAll}, {@code retainAll} and {@code clear} operations. It does not support the
+     * {@code add} or {@code addAll} operations.
+     * <p>
+     * The view's iterators and spliterators are <a href="package-summary.html#Weakly"><i>weakly
+     * consistent</i></a>.
+     */
+    @Override
+    public Collection<V> values() {
+        Values<V> vs;
+        if ((vs = values) != null) return vs;
+        return values = new Values<>(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Entry<Integer, V>> entrySet() {
+        return (Set) intEntrySet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<IntEntry<V>> intEntrySet() {
+        Entries<V> es;
+        if ((es = entrySet) != null) return es;
+        return entrySet = new Entries<V>(this);
+    }
+
+    @Override
+    public ConcurrentNavigableIntMap<V> descendingMap() {
+        ConcurrentNavigableIntMap<V> dm;
+        if ((dm = descendingMap) != null) return dm;
+        return descendingMap = new SubMap<V>(this, false, 0, false, false, 0, false, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NavigableIntSet descendingKeySet() {
+        return descendingMap().navigableKeySet();
+    }
+
+    /**
+     * Compares the specified object with this map for equality. Returns {@code true} if the given
+     * object is also a map and the two maps represent the same mappings. More formally, two maps
+     * {@code m1} and {@code m2} represent the same mappings if
+     * {@code m1.entrySet().equals(m2.entrySet())}. This operation may return misleading results if
+     * either map is concurrently modified during execution of this method.
+     *
+     * @param o object to be compared for equality with this map
+     * @return {@code true} if the specified object is equal to this map
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (!(o instanceof Map)) return false;
+        Map<?, ?> m = (Map<?, ?>) o;
+        try {
+            IntComparator cmp = comparator;
+            // See JDK-8223553 for Iterator type wildcard rationale
+            Iterator<? extends Map.Entry<?, ?>> it = m.entrySet().iterator();
+            if (m instanceof SortedMap && ((SortedMap<?, ?>) m).comparator() == cmp) {
+                Node<V> b, n;
+                if ((b = baseHead()) != null) {
+                    while ((n = b.next) != null) {
+                        V v;
+                        if ((v = n.value) != null) {
+                            if (!it.hasNext()) return false;
+                            Map.Entry<?, ?> e = it.next();
+                            int mk = (int) e.getKey();
+                            Object mv = e.getValue();
+                            if (mv == null) return false;
+                            try {
+                                if (cmp.compare(n.key, mk) != 0) return false;
+                            } catch (ClassCastException cce) {
+                                return false;
+                            }
+                            if (!mv.equals(v)) return false;
+                        }
+                        b = n;
+                    }
+                }
+                return !it.hasNext();
+            } else {
+                while (it.hasNext()) {
+                    V v;
+                    Map.Entry<?, ?> e = it.next();
+                    Object mk = e.getKey();
+                    Object mv = e.getValue();
+                    if (mk == null || mv == null || (v = get(mk)) == null || !v.equals(mv)) return false;
+                }
+                Node<V> b, n;
+                if ((b = baseHead()) != null) {
+                    V v;
+                    Object mv;
+                    while ((n = b.next) != null) {
+                        if ((v = n.value) != null && ((mv = m.get(n.key)) == null || !mv.equals(v))) return false;
+                        b = n;
+                    }
+                }
+                return true;
+            }
+        } catch (ClassCastException | NullPointerException unused) {
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V putIfAbsent(int key, V value) {
+        return doPut(key, value, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(int key, Object value) {
+        return value != null && doRemove(key, value) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean replace(int key, V oldValue, V newValue) {
+        if (oldValue == null || newValue == null) throw new NullPointerException();
+        for (;;) {
+            Node<V> n;
+            V v;
+            if ((n = findNode(key)) == null) return false;
+            if ((v = n.value) != null) {
+                if (!oldValue.equals(v)) return false;
+                if (VALUE.compareAndSet(n, v, newValue)) return true;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V replace(int key, V value) {
+        if (value == null) throw new NullPointerException();
+        for (;;) {
+            Node<V> n;
+            V v;
+            if ((n = findNode(key)) == null) return null;
+            if ((v = n.value) != null && VALUE.compareAndSet(n, v, value)) return v;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntComparator comparator() {
+        return comparator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int firstIntKey() {
+        Node<V> n = findFirst();
+        if (n == null) {
+            throw new NoSuchElementException();
+        }
+        return n.key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int lastIntKey() {
+        Node<V> n = findLast();
+        if (n == null) {
+            throw new NoSuchElementException();
+        }
+        return n.key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConcurrentNavigableIntMap<V> subMap(int fromKey, boolean fromInclusive, int toKey, boolean toInclusive) {
+        return new SubMap<V>(this, true, fromKey, fromInclusive, true, toKey, toInclusive, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConcurrentNavigableIntMap<V> headMap(int toKey, boolean inclusive) {
+        return new SubMap<V>(this, false, 0, false, true, toKey, inclusive, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConcurrentNavigableIntMap<V> tailMap(int fromKey, boolean inclusive) {
+        return new SubMap<V>(this, true, fromKey, inclusive, false, 0, false, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConcurrentNavigableIntMap<V> subMap(int fromKey, int toKey) {
+        return subMap(fromKey, true, toKey, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConcurrentNavigableIntMap<V> headMap(int toKey) {
+        return headMap(toKey, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConcurrentNavigableIntMap<V> tailMap(int fromKey) {
+        return tailMap(fromKey, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntEntry<V> lowerEntry(int key) {
+        return findNearEntry(key, LT, comparator);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int lowerKey(int key) {
+        Node<V> node = findNear(key, LT, comparator);
+        if (node == null) {
+            throw new NoSuchElementException();
+        }
+        return node.key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntEntry<V> floorEntry(int key) {
+        return findNearEntry(key, LT | EQ, comparator);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int floorKey(int key) {
+        Node<V> node = findNear(key, LT | EQ, comparator);
+        if (node == null) {
+            throw new NoSuchElementException();
+        }
+        return node.key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntEntry<V> ceilingEntry(int key) {
+        return findNearEntry(key, GT | EQ, comparator);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int ceilingKey(int key) {
+        Node<V> node = findNear(key, GT | EQ, comparator);
+        if (node == null) {
+            throw new NoSuchElementException();
+        }
+        return node.key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntEntry<V> higherEntry(int key) {
+        return findNearEntry(key, GT, comparator);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int higherKey(int key) {
+        Node<V> node = findNear(key, GT, comparator);
+        if (node == null) {
+            throw new NoSuchElementException();
+        }
+        return node.key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntEntry firstEntry() {
+        Node<V> node = findFirst();
+        return node == null || node.value == null ? null : IntEntry.immutable(node.key, node.value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntEntry<V> lastEntry() {
+        Node<V> node = findLast();
+        return node == null || node.value == null ? null : IntEntry.immutable(node.key, node.value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntEntry<V> pollFirstEntry() {
+        Node<V> b, n;
+        V v;
+        if ((b = baseHead()) != null) {
+            while ((n = b.next) != null) {
+                if ((v = n.value) == null || VALUE.compareAndSet(n, v, null)) {
+                    int k = n.key;
+                    unlinkNode(b, n);
+                    if (v != null) {
+                        tryReduceLevel();
+                        findPredecessor(k, comparator); // clean index
+                        addCount(-1L);
+                        return IntEntry.immutable(k, v);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntEntry<V> pollLastEntry() {
+        outer: for (;;) {
+            Index<V> q;
+            Node<V> b;
+            VarHandle.acquireFence();
+            if ((q = head) == null) break;
+            for (;;) {
+                Index<V> d, r;
+                Node<V> p;
+                while ((r = q.right) != null) {
+                    if ((p = r.node) == null || p.value == null)
+                        RIGHT.compareAndSet(q, r, r.right);
+                    else if (p.next != null)
+                        q = r; // continue only if a successor
+                    else
+                        break;
+                }
+                if ((d = q.down) != null)
+                    q = d;
+                else {
+                    b = q.node;
+                    break;
+                }
+            }
+            if (b != null) {
+                for (;;) {
+                    Node<V> n;
+                    V v;
+                    if ((n = b.next) == null) {
+                        if (b instanceof Marker) // empty
+                            break outer;
+                        else
+                            break; // retry
+                    } else if (n instanceof Marker)
+                        break;
+                    else if ((v = n.value) == null)
+                        unlinkNode(b, n);
+                    else if (n.next != null)
+                        b = n;
+                    else if (VALUE.compareAndSet(n, v, null)) {
+                        int k = n.key;
+                        unlinkNode(b, n);
+                        tryReduceLevel();
+                        findPredecessor(k, comparator); // clean index
+                        addCount(-1L);
+                        return IntEntry.immutable(k, v);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    // default Map method overrides
+
+    @Override
+    public void forEach(BiConsumer<? super Integer, ? super V> action) {
+        if (action == null) throw new NullPointerException();
+        Node<V> b, n;
+        V v;
+        if ((b = baseHead()) != null) {
+            while ((n = b.next) != null) {
+                if ((v = n.value) != null) action.accept(n.key, v);
+                b = n;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachInt(IntObjConsumer<V> action) {
+        if (action == null) throw new NullPointerException();
+        Node<V> b, n;
+        V v;
+        if ((b = baseHead()) != null) {
+            while ((n = b.next) != null) {
+                if ((v = n.value) != null) action.accept(n.key, v);
+                b = n;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntMapCursor<V> cursor() {
+        return new Cursor();
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super Integer, ? super V, ? extends V> function) {
+        if (function == null) throw new NullPointerException();
+        Node<V> b, n;
+        V v;
+        if ((b = baseHead()) != null) {
+            while ((n = b.next) != null) {
+                while ((v = n.value) != null) {
+                    V r = function.apply(n.key, v);
+                    if (r == null) throw new NullPointerException();
+                    if (VALUE.compareAndSet(n, v, r)) break;
+                }
+                b = n;
+            }
+        }
+    }
+
+    /**
+     * Helper method for EntrySet.removeIf.
+     */
+    private boolean removeEntryIf(Predicate<? super IntEntry<V>> function) {
+        if (function == null) throw new NullPointerException();
+        boolean removed = false;
+        Node<V> b, n;
+        V v;
+        if ((b = baseHead()) != null) {
+            while ((n = b.next) != null) {
+                if ((v = n.value) != null) {
+                    int k = n.key;
+                    IntEntry<V> e = IntEntry.immutable(k, v);
+                    if (function.test(e) && remove(k, v)) removed = true;
+                }
+                b = n;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Helper method for Values.removeIf.
+     */
+    private boolean removeValueIf(Predicate<? super V> function) {
+        if (function == null) throw new NullPointerException();
+        boolean removed = false;
+        Node<V> b, n;
+        V v;
+        if ((b = baseHead()) != null) {
+            while ((n = b.next) != null) {
+                if ((v = n.value) != null && function.test(v) && remove(n.key, v)) removed = true;
+                b = n;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Submaps returned by {@link SkipListIntMap} submap operations represent a subrange of
+     * mappings of their underlying maps. Instances of this class support all methods of their
+     * underlying maps, differing in that mappings outside their range are ignored, and attempts to
+     * add mappings outside their ranges result in {@link IllegalArgumentException}. Instances of
+     * this class are constructed only using the {@code subMap}, {@code headMap}, and
+     * {@code tailMap} methods of their underlying maps.
+     */
+    private static class SubMap<V> extends AbstractMap<Integer, V> implements ConcurrentNavigableIntMap<V> {
+
+        /** Underlying map */
+        private final SkipListIntMap<V> m;
+
+        /** lower bound key, meaningful only if loBounded */
+        private final int lo;
+
+        /** upper bound key, meaningful only if hiBounded */
+        private final int hi;
+
+        /** true if the range has the lower bound */
+        private final boolean loBounded;
+
+        /** true if the range has the upper bound */
+        private final boolean hiBounded;
+
+        /** inclusion flag for lo */
+        private final boolean loInclusive;
+
+        /** inclusion flag for hi */
+        private final boolean hiInclusive;
+
+        /** direction */
+        private final boolean isDescending;
+
+        // Lazily initialized view holders
+        private transient Keys<V> keySetView;
+
+        private transient Values<V> valuesView;
+
+        private transient Entries<V> entrySetView;
+
+        /**
+         * Creates a new submap, initializing all fields.
+         */
+        SubMap(SkipListIntMap<V> map, boolean fromBounded, int fromKey, boolean fromInclusive, boolean toBounded, int toKey, boolean toInclusive, boolean isDescending) {
+            IntComparator cmp = map.comparator;
+            if (fromBounded && toBounded && cmp.compare(fromKey, toKey) > 0)
+                throw new IllegalArgumentException("inconsistent range");
+            this.m = map;
+            this.lo = fromKey;
+            this.hi = toKey;
+            this.loBounded = fromBounded;
+            this.hiBounded = toBounded;
+            this.loInclusive = fromInclusive;
+            this.hiInclusive = toInclusive;
+            this.isDescending = isDescending;
+        }
+
+        boolean tooLow(int key, IntComparator cmp) {
+            int c;
+            return (loBounded && ((c = cmp.compare(key, lo)) < 0 || (c == 0 && !loInclusive)));
+        }
+
+        boolean tooHigh(int key, IntComparator cmp) {
+            int c;
+            return (hiBounded && ((c = cmp.compare(key, hi)) > 0 || (c == 0 && !hiInclusive)));
+        }
+
+        boolean inBounds(int key, IntComparator cmp) {
+            return !tooLow(key, cmp) && !tooHigh(key, cmp);
+        }
+
+        void checkKeyBounds(int key, IntComparator cmp) {
+            if (!inBounds(key, cmp)) throw new IllegalArgumentException("key out of range");
+        }
+
+        /**
+         * Returns true if node key is less than upper bound of range.
+         */
+        boolean isBeforeEnd(SkipListIntMap.Node<V> n, IntComparator cmp) {
+            if (n == null) return false;
+            if (!hiBounded) return true;
+            if (n instanceof Marker) // pass by markers and headers
+                return true;
+            int c = cmp.compare(n.key, hi);
+            return c < 0 || (c == 0 && hiInclusive);
+        }
+
+        /**
+         * Returns lowest node. This node might not be in range, so most usages need to check
+         * bounds.
+         */
+        SkipListIntMap.Node<V> loNode(IntComparator cmp) {
+            if (!loBounded)
+                return m.findFirst();
+            else if (loInclusive)
+                return m.findNear(lo, GT | EQ, cmp);
+            else
+                return m.findNear(lo, GT, cmp);
+        }
+
+        /**
+         * Returns highest node. This node might not be in range, so most usages need to check
+         * bounds.
+         */
+        SkipListIntMap.Node<V> hiNode(IntComparator cmp) {
+            if (!hiBounded)
+                return m.findLast();
+            else if (hiInclusive)
+                return m.findNear(hi, LT | EQ, cmp);
+            else
+                return m.findNear(hi, LT, cmp);
+        }
+
+        /**
+         * Returns lowest absolute key (ignoring directionality).
+         */
+        int lowestKey() {
+            IntComparator cmp = m.comparator;
+            SkipListIntMap.Node<V> n = loNode(cmp);
+            if (isBeforeEnd(n, cmp))
+                return n.key;
+            else
+                throw new NoSuchElementException();
+        }
+
+        /**
+         * Returns highest absolute key (ignoring directionality).
+         */
+        int highestKey() {
+            IntComparator cmp = m.comparator;
+            SkipListIntMap.Node<V> n = hiNode(cmp);
+            if (n != null) {
+                int last = n.key;
+                if (inBounds(last, cmp)) return last;
+            }
+            throw new NoSuchElementException();
+        }
+
+        IntEntry<V> lowestEntry() {
+            IntComparator cmp = m.comparator;
+            for (;;) {
+                SkipListIntMap.Node<V> n;
+                V v;
+                if ((n = loNode(cmp)) == null || !isBeforeEnd(n, cmp))
+                    return null;
+                else if ((v = n.value) != null) return IntEntry.immutable(n.key, v);
+            }
+        }
+
+        IntEntry<V> highestEntry() {
+            IntComparator cmp = m.comparator;
+            for (;;) {
+                SkipListIntMap.Node<V> n;
+                V v;
+                if ((n = hiNode(cmp)) == null || !inBounds(n.key, cmp))
+                    return null;
+                else if ((v = n.value) != null) return IntEntry.immutable(n.key, v);
+            }
+        }
+
+        IntEntry<V> removeLowest() {
+            IntComparator cmp = m.comparator;
+            for (;;) {
+                SkipListIntMap.Node<V> n;
+                int k;
+                V v;
+                if ((n = loNode(cmp)) == null)
+                    return null;
+                else if (!inBounds((k = n.key), cmp))
+                    return null;
+                else if ((v = m.doRemove(k, null)) != null) return IntEntry.immutable(k, v);
+            }
+        }
+
+        IntEntry<V> removeHighest() {
+            IntComparator cmp = m.comparator;
+            for (;;) {
+                SkipListIntMap.Node<V> n;
+                int k;
+                V v;
+                if ((n = hiNode(cmp)) == null)
+                    return null;
+                else if (!inBounds((k = n.key), cmp))
+                    return null;
+                else if ((v = m.doRemove(k, null)) != null) return IntEntry.immutable(k, v);
+            }
+        }
+
+        /**
+         * Submap version of ConcurrentSkipListIntMap.findNearEntry.
+         */
+        IntEntry<V> getNearEntry(int key, int rel) {
+            IntComparator cmp = m.comparator;
+            if (isDescending) { // adjust relation for direction
+                if ((rel & LT) == 0)
+                    rel |= LT;
+                else
+                    rel &= ~LT;
+            }
+            if (tooLow(key, cmp)) return ((rel & LT) != 0) ? null : lowestEntry();
+            if (tooHigh(key, cmp)) return ((rel & LT) != 0) ? highestEntry() : null;
+            IntEntry<V> e = m.findNearEntry(key, rel, cmp);
+            if (e == null || !inBounds(e.getIntKey(), cmp))
+                return null;
+            else
+                return e;
+        }
+
+        // Almost the same as getNearEntry, except for keys
+        int getNearKey(int key, int rel) {
+            IntComparator cmp = m.comparator;
+            if (isDescending) { // adjust relation for direction
+                if ((rel & LT) == 0)
+                    rel |= LT;
+                else
+                    rel &= ~LT;
+            }
+            if (tooLow(key, cmp)) {
+                if ((rel & LT) == 0) {
+                    SkipListIntMap.Node<V> n = loNode(cmp);
+                    if (isBeforeEnd(n, cmp)) return n.key;
+                }
+                throw new NoSuchElementException();
+            }
+            if (tooHigh(key, cmp)) {
+                if ((rel & LT) != 0) {
+                    SkipListIntMap.Node<V> n = hiNode(cmp);
+                    if (n != null) {
+                        int last = n.key;
+                        if (inBounds(last, cmp)) return last;
+                    }
+                }
+                throw new NoSuchElementException();
+            }
+            for (;;) {
+                Node<V> n = m.findNear(key, rel, cmp);
+                if (n == null || !inBounds(n.key, cmp)) throw new NoSuchElementException();
+                if (n.value != null) return n.key;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean containsKey(Object key) {
+            return containsKey((int) key);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean containsKey(int key) {
+            return inBounds(key, m.comparator) && m.containsKey(key);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public V get(Object key) {
+            return get((int) key);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public V get(int key) {
+            return (!inBounds(key, m.comparator)) ? null : m.get(key);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public V put(Integer key, V value) {
+            return put((int) key, value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public V put(int key, V value) {
+            checkKeyBounds(key, m.comparator);
+            return m.put(key, value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public V remove(Object key) {
+            return remove((int) key);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public V remove(int key) {
+            return (!inBounds(key, m.comparator)) ? null : m.remove(key);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            IntComparator cmp = m.comparator;
+            long count = 0;
+            for (SkipListIntMap.Node<V> n = loNode(cmp); isBeforeEnd(n, cmp); n = n.next) {
+                if (n.value != null) ++count;
+            }
+            return count >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) count;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public MemoryStats footprint() {
+            return m.footprint();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public SkipListMetrics metrics() {
+            return m.metrics();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isEmpty() {
+            IntComparator cmp = m.comparator;
+            return !isBeforeEnd(loNode(cmp), cmp);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean containsValue(Object value) {
+            if (value == null) throw new NullPointerException();
+            IntComparator cmp = m.comparator;
+            for (SkipListIntMap.Node<V> n = loNode(cmp); isBeforeEnd(n, cmp); n = n.next) {
+                V v = n.value;
+                if (v != null && value.equals(v)) return true;
+            }
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            IntComparator cmp = m.comparator;
+            for (SkipListIntMap.Node<V> n = loNode(cmp); isBeforeEnd(n, cmp); n = n.next) {
+                if (n.value != null) m.remove(n.key);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public V putIfAbsent(int key, V value) {
+            checkKeyBounds(key, m.comparator);
+            return m.putIfAbsent(key, value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean remove(int key, Object value) {
+            return inBounds(key, m.comparator) && m.remove(key, value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean replace(int key, V oldValue, V newValue) {
+            checkKeyBounds(key, m.comparator);
+            return m.replace(key, oldValue, newValue);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public V replace(int key, V value) {
+            checkKeyBounds(key, m.comparator);
+            return m.replace(key, value);
+        }
+
+        @Override
+        public Comparator<Integer> comparator() {
+            IntComparator cmp = m.comparator();
+            if (isDescending) {
+                return Collections.reverseOrder(cmp);
+            } else {
+                return cmp;
+            }
+        }
+
+        /**
+         * Utility to create submaps, where given bounds override unbounded ones and/or are checked
+         * against bounded ones.
+         */
+        SubMap<V> newSubMap(boolean fromBounded, int fromKey, boolean fromInclusive, boolean toBounded, int toKey, boolean toInclusive) {
+            IntComparator cmp = m.comparator;
+            if (isDescending) { // flip senses
+                boolean tb = fromBounded;
+                fromBounded = toBounded;
+                toBounded = tb;
+                int tk = fromKey;
+                fromKey = toKey;
+                toKey = tk;
+                boolean ti = fromInclusive;
+                fromInclusive = toInclusive;
+                toInclusive = ti;
+            }
+            if (loBounded) {
+                if (!fromBounded) {
+                    fromBounded = true;
+                    fromKey = lo;
+                    fromInclusive = loInclusive;
+                } else {
+                    int c = cmp.compare(fromKey, lo);
+                    if (c < 0 || (c == 0 && !loInclusive && fromInclusive)) throw new IllegalArgumentException("key out of range");
+                }
+            }
+            if (hiBounded) {
+                if (!toBounded) {
+                    toBounded = true;
+                    toKey = hi;
+                    toInclusive = hiInclusive;
+                } else {
+                    int c = cmp.compare(toKey, hi);
+                    if (c > 0 || (c == 0 && !hiInclusive && toInclusive)) throw new IllegalArgumentException("key out of range");
+                }
+            }
+            return new SubMap<V>(m, fromBounded, fromKey, fromInclusive, toBounded, toKey, toInclusive, isDescending);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ConcurrentNavigableIntMap<V> subMap(int fromKey, boolean fromInclusive, int toKey, boolean toInclusive) {
+            return newSubMap(true, fromKey, fromInclusive, true, toKey, toInclusive);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ConcurrentNavigableIntMap<V> headMap(int toKey, boolean inclusive) {
+            return newSubMap(false, 0, false, true, toKey, inclusive);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ConcurrentNavigableIntMap<V> tailMap(int fromKey, boolean inclusive) {
+            return newSubMap(true, fromKey, inclusive, false, 0, false);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ConcurrentNavigableIntMap<V> subMap(int fromKey, int toKey) {
+            return subMap(fromKey, true, toKey, false);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ConcurrentNavigableIntMap<V> headMap(int toKey) {
+            return headMap(toKey, false);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ConcurrentNavigableIntMap<V> tailMap(int fromKey) {
+            return tailMap(fromKey, true);
+        }
+
+        @Override
+        public SubMap<V> descendingMap() {
+            return new SubMap<V>(m, loBounded, lo, loInclusive, hiBounded, hi, hiInclusive, !isDescending);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public IntEntry<V> lowerEntry(int key) {
+            return getNearEntry(key, LT);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int lowerKey(int key) {
+            return getNearKey(key, LT);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public IntEntry<V> floorEntry(int key) {
+            return getNearEntry(key, LT | EQ);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int floorKey(int key) {
+            return getNearKey(key, LT | EQ);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public IntEntry<V> ceilingEntry(int key) {
+            return getNearEntry(key, GT | EQ);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int ceilingKey(int key) {
+            return getNearKey(key, GT | EQ);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public IntEntry<V> higherEntry(int key) {
+            return getNearEntry(key, GT);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int higherKey(int key) {
+            return getNearKey(key, GT);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Entry<Integer, V> lowerEntry(Integer key) {
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Integer lowerKey(Integer key) {
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Entry<Integer, V> floorEntry(Integer key) {
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Integer floorKey(Integer key) {
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Entry<Integer, V> ceilingEntry(Integer key) {
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Integer ceilingKey(Integer key) {
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Entry<Integer, V> higherEntry(Integer key) {
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Integer higherKey(Integer key) {
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int firstIntKey() {
+            return isDescending ? highestKey() : lowestKey();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public IntEntry<V> firstEntry() {
+            return isDescending ? highestEntry() : lowestEntry();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int lastIntKey() {
+            return isDescending ? lowestKey() : highestKey();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public IntEntry<V> lastEntry() {
+            return isDescending ? lowestEntry() : highestEntry();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public IntEntry<V> pollFirstEntry() {
+            return isDescending ? removeHighest() : removeLowest();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public IntEntry<V> pollLastEntry() {
+            return isDescending ? removeLowest() : removeHighest();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet keySet() {
+            NavigableIntSet ks;
+            if ((ks = keySetView) != null) return ks;
+            return keySetView = new Keys<>(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet navigableKeySet() {
+            NavigableIntSet ks;
+            if ((ks = keySetView) != null) return ks;
+            return keySetView = new Keys<>(this);
+        }
+
+        @Override
+        public Collection<V> values() {
+            Values<V> vs;
+            if ((vs = valuesView) != null) return vs;
+            return valuesView = new Values<>(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Set<Entry<Integer, V>> entrySet() {
+            return (Set) intEntrySet();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Set<IntEntry<V>> intEntrySet() {
+            if (entrySetView == null) {
+                entrySetView = new Entries(this);
+            }
+            return entrySetView;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet descendingKeySet() {
+            return descendingMap().navigableKeySet();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public IntMapCursor<V> cursor() {
+            return new SubMapCursor();
+        }
+
+        /**
+         * Cursor over the submap. The descending cursor finds each node from the index levels
+         * like {@link SubMapGenericIterator}.
+         */
+        private final class SubMapCursor implements IntMapCursor<V> {
+
+            /** The current node, null if the cursor is not positioned. */
+            private Node<V> node;
+
+            /** The value of the current node, null if the cursor is not positioned. */
+            private V value;
+
+            /** The flag whether the traversal is started or not. */
+            private boolean started;
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public boolean next() {
+                IntComparator cmp = m.comparator;
+                Node<V> n;
+                if (!started) {
+                    started = true;
+                    n = isDescending ? hiNode(cmp) : loNode(cmp);
+                } else if (node == null) {
+                    return false;
+                } else {
+                    n = isDescending ? m.findNear(node.key, LT, cmp) : node.next;
+                }
+
+                for (; n != null; n = isDescending ? m.findNear(n.key, LT, cmp) : n.next) {
+                    V v = n.value;
+                    if (v != null) {
+                        if (isDescending ? tooLow(n.key, cmp) : tooHigh(n.key, cmp)) {
+                            break;
+                        }
+                        node = n;
+                        value = v;
+                        return true;
+                    }
+                }
+                node = null;
+                value = null;
+                return false;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public int key() {
+                if (value == null) throw new NoSuchElementException();
+                return node.key;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public V value() {
+                if (value == null) throw new NoSuchElementException();
+                return value;
+            }
+        }
+
+        /**
+         * Create the spliterator for this submap. The ascending submap is splittable, but the
+         * descending one is traversed sequentially.
+         * 
+         * @param type The node access type.
+         * @return A new spliterator.
+         */
+        private Spliterator spliterator(Type type) {
+            if (isDescending) {
+                return new SubMapGenericIterator(type);
+            }
+
+            return m.createSpliteratorFor(type, this);
+        }
+
+        /**
+         * Variant of main Iter class to traverse through submaps. Also serves as back-up
+         * Spliterator for views.
+         */
+        private class SubMapGenericIterator implements Iterator<V>, Spliterator<V> {
+
+            /** The node access type. */
+            private final Type type;
+
+            /** the last node returned by next() */
+            private Node<V> lastReturned;
+
+            /** the next node to return from next(); */
+            private Node<V> next;
+
+            /** Cache of next value field to maintain weak consistency */
+            private V nextValue;
+
+            /**
+             * @param type
+             */
+            private SubMapGenericIterator(Type type) {
+                this.type = type;
+
+                VarHandle.acquireFence();
+                IntComparator cmp = m.comparator;
+                for (;;) {
+                    next = isDescending ? hiNode(cmp) : loNode(cmp);
+                    if (next == null) break;
+                    V x = next.value;
+                    if (x != null) {
+                        if (!inBounds(next.key, cmp))
+                            next = null;
+                        else
+                            nextValue = x;
+                        break;
+                    }
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public final int characteristics() {
+                return type.characteristics;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public final V next() {
+                Node<V> node = next;
+                V value = nextValue;
+                advance();
+                return (V) type.create(node.key, value);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public final boolean hasNext() {
+                return next != null;
+            }
+
+            private void advance() {
+                if (next == null) throw new NoSuchElementException();
+                lastReturned = next;
+                if (isDescending)
+                    descend();
+                else
+                    ascend();
+            }
+
+            private void ascend() {
+                IntComparator cmp = m.comparator;
+                for (;;) {
+                    next = next.next;
+                    if (next == null) break;
+                    V x = next.value;
+                    if (x != null) {
+                        if (tooHigh(next.key, cmp))
+                            next = null;
+                        else
+                            nextValue = x;
+                        break;
+                    }
+                }
+            }
+
+            private void descend() {
+                IntComparator cmp = m.comparator;
+                for (;;) {
+                    next = m.findNear(lastReturned.key, LT, cmp);
+                    if (next == null) break;
+                    V x = next.value;
+                    if (x != null) {
+                        if (tooLow(next.key, cmp))
+                            next = null;
+                        else
+                            nextValue = x;
+                        break;
+                    }
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void remove() {
+                Node<V> l = lastReturned;
+                if (l == null) throw new IllegalStateException();
+                m.remove(l.key);
+                lastReturned = null;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Spliterator<V> trySplit() {
+                return null;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public boolean tryAdvance(Consumer<? super V> action) {
+                if (hasNext()) {
+                    action.accept(next());
+                    return true;
+                }
+                return false;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void forEachRemaining(Consumer<? super V> action) {
+                while (hasNext())
+                    action.accept(next());
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public long estimateSize() {
+                return Long.MAX_VALUE;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public final Comparator<? super V> getComparator() {
+                if (type == Type.Key) {
+                    return (Comparator<? super V>) SubMap.this.comparator();
+                } else {
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 
+     */
+    private static final class Keys<V> extends AbstractSet<Integer> implements NavigableIntSet {
+
+        /** The original map. */
+        private final ConcurrentNavigableIntMap<V> m;
+
+        /**
+         * Build key-set view.
+         * 
+         * @param map
+         */
+        private Keys(ConcurrentNavigableIntMap<V> map) {
+            m = map;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public MemoryStats footprint() {
+            return m.footprint();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return m.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isEmpty() {
+            return m.isEmpty();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean add(int e) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean contains(int o) {
+            return m.containsKey(o);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean remove(int o) {
+            return m.remove(o) != null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            m.clear();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int lower(int e) {
+            return m.lowerKey(e);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int floor(int e) {
+            return m.floorKey(e);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int ceiling(int e) {
+            return m.ceilingKey(e);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int higher(int e) {
+            return m.higherKey(e);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Comparator<? super Integer> comparator() {
+            return m.comparator();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int firstInt() {
+            return m.firstIntKey();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int lastInt() {
+            return m.lastIntKey();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int pollFirstInt() {
+            IntEntry<V> entry = m.pollFirstEntry();
+            if (entry == null) {
+                throw new NoSuchElementException();
+            }
+            return entry.getIntKey();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int pollLastInt() {
+            IntEntry<V> entry = m.pollLastEntry();
+            if (entry == null) {
+                throw new NoSuchElementException();
+            }
+            return entry.getIntKey();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            if (!(o instanceof Set)) return false;
+            Collection<?> c = (Collection<?>) o;
+            try {
+                return containsAll(c) && c.containsAll(this);
+            } catch (ClassCastException | NullPointerException unused) {
+                return false;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<Integer> descendingIterator() {
+            return descendingSet().iterator();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet subSet(int fromElement, boolean fromInclusive, int toElement, boolean toInclusive) {
+            return new Keys(m.subMap(fromElement, fromInclusive, toElement, toInclusive));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet headSet(int toElement, boolean inclusive) {
+            return new Keys<>(m.headMap(toElement, inclusive));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet tailSet(int fromElement, boolean inclusive) {
+            return new Keys<>(m.tailMap(fromElement, inclusive));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet subSet(int fromElement, int toElement) {
+            return subSet(fromElement, true, toElement, false);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet headSet(int toElement) {
+            return headSet(toElement, false);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet tailSet(int fromElement) {
+            return tailSet(fromElement, true);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet descendingSet() {
+            return new Keys<>(m.descendingMap());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<Integer> iterator() {
+            if (m instanceof SkipListIntMap) {
+                return ((SkipListIntMap) m).createIteratorFor(Type.Key);
+            } else {
+                return ((SubMap) m).new SubMapGenericIterator(Type.Key);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Spliterator<Integer> spliterator() {
+            if (m instanceof SkipListIntMap) {
+                return ((SkipListIntMap) m).createSpliteratorFor(Type.Key);
+            } else {
+                return ((SubMap) m).spliterator(Type.Key);
+            }
+        }
+    }
+
+    /**
+     * 
+     */
+    private static class Values<V> extends AbstractCollection<V> {
+
+        /** The original view. */
+        private final ConcurrentNavigableIntMap<V> m;
+
+        /**
+         * Build view.
+         * 
+         * @param map
+         */
+        private Values(ConcurrentNavigableIntMap<V> map) {
+            m = map;
+        }
+
+        @Override
+        public int size() {
+            return m.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return m.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return m.containsValue(o);
+        }
+
+        @Override
+        public void clear() {
+            m.clear();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object[] toArray() {
+            return I.signal(this).toList().toArray();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T> T[] toArray(T[] a) {
+            return I.signal(this).toList().toArray(a);
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            if (m instanceof SkipListIntMap) {
+                return ((SkipListIntMap) m).createIteratorFor(Type.Value);
+            } else {
+                return ((SubMap) m).new SubMapGenericIterator(Type.Value);
+            }
+        }
+
+        @Override
+        public Spliterator<V> spliterator() {
+            return (m instanceof SkipListIntMap) ? ((SkipListIntMap<V>) m).createSpliteratorFor(Type.Value)
+                    : ((SubMap) m).spliterator(Type.Value);
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super V> filter) {
+            if (filter == null) throw new NullPointerException();
+            if (m instanceof SkipListIntMap) return ((SkipListIntMap<V>) m).removeValueIf(filter);
+            // else use iterator
+            Iterator<IntEntry<V>> it = ((SubMap) m).new SubMapGenericIterator(Type.Entry);
+            boolean removed = false;
+            while (it.hasNext()) {
+                IntEntry<V> e = it.next();
+                V v = e.getValue();
+                if (filter.test(v) && m.remove(e.getIntKey(), v)) removed = true;
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * 
+     */
+    private static class Entries<V> extends AbstractSet<IntEntry<V>> {
+
+        /** The original view. */
+        private final ConcurrentNavigableIntMap<V> m;
+
+        /**
+         * Build view.
+         * 
+         * @param map
+         */
+        private Entries(ConcurrentNavigableIntMap<V> map) {
+            m = map;
+        }
+
+        @Override
+        public Iterator<IntEntry<V>> iterator() {
+            if (m instanceof SkipListIntMap) {
+                return ((SkipListIntMap) m).createIteratorFor(Type.Entry);
+            } else {
+                return ((SubMap) m).new SubMapGenericIterator(Type.Entry);
+            }
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            V v = m.get(e.getKey());
+            return v != null && v.equals(e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return m.remove(e.getKey(), e.getValue());
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return m.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return m.size();
+        }
+
+        @Override
+        public void clear() {
+            m.clear();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            if (!(o instanceof Set)) return false;
+            Collection<?> c = (Collection<?>) o;
+            try {
+                return containsAll(c) && c.containsAll(this);
+            } catch (ClassCastException | NullPointerException unused) {
+                return false;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object[] toArray() {
+            return I.signal(this).toList().toArray();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T> T[] toArray(T[] a) {
+            return I.signal(this).toList().toArray(a);
+        }
+
+        @Override
+        public Spliterator<IntEntry<V>> spliterator() {
+            return (m instanceof SkipListIntMap) ? ((SkipListIntMap<V>) m).createSpliteratorFor(Type.Entry)
+                    : ((SubMap) m).spliterator(Type.Entry);
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super IntEntry<V>> filter) {
+            if (filter == null) throw new NullPointerException();
+            if (m instanceof SkipListIntMap) return ((SkipListIntMap<V>) m).removeEntryIf(filter);
+            // else use iterator
+            Iterator<IntEntry<V>> it = ((SubMap) m).new SubMapGenericIterator(Type.Entry);
+            boolean removed = false;
+            while (it.hasNext()) {
+                IntEntry<V> e = it.next();
+                if (filter.test(e) && m.remove(e.getIntKey(), e.getValue())) removed = true;
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Nodes hold keys and values, and are singly linked in sorted order, possibly with some
+     * intervening marker nodes. The list is headed by a header node accessible as head.node.
+     * Headers and marker nodes are {@link Marker} instances, so every primitive value can be used
+     * as a key. The val field (but currently not the key field) is nulled out upon deletion.
+     */
+    private static class Node<V> {
+
+        /** The entry key. */
+        private final int key;
+
+        /** The entry value. */
+        private volatile V value;
+
+        /** The next entry. */
+        private volatile Node<V> next;
+
+        private Node(int key, V value, Node<V> next) {
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Header and deletion marker node. It is distinguished from the data node by its type instead
+     * of the reserved key value.
+     */
+    private static final class Marker<V> extends Node<V> {
+
+        private Marker(Node<V> next) {
+            super(0, null, next);
+        }
+    }
+
+    /**
+     * Index nodes represent the levels of the skip list.
+     */
+    private static final class Index<V> {
+
+        private final Node<V> node;
+
+        private final Index<V> down;
+
+        private volatile Index<V> right;
+
+        private Index(Node<V> node, Index<V> down, Index<V> right) {
+            this.node = node;
+            this.down = down;
+            this.right = right;
+        }
+    }
+
+    /**
+     * Node access type.
+     */
+    private static enum Type {
+
+        Key(Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.CONCURRENT | Spliterator.NONNULL) {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Object create(int key, Object value) {
+                return key;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Comparator create(IntComparator comparator) {
+                return comparator;
+            }
+        },
+
+        Value(Spliterator.ORDERED | Spliterator.CONCURRENT | Spliterator.NONNULL) {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Object create(int key, Object value) {
+                return value;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Comparator create(IntComparator comparator) {
+                return null;
+            }
+        },
+
+        Entry(Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.CONCURRENT | Spliterator.NONNULL) {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Object create(int key, Object value) {
+                return IntEntry.immutable(key, value);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Comparator<IntEntry> create(IntComparator comparator) {
+                return (one, other) -> comparator.compare(one.getIntKey(), other.getIntKey());
+            }
+        };
+
+        /** The characteristics of {@link Spliterator}. */
+        private final int characteristics;
+
+        /**
+         * Build.
+         * 
+         * @param characteristics
+         */
+        private Type(int characteristics) {
+            this.characteristics = characteristics;
+        }
+
+        /**
+         * Create value from {@link Node}.
+         * 
+         * @param key
+         * @param value
+         * @return
+         */
+        public abstract Object create(int key, Object value);
+
+        /**
+         * Create specila {@link Comparator} for {@link Spliterator}.
+         * 
+         * @param comparator
+         * @return
+         */
+        public abstract Comparator create(IntComparator comparator);
+    }
+
+    private Iterator createIteratorFor(Type type) {
+        return new GenericIterator(type);
+    }
+
+    private Spliterator createSpliteratorFor(Type type) {
+        return createSpliteratorFor(type, null);
+    }
+
+    /**
+     * Create the splittable spliterator for the specified ascending range.
+     * 
+     * @param type The node access type.
+     * @param range The ascending submap, or null for the entire range.
+     * @return A new spliterator.
+     */
+    private Spliterator createSpliteratorFor(Type type, SubMap<V> range) {
+        Index<V> h;
+        VarHandle.acquireFence();
+        if ((h = head) == null) {
+            return new GenericSpliterator(type, null, null, 0, false, false, 0);
+        } else if (range == null) {
+            return new GenericSpliterator(type, h, h.node, 0, false, false, getAdderCount());
+        } else {
+            return new GenericSpliterator(type, h, range.loNode(comparator), range.hi, range.hiBounded, range.hiInclusive, getAdderCount());
+        }
+    }
+
+    /**
+     * Generic iterator.
+     */
+    private class GenericIterator<R> implements Iterator<R> {
+
+        /** The node access type. */
+        private final Type type;
+
+        /** the last node returned by next() */
+        private Node<V> lastReturned;
+
+        /** the next node to return from next(); */
+        private Node<V> next;
+
+        /** Cache of next value field to maintain weak consistency */
+        private V nextValue;
+
+        /** Initializes ascending iterator for entire range. */
+        private GenericIterator(Type type) {
+            this.type = type;
+            advance(baseHead());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final boolean hasNext() {
+            return next != null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public R next() {
+            Node<V> node;
+            if ((node = next) == null) {
+                throw new NoSuchElementException();
+            }
+            int key = node.key;
+            V value = nextValue;
+            advance(node);
+            return (R) type.create(key, value);
+        }
+
+        /**
+         * Advances next to higher entry.
+         * 
+         * @param base
+         */
+        private void advance(Node<V> base) {
+            Node<V> node = null;
+            V value = null;
+            if ((lastReturned = base) != null) {
+                while ((node = base.next) != null && (value = node.value) == null) {
+                    base = node;
+                }
+            }
+            nextValue = value;
+            next = node;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final void remove() {
+            Node<V> node;
+            if ((node = lastReturned) == null || node instanceof Marker) {
+                throw new IllegalStateException();
+            }
+            // It would not be worth all of the overhead to directly
+            // unlink from here. Using remove is fast enough.
+            SkipListIntMap.this.remove(node.key);
+            lastReturned = null;
+        }
+    }
+
+    /**
+     * Cursor over the base level.
+     */
+    private final class Cursor implements IntMapCursor<V> {
+
+        /** The current node, the header at first and null after exhausted. */
+        private Node<V> node = baseHead();
+
+        /** The value of the current node, null if the cursor is not positioned. */
+        private V value;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean next() {
+            Node<V> n = node;
+            V v;
+            if (n != null) {
+                while ((n = n.next) != null) {
+                    if ((v = n.value) != null) {
+                        node = n;
+                        value = v;
+                        return true;
+                    }
+                }
+            }
+            node = null;
+            value = null;
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int key() {
+            if (value == null) throw new NoSuchElementException();
+            return node.key;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public V value() {
+            if (value == null) throw new NoSuchElementException();
+            return value;
+        }
+    }
+
+    /**
+     * Spliterator which splits the range by the index levels, like the spliterators of
+     * {@link java.util.concurrent.ConcurrentSkipListMap}. The range is started at the origin node
+     * and ended at the fence key. When splitting, the highest index level which has some indices in
+     * the range is searched, and the middle index node of them becomes the new origin of this
+     * spliterator and the fence of the split prefix. The next split uses the same level or the level
+     * below it, so the ranges get roughly halved.
+     */
+    private final class GenericSpliterator<R> implements Spliterator<R> {
+
+        /** The node access type. */
+        private final Type type;
+
+        /** The index row to split at, or null if no more split. */
+        private Index<V> row;
+
+        /** The current traversal node, or null if exhausted. */
+        private Node<V> current;
+
+        /** The fence key of this range. */
+        private final int fence;
+
+        /** The flag whether this range has fence or not. */
+        private final boolean bounded;
+
+        /** The flag whether the fence is included in this range or not. */
+        private final boolean inclusive;
+
+        /** The size estimate. */
+        private long estimate;
+
+        /**
+         * @param type The node access type.
+         * @param row The index row to split at.
+         * @param origin The first node of this range, it may be header or deleted.
+         * @param fence The fence key.
+         * @param bounded The flag whether this range has fence or not.
+         * @param inclusive The flag whether the fence is included in this range or not.
+         * @param estimate The size estimate.
+         */
+        private GenericSpliterator(Type type, Index<V> row, Node<V> origin, int fence, boolean bounded, boolean inclusive, long estimate) {
+            this.type = type;
+            this.row = row;
+            this.current = origin;
+            this.fence = fence;
+            this.bounded = bounded;
+            this.inclusive = inclusive;
+            this.estimate = estimate;
+        }
+
+        /**
+         * Test whether the specified key is out of this range.
+         * 
+         * @param key A key to test.
+         * @return A result.
+         */
+        private boolean beyond(int key) {
+            if (!bounded) {
+                return false;
+            }
+            int c = comparator.compare(key, fence);
+            return 0 < c || (c == 0 && !inclusive);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Spliterator<R> trySplit() {
+            Node<V> e = current;
+
+            // skip header, markers and deleted nodes to get the comparable key
+            while (e != null && e.value == null) {
+                e = e.next;
+            }
+            if ((current = e) == null || beyond(e.key)) {
+                return null;
+            }
+
+            int ek = e.key;
+            for (Index<V> q = row; q != null; q = row = q.down) {
+                // skip the indices before the current node
+                Index<V> s;
+                while ((s = q.right) != null && comparator.compare(s.node.key, ek) <= 0) {
+                    q = s;
+                }
+
+                // count the indices in this range, the upper level had no index in this range so
+                // there are only a few
+                int count = 0;
+                for (Index<V> r = s; r != null && !beyond(r.node.key); r = r.right) {
+                    count++;
+                }
+
+                if (count != 0) {
+                    // split at the middle index
+                    for (int i = count >> 1; 0 < i; i--) {
+                        s = s.right;
+                    }
+
+                    Node<V> b = s.node;
+                    long half = estimate >>> 1;
+                    estimate -= half;
+                    current = b;
+                    row = s;
+                    return new GenericSpliterator(type, q.down, e, b.key, true, false, half);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            Objects.requireNonNull(action);
+
+            Node<V> e = current;
+            current = null;
+            for (; e != null; e = e.next) {
+                V value = e.value;
+                if (value != null) {
+                    if (beyond(e.key)) {
+                        break;
+                    }
+                    action.accept((R) type.create(e.key, value));
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            Objects.requireNonNull(action);
+
+            Node<V> e = current;
+            for (; e != null; e = e.next) {
+                V value = e.value;
+                if (value != null) {
+                    if (beyond(e.key)) {
+                        break;
+                    }
+                    current = e.next;
+                    action.accept((R) type.create(e.key, value));
+                    return true;
+                }
+            }
+            current = null;
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int characteristics() {
+            return type.characteristics;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Comparator<? super R> getComparator() {
+            return type.create(comparator);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.queue;
+
+import java.util.NoSuchElementException;
+
+import javax.annotation.processing.Generated;
+
+import primavera.MemoryStats;
+import java.util.function.IntConsumer;
+
+/**
+ * Bounded lock-free queue for primitive value. The values are stored in the flat array without
+ * boxing, and neither side takes any lock.
+ */
+@Generated("SpecializedCodeGenerator")
+public interface CharQueue {
+
+    /**
+     * Create the queue which is safe for exactly one producer thread and one consumer thread.
+     *
+     * @param capacity The minimum capacity, it is rounded up to a power of two.
+     * @return A new created queue.
+     */
+    public static CharQueue createSpscQueue(int capacity) {
+        return new SpscCharQueue(capacity);
+    }
+
+    /**
+     * Create the queue which is safe for any number of producer threads and one consumer thread.
+     *
+     * @param capacity The minimum capacity, it is rounded up to a power of two.
+     * @return A new created queue.
+     */
+    public static CharQueue createMpscQueue(int capacity) {
+        return new MpscCharQueue(capacity);
+    }
+
+    /**
+     * Inserts the specified value at the tail of this queue if it is not full. This method must be
+     * called from the producer thread.
+     *
+     * @param value A value to add.
+     * @return {@code true} if the value was added, {@code false} if this queue is full.
+     */
+    boolean offer(char value);
+
+    /**
+     * Retrieves and removes the head of this queue, or returns the given value if this queue is
+     * empty. The empty queue is the normal state of the hand-off, so this method doesn't throw and
+     * checks the head only once. This method must be called from the consumer thread.
+     *
+     * @param defaultValue The value to return if this queue is empty.
+     * @return The head of this queue, or the default value if this queue is empty.
+     */
+    char poll(char defaultValue);
+
+    /**
+     * Retrieves and removes the head of this queue. This method differs from
+     * {@link #poll(char)} only in that it throws an exception if this queue is empty. This
+     * method must be called from the consumer thread.
+     *
+     * @return The head of this queue.
+     * @throws NoSuchElementException If this queue is empty.
+     */
+    default char remove() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return poll((char) 0);
+    }
+
+    /**
+     * Removes at most the given number of values from this queue and passes them to the given
+     * consumer in order. This method must be called from the consumer thread.
+     *
+     * @param consumer The consumer to receive values.
+     * @param max The maximum number of values to transfer.
+     * @return The number of transferred values.
+     */
+    int drainTo(IntConsumer consumer, int max);
+
+    /**
+     * Returns the number of values in this queue. The value is only an estimate while other threads
+     * are working.
+     *
+     * @return The number of values.
+     */
+    int size();
+
+    /**
+     * Returns {@code true} if this queue contains no values. If the consumer thread observes
+     * {@code false}, the following {@link #remove()} succeeds.
+     *
+     * @return The result.
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the maximum number of values which this queue can hold.
+     *
+     * @return The capacity.
+     */
+    int capacity();
+
+    /**
+     * Estimate the memory footprint of this queue. The slack is the empty slots of the ring.
+     *
+     * @return The memory statistics.
+     */
+    MemoryStats footprint();
+}
\ No newline at end of file
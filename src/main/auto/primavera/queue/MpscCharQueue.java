@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.queue;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.processing.Generated;
+
+import primavera.MemoryStats;
+import java.util.function.IntConsumer;
+
+/**
+ * Multi-producer single-consumer {@link CharQueue} based on the bounded queue of Vyukov.
+ * <p>
+ * Each slot has its own sequence number. A producer claims the slot by CAS on the producer index
+ * only when the sequence says the slot is free, writes the value and then publishes it by the
+ * release store of the sequence. The consumer takes the slot only when the sequence says it is
+ * published, so the slow producer never exposes the unwritten slot even though the faster producers
+ * have already claimed the later slots. The producer index and the consumer index are placed 128
+ * bytes apart in the same array to avoid the false sharing between the producers and the consumer.
+ */
+@Generated("SpecializedCodeGenerator")
+class MpscCharQueue implements CharQueue {
+
+    /** The slot of the producer index. */
+    private static final int PRODUCER = 16;
+
+    /** The slot of the consumer index. */
+    private static final int CONSUMER = 32;
+
+    /** The padded counters. */
+    private final AtomicLongArray counters = new AtomicLongArray(CONSUMER + 16);
+
+    /** The index mask. */
+    private final int mask;
+
+    /** The actual buffer. */
+    private final char[] buffer;
+
+    /** The sequence number of each slot. */
+    private final AtomicLongArray sequences;
+
+    /**
+     * Create new queue.
+     *
+     * @param capacity The minimum capacity, it is rounded up to a power of two.
+     */
+    MpscCharQueue(int capacity) {
+        if (capacity <= 0 || 1 << 30 < capacity) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30. [" + capacity + "]");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.buffer = new char[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.setPlain(i, i);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean offer(char value) {
+        long index = counters.get(PRODUCER);
+        for (;;) {
+            int slot = (int) index & mask;
+            long difference = sequences.getAcquire(slot) - index;
+            if (difference == 0) {
+                // the slot is free, try to claim it
+                long witness = counters.compareAndExchange(PRODUCER, index, index + 1);
+                if (witness == index) {
+                    buffer[slot] = value;
+                    sequences.setRelease(slot, index + 1);
+                    return true;
+                }
+                index = witness;
+            } else if (difference < 0) {
+                // the slot is not consumed yet, the queue is full
+                return false;
+            } else {
+                // other producer has claimed the slot
+                index = counters.get(PRODUCER);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char poll(char defaultValue) {
+        long index = counters.getPlain(CONSUMER);
+        int slot = (int) index & mask;
+        if (sequences.getAcquire(slot) != index + 1) {
+            return defaultValue;
+        }
+        char value = buffer[slot];
+        release(slot, index);
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drainTo(IntConsumer consumer, int max) {
+        Objects.requireNonNull(consumer);
+
+        long index = counters.getPlain(CONSUMER);
+        int count = 0;
+        for (; count < max; count++, index++) {
+            int slot = (int) index & mask;
+            if (sequences.getAcquire(slot) != index + 1) {
+                break;
+            }
+            consumer.accept(buffer[slot]);
+            release(slot, index);
+        }
+        return count;
+    }
+
+    /**
+     * Make the consumed slot free for the producer of the next lap.
+     *
+     * @param slot The consumed slot.
+     * @param index The consumer index of the slot.
+     */
+    private void release(int slot, long index) {
+        sequences.setRelease(slot, index + buffer.length);
+        counters.setRelease(CONSUMER, index + 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        long consumed = counters.getAcquire(CONSUMER);
+        long produced = counters.getAcquire(PRODUCER);
+        return (int) Math.max(0, Math.min(buffer.length, produced - consumed));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        long index = counters.getAcquire(CONSUMER);
+        return sequences.getAcquire((int) index & mask) != index + 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MemoryStats footprint() {
+        long retained = MemoryStats.sizeOfObject(3 * MemoryStats.REFERENCE + 4) + MemoryStats.sizeOfArray(buffer.length, Character.BYTES);
+        retained += MemoryStats.sizeOfObject(MemoryStats.REFERENCE) + MemoryStats.sizeOfArray(counters.length(), Long.BYTES);
+        retained += MemoryStats.sizeOfObject(MemoryStats.REFERENCE) + MemoryStats.sizeOfArray(buffer.length, Long.BYTES);
+        return MemoryStats.ofArray(size(), buffer.length, Character.BYTES + Long.BYTES, retained);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.queue;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.processing.Generated;
+
+import primavera.MemoryStats;
+import java.util.function.IntConsumer;
+
+/**
+ * Single-producer single-consumer {@link IntQueue} based on the ring buffer of Lamport.
+ * <p>
+ * The producer index and the consumer index are written by only one thread each, so they are
+ * published by the release store without CAS. Each side also keeps the last observed index of the
+ * other side, and reads the shared one only when the cached value says the queue is full (or
+ * empty). The indexes are placed 128 bytes apart in the same array to avoid the false sharing
+ * between the producer and the consumer.
+ */
+@Generated("SpecializedCodeGenerator")
+class SpscIntQueue implements IntQueue {
+
+    /** The slot of the producer index. */
+    private static final int PRODUCER = 16;
+
+    /** The slot of the consumer index cached by producer. */
+    private static final int PRODUCER_LIMIT = PRODUCER + 1;
+
+    /** The slot of the consumer index. */
+    private static final int CONSUMER = 32;
+
+    /** The slot of the producer index cached by consumer. */
+    private static final int CONSUMER_LIMIT = CONSUMER + 1;
+
+    /** The padded counters. */
+    private final AtomicLongArray counters = new AtomicLongArray(CONSUMER + 16);
+
+    /** The index mask. */
+    private final int mask;
+
+    /** The actual buffer. */
+    private final int[] buffer;
+
+    /**
+     * Create new queue.
+     *
+     * @param capacity The minimum capacity, it is rounded up to a power of two.
+     */
+    SpscIntQueue(int capacity) {
+        if (capacity <= 0 || 1 << 30 < capacity) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30. [" + capacity + "]");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.buffer = new int[size];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean offer(int value) {
+        long index = counters.getPlain(PRODUCER);
+        if (counters.getPlain(PRODUCER_LIMIT) + buffer.length <= index) {
+            long consumed = counters.getAcquire(CONSUMER);
+            counters.setPlain(PRODUCER_LIMIT, consumed);
+            if (consumed + buffer.length <= index) {
+                return false;
+            }
+        }
+        buffer[(int) index & mask] = value;
+        counters.setRelease(PRODUCER, index + 1);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int poll(int defaultValue) {
+        long index = counters.getPlain(CONSUMER);
+        if (available(index) == 0) {
+            return defaultValue;
+        }
+        int value = buffer[(int) index & mask];
+        counters.setRelease(CONSUMER, index + 1);
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drainTo(IntConsumer consumer, int max) {
+        Objects.requireNonNull(consumer);
+
+        long index = counters.getPlain(CONSUMER);
+        int count = (int) Math.min(Math.max(0, max), available(index));
+        for (int i = 0; i < count; i++) {
+            consumer.accept(buffer[(int) (index + i) & mask]);
+        }
+        // release the slots at once
+        if (0 < count) counters.setRelease(CONSUMER, index + count);
+        return count;
+    }
+
+    /**
+     * Compute the number of values which the consumer can take.
+     *
+     * @param index The current consumer index.
+     * @return The number of available values.
+     */
+    private long available(long index) {
+        long limit = counters.getPlain(CONSUMER_LIMIT);
+        if (limit <= index) {
+            limit = counters.getAcquire(PRODUCER);
+            counters.setPlain(CONSUMER_LIMIT, limit);
+        }
+        return limit - index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        long consumed = counters.getAcquire(CONSUMER);
+        long produced = counters.getAcquire(PRODUCER);
+        return (int) Math.max(0, Math.min(buffer.length, produced - consumed));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return counters.getAcquire(PRODUCER) == counters.getAcquire(CONSUMER);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MemoryStats footprint() {
+        long retained = MemoryStats.sizeOfObject(2 * MemoryStats.REFERENCE + 4) + MemoryStats.sizeOfArray(buffer.length, Integer.BYTES);
+        retained += MemoryStats.sizeOfObject(MemoryStats.REFERENCE) + MemoryStats.sizeOfArray(counters.length(), Long.BYTES);
+        return MemoryStats.ofArray(size(), buffer.length, Integer.BYTES, retained);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,350 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.ring;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import javax.annotation.processing.Generated;
+
+import primavera.MemoryStats;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import primavera.array.FloatArrays;
+
+@Generated("SpecializedCodeGenerator")
+public class FloatRingBuffer {
+
+    /** The fixed buffer size. */
+    private final int size;
+
+    /** The index mask if the size is a power of two, otherwise -1. */
+    private final int mask;
+
+    /** The actual buffer. */
+    private final float[] buffer;
+
+    /** The current index. */
+    private int index = -1;
+
+    /** The number of filled slots. */
+    private int count;
+
+    /**
+     * Create new buffer. If the size is a power of two, the index is wrapped by bit masking.
+     * Otherwise it is wrapped by comparison, the division is never used.
+     * 
+     * @param size A fixed buffer size.
+     */
+    public FloatRingBuffer(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive. [" + size + "]");
+        }
+        this.size = size;
+        this.mask = Integer.bitCount(size) == 1 ? size - 1 : -1;
+        this.buffer = new float[size];
+    }
+
+    /**
+     * Wrap the index into the buffer.
+     * 
+     * @param index An index which is less than twice the size.
+     * @return The wrapped index.
+     */
+    private int wrap(int index) {
+        return 0 <= mask ? index & mask : index < size ? index : index - size;
+    }
+
+    /**
+     * Compute the slot of the oldest item. The buffer is filled from the first slot, so the oldest
+     * item is at the first slot until the buffer becomes full.
+     * 
+     * @return The slot of the oldest item.
+     */
+    private int oldest() {
+        return count < size ? 0 : wrap(index + 1);
+    }
+
+    /**
+     * Add an item at tail.
+     * 
+     * @param item An item to add.
+     * @return Removed item.
+     */
+    public float add(float item) {
+        int nextIndex = wrap(index + 1);
+        float prev = buffer[nextIndex];
+        buffer[nextIndex] = item;
+        index = nextIndex;
+        if (count < size) count++;
+        return prev;
+    }
+
+    /**
+     * Add the specified range of items at tail. If the range is longer than this buffer, only the
+     * last items are stored. The items are copied by at most two {@link System#arraycopy}.
+     * 
+     * @param items Items to add.
+     * @param offset The index of the first item to add.
+     * @param length The number of items to add.
+     */
+    public void addAll(float[] items, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, items.length);
+        if (size < length) {
+            offset += length - size;
+            length = size;
+        }
+        if (length == 0) {
+            return;
+        }
+
+        int start = wrap(index + 1);
+        int first = Math.min(length, size - start);
+        System.arraycopy(items, offset, buffer, start, first);
+        System.arraycopy(items, offset + first, buffer, 0, length - first);
+        index = wrap(start + length - 1);
+        count = Math.min(size, count + length);
+    }
+
+    /**
+     * Copy all items from oldest to latest into the specified array. The items are copied by at
+     * most two {@link System#arraycopy}.
+     * 
+     * @param destination An array whose length is at least the number of items.
+     * @return The number of copied items.
+     */
+    public int copyTo(float[] destination) {
+        int start = oldest();
+        int first = Math.min(count, size - start);
+        System.arraycopy(buffer, start, destination, 0, first);
+        System.arraycopy(buffer, 0, destination, first, count - first);
+        return count;
+    }
+
+    /**
+     * Get the latest item.
+     * 
+     * @return A latest item.
+     * @throws NoSuchElementException If this buffer is empty.
+     */
+    public float latest() {
+        if (count == 0) {
+            throw new NoSuchElementException();
+        }
+        return buffer[index];
+    }
+
+    /**
+     * Get the number of items in this buffer.
+     * 
+     * @return The number of items, it never exceeds the capacity.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Get the fixed buffer size.
+     * 
+     * @return The capacity.
+     */
+    public int capacity() {
+        return size;
+    }
+
+    /**
+     * Check whether this buffer is empty or not.
+     * 
+     * @return
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Take all items from oldest.
+     * 
+     * @param consumer
+     */
+    public void forEach(DoubleConsumer consumer) {
+        forEach(size, consumer);
+    }
+
+    /**
+     * Take the specified number of items from oldest. Only the filled slots are visited.
+     * 
+     * @param size The maximum number of items to take.
+     * @param consumer
+     */
+    public void forEach(int size, DoubleConsumer consumer) {
+        int start = oldest();
+        for (int i = 0, max = Math.min(size, count); i < max; i++) {
+            consumer.accept(buffer[wrap(start + i)]);
+        }
+    }
+
+    /**
+     * Take all items from latest.
+     * 
+     * @param consumer
+     */
+    public void forEachFromLatest(DoubleConsumer consumer) {
+        forEachFromLatest(size, consumer);
+    }
+
+    /**
+     * Take the specified number of items from latest. Only the filled slots are visited.
+     * 
+     * @param size The maximum number of items to take.
+     * @param consumer
+     */
+    public void forEachFromLatest(int size, DoubleConsumer consumer) {
+        int start = index + this.size;
+        for (int i = 0, max = Math.min(size, count); i < max; i++) {
+            consumer.accept(buffer[wrap(start - i)]);
+        }
+    }
+
+    /**
+     * Reduce items from oldest to latest. The oldest item is used as the initial value.
+     * 
+     * @param operator The calculation.
+     * @return The reduced result.
+     * @throws NoSuchElementException If this buffer is empty.
+     */
+    public float reduce(DoubleBinaryOperator operator) {
+        if (count == 0) {
+            throw new NoSuchElementException();
+        }
+
+        int start = oldest();
+        float result = buffer[start];
+        for (int i = 1; i < count; i++) {
+            result = (float) operator.applyAsDouble(result, buffer[wrap(start + i)]);
+        }
+        return result;
+    }
+
+    /**
+     * Reduce items from oldest to latest with the specified initial value.
+     * 
+     * @param identity The initial value, it is returned as is if this buffer is empty.
+     * @param operator The calculation.
+     * @return The reduced result.
+     */
+    public float reduce(float identity, DoubleBinaryOperator operator) {
+        float result = identity;
+        int start = oldest();
+        int first = Math.min(count, size - start);
+        for (int i = start, end = start + first; i < end; i++) {
+            result = (float) operator.applyAsDouble(result, buffer[i]);
+        }
+        for (int i = 0, end = count - first; i < end; i++) {
+            result = (float) operator.applyAsDouble(result, buffer[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Compute the sum of all items. The filled slots are always the leading part of the buffer
+     * until it becomes full, so the order-independent aggregations scan a single range. The sum of
+     * the integral type overflows silently, see {@link FloatArrays#sum}.
+     * 
+     * @return The sum, 0 if this buffer is empty.
+     */
+    public float sum() {
+        return FloatArrays.sum(buffer, 0, count);
+    }
+
+    /**
+     * Compute the minimum value of all items.
+     * 
+     * @return The minimum value, 0 if this buffer is empty.
+     */
+    public float min() {
+        return FloatArrays.min(buffer, 0, count);
+    }
+
+    /**
+     * Compute the maximum value of all items.
+     * 
+     * @return The maximum value, 0 if this buffer is empty.
+     */
+    public float max() {
+        return FloatArrays.max(buffer, 0, count);
+    }
+
+    /**
+     * Compute the arithmetic mean of all items.
+     * 
+     * @return The mean, {@link Double#NaN} if this buffer is empty.
+     */
+    public double mean() {
+        return FloatArrays.mean(buffer, 0, count);
+    }
+
+    /**
+     * Compute the dot product with the specified weights. The last weight is applied to the latest
+     * item, and the weights for the unfilled slots are ignored until this buffer becomes full.
+     * 
+     * @param weights The weights which have the same length as the capacity of this buffer.
+     * @return The dot product.
+     * @throws IllegalArgumentException If the length is different.
+     */
+    public float dot(float[] weights) {
+        if (weights.length != size) {
+            throw new IllegalArgumentException("Size mismatch. [" + size + " : " + weights.length + "]");
+        }
+
+        // the items are split into at most two contiguous ranges
+        int start = oldest();
+        int first = Math.min(count, size - start);
+        int offset = size - count;
+        float one = FloatArrays.dot(buffer, start, weights, offset, first);
+        float other = FloatArrays.dot(buffer, 0, weights, offset + first, count - first);
+        return one += other;
+    }
+
+    /**
+     * Count the items which are greater than the specified threshold.
+     * 
+     * @param threshold A threshold value.
+     * @return The number of the greater items.
+     */
+    public int countGreaterThan(float threshold) {
+        return FloatArrays.countGreaterThan(buffer, 0, count, threshold);
+    }
+
+    /**
+     * Estimate the memory footprint of this buffer. The slack is the unfilled slots.
+     * 
+     * @return The memory statistics.
+     */
+    public MemoryStats footprint() {
+        long retained = MemoryStats.sizeOfObject(4 + 4 + 4 + 4 + MemoryStats.REFERENCE) + MemoryStats.sizeOfArray(size, Float.BYTES);
+        return MemoryStats.ofArray(count, size, Float.BYTES, retained);
+    }
+
+    /**
+     * Recompose to the specified {@link Collection}.
+     * 
+     * @param <C> A collection type.
+     * @param collection A target collection.
+     * @return A recomposed collection.
+     */
+    public <C extends Collection<Float>> C to(C collection) {
+        int start = oldest();
+        for (int i = 0; i < count; i++) {
+            collection.add(buffer[wrap(start + i)]);
+        }
+        return collection;
+    }
+}
\ No newline at end of file
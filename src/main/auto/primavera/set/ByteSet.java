@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.set;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.processing.Generated;
+
+import kiss.I;
+import primavera.MemoryStats;
+import java.util.function.IntConsumer;
+import primavera.map.ByteMap.ByteComparator;
+
+@Generated("SpecializedCodeGenerator")
+public interface ByteSet extends Set<Byte> {
+
+    /**
+     * Create the hash set for primitive byte which is backed by the flat open addressing
+     * table.
+     *
+     * @return A new created set.
+     */
+    public static ByteSet createHashSet() {
+        return new HashByteSet(0);
+    }
+
+    /**
+     * Create the hash set for primitive byte which is backed by the flat open addressing
+     * table.
+     *
+     * @param expectedSize The number of elements which the set will hold without resizing.
+     * @return A new created set.
+     */
+    public static ByteSet createHashSet(int expectedSize) {
+        return new HashByteSet(expectedSize);
+    }
+
+    /**
+     * Create the concurrent sorted set for primitive byte which is backed by the skip list.
+     * The elements are sorted according to their natural ordering.
+     *
+     * @return A new created set.
+     */
+    public static ConcurrentNavigableByteSet createSortedSet() {
+        return new SkipListByteSet(null);
+    }
+
+    /**
+     * Create the concurrent sorted set for primitive byte which is backed by the skip list.
+     *
+     * @param comparator The comparator that will be used to order this set. If {@code null}, the
+     *            natural ordering of the elements will be used.
+     * @return A new created set.
+     */
+    public static ConcurrentNavigableByteSet createSortedSet(ByteComparator comparator) {
+        return new SkipListByteSet(comparator);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean add(Byte e) {
+        return add((byte) e);
+    }
+
+    /**
+     * Adds the specified element to this set if it is not already present (optional operation).
+     * More formally, adds the specified element {@code e} to this set if the set contains no
+     * element {@code e2} such that {@code Objects.equals(e, e2)}. If this set already contains the
+     * element, the call leaves the set unchanged and returns {@code false}. In combination with the
+     * restriction on constructors, this ensures that sets never contain duplicate elements.
+     * <p>
+     * The stipulation above does not imply that sets must accept all elements; sets may refuse to
+     * add any particular element, including {@code null}, and throw an exception, as described in
+     * the specification for {@link Collection#add Collection.add}. Individual set implementations
+     * should clearly document any restrictions on the elements that they may contain.
+     *
+     * @param value element to be added to this set
+     * @return {@code true} if this set did not already contain the specified element
+     * @throws UnsupportedOperationException if the {@code add} operation is not supported by this
+     *             set
+     * @throws ClassCastException if the class of the specified element prevents it from being added
+     *             to this set
+     * @throws NullPointerException if the specified element is null and this set does not permit
+     *             null elements
+     * @throws IllegalArgumentException if some property of the specified element prevents it from
+     *             being added to this set
+     */
+    boolean add(byte value);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean remove(Object o) {
+        return remove((byte) o);
+    }
+
+    /**
+     * Removes the specified element from this set if it is present (optional operation). More
+     * formally, removes an element {@code e} such that {@code Objects.equals(o, e)}, if this set
+     * contains such an element. Returns {@code true} if this set contained the element (or
+     * equivalently, if this set changed as a result of the call). (This set will not contain the
+     * element once the call returns.)
+     *
+     * @param value object to be removed from this set, if present
+     * @return {@code true} if this set contained the specified element
+     * @throws ClassCastException if the type of the specified element is incompatible with this set
+     *             (<a href="Collection.html#optional-restrictions">optional</a>)
+     * @throws NullPointerException if the specified element is null and this set does not permit
+     *             null elements (<a href="Collection.html#optional-restrictions">optional</a>)
+     * @throws UnsupportedOperationException if the {@code remove} operation is not supported by
+     *             this set
+     */
+    boolean remove(byte value);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean contains(Object o) {
+        return contains((byte) o);
+    }
+
+    /**
+     * Returns {@code true} if this set contains the specified element. More formally, returns
+     * {@code true} if and only if this set contains an element {@code e} such that
+     * {@code Objects.equals(o, e)}.
+     *
+     * @param value element whose presence in this set is to be tested
+     * @return {@code true} if this set contains the specified element
+     * @throws ClassCastException if the type of the specified element is incompatible with this set
+     *             (<a href="Collection.html#optional-restrictions">optional</a>)
+     * @throws NullPointerException if the specified element is null and this set does not permit
+     *             null elements (<a href="Collection.html#optional-restrictions">optional</a>)
+     */
+    boolean contains(byte value);
+
+    /**
+     * Estimate the memory footprint of the table or the nodes of this set. The view (i.e. sub set)
+     * reports the footprint of its whole backing set.
+     *
+     * @return The memory statistics.
+     */
+    MemoryStats footprint();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Object[] toArray() {
+        return I.signal(this).toList().toArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default <T> T[] toArray(T[] a) {
+        return I.signal(this).toList().toArray(a);
+    }
+
+    /**
+     * Returns the snapshot of all elements in this set as the primitive array.
+     *
+     * @implSpec The default implementation copies the elements from the iterator. The hash based
+     *           set overrides it to read the table directly.
+     * @return A new created array.
+     */
+    default byte[] toByteArray() {
+        byte[] array = new byte[size()];
+        int index = 0;
+        for (Byte value : this) {
+            array[index++] = (byte) value;
+        }
+        return array;
+    }
+
+    /**
+     * Performs the given action for each element of this set until all elements have been
+     * processed or the action throws an exception.
+     *
+     * @implSpec The default implementation unboxes the element of the iterator. The hash based set
+     *           overrides it to read the table directly.
+     * @param action The action to be performed for each element.
+     */
+    default void forEachByte(IntConsumer action) {
+        Objects.requireNonNull(action);
+        for (Byte value : this) {
+            action.accept((byte) value);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.set;
+
+import java.util.NavigableSet;
+
+import javax.annotation.processing.Generated;
+
+
+/**
+ * Sepcialized thread-safe {@link NavigableSet} interface for primitive value. All operations
+ * including the range views are safe to call concurrently, and the iterators are weakly consistent.
+ */
+@Generated("SpecializedCodeGenerator")
+public interface ConcurrentNavigableByteSet extends NavigableByteSet {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableByteSet descendingSet();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableByteSet subSet(Byte fromElement, boolean fromInclusive, Byte toElement, boolean toInclusive) {
+        return subSet((byte) fromElement, fromInclusive, (byte) toElement, toInclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableByteSet subSet(byte fromElement, boolean fromInclusive, byte toElement, boolean toInclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableByteSet headSet(Byte toElement, boolean inclusive) {
+        return headSet((byte) toElement, inclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableByteSet headSet(byte toElement, boolean inclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableByteSet tailSet(Byte fromElement, boolean inclusive) {
+        return tailSet((byte) fromElement, inclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableByteSet tailSet(byte fromElement, boolean inclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableByteSet subSet(Byte fromElement, Byte toElement) {
+        return subSet((byte) fromElement, (byte) toElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableByteSet subSet(byte fromElement, byte toElement);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableByteSet headSet(Byte toElement) {
+        return headSet((byte) toElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableByteSet headSet(byte toElement);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableByteSet tailSet(Byte fromElement) {
+        return tailSet((byte) fromElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableByteSet tailSet(byte fromElement);
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.set;
+
+import java.util.NavigableSet;
+
+import javax.annotation.processing.Generated;
+
+
+/**
+ * Sepcialized thread-safe {@link NavigableSet} interface for primitive value. All operations
+ * including the range views are safe to call concurrently, and the iterators are weakly consistent.
+ */
+@Generated("SpecializedCodeGenerator")
+public interface ConcurrentNavigableCharSet extends NavigableCharSet {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableCharSet descendingSet();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableCharSet subSet(Character fromElement, boolean fromInclusive, Character toElement, boolean toInclusive) {
+        return subSet((char) fromElement, fromInclusive, (char) toElement, toInclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableCharSet subSet(char fromElement, boolean fromInclusive, char toElement, boolean toInclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableCharSet headSet(Character toElement, boolean inclusive) {
+        return headSet((char) toElement, inclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableCharSet headSet(char toElement, boolean inclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableCharSet tailSet(Character fromElement, boolean inclusive) {
+        return tailSet((char) fromElement, inclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableCharSet tailSet(char fromElement, boolean inclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableCharSet subSet(Character fromElement, Character toElement) {
+        return subSet((char) fromElement, (char) toElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableCharSet subSet(char fromElement, char toElement);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableCharSet headSet(Character toElement) {
+        return headSet((char) toElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableCharSet headSet(char toElement);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableCharSet tailSet(Character fromElement) {
+        return tailSet((char) fromElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableCharSet tailSet(char fromElement);
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.set;
+
+import java.util.NavigableSet;
+
+import javax.annotation.processing.Generated;
+
+
+/**
+ * Sepcialized thread-safe {@link NavigableSet} interface for primitive value. All operations
+ * including the range views are safe to call concurrently, and the iterators are weakly consistent.
+ */
+@Generated("SpecializedCodeGenerator")
+public interface ConcurrentNavigableDoubleSet extends NavigableDoubleSet {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableDoubleSet descendingSet();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableDoubleSet subSet(Double fromElement, boolean fromInclusive, Double toElement, boolean toInclusive) {
+        return subSet((double) fromElement, fromInclusive, (double) toElement, toInclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableDoubleSet subSet(double fromElement, boolean fromInclusive, double toElement, boolean toInclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableDoubleSet headSet(Double toElement, boolean inclusive) {
+        return headSet((double) toElement, inclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableDoubleSet headSet(double toElement, boolean inclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableDoubleSet tailSet(Double fromElement, boolean inclusive) {
+        return tailSet((double) fromElement, inclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableDoubleSet tailSet(double fromElement, boolean inclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableDoubleSet subSet(Double fromElement, Double toElement) {
+        return subSet((double) fromElement, (double) toElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableDoubleSet subSet(double fromElement, double toElement);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableDoubleSet headSet(Double toElement) {
+        return headSet((double) toElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableDoubleSet headSet(double toElement);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableDoubleSet tailSet(Double fromElement) {
+        return tailSet((double) fromElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableDoubleSet tailSet(double fromElement);
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.set;
+
+import java.util.NavigableSet;
+
+import javax.annotation.processing.Generated;
+
+
+/**
+ * Sepcialized thread-safe {@link NavigableSet} interface for primitive value. All operations
+ * including the range views are safe to call concurrently, and the iterators are weakly consistent.
+ */
+@Generated("SpecializedCodeGenerator")
+public interface ConcurrentNavigableFloatSet extends NavigableFloatSet {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableFloatSet descendingSet();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableFloatSet subSet(Float fromElement, boolean fromInclusive, Float toElement, boolean toInclusive) {
+        return subSet((float) fromElement, fromInclusive, (float) toElement, toInclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableFloatSet subSet(float fromElement, boolean fromInclusive, float toElement, boolean toInclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableFloatSet headSet(Float toElement, boolean inclusive) {
+        return headSet((float) toElement, inclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableFloatSet headSet(float toElement, boolean inclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableFloatSet tailSet(Float fromElement, boolean inclusive) {
+        return tailSet((float) fromElement, inclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableFloatSet tailSet(float fromElement, boolean inclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableFloatSet subSet(Float fromElement, Float toElement) {
+        return subSet((float) fromElement, (float) toElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableFloatSet subSet(float fromElement, float toElement);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableFloatSet headSet(Float toElement) {
+        return headSet((float) toElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableFloatSet headSet(float toElement);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableFloatSet tailSet(Float fromElement) {
+        return tailSet((float) fromElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableFloatSet tailSet(float fromElement);
+}
\ No newline at end of file
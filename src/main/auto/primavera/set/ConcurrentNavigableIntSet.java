@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.set;
+
+import java.util.NavigableSet;
+
+import javax.annotation.processing.Generated;
+
+
+/**
+ * Sepcialized thread-safe {@link NavigableSet} interface for primitive value. All operations
+ * including the range views are safe to call concurrently, and the iterators are weakly consistent.
+ */
+@Generated("SpecializedCodeGenerator")
+public interface ConcurrentNavigableIntSet extends NavigableIntSet {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableIntSet descendingSet();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableIntSet subSet(Integer fromElement, boolean fromInclusive, Integer toElement, boolean toInclusive) {
+        return subSet((int) fromElement, fromInclusive, (int) toElement, toInclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableIntSet subSet(int fromElement, boolean fromInclusive, int toElement, boolean toInclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableIntSet headSet(Integer toElement, boolean inclusive) {
+        return headSet((int) toElement, inclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableIntSet headSet(int toElement, boolean inclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableIntSet tailSet(Integer fromElement, boolean inclusive) {
+        return tailSet((int) fromElement, inclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableIntSet tailSet(int fromElement, boolean inclusive);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableIntSet subSet(Integer fromElement, Integer toElement) {
+        return subSet((int) fromElement, (int) toElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableIntSet subSet(int fromElement, int toElement);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableIntSet headSet(Integer toElement) {
+        return headSet((int) toElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableIntSet headSet(int toElement);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default ConcurrentNavigableIntSet tailSet(Integer fromElement) {
+        return tailSet((int) fromElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrentNavigableIntSet tailSet(int fromElement);
+}
\ No newline at end of file
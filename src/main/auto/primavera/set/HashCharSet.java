@@ -0,0 +1,498 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.set;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import javax.annotation.processing.Generated;
+
+import primavera.MemoryStats;
+import java.util.function.IntConsumer;
+
+/**
+ * Hash table based implementation of {@link CharSet}. The elements are stored in the flat
+ * primitive array and the collision is resolved by linear probing, so neither lookup nor insertion
+ * allocates any object. Removal uses backward shift deletion instead of tombstones.
+ * <p>
+ * The empty slot is marked by the element {@code (char) 0}, the presence of that element
+ * itself is held out of the table by the flag.
+ * <p>
+ * This set is not thread-safe. Iteration order is unspecified.
+ */
+@Generated("SpecializedCodeGenerator")
+class HashCharSet extends AbstractSet<Character> implements CharSet {
+
+    /** The minimum table size. */
+    private static final int MINIMUM_CAPACITY = 4;
+
+    /** The maximum table size. */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /** The load factor of table. */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /** The element table, the empty slot holds the free element. */
+    private char[] elements;
+
+    /** The flag whether this set contains the free element or not. */
+    private boolean hasFreeElement;
+
+    /** The bit mask to compute slot index. */
+    private int mask;
+
+    /** The number of elements. */
+    private int size;
+
+    /** The size limit to resize table. */
+    private int threshold;
+
+    /**
+     * Constructs a new, empty set with the specified expected size.
+     *
+     * @param expectedSize The number of elements which this set will hold without resizing.
+     */
+    HashCharSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative size: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Compute the table size to hold the specified number of elements.
+     *
+     * @param expectedSize The number of elements.
+     * @return The power of two table size.
+     */
+    private static int capacityFor(int expectedSize) {
+        long required = (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1;
+        if (MAXIMUM_CAPACITY <= required) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(MINIMUM_CAPACITY, Integer.highestOneBit((int) required - 1) << 1);
+    }
+
+    /**
+     * Create the new empty table.
+     *
+     * @param capacity A power of two table size.
+     */
+    private void allocate(int capacity) {
+        elements = new char[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Test whether the specified element is the free element which marks the empty slot.
+     *
+     * @param value A target element.
+     * @return A result.
+     */
+    private static boolean isFree(char value) {
+        return Character.compare(value, (char) 0) == 0;
+    }
+
+    /**
+     * Compute the home slot of the specified element. The hash code is scrambled because the
+     * sequential elements are very common.
+     *
+     * @param value A target element.
+     * @return A home slot index.
+     */
+    private int slot(char value) {
+        int h = Character.hashCode(value) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Find the slot index of the specified element. The free element must be handled by caller.
+     *
+     * @param value A target element.
+     * @return A slot index if the element is found, otherwise {@code -(insertion point) - 1}.
+     */
+    private int find(char value) {
+        char[] elements = this.elements;
+        int mask = this.mask;
+        int i = slot(value);
+        char e;
+
+        while (!isFree(e = elements[i])) {
+            if (Character.compare(e, value) == 0) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -i - 1;
+    }
+
+    /**
+     * Rebuild the table with the specified size.
+     *
+     * @param capacity A new table size.
+     */
+    private void resize(int capacity) {
+        if (capacity <= elements.length) {
+            return;
+        }
+
+        char[] old = elements;
+        allocate(capacity);
+
+        for (char value : old) {
+            if (!isFree(value)) {
+                int index = slot(value);
+                while (!isFree(elements[index])) {
+                    index = (index + 1) & mask;
+                }
+                elements[index] = value;
+            }
+        }
+    }
+
+    /**
+     * Remove the element at the specified slot. The following elements in the same cluster are
+     * shifted backward to fill the hole.
+     *
+     * @param index A slot index to remove.
+     */
+    private void delete(int index) {
+        char[] elements = this.elements;
+        int mask = this.mask;
+
+        for (int i = (index + 1) & mask; !isFree(elements[i]); i = (i + 1) & mask) {
+            // the element can move into the hole only if the hole is on its probe sequence
+            if (((i - index) & mask) <= ((i - slot(elements[i])) & mask)) {
+                elements[index] = elements[i];
+                index = i;
+            }
+        }
+        elements[index] = (char) 0;
+        size--;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(Character e) {
+        return add((char) e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(char value) {
+        if (isFree(value)) {
+            if (hasFreeElement) {
+                return false;
+            }
+            hasFreeElement = true;
+            size++;
+            return true;
+        }
+
+        int index = find(value);
+        if (0 <= index) {
+            return false;
+        }
+        elements[-index - 1] = value;
+        if (threshold < ++size) {
+            resize(elements.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object o) {
+        return remove((char) o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(char value) {
+        if (isFree(value)) {
+            if (!hasFreeElement) {
+                return false;
+            }
+            hasFreeElement = false;
+            size--;
+            return true;
+        }
+
+        int index = find(value);
+        if (index < 0) {
+            return false;
+        }
+        delete(index);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return contains((char) o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(char value) {
+        return isFree(value) ? hasFreeElement : 0 <= find(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MemoryStats footprint() {
+        long retained = MemoryStats.sizeOfObject(MemoryStats.REFERENCE + 1 + 4 + 4 + 4) + MemoryStats.sizeOfArray(elements.length, Character.BYTES);
+        return MemoryStats.ofArray(size, elements.length, Character.BYTES, retained);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (size != 0) {
+            Arrays.fill(elements, (char) 0);
+            hasFreeElement = false;
+            size = 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Character> iterator() {
+        return new Slots();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char[] toCharArray() {
+        char[] result = new char[size];
+        int index = 0;
+
+        if (hasFreeElement) {
+            result[index++] = (char) 0;
+        }
+        for (char value : elements) {
+            if (!isFree(value)) {
+                result[index++] = value;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachChar(IntConsumer action) {
+        Objects.requireNonNull(action);
+
+        if (hasFreeElement) {
+            action.accept((char) 0);
+        }
+        for (char value : elements) {
+            if (!isFree(value)) {
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int index = 0;
+
+        if (hasFreeElement) {
+            result[index++] = (char) 0;
+        }
+        for (char value : elements) {
+            if (!isFree(value)) {
+                result[index++] = value;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T[] toArray(T[] a) {
+        Object[] result = toArray();
+        if (a.length < result.length) {
+            return (T[]) Arrays.copyOf(result, result.length, a.getClass());
+        }
+        System.arraycopy(result, 0, a, 0, result.length);
+        if (result.length < a.length) {
+            a[result.length] = null;
+        }
+        return a;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+
+        if (hasFreeElement) {
+            hash += Character.hashCode((char) 0);
+        }
+        for (char value : elements) {
+            if (!isFree(value)) {
+                hash += Character.hashCode(value);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Iterates the free element at first, then slots from the end of table to the beginning. When
+     * the iterator removes an element, the backward shift deletion may move an unvisited element
+     * (wrapped around the table end) into the visited area, such elements are kept aside and
+     * returned at last.
+     */
+    private class Slots implements Iterator<Character> {
+
+        /** The flag whether the free element is not returned yet. */
+        private boolean free = hasFreeElement;
+
+        /** The current slot index. */
+        private int index = elements.length;
+
+        /** The number of elements to return. */
+        private int remaining = size;
+
+        /** The slot of the last returned element, -1 for none. */
+        private int last = -1;
+
+        /** The last returned element. */
+        private char value;
+
+        /** The elements moved from the unvisited area into the visited area. */
+        private ArrayList<Character> wrapped;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return remaining != 0;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Character next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+
+            if (free) {
+                free = false;
+                last = Integer.MAX_VALUE;
+                return value = (char) 0;
+            }
+
+            while (0 < index) {
+                char v = elements[--index];
+                if (!isFree(v)) {
+                    last = index;
+                    return value = v;
+                }
+            }
+
+            // all slots are visited, return the moved elements
+            if (wrapped == null || wrapped.isEmpty()) {
+                throw new ConcurrentModificationException();
+            }
+            last = Integer.MAX_VALUE;
+            return value = (char) wrapped.remove(wrapped.size() - 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void remove() {
+            if (last == -1) {
+                throw new IllegalStateException();
+            }
+
+            if (last == Integer.MAX_VALUE) {
+                HashCharSet.this.remove(value);
+            } else {
+                char[] elements = HashCharSet.this.elements;
+                int mask = HashCharSet.this.mask;
+                int hole = last;
+
+                for (int i = (hole + 1) & mask; !isFree(elements[i]); i = (i + 1) & mask) {
+                    if (((i - hole) & mask) <= ((i - slot(elements[i])) & mask)) {
+                        if (i < index && index <= hole) {
+                            if (wrapped == null) wrapped = new ArrayList();
+                            wrapped.add(elements[i]);
+                        }
+                        elements[hole] = elements[i];
+                        hole = i;
+                    }
+                }
+                elements[hole] = (char) 0;
+                size--;
+            }
+            last = -1;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,1599 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.set;
+
+import java.lang.invoke.VarHandle;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.processing.Generated;
+
+import primavera.MemoryStats;
+import java.util.function.IntConsumer;
+import primavera.map.CharMap.CharComparator;
+
+/**
+ * A scalable concurrent {@link ConcurrentNavigableCharSet} implementation based on the skip list
+ * of {@link primavera.map.ConcurrentNavigableCharMap}. The elements are kept sorted according to
+ * their natural ordering, or by a comparator provided at set creation time.
+ * <p>
+ * Unlike the key set view of the sorted map, the base-level node holds only the element and the
+ * link to the next node. The map marks a node as deleted by nulling its value, this set marks it
+ * by splicing the deletion marker into its next link instead (as in the lock-free list of Harris).
+ * A node is deleted if and only if its successor is a marker, so an insertion after a deleted node
+ * fails on its CAS and retries, exactly like the insertion after the node whose value is nulled.
+ * <p>
+ * This class provides expected average <i>log(n)</i> time cost for the {@code contains},
+ * {@code add}, and {@code remove} operations and their variants. Insertion, removal, and access
+ * operations safely execute concurrently by multiple threads. Iterators and spliterators are
+ * <i>weakly consistent</i>. Ascending ordered views and their iterators are faster than
+ * descending ones.
+ * <p>
+ * Beware that the {@code size} method is based on the concurrently updated counter, and bulk
+ * operations {@code addAll}, {@code removeAll}, {@code equals}, {@code toArray} and {@code clear}
+ * are <em>not</em> guaranteed to be performed atomically.
+ */
+@Generated("SpecializedCodeGenerator")
+class SkipListCharSet extends AbstractSet<Character> implements ConcurrentNavigableCharSet {
+
+    /** The field updater. */
+    private static final AtomicReferenceFieldUpdater<SkipListCharSet, Index> HEAD = AtomicReferenceFieldUpdater
+            .newUpdater(SkipListCharSet.class, Index.class, "head");
+
+    /** The field updater. */
+    private static final AtomicReferenceFieldUpdater<SkipListCharSet, LongAdder> ADDER = AtomicReferenceFieldUpdater
+            .newUpdater(SkipListCharSet.class, LongAdder.class, "adder");
+
+    /** The field updater. */
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT = AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+    /** The field updater. */
+    private static final AtomicReferenceFieldUpdater<Index, Index> RIGHT = AtomicReferenceFieldUpdater
+            .newUpdater(Index.class, Index.class, "right");
+
+    // Control values OR'ed as arguments to findNear
+    private static final int EQ = 1;
+
+    private static final int LT = 2;
+
+    private static final int GT = 0; // Actually checked as !LT
+
+    /** Lazily initialized topmost index of the skiplist. */
+    private transient volatile Index head;
+
+    /** Lazily initialized element count */
+    private transient volatile LongAdder adder;
+
+    /** The comparator used to maintain order in this set. */
+    private final CharComparator comparator;
+
+    /**
+     * Constructs a new, empty set, sorted according to the specified comparator.
+     *
+     * @param comparator the comparator that will be used to order this set. If {@code null}, the
+     *            {@linkplain Comparable natural ordering} of the elements will be used.
+     */
+    SkipListCharSet(CharComparator comparator) {
+        this.comparator = comparator == null ? Character::compare : comparator;
+    }
+
+    /**
+     * Returns the header for base node list, or null if uninitialized
+     */
+    private Node baseHead() {
+        Index h;
+        VarHandle.acquireFence();
+        return ((h = head) == null) ? null : h.node;
+    }
+
+    /**
+     * Test whether the specified data node is deleted, that is its successor is a marker.
+     *
+     * @param n a data node
+     * @return {@code true} if the node is deleted
+     */
+    private static boolean isDeleted(Node n) {
+        return n.next instanceof Marker;
+    }
+
+    /**
+     * Logically deletes the specified data node by splicing a marker into its next link.
+     *
+     * @param n a data node
+     * @param f the successor of node which was read by caller
+     * @return {@code true} if this call deleted the node
+     */
+    private static boolean delete(Node n, Node f) {
+        return !(f instanceof Marker) && NEXT.compareAndSet(n, f, new Marker(f));
+    }
+
+    /**
+     * Tries to unlink deleted node n from predecessor b (if both exist). Upon return, node n is
+     * sure to be unlinked from b, possibly via the actions of some other thread.
+     *
+     * @param b if nonnull, predecessor
+     * @param n if nonnull, node known to be deleted
+     */
+    private static void unlinkNode(Node b, Node n) {
+        if (b != null && n != null) {
+            Node f = n.next;
+            if (f instanceof Marker) {
+                NEXT.compareAndSet(b, n, f.next);
+            }
+        }
+    }
+
+    /**
+     * Adds to element count, initializing adder if necessary
+     *
+     * @param c count to add
+     */
+    private void addCount(long c) {
+        LongAdder a;
+        do {
+        } while ((a = adder) == null && !ADDER.compareAndSet(this, null, a = new LongAdder()));
+        a.add(c);
+    }
+
+    /**
+     * Returns element count, initializing adder if necessary.
+     */
+    private long getAdderCount() {
+        LongAdder a;
+        long c;
+        do {
+        } while ((a = adder) == null && !ADDER.compareAndSet(this, null, a = new LongAdder()));
+        return ((c = a.sum()) <= 0L) ? 0L : c; // ignore transient negatives
+    }
+
+    /**
+     * Returns a base-level node with key strictly less than given key. Also unlinks indexes to
+     * deleted nodes found along the way.
+     *
+     * @param key the key
+     * @param cmp the comparator
+     * @return a predecessor node of key, or null if uninitialized
+     */
+    private Node findPredecessor(char key, CharComparator cmp) {
+        Index q;
+        VarHandle.acquireFence();
+        if ((q = head) == null) {
+            return null;
+        } else {
+            for (Index r, d;;) {
+                while ((r = q.right) != null) {
+                    Node p;
+                    if ((p = r.node) == null || isDeleted(p)) {
+                        // unlink index to deleted node
+                        RIGHT.compareAndSet(q, r, r.right);
+                    } else if (cmp.compare(key, p.key) > 0) {
+                        q = r;
+                    } else {
+                        break;
+                    }
+                }
+
+                if ((d = q.down) != null) {
+                    q = d;
+                } else {
+                    return q.node;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns node holding key or null if no such, clearing out any deleted nodes seen along the
+     * way.
+     *
+     * @param key the key
+     * @return node holding key, or null if no such
+     */
+    private Node findNode(char key) {
+        CharComparator cmp = comparator;
+        Node b;
+        outer: while ((b = findPredecessor(key, cmp)) != null) {
+            for (;;) {
+                Node n;
+                int c;
+                if ((n = b.next) == null) {
+                    break outer; // empty
+                } else if (n instanceof Marker) {
+                    break; // b is deleted
+                } else if (isDeleted(n)) {
+                    unlinkNode(b, n); // n is deleted
+                } else if ((c = cmp.compare(key, n.key)) > 0) {
+                    b = n;
+                } else if (c == 0) {
+                    return n;
+                } else {
+                    break outer;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Add indices after an insertion. Descends iteratively to the highest level of insertion, then
+     * recursively, to chain index nodes to lower ones. Returns false on (staleness) failure,
+     * disabling higher-level insertions.
+     *
+     * @param q starting index for current level
+     * @param skips levels to skip before inserting
+     * @param x index for this insertion
+     * @param cmp comparator
+     */
+    private static boolean addIndices(Index q, int skips, Index x, CharComparator cmp) {
+        Node z;
+        if (x != null && (z = x.node) != null && q != null) {
+            char key = z.key; // hoist checks
+            boolean retrying = false;
+            for (;;) { // find splice point
+                Index r, d;
+                int c;
+                if ((r = q.right) != null) {
+                    Node p;
+                    if ((p = r.node) == null || isDeleted(p)) {
+                        RIGHT.compareAndSet(q, r, r.right);
+                        c = 0;
+                    } else if ((c = cmp.compare(key, p.key)) > 0)
+                        q = r;
+                    else if (c == 0) break; // stale
+                } else {
+                    c = -1;
+                }
+
+                if (c < 0) {
+                    if ((d = q.down) != null && skips > 0) {
+                        --skips;
+                        q = d;
+                    } else if (d != null && !retrying && !addIndices(d, 0, x.down, cmp)) {
+                        break;
+                    } else {
+                        x.right = r;
+                        if (RIGHT.compareAndSet(q, r, x)) {
+                            return true;
+                        } else {
+                            retrying = true; // re-find splice point
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Possibly reduce head level if it has no nodes. See the same method of the sorted map for the
+     * rationale.
+     */
+    private void tryReduceLevel() {
+        Index h, d, e;
+        if ((h = head) != null && h.right == null && (d = h.down) != null && d.right == null && (e = d.down) != null && e.right == null && HEAD
+                .compareAndSet(this, h, d) && h.right != null) {
+            HEAD.compareAndSet(this, d, h); // try to backout
+        }
+    }
+
+    /**
+     * Gets first valid node, unlinking deleted nodes if encountered.
+     *
+     * @return first node or null if empty
+     */
+    private Node findFirst() {
+        Node b, n;
+        if ((b = baseHead()) != null) {
+            while ((n = b.next) != null) {
+                if (isDeleted(n)) {
+                    unlinkNode(b, n);
+                } else {
+                    return n;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Specialized version of find to get last valid node.
+     *
+     * @return last node or null if empty
+     */
+    private Node findLast() {
+        outer: for (;;) {
+            Index q;
+            Node b;
+            VarHandle.acquireFence();
+            if ((q = head) == null) break;
+            for (Index r, d;;) {
+                while ((r = q.right) != null) {
+                    Node p;
+                    if ((p = r.node) == null || isDeleted(p)) {
+                        RIGHT.compareAndSet(q, r, r.right);
+                    } else {
+                        q = r;
+                    }
+                }
+
+                if ((d = q.down) != null) {
+                    q = d;
+                } else {
+                    b = q.node;
+                    break;
+                }
+            }
+            if (b != null) {
+                for (;;) {
+                    Node n;
+                    if ((n = b.next) == null) {
+                        if (b instanceof Marker) {
+                            break outer;
+                        } else {
+                            return b;
+                        }
+                    } else if (n instanceof Marker) {
+                        break;
+                    } else if (isDeleted(n)) {
+                        unlinkNode(b, n);
+                    } else {
+                        b = n;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Utility for ceiling, floor, lower, higher methods.
+     *
+     * @param key the key
+     * @param rel the relation -- OR'ed combination of EQ, LT, GT
+     * @return nearest node fitting relation, or null if no such
+     */
+    private Node findNear(char key, int rel, CharComparator cmp) {
+        Node result;
+        outer: for (Node b;;) {
+            if ((b = findPredecessor(key, cmp)) == null) {
+                result = null;
+                break; // empty
+            }
+            for (;;) {
+                Node n;
+                int c;
+                if ((n = b.next) == null) {
+                    result = ((rel & LT) != 0 && !(b instanceof Marker)) ? b : null;
+                    break outer;
+                } else if (n instanceof Marker) {
+                    break;
+                } else if (isDeleted(n)) {
+                    unlinkNode(b, n);
+                } else if (((c = cmp.compare(key, n.key)) == 0 && (rel & EQ) != 0) || (c < 0 && (rel & LT) == 0)) {
+                    result = n;
+                    break outer;
+                } else if (c <= 0 && (rel & LT) != 0) {
+                    result = !(b instanceof Marker) ? b : null;
+                    break outer;
+                } else {
+                    b = n;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the key of nearest node, or throws if no such.
+     *
+     * @param key the key
+     * @param rel the relation -- OR'ed combination of EQ, LT, GT
+     * @return nearest key fitting relation
+     */
+    private char findNearKey(char key, int rel) {
+        Node n = findNear(key, rel, comparator);
+        if (n == null) {
+            throw new NoSuchElementException();
+        }
+        return n.key;
+    }
+
+    /**
+     * Main insertion method. Adds element if not present.
+     *
+     * @param key the element
+     * @return {@code true} if this set did not already contain the element
+     */
+    private boolean doAdd(char key) {
+        CharComparator cmp = comparator;
+        for (;;) {
+            Index h;
+            Node b;
+            VarHandle.acquireFence();
+            int levels = 0; // number of levels descended
+            if ((h = head) == null) { // try to initialize
+                Node base = new Marker(null);
+                h = new Index(base, null, null);
+                b = (HEAD.compareAndSet(this, null, h)) ? base : null;
+            } else {
+                for (Index q = h, r, d;;) { // count while descending
+                    while ((r = q.right) != null) {
+                        Node p;
+                        if ((p = r.node) == null || isDeleted(p)) {
+                            RIGHT.compareAndSet(q, r, r.right);
+                        } else if (cmp.compare(key, p.key) > 0) {
+                            q = r;
+                        } else {
+                            break;
+                        }
+                    }
+                    if ((d = q.down) != null) {
+                        ++levels;
+                        q = d;
+                    } else {
+                        b = q.node;
+                        break;
+                    }
+                }
+            }
+            if (b != null) {
+                Node z = null; // new node, if inserted
+                for (;;) { // find insertion point
+                    Node n, p;
+                    int c;
+                    if ((n = b.next) == null) {
+                        c = -1;
+                    } else if (n instanceof Marker) {
+                        break; // can't append; restart
+                    } else if (isDeleted(n)) {
+                        unlinkNode(b, n);
+                        c = 1;
+                    } else if ((c = cmp.compare(key, n.key)) > 0) {
+                        b = n;
+                    } else if (c == 0) {
+                        return false;
+                    }
+
+                    if (c < 0 && NEXT.compareAndSet(b, n, p = new Node(key, n))) {
+                        z = p;
+                        break;
+                    }
+                }
+
+                if (z != null) {
+                    int lr = ThreadLocalRandom.current().nextInt();
+                    if ((lr & 0x3) == 0) { // add indices with 1/4 prob
+                        int hr = ThreadLocalRandom.current().nextInt();
+                        long rnd = ((long) hr << 32) | (lr & 0xffffffffL);
+                        int skips = levels; // levels to descend before add
+                        Index x = null;
+                        for (;;) { // create at most 62 indices
+                            x = new Index(z, x, null);
+                            if (rnd >= 0L || --skips < 0) {
+                                break;
+                            } else {
+                                rnd <<= 1;
+                            }
+                        }
+                        if (addIndices(h, skips, x, cmp) && skips < 0 && head == h) {
+                            // try to add new level
+                            Index hx = new Index(z, x, null);
+                            Index nh = new Index(h.node, h, hx);
+                            HEAD.compareAndSet(this, h, nh);
+                        }
+                        if (isDeleted(z)) {
+                            // deleted while adding indices
+                            findPredecessor(key, cmp); // clean
+                        }
+                    }
+                    addCount(1L);
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Main deletion method. Locates node, splices a deletion marker after it, unlinks it from
+     * predecessor, removes associated index nodes, and possibly reduces head index level.
+     *
+     * @param key the element
+     * @return {@code true} if this set contained the element
+     */
+    private boolean doRemove(char key) {
+        CharComparator cmp = comparator;
+        boolean result = false;
+        Node b;
+        outer: while ((b = findPredecessor(key, cmp)) != null && !result) {
+            for (;;) {
+                Node n, f;
+                int c;
+                if ((n = b.next) == null) {
+                    break outer;
+                } else if (n instanceof Marker) {
+                    break;
+                } else if ((f = n.next) instanceof Marker) {
+                    unlinkNode(b, n);
+                } else if ((c = cmp.compare(key, n.key)) > 0) {
+                    b = n;
+                } else if (c < 0) {
+                    break outer;
+                } else if (delete(n, f)) {
+                    result = true;
+                    unlinkNode(b, n);
+                    break; // loop to clean up
+                }
+            }
+        }
+        if (result) {
+            tryReduceLevel();
+            addCount(-1L);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(Character e) {
+        return add((char) e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(char value) {
+        return doAdd(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object o) {
+        return remove((char) o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(char value) {
+        return doRemove(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return contains((char) o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(char value) {
+        return findNode(value) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The structure is traversed without locking, so the result is a weakly consistent estimate
+     * while the other threads are updating.
+     */
+    @Override
+    public MemoryStats footprint() {
+        long elements = 0, nodes = 0, indexes = 0, levels = 0;
+        VarHandle.acquireFence();
+        for (Index q = head; q != null; q = q.down) {
+            levels++;
+            for (Index r = q.right; r != null; r = r.right) {
+                indexes++;
+            }
+        }
+        Node b = baseHead();
+        for (Node n = b == null ? null : b.next; n != null; n = n.next) {
+            nodes++;
+            if (!(n instanceof Marker) && !isDeleted(n)) elements++;
+        }
+        if (b != null) nodes++;
+
+        long retained = MemoryStats.sizeOfObject(3 * MemoryStats.REFERENCE);
+        if (adder != null) retained += MemoryStats.sizeOfObject(MemoryStats.REFERENCE + 8 + 4);
+        retained += nodes * MemoryStats.sizeOfObject(Character.BYTES + MemoryStats.REFERENCE);
+        retained += (levels + indexes) * MemoryStats.sizeOfObject(3 * MemoryStats.REFERENCE);
+        return MemoryStats.ofLinked(elements, nodes, indexes, retained);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        long c;
+        return ((baseHead() == null) ? 0 : ((c = getAdderCount()) >= Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) c);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return findFirst() == null;
+    }
+
+    /**
+     * Removes all of the elements from this set.
+     */
+    @Override
+    public void clear() {
+        Index h, r, d;
+        Node b;
+        VarHandle.acquireFence();
+        while ((h = head) != null) {
+            if ((r = h.right) != null) // remove indices
+                RIGHT.compareAndSet(h, r, null);
+            else if ((d = h.down) != null) // remove levels
+                HEAD.compareAndSet(this, h, d);
+            else {
+                long count = 0L;
+                if ((b = h.node) != null) { // remove nodes
+                    Node n, f;
+                    while ((n = b.next) != null) {
+                        if (delete(n, f = n.next)) {
+                            --count;
+                            unlinkNode(b, n);
+                        } else if (f instanceof Marker) {
+                            unlinkNode(b, n);
+                        }
+                    }
+                }
+                if (count != 0L) {
+                    addCount(count);
+                } else {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Character> iterator() {
+        return new Itr(baseHead());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Character> descendingIterator() {
+        return descendingSet().iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachChar(IntConsumer action) {
+        Objects.requireNonNull(action);
+        Node b, n;
+        if ((b = baseHead()) != null) {
+            while ((n = b.next) != null) {
+                if (!(n instanceof Marker) && !isDeleted(n)) {
+                    action.accept(n.key);
+                }
+                b = n;
+            }
+        }
+    }
+
+    /**
+     * Compares the specified object with this set for equality. Returns {@code true} if the
+     * specified object is also a set, the two sets have the same size, and every member of the
+     * specified set is contained in this set (or equivalently, every member of this set is
+     * contained in the specified set). This definition ensures that the equals method works
+     * properly across different implementations of the set interface.
+     *
+     * @param o the object to be compared for equality with this set
+     * @return {@code true} if the specified object is equal to this set
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (!(o instanceof Set)) return false;
+        Collection<?> c = (Collection<?>) o;
+        try {
+            return containsAll(c) && c.containsAll(this);
+        } catch (ClassCastException | NullPointerException unused) {
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Comparator<? super Character> comparator() {
+        return comparator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char firstChar() {
+        Node n = findFirst();
+        if (n == null) {
+            throw new NoSuchElementException();
+        }
+        return n.key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char lastChar() {
+        Node n = findLast();
+        if (n == null) {
+            throw new NoSuchElementException();
+        }
+        return n.key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char lower(char e) {
+        return findNearKey(e, LT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char floor(char e) {
+        return findNearKey(e, LT | EQ);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char ceiling(char e) {
+        return findNearKey(e, GT | EQ);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char higher(char e) {
+        return findNearKey(e, GT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char pollFirstChar() {
+        Node b, n, f;
+        if ((b = baseHead()) != null) {
+            while ((n = b.next) != null) {
+                boolean deleted = delete(n, f = n.next);
+                if (deleted || f instanceof Marker) {
+                    char k = n.key;
+                    unlinkNode(b, n);
+                    if (deleted) {
+                        tryReduceLevel();
+                        findPredecessor(k, comparator); // clean index
+                        addCount(-1L);
+                        return k;
+                    }
+                }
+            }
+        }
+        throw new NoSuchElementException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char pollLastChar() {
+        outer: for (;;) {
+            Index q;
+            Node b;
+            VarHandle.acquireFence();
+            if ((q = head) == null) break;
+            for (;;) {
+                Index d, r;
+                Node p;
+                while ((r = q.right) != null) {
+                    if ((p = r.node) == null || isDeleted(p))
+                        RIGHT.compareAndSet(q, r, r.right);
+                    else if (p.next != null)
+                        q = r; // continue only if a successor
+                    else
+                        break;
+                }
+                if ((d = q.down) != null)
+                    q = d;
+                else {
+                    b = q.node;
+                    break;
+                }
+            }
+            if (b != null) {
+                for (;;) {
+                    Node n, f;
+                    if ((n = b.next) == null) {
+                        if (b instanceof Marker) // empty
+                            break outer;
+                        else
+                            break; // retry
+                    } else if (n instanceof Marker)
+                        break;
+                    else if ((f = n.next) instanceof Marker)
+                        unlinkNode(b, n);
+                    else if (f != null)
+                        b = n;
+                    else if (delete(n, null)) {
+                        char k = n.key;
+                        unlinkNode(b, n);
+                        tryReduceLevel();
+                        findPredecessor(k, comparator); // clean index
+                        addCount(-1L);
+                        return k;
+                    }
+                }
+            }
+        }
+        throw new NoSuchElementException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConcurrentNavigableCharSet descendingSet() {
+        return new SubSet(this, false, (char) 0, false, false, (char) 0, false, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConcurrentNavigableCharSet subSet(char fromElement, boolean fromInclusive, char toElement, boolean toInclusive) {
+        return new SubSet(this, true, fromElement, fromInclusive, true, toElement, toInclusive, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConcurrentNavigableCharSet headSet(char toElement, boolean inclusive) {
+        return new SubSet(this, false, (char) 0, false, true, toElement, inclusive, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConcurrentNavigableCharSet tailSet(char fromElement, boolean inclusive) {
+        return new SubSet(this, true, fromElement, inclusive, false, (char) 0, false, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConcurrentNavigableCharSet subSet(char fromElement, char toElement) {
+        return subSet(fromElement, true, toElement, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConcurrentNavigableCharSet headSet(char toElement) {
+        return headSet(toElement, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConcurrentNavigableCharSet tailSet(char fromElement) {
+        return tailSet(fromElement, true);
+    }
+
+    /**
+     * Ascending iterator over the entire set.
+     */
+    private class Itr implements Iterator<Character> {
+
+        /** the last node returned by next() */
+        private Node lastReturned;
+
+        /** the next node to return from next(); */
+        private Node next;
+
+        /**
+         * @param base the header node or null if uninitialized
+         */
+        private Itr(Node base) {
+            advance(base);
+            lastReturned = null;
+        }
+
+        /**
+         * Advances next to higher live node.
+         *
+         * @param base the node to start from
+         */
+        private void advance(Node base) {
+            Node node = null;
+            if ((lastReturned = base) != null) {
+                while ((node = base.next) != null && (node instanceof Marker || isDeleted(node))) {
+                    base = node;
+                }
+            }
+            next = node;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Character next() {
+            Node node;
+            if ((node = next) == null) {
+                throw new NoSuchElementException();
+            }
+            advance(node);
+            return node.key;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void remove() {
+            Node node;
+            if ((node = lastReturned) == null) {
+                throw new IllegalStateException();
+            }
+            doRemove(node.key);
+            lastReturned = null;
+        }
+    }
+
+    /**
+     * The bounded and/or reversed view of the set.
+     */
+    private static final class SubSet extends AbstractSet<Character> implements ConcurrentNavigableCharSet {
+
+        /** Underlying set */
+        private final SkipListCharSet m;
+
+        /** lower bound key, meaningful only if loBounded */
+        private final char lo;
+
+        /** upper bound key, meaningful only if hiBounded */
+        private final char hi;
+
+        /** true if the range has the lower bound */
+        private final boolean loBounded;
+
+        /** true if the range has the upper bound */
+        private final boolean hiBounded;
+
+        /** inclusion flag for lo */
+        private final boolean loInclusive;
+
+        /** inclusion flag for hi */
+        private final boolean hiInclusive;
+
+        /** direction */
+        private final boolean isDescending;
+
+        /**
+         * Creates a new subset, initializing all fields.
+         */
+        private SubSet(SkipListCharSet set, boolean fromBounded, char fromKey, boolean fromInclusive, boolean toBounded, char toKey, boolean toInclusive, boolean isDescending) {
+            if (fromBounded && toBounded && set.comparator.compare(fromKey, toKey) > 0) {
+                throw new IllegalArgumentException("inconsistent range");
+            }
+            this.m = set;
+            this.lo = fromKey;
+            this.hi = toKey;
+            this.loBounded = fromBounded;
+            this.hiBounded = toBounded;
+            this.loInclusive = fromInclusive;
+            this.hiInclusive = toInclusive;
+            this.isDescending = isDescending;
+        }
+
+        private boolean tooLow(char key, CharComparator cmp) {
+            int c;
+            return (loBounded && ((c = cmp.compare(key, lo)) < 0 || (c == 0 && !loInclusive)));
+        }
+
+        private boolean tooHigh(char key, CharComparator cmp) {
+            int c;
+            return (hiBounded && ((c = cmp.compare(key, hi)) > 0 || (c == 0 && !hiInclusive)));
+        }
+
+        private boolean inBounds(char key, CharComparator cmp) {
+            return !tooLow(key, cmp) && !tooHigh(key, cmp);
+        }
+
+        /**
+         * Returns true if node key is less than upper bound of range.
+         */
+        private boolean isBeforeEnd(Node n, CharComparator cmp) {
+            if (n == null) return false;
+            if (!hiBounded) return true;
+            if (n instanceof Marker) // pass by markers and headers
+                return true;
+            int c = cmp.compare(n.key, hi);
+            return c < 0 || (c == 0 && hiInclusive);
+        }
+
+        /**
+         * Returns lowest node. This node might not be in range, so most usages need to check
+         * bounds.
+         */
+        private Node loNode(CharComparator cmp) {
+            if (!loBounded)
+                return m.findFirst();
+            else if (loInclusive)
+                return m.findNear(lo, GT | EQ, cmp);
+            else
+                return m.findNear(lo, GT, cmp);
+        }
+
+        /**
+         * Returns highest node. This node might not be in range, so most usages need to check
+         * bounds.
+         */
+        private Node hiNode(CharComparator cmp) {
+            if (!hiBounded)
+                return m.findLast();
+            else if (hiInclusive)
+                return m.findNear(hi, LT | EQ, cmp);
+            else
+                return m.findNear(hi, LT, cmp);
+        }
+
+        /**
+         * Returns lowest absolute key (ignoring directionality).
+         */
+        private char lowestKey() {
+            CharComparator cmp = m.comparator;
+            Node n = loNode(cmp);
+            if (isBeforeEnd(n, cmp))
+                return n.key;
+            else
+                throw new NoSuchElementException();
+        }
+
+        /**
+         * Returns highest absolute key (ignoring directionality).
+         */
+        private char highestKey() {
+            CharComparator cmp = m.comparator;
+            Node n = hiNode(cmp);
+            if (n != null && inBounds(n.key, cmp)) {
+                return n.key;
+            }
+            throw new NoSuchElementException();
+        }
+
+        /**
+         * Removes the lowest or highest absolute key.
+         */
+        private char removeEdge(boolean highest) {
+            CharComparator cmp = m.comparator;
+            for (;;) {
+                Node n;
+                char k;
+                if ((n = highest ? hiNode(cmp) : loNode(cmp)) == null || !inBounds(k = n.key, cmp)) {
+                    throw new NoSuchElementException();
+                } else if (m.doRemove(k)) {
+                    return k;
+                }
+            }
+        }
+
+        /**
+         * Subset version of findNear.
+         */
+        private char getNearKey(char key, int rel) {
+            CharComparator cmp = m.comparator;
+            if (isDescending) { // adjust relation for direction
+                if ((rel & LT) == 0)
+                    rel |= LT;
+                else
+                    rel &= ~LT;
+            }
+            if (tooLow(key, cmp)) {
+                if ((rel & LT) == 0) {
+                    Node n = loNode(cmp);
+                    if (isBeforeEnd(n, cmp)) return n.key;
+                }
+                throw new NoSuchElementException();
+            }
+            if (tooHigh(key, cmp)) {
+                if ((rel & LT) != 0) {
+                    Node n = hiNode(cmp);
+                    if (n != null && inBounds(n.key, cmp)) return n.key;
+                }
+                throw new NoSuchElementException();
+            }
+            Node n = m.findNear(key, rel, cmp);
+            if (n == null || !inBounds(n.key, cmp)) throw new NoSuchElementException();
+            return n.key;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean add(Character e) {
+            return add((char) e);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean add(char value) {
+            if (!inBounds(value, m.comparator)) throw new IllegalArgumentException("key out of range");
+            return m.doAdd(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean remove(Object o) {
+            return remove((char) o);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean remove(char value) {
+            return inBounds(value, m.comparator) && m.doRemove(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean contains(Object o) {
+            return contains((char) o);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean contains(char value) {
+            return inBounds(value, m.comparator) && m.findNode(value) != null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public MemoryStats footprint() {
+            return m.footprint();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            CharComparator cmp = m.comparator;
+            long count = 0;
+            for (Node n = loNode(cmp); isBeforeEnd(n, cmp); n = n.next) {
+                if (!(n instanceof Marker) && !isDeleted(n)) ++count;
+            }
+            return count >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) count;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isEmpty() {
+            CharComparator cmp = m.comparator;
+            return !isBeforeEnd(loNode(cmp), cmp);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            CharComparator cmp = m.comparator;
+            for (Node n = loNode(cmp); isBeforeEnd(n, cmp); n = n.next) {
+                if (!(n instanceof Marker) && !isDeleted(n)) m.doRemove(n.key);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            if (!(o instanceof Set)) return false;
+            Collection<?> c = (Collection<?>) o;
+            try {
+                return containsAll(c) && c.containsAll(this);
+            } catch (ClassCastException | NullPointerException unused) {
+                return false;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Comparator<? super Character> comparator() {
+            CharComparator cmp = m.comparator;
+            return isDescending ? Collections.reverseOrder(cmp) : cmp;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char firstChar() {
+            return isDescending ? highestKey() : lowestKey();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char lastChar() {
+            return isDescending ? lowestKey() : highestKey();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char lower(char e) {
+            return getNearKey(e, LT);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char floor(char e) {
+            return getNearKey(e, LT | EQ);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char ceiling(char e) {
+            return getNearKey(e, GT | EQ);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char higher(char e) {
+            return getNearKey(e, GT);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char pollFirstChar() {
+            return removeEdge(isDescending);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char pollLastChar() {
+            return removeEdge(!isDescending);
+        }
+
+        /**
+         * Utility to create subsets, where given bounds override unbounded ones and/or are checked
+         * against bounded ones.
+         */
+        private SubSet newSubSet(boolean fromBounded, char fromKey, boolean fromInclusive, boolean toBounded, char toKey, boolean toInclusive) {
+            CharComparator cmp = m.comparator;
+            if (isDescending) { // flip senses
+                boolean tb = fromBounded;
+                fromBounded = toBounded;
+                toBounded = tb;
+                char tk = fromKey;
+                fromKey = toKey;
+                toKey = tk;
+                boolean ti = fromInclusive;
+                fromInclusive = toInclusive;
+                toInclusive = ti;
+            }
+            if (loBounded) {
+                if (!fromBounded) {
+                    fromBounded = true;
+                    fromKey = lo;
+                    fromInclusive = loInclusive;
+                } else {
+                    int c = cmp.compare(fromKey, lo);
+                    if (c < 0 || (c == 0 && !loInclusive && fromInclusive)) throw new IllegalArgumentException("key out of range");
+                }
+            }
+            if (hiBounded) {
+                if (!toBounded) {
+                    toBounded = true;
+                    toKey = hi;
+                    toInclusive = hiInclusive;
+                } else {
+                    int c = cmp.compare(toKey, hi);
+                    if (c > 0 || (c == 0 && !hiInclusive && toInclusive)) throw new IllegalArgumentException("key out of range");
+                }
+            }
+            return new SubSet(m, fromBounded, fromKey, fromInclusive, toBounded, toKey, toInclusive, isDescending);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ConcurrentNavigableCharSet descendingSet() {
+            return new SubSet(m, loBounded, lo, loInclusive, hiBounded, hi, hiInclusive, !isDescending);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ConcurrentNavigableCharSet subSet(char fromElement, boolean fromInclusive, char toElement, boolean toInclusive) {
+            return newSubSet(true, fromElement, fromInclusive, true, toElement, toInclusive);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ConcurrentNavigableCharSet headSet(char toElement, boolean inclusive) {
+            return newSubSet(false, (char) 0, false, true, toElement, inclusive);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ConcurrentNavigableCharSet tailSet(char fromElement, boolean inclusive) {
+            return newSubSet(true, fromElement, inclusive, false, (char) 0, false);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ConcurrentNavigableCharSet subSet(char fromElement, char toElement) {
+            return subSet(fromElement, true, toElement, false);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ConcurrentNavigableCharSet headSet(char toElement) {
+            return headSet(toElement, false);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ConcurrentNavigableCharSet tailSet(char fromElement) {
+            return tailSet(fromElement, true);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<Character> iterator() {
+            return new SubSetIterator();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<Character> descendingIterator() {
+            return descendingSet().iterator();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void forEachChar(IntConsumer action) {
+            Objects.requireNonNull(action);
+            if (isDescending) {
+                ConcurrentNavigableCharSet.super.forEachChar(action);
+            } else {
+                CharComparator cmp = m.comparator;
+                for (Node n = loNode(cmp); isBeforeEnd(n, cmp); n = n.next) {
+                    if (!(n instanceof Marker) && !isDeleted(n)) action.accept(n.key);
+                }
+            }
+        }
+
+        /**
+         * Iterator over the subset. The descending iterator finds each node from the index levels.
+         */
+        private final class SubSetIterator implements Iterator<Character> {
+
+            /** the last node returned by next() */
+            private Node lastReturned;
+
+            /** the next node to return from next(); */
+            private Node next;
+
+            private SubSetIterator() {
+                VarHandle.acquireFence();
+                CharComparator cmp = m.comparator;
+                next = isDescending ? hiNode(cmp) : loNode(cmp);
+                if (next != null && !inBounds(next.key, cmp)) next = null;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Character next() {
+                Node node = next;
+                if (node == null) throw new NoSuchElementException();
+                lastReturned = node;
+                if (isDescending)
+                    descend();
+                else
+                    ascend();
+                return node.key;
+            }
+
+            private void ascend() {
+                CharComparator cmp = m.comparator;
+                for (;;) {
+                    next = next.next;
+                    if (next == null) break;
+                    if (!(next instanceof Marker) && !isDeleted(next)) {
+                        if (tooHigh(next.key, cmp)) next = null;
+                        break;
+                    }
+                }
+            }
+
+            private void descend() {
+                CharComparator cmp = m.comparator;
+                next = m.findNear(lastReturned.key, LT, cmp);
+                if (next != null && tooLow(next.key, cmp)) next = null;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void remove() {
+                Node l = lastReturned;
+                if (l == null) throw new IllegalStateException();
+                m.doRemove(l.key);
+                lastReturned = null;
+            }
+        }
+    }
+
+    /**
+     * Nodes hold elements, and are singly linked in sorted order, possibly with some intervening
+     * marker nodes. The list is headed by a header node accessible as head.node. Headers and marker
+     * nodes are {@link Marker} instances, so every primitive value can be used as an element. A
+     * node is deleted when a marker is spliced into its next link, which is never undone.
+     */
+    private static class Node {
+
+        /** The element. */
+        private final char key;
+
+        /** The next node. */
+        private volatile Node next;
+
+        private Node(char key, Node next) {
+            this.key = key;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Header and deletion marker node. It is distinguished from the data node by its type instead
+     * of the reserved key value.
+     */
+    private static final class Marker extends Node {
+
+        private Marker(Node next) {
+            super((char) 0, next);
+        }
+    }
+
+    /**
+     * Index nodes represent the levels of the skip list.
+     */
+    private static final class Index {
+
+        private final Node node;
+
+        private final Index down;
+
+        private volatile Index right;
+
+        private Index(Node node, Index down, Index right) {
+            this.node = node;
+            this.down = down;
+            this.right = right;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera;
+
+/**
+ * The estimated memory footprint of the collection. It is computed from the structure counts (the
+ * number of elements, the allocated slots, nodes and indexes), the collection is never walked by
+ * reflection. The retained size includes the collection and its internal arrays and nodes, but
+ * excludes the objects which are stored as values.
+ * <p>
+ * The estimation assumes the 64-bit HotSpot VM with the default settings, that is the 12 bytes
+ * object header, the 16 bytes array header, the 8 bytes alignment and the compressed references
+ * unless the maximum heap size is 32GB or more.
+ */
+public final class MemoryStats {
+
+    /** The estimated size of object header. */
+    public static final int HEADER = 12;
+
+    /** The estimated size of array header. */
+    public static final int ARRAY_HEADER = 16;
+
+    /** The estimated size of reference. */
+    public static final int REFERENCE = Runtime.getRuntime().maxMemory() < 32L << 30 ? 4 : 8;
+
+    /** The number of stored elements. */
+    private final long elements;
+
+    /** The number of allocated element slots. */
+    private final long capacity;
+
+    /** The number of nodes. */
+    private final long nodes;
+
+    /** The number of index entries above the nodes. */
+    private final long indexes;
+
+    /** The estimated bytes of unused slots. */
+    private final long slackBytes;
+
+    /** The estimated retained bytes. */
+    private final long retainedBytes;
+
+    /**
+     * Hide constructor.
+     */
+    private MemoryStats(long elements, long capacity, long nodes, long indexes, long slackBytes, long retainedBytes) {
+        this.elements = elements;
+        this.capacity = capacity;
+        this.nodes = nodes;
+        this.indexes = indexes;
+        this.slackBytes = slackBytes;
+        this.retainedBytes = retainedBytes;
+    }
+
+    /**
+     * Get the number of stored elements.
+     * 
+     * @return The number of elements.
+     */
+    public long elements() {
+        return elements;
+    }
+
+    /**
+     * Get the number of allocated element slots. The linked structure allocates one slot per node.
+     * 
+     * @return The number of slots.
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Get the number of allocated but unused element slots.
+     * 
+     * @return The number of unused slots.
+     */
+    public long slackCapacity() {
+        return capacity - elements;
+    }
+
+    /**
+     * Get the number of nodes including the header and the deletion markers, 0 if the collection
+     * is backed by array.
+     * 
+     * @return The number of nodes.
+     */
+    public long nodes() {
+        return nodes;
+    }
+
+    /**
+     * Get the number of index entries above the nodes, 0 if the collection is not indexed.
+     * 
+     * @return The number of index entries.
+     */
+    public long indexes() {
+        return indexes;
+    }
+
+    /**
+     * Get the average level of the elements. The element without index is level 1.
+     * 
+     * @return The average level, 0 if the collection is not linked or empty.
+     */
+    public double averageLevel() {
+        return nodes == 0 || elements == 0 ? 0 : 1 + (double) indexes / elements;
+    }
+
+    /**
+     * Get the estimated bytes of unused slots.
+     * 
+     * @return The slack bytes.
+     */
+    public long slackBytes() {
+        return slackBytes;
+    }
+
+    /**
+     * Get the estimated retained bytes.
+     * 
+     * @return The retained bytes.
+     */
+    public long retainedBytes() {
+        return retainedBytes;
+    }
+
+    /**
+     * Get the estimated retained bytes per element.
+     * 
+     * @return The bytes per element, {@link Double#NaN} if the collection is empty.
+     */
+    public double bytesPerElement() {
+        return elements == 0 ? Double.NaN : (double) retainedBytes / elements;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "MemoryStats[Elements: " + elements + " Capacity: " + capacity + " Nodes: " + nodes + " Indexes: " + indexes + " Slack: " + slackBytes + "B Retained: " + retainedBytes + "B]";
+    }
+
+    /**
+     * Estimate the size of object.
+     * 
+     * @param fieldBytes The total bytes of instance fields.
+     * @return The aligned size.
+     */
+    public static long sizeOfObject(long fieldBytes) {
+        return align(HEADER + fieldBytes);
+    }
+
+    /**
+     * Estimate the size of array.
+     * 
+     * @param length The array length.
+     * @param elementBytes The bytes of each element.
+     * @return The aligned size.
+     */
+    public static long sizeOfArray(long length, int elementBytes) {
+        return align(ARRAY_HEADER + length * elementBytes);
+    }
+
+    /**
+     * Align the size to 8 bytes.
+     * 
+     * @param size A raw size.
+     * @return The aligned size.
+     */
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /**
+     * Create the statistics of the array backed collection.
+     * 
+     * @param elements The number of stored elements.
+     * @param capacity The number of allocated slots.
+     * @param elementBytes The bytes of each slot.
+     * @param retainedBytes The estimated retained bytes.
+     * @return The statistics.
+     */
+    public static MemoryStats ofArray(long elements, long capacity, int elementBytes, long retainedBytes) {
+        return new MemoryStats(elements, capacity, 0, 0, (capacity - elements) * elementBytes, retainedBytes);
+    }
+
+    /**
+     * Create the statistics of the linked collection.
+     * 
+     * @param elements The number of stored elements.
+     * @param nodes The number of nodes including the header and the markers.
+     * @param indexes The number of index entries.
+     * @param retainedBytes The estimated retained bytes.
+     * @return The statistics.
+     */
+    public static MemoryStats ofLinked(long elements, long nodes, long indexes, long retainedBytes) {
+        return new MemoryStats(elements, elements, nodes, indexes, 0, retainedBytes);
+    }
+}
\ No newline at end of file
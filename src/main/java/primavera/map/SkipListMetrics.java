@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The internal metrics of the skip list based map. The counters are recorded only if the system
+ * property {@code primavera.metrics} is true at the class initialization. Otherwise the recording
+ * code is eliminated by the JIT compiler because {@link #ENABLED} is constant, so the disabled
+ * metrics cost nothing except the index level histogram which is computed on demand.
+ * <p>
+ * The operation which hops more than {@code primavera.metrics.slowHops} (default 512) or restarts
+ * more than {@code primavera.metrics.slowRestarts} (default 8) is reported as the JFR event
+ * {@code primavera.SlowSkipListOperation}.
+ */
+public final class SkipListMetrics {
+
+    /** The flag whether the metrics are recorded or not. */
+    public static final boolean ENABLED = Boolean.getBoolean("primavera.metrics");
+
+    /** The threshold of hops to report the slow operation. */
+    private static final int SLOW_HOPS = Integer.getInteger("primavera.metrics.slowHops", 512);
+
+    /** The threshold of restarts to report the slow operation. */
+    private static final int SLOW_RESTARTS = Integer.getInteger("primavera.metrics.slowRestarts", 8);
+
+    /** The number of lookups. */
+    private final LongAdder lookups = new LongAdder();
+
+    /** The total hops of lookups. */
+    private final LongAdder hops = new LongAdder();
+
+    /** The maximum hops of lookup. */
+    private final LongAccumulator maxHops = new LongAccumulator(Math::max, 0);
+
+    /** The number of restarts in insertion. */
+    private final LongAdder putRestarts = new LongAdder();
+
+    /** The number of restarts in deletion. */
+    private final LongAdder removeRestarts = new LongAdder();
+
+    /** The number of failed CAS to link or unlink the node. */
+    private final LongAdder casFailures = new LongAdder();
+
+    /** The number of head level reductions. */
+    private final LongAdder levelReductions = new LongAdder();
+
+    /** The number of head level reductions which are backed out. */
+    private final LongAdder levelBackouts = new LongAdder();
+
+    /** The histogram calculator. */
+    private final Supplier<long[]> levels;
+
+    /**
+     * @param levels The index level histogram calculator.
+     */
+    SkipListMetrics(Supplier<long[]> levels) {
+        this.levels = levels;
+    }
+
+    /**
+     * Record the lookup.
+     * 
+     * @param hops The number of traversed links.
+     */
+    void lookup(int hops) {
+        lookups.increment();
+        this.hops.add(hops);
+        maxHops.accumulate(hops);
+        if (SLOW_HOPS <= hops) report("get", hops, 0, 0);
+    }
+
+    /**
+     * Record the insertion.
+     * 
+     * @param hops The number of traversed links in the last attempt.
+     * @param restarts The number of restarts.
+     * @param casFailures The number of failed CAS.
+     */
+    void put(int hops, int restarts, int casFailures) {
+        lookups.increment();
+        this.hops.add(hops);
+        maxHops.accumulate(hops);
+        putRestarts.add(restarts);
+        this.casFailures.add(casFailures);
+        if (SLOW_HOPS <= hops || SLOW_RESTARTS <= restarts) report("put", hops, restarts, casFailures);
+    }
+
+    /**
+     * Record the deletion.
+     * 
+     * @param hops The number of traversed links in the last attempt.
+     * @param restarts The number of restarts.
+     * @param casFailures The number of failed CAS.
+     */
+    void remove(int hops, int restarts, int casFailures) {
+        restarts = Math.max(0, restarts);
+        lookups.increment();
+        this.hops.add(hops);
+        maxHops.accumulate(hops);
+        removeRestarts.add(restarts);
+        this.casFailures.add(casFailures);
+        if (SLOW_HOPS <= hops || SLOW_RESTARTS <= restarts) report("remove", hops, restarts, casFailures);
+    }
+
+    /**
+     * Record the head level reduction.
+     * 
+     * @param backout Whether the reduction is backed out or not.
+     */
+    void reduceLevel(boolean backout) {
+        levelReductions.increment();
+        if (backout) levelBackouts.increment();
+    }
+
+    /**
+     * Report the slow operation as JFR event.
+     */
+    private static void report(String operation, int hops, int restarts, int casFailures) {
+        SlowOperation event = new SlowOperation();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.hops = hops;
+            event.restarts = restarts;
+            event.casFailures = casFailures;
+            event.commit();
+        }
+    }
+
+    /**
+     * Get the number of lookups (including the lookup for insertion and deletion).
+     * 
+     * @return The number of lookups.
+     */
+    public long lookups() {
+        return lookups.sum();
+    }
+
+    /**
+     * Get the average number of traversed links per lookup.
+     * 
+     * @return The average hops, 0 if there is no lookup.
+     */
+    public double averageHops() {
+        long count = lookups.sum();
+        return count == 0 ? 0 : (double) hops.sum() / count;
+    }
+
+    /**
+     * Get the maximum number of traversed links per lookup.
+     * 
+     * @return The maximum hops.
+     */
+    public long maxHops() {
+        return maxHops.get();
+    }
+
+    /**
+     * Get the number of restarts in insertion.
+     * 
+     * @return The number of restarts.
+     */
+    public long putRestarts() {
+        return putRestarts.sum();
+    }
+
+    /**
+     * Get the number of restarts in deletion.
+     * 
+     * @return The number of restarts.
+     */
+    public long removeRestarts() {
+        return removeRestarts.sum();
+    }
+
+    /**
+     * Get the number of failed CAS to link the new node or to delete the node.
+     * 
+     * @return The number of failures.
+     */
+    public long casFailures() {
+        return casFailures.sum();
+    }
+
+    /**
+     * Get the number of head level reductions.
+     * 
+     * @return The number of reductions.
+     */
+    public long levelReductions() {
+        return levelReductions.sum();
+    }
+
+    /**
+     * Get the number of head level reductions which are backed out by the concurrent insertion.
+     * 
+     * @return The number of backouts.
+     */
+    public long levelBackouts() {
+        return levelBackouts.sum();
+    }
+
+    /**
+     * Compute the current index level histogram. The i-th element is the number of entries whose
+     * level is i + 1, that is the entry at the first element has no index. This is computed by
+     * traversing the indexes even if the metrics are disabled.
+     * 
+     * @return The histogram.
+     */
+    public long[] levels() {
+        return levels.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "SkipListMetrics[Lookups: " + lookups() + " AverageHops: " + averageHops() + " MaxHops: " + maxHops() + " PutRestarts: " + putRestarts() + " RemoveRestarts: " + removeRestarts() + " CASFailures: " + casFailures() + " LevelReductions: " + levelReductions() + " LevelBackouts: " + levelBackouts() + " Levels: " + Arrays.toString(levels()) + "]";
+    }
+
+    /**
+     * The JFR event of the pathological operation.
+     */
+    @Name("primavera.SlowSkipListOperation")
+    @Label("Slow Skip List Operation")
+    @Category("Primavera")
+    @Description("The skip list operation which traverses too many links or restarts too many times.")
+    static class SlowOperation extends Event {
+
+        @Label("Operation")
+        String operation;
+
+        @Label("Hops")
+        int hops;
+
+        @Label("Restarts")
+        int restarts;
+
+        @Label("CAS Failures")
+        int casFailures;
+    }
+}
\ No newline at end of file
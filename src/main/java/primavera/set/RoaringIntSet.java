@@ -0,0 +1,2461 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.set;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+import primavera.MemoryStats;
+
+/**
+ * Compressed bitmap implementation of {@link NavigableIntSet} in the style of <a href=
+ * "https://roaringbitmap.org/">Roaring</a>. The 32-bit domain is split into the chunks of 65536
+ * values sharing the high 16 bits, and each non-empty chunk is held by the container which suits
+ * its density:
+ * <ul>
+ * <li>sorted array of the low 16 bits for up to 4096 elements (2 bytes per element)</li>
+ * <li>fixed bitmap of 1024 words for more elements (8 KB per chunk)</li>
+ * <li>run-length encoded ranges, created by {@link #optimize()} when it is smaller than both</li>
+ * </ul>
+ * Dense or clustered ids therefore cost a few bits each instead of the tens of bytes of the hash
+ * set or the skip list.
+ * <p>
+ * The set algebra ({@link #and(RoaringIntSet)}, {@link #or(RoaringIntSet)},
+ * {@link #andNot(RoaringIntSet)} and {@link #xor(RoaringIntSet)}) works in place on this set and
+ * reuses its containers wherever the result type allows; the {@code *Cardinality} variants compute
+ * the size of the result without building it. Run containers are expanded by the mutation and by
+ * the in-place algebra, call {@link #optimize()} again to compress the result.
+ * <p>
+ * This set is not thread-safe. The iterators are weakly consistent, they never throw
+ * {@link java.util.ConcurrentModificationException}.
+ */
+public final class RoaringIntSet extends AbstractSet<Integer> implements NavigableIntSet {
+
+    /** The maximum number of elements held by the array container. */
+    private static final int ARRAY_LIMIT = 4096;
+
+    /** The number of words in the bitmap container. */
+    private static final int WORDS = 1024;
+
+    /** The marker of no element. */
+    private static final long NONE = Long.MIN_VALUE;
+
+    /** The high 16 bits of each chunk, sign flipped so that the unsigned order equals int order. */
+    private char[] keys;
+
+    /** The container of each chunk. */
+    private Container[] containers;
+
+    /** The number of chunks. */
+    private int count;
+
+    /** The number of elements. */
+    private long size;
+
+    /**
+     * Constructs a new, empty set.
+     */
+    public RoaringIntSet() {
+        keys = new char[4];
+        containers = new Container[4];
+    }
+
+    /**
+     * Constructs a new set containing the same elements as the specified set.
+     *
+     * @param set The set whose elements are to be placed into this set.
+     */
+    public RoaringIntSet(RoaringIntSet set) {
+        keys = Arrays.copyOf(set.keys, Math.max(4, set.count));
+        containers = new Container[keys.length];
+        for (int i = 0; i < set.count; i++) {
+            containers[i] = set.containers[i].copy();
+        }
+        count = set.count;
+        size = set.size;
+    }
+
+    /**
+     * Constructs a new set containing the specified elements.
+     *
+     * @param values The elements to be placed into this set.
+     */
+    public RoaringIntSet(int... values) {
+        this();
+        for (int value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * Compute the chunk key of the specified value.
+     *
+     * @param value A target value.
+     * @return A chunk key.
+     */
+    private static char high(int value) {
+        return (char) ((value >>> 16) ^ 0x8000);
+    }
+
+    /**
+     * Compute the position in chunk of the specified value.
+     *
+     * @param value A target value.
+     * @return A position in chunk.
+     */
+    private static int low(int value) {
+        return value & 0xFFFF;
+    }
+
+    /**
+     * Restore the value from the chunk key and the position in chunk.
+     *
+     * @param high A chunk key.
+     * @param low A position in chunk.
+     * @return A value.
+     */
+    private static int join(char high, int low) {
+        return ((high ^ 0x8000) << 16) | low;
+    }
+
+    /**
+     * Find the index of the specified chunk.
+     *
+     * @param key A chunk key.
+     * @return An index if the chunk is found, otherwise {@code -(insertion point) - 1}.
+     */
+    private int indexOf(char key) {
+        int low = 0;
+        int high = count - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char k = keys[mid];
+
+            if (k < key) {
+                low = mid + 1;
+            } else if (key < k) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Make room for the specified number of chunks.
+     *
+     * @param capacity The required number of chunks.
+     */
+    private void ensureCapacity(int capacity) {
+        if (keys.length < capacity) {
+            int length = Math.max(capacity, keys.length + (keys.length >> 1));
+            keys = Arrays.copyOf(keys, length);
+            containers = Arrays.copyOf(containers, length);
+        }
+    }
+
+    /**
+     * Insert the new chunk at the specified index.
+     *
+     * @param index An insertion index.
+     * @param key A chunk key.
+     * @param container A chunk container.
+     */
+    private void insertChunk(int index, char key, Container container) {
+        ensureCapacity(count + 1);
+        System.arraycopy(keys, index, keys, index + 1, count - index);
+        System.arraycopy(containers, index, containers, index + 1, count - index);
+        keys[index] = key;
+        containers[index] = container;
+        count++;
+    }
+
+    /**
+     * Remove the chunk at the specified index.
+     *
+     * @param index A chunk index.
+     */
+    private void removeChunk(int index) {
+        System.arraycopy(keys, index + 1, keys, index, count - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, count - index - 1);
+        containers[--count] = null;
+    }
+
+    /**
+     * Truncate the chunks and recount the elements after the bulk operation.
+     *
+     * @param newCount The number of live chunks.
+     */
+    private void truncate(int newCount) {
+        Arrays.fill(containers, newCount, count, null);
+        count = newCount;
+
+        long size = 0;
+        for (int i = 0; i < newCount; i++) {
+            size += containers[i].cardinality();
+        }
+        this.size = size;
+    }
+
+    /**
+     * Find the least element greater than or equal to the specified value.
+     *
+     * @param value A target value, it may lie outside of the int range.
+     * @return The found element or {@link #NONE}.
+     */
+    private long ceil(long value) {
+        if (Integer.MAX_VALUE < value) {
+            return NONE;
+        }
+        int v = (int) Math.max(value, Integer.MIN_VALUE);
+        int index = indexOf(high(v));
+
+        if (0 <= index) {
+            int found = containers[index].ceiling(low(v));
+            if (found != -1) {
+                return join(keys[index], found);
+            }
+            index++;
+        } else {
+            index = -index - 1;
+        }
+        return index < count ? join(keys[index], containers[index].first()) : NONE;
+    }
+
+    /**
+     * Find the greatest element less than or equal to the specified value.
+     *
+     * @param value A target value, it may lie outside of the int range.
+     * @return The found element or {@link #NONE}.
+     */
+    private long floor(long value) {
+        if (value < Integer.MIN_VALUE) {
+            return NONE;
+        }
+        int v = (int) Math.min(value, Integer.MAX_VALUE);
+        int index = indexOf(high(v));
+
+        if (0 <= index) {
+            int found = containers[index].floor(low(v));
+            if (found != -1) {
+                return join(keys[index], found);
+            }
+            index--;
+        } else {
+            index = -index - 2;
+        }
+        return 0 <= index ? join(keys[index], containers[index].last()) : NONE;
+    }
+
+    /**
+     * Count the elements in the specified range.
+     *
+     * @param from The lowest value (inclusive).
+     * @param to The highest value (inclusive).
+     * @return The number of elements.
+     */
+    private long countRange(long from, long to) {
+        from = Math.max(from, Integer.MIN_VALUE);
+        to = Math.min(to, Integer.MAX_VALUE);
+        if (to < from) {
+            return 0;
+        }
+
+        char fromKey = high((int) from);
+        char toKey = high((int) to);
+        int index = indexOf(fromKey);
+        if (index < 0) index = -index - 1;
+
+        long sum = 0;
+        for (; index < count && keys[index] <= toKey; index++) {
+            char key = keys[index];
+            Container container = containers[index];
+
+            if (fromKey < key && key < toKey) {
+                sum += container.cardinality();
+            } else {
+                sum += container.count(key == fromKey ? low((int) from) : 0, key == toKey ? low((int) to) : 0xFFFF);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Unwrap the found element.
+     *
+     * @param value The found element or {@link #NONE}.
+     * @return The element.
+     * @throws NoSuchElementException If there is no element.
+     */
+    private static int element(long value) {
+        if (value == NONE) {
+            throw new NoSuchElementException();
+        }
+        return (int) value;
+    }
+
+    /**
+     * Returns the number of elements in this set as the long value.
+     *
+     * @return The number of elements.
+     */
+    public long cardinality() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(Integer e) {
+        return add((int) e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(int value) {
+        char key = high(value);
+        int index = indexOf(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertChunk(index, key, new ArrayContainer(4));
+        }
+
+        Container container = containers[index];
+        int before = container.cardinality();
+        container = containers[index] = container.add(low(value));
+
+        if (container.cardinality() == before) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object o) {
+        return remove((int) o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(int value) {
+        int index = indexOf(high(value));
+        if (index < 0) {
+            return false;
+        }
+
+        Container container = containers[index];
+        int before = container.cardinality();
+        container = containers[index] = container.remove(low(value));
+
+        if (container.cardinality() == before) {
+            return false;
+        }
+        if (container.cardinality() == 0) {
+            removeChunk(index);
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return contains((int) o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(int value) {
+        int index = indexOf(high(value));
+        return 0 <= index && containers[index].contains(low(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The nodes are the containers of the non-empty chunks.
+     */
+    @Override
+    public MemoryStats footprint() {
+        long retained = MemoryStats.sizeOfObject(2 * MemoryStats.REFERENCE + 4 + 8);
+        retained += MemoryStats.sizeOfArray(keys.length, Character.BYTES) + MemoryStats.sizeOfArray(containers.length, MemoryStats.REFERENCE);
+        for (int i = 0; i < count; i++) {
+            retained += containers[i].bytes();
+        }
+        return MemoryStats.ofLinked(size, count, 0, retained);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(containers, 0, count, null);
+        count = 0;
+        size = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Cursor(ceil(Integer.MIN_VALUE), Integer.MIN_VALUE, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Integer> descendingIterator() {
+        return new Cursor(floor((long) Integer.MAX_VALUE), Integer.MIN_VALUE, Integer.MAX_VALUE, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] toIntArray() {
+        int[] array = new int[size()];
+        int index = 0;
+        for (int i = 0; i < count; i++) {
+            index = containers[i].fill(array, index, join(keys[i], 0));
+        }
+        return array;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < count; i++) {
+            containers[i].forEach(join(keys[i], 0), action);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int[] hash = {0};
+        forEachInt(value -> hash[0] += value);
+        return hash[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Comparator<? super Integer> comparator() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int firstInt() {
+        return element(ceil(Integer.MIN_VALUE));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int lastInt() {
+        return element(floor((long) Integer.MAX_VALUE));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int lower(int e) {
+        return element(floor(e - 1L));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int floor(int e) {
+        return element(floor((long) e));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int ceiling(int e) {
+        return element(ceil(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int higher(int e) {
+        return element(ceil(e + 1L));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int pollFirstInt() {
+        int value = firstInt();
+        remove(value);
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int pollLastInt() {
+        int value = lastInt();
+        remove(value);
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NavigableIntSet descendingSet() {
+        return new View(Integer.MIN_VALUE, Integer.MAX_VALUE, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NavigableIntSet subSet(int fromElement, boolean fromInclusive, int toElement, boolean toInclusive) {
+        if (toElement < fromElement) {
+            throw new IllegalArgumentException("inconsistent range");
+        }
+        return new View(fromInclusive ? fromElement : fromElement + 1L, toInclusive ? toElement : toElement - 1L, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NavigableIntSet headSet(int toElement, boolean inclusive) {
+        return new View(Integer.MIN_VALUE, inclusive ? toElement : toElement - 1L, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NavigableIntSet tailSet(int fromElement, boolean inclusive) {
+        return new View(inclusive ? fromElement : fromElement + 1L, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NavigableIntSet subSet(int fromElement, int toElement) {
+        return subSet(fromElement, true, toElement, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NavigableIntSet headSet(int toElement) {
+        return headSet(toElement, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NavigableIntSet tailSet(int fromElement) {
+        return tailSet(fromElement, true);
+    }
+
+    /**
+     * Retains only the elements which are contained in the specified set (intersection).
+     *
+     * @param other A set to intersect.
+     * @return This set.
+     */
+    public RoaringIntSet and(RoaringIntSet other) {
+        if (other == this) {
+            return this;
+        }
+
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < count && j < other.count) {
+            char a = keys[i];
+            char b = other.keys[j];
+
+            if (a < b) {
+                i++;
+            } else if (b < a) {
+                j++;
+            } else {
+                Container container = Container.and(containers[i], other.containers[j]);
+                if (container.cardinality() != 0) {
+                    keys[k] = a;
+                    containers[k++] = container;
+                }
+                i++;
+                j++;
+            }
+        }
+        truncate(k);
+        return this;
+    }
+
+    /**
+     * Adds all elements in the specified set to this set (union).
+     *
+     * @param other A set to unite.
+     * @return This set.
+     */
+    public RoaringIntSet or(RoaringIntSet other) {
+        if (other != this) {
+            merge(other, false);
+        }
+        return this;
+    }
+
+    /**
+     * Removes all elements which are contained in the specified set (difference).
+     *
+     * @param other A set to subtract.
+     * @return This set.
+     */
+    public RoaringIntSet andNot(RoaringIntSet other) {
+        if (other == this) {
+            clear();
+            return this;
+        }
+
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < count) {
+            char a = keys[i];
+            while (j < other.count && other.keys[j] < a) {
+                j++;
+            }
+
+            Container container = containers[i++];
+            if (j < other.count && other.keys[j] == a) {
+                container = Container.andNot(container, other.containers[j++]);
+            }
+            if (container.cardinality() != 0) {
+                keys[k] = a;
+                containers[k++] = container;
+            }
+        }
+        truncate(k);
+        return this;
+    }
+
+    /**
+     * Keeps the elements which are contained in exactly one of this set and the specified set
+     * (symmetric difference).
+     *
+     * @param other A set to combine.
+     * @return This set.
+     */
+    public RoaringIntSet xor(RoaringIntSet other) {
+        if (other == this) {
+            clear();
+        } else {
+            merge(other, true);
+        }
+        return this;
+    }
+
+    /**
+     * Merge the specified set into this set from the tail, so the chunk table is reallocated at
+     * most once.
+     *
+     * @param other A set to merge.
+     * @param xor {@code true} for the symmetric difference, {@code false} for the union.
+     */
+    private void merge(RoaringIntSet other, boolean xor) {
+        int total = count + other.count;
+        ensureCapacity(total);
+
+        int i = count - 1;
+        int j = other.count - 1;
+        int k = total - 1;
+        while (0 <= j) {
+            if (0 <= i && other.keys[j] < keys[i]) {
+                keys[k] = keys[i];
+                containers[k--] = containers[i--];
+            } else if (0 <= i && other.keys[j] == keys[i]) {
+                Container container = xor ? Container.xor(containers[i], other.containers[j])
+                        : Container.or(containers[i], other.containers[j]);
+                if (container.cardinality() != 0) {
+                    keys[k] = keys[i];
+                    containers[k--] = container;
+                }
+                i--;
+                j--;
+            } else {
+                keys[k] = other.keys[j];
+                containers[k--] = other.containers[j--].copy();
+            }
+        }
+
+        // the remaining head stays in place, close the gap between it and the merged tail
+        int head = i + 1;
+        int tail = total - 1 - k;
+        System.arraycopy(keys, k + 1, keys, head, tail);
+        System.arraycopy(containers, k + 1, containers, head, tail);
+        count = total;
+        truncate(head + tail);
+    }
+
+    /**
+     * Computes the number of elements in the intersection of this set and the specified set
+     * without building it.
+     *
+     * @param other A set to intersect.
+     * @return The number of elements.
+     */
+    public long andCardinality(RoaringIntSet other) {
+        long sum = 0;
+        int i = 0;
+        int j = 0;
+        while (i < count && j < other.count) {
+            char a = keys[i];
+            char b = other.keys[j];
+
+            if (a < b) {
+                i++;
+            } else if (b < a) {
+                j++;
+            } else {
+                sum += Container.andCardinality(containers[i++], other.containers[j++]);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Computes the number of elements in the union of this set and the specified set without
+     * building it.
+     *
+     * @param other A set to unite.
+     * @return The number of elements.
+     */
+    public long orCardinality(RoaringIntSet other) {
+        return size + other.size - andCardinality(other);
+    }
+
+    /**
+     * Computes the number of elements in the difference of this set and the specified set without
+     * building it.
+     *
+     * @param other A set to subtract.
+     * @return The number of elements.
+     */
+    public long andNotCardinality(RoaringIntSet other) {
+        return size - andCardinality(other);
+    }
+
+    /**
+     * Computes the number of elements in the symmetric difference of this set and the specified
+     * set without building it.
+     *
+     * @param other A set to combine.
+     * @return The number of elements.
+     */
+    public long xorCardinality(RoaringIntSet other) {
+        return size + other.size - 2 * andCardinality(other);
+    }
+
+    /**
+     * Tests whether this set and the specified set have any element in common.
+     *
+     * @param other A set to test.
+     * @return {@code true} if the intersection is not empty.
+     */
+    public boolean intersects(RoaringIntSet other) {
+        int i = 0;
+        int j = 0;
+        while (i < count && j < other.count) {
+            char a = keys[i];
+            char b = other.keys[j];
+
+            if (a < b) {
+                i++;
+            } else if (b < a) {
+                j++;
+            } else if (Container.andCardinality(containers[i++], other.containers[j++]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converts each chunk into the most compact container, the long ranges of consecutive elements
+     * are run-length encoded. The unused capacity of chunk table and array containers is released
+     * too.
+     *
+     * @return This set.
+     */
+    public RoaringIntSet optimize() {
+        for (int i = 0; i < count; i++) {
+            containers[i] = containers[i].optimize();
+        }
+        if (count < keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(4, count));
+            containers = Arrays.copyOf(containers, keys.length);
+        }
+        return this;
+    }
+
+    /**
+     * Ascending or descending cursor over the bounded range.
+     */
+    private class Cursor implements Iterator<Integer> {
+
+        /** The lowest value (inclusive). */
+        private final long lo;
+
+        /** The highest value (inclusive). */
+        private final long hi;
+
+        /** The iteration order. */
+        private final boolean descending;
+
+        /** The next element or {@link #NONE}. */
+        private long next;
+
+        /** The last returned element or {@link #NONE}. */
+        private long last = NONE;
+
+        /**
+         * @param first The first element or {@link #NONE}.
+         * @param lo The lowest value (inclusive).
+         * @param hi The highest value (inclusive).
+         * @param descending The iteration order.
+         */
+        private Cursor(long first, long lo, long hi, boolean descending) {
+            this.next = first < lo || hi < first ? NONE : first;
+            this.lo = lo;
+            this.hi = hi;
+            this.descending = descending;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return next != NONE;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Integer next() {
+            last = element(next);
+
+            if (descending) {
+                long found = floor(last - 1);
+                next = found < lo ? NONE : found;
+            } else {
+                long found = ceil(last + 1);
+                next = hi < found ? NONE : found;
+            }
+            return (int) last;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void remove() {
+            if (last == NONE) {
+                throw new IllegalStateException();
+            }
+            RoaringIntSet.this.remove((int) last);
+            last = NONE;
+        }
+    }
+
+    /**
+     * The bounded and/or reversed view of the enclosing set.
+     */
+    private class View extends AbstractSet<Integer> implements NavigableIntSet {
+
+        /** The lowest value (inclusive). */
+        private final long lo;
+
+        /** The highest value (inclusive). */
+        private final long hi;
+
+        /** The iteration order. */
+        private final boolean descending;
+
+        /**
+         * @param lo The lowest value (inclusive).
+         * @param hi The highest value (inclusive).
+         * @param descending The iteration order.
+         */
+        private View(long lo, long hi, boolean descending) {
+            this.lo = lo;
+            this.hi = hi;
+            this.descending = descending;
+        }
+
+        /**
+         * Test whether the specified value is in this range.
+         *
+         * @param value A target value.
+         * @return A result.
+         */
+        private boolean inRange(long value) {
+            return lo <= value && value <= hi;
+        }
+
+        /**
+         * Find the least element in this range greater than or equal to the specified value.
+         *
+         * @param value A target value.
+         * @return The found element or {@link #NONE}.
+         */
+        private long ceilInRange(long value) {
+            long found = ceil(Math.max(value, lo));
+            return hi < found ? NONE : found;
+        }
+
+        /**
+         * Find the greatest element in this range less than or equal to the specified value.
+         *
+         * @param value A target value.
+         * @return The found element or {@link #NONE}.
+         */
+        private long floorInRange(long value) {
+            long found = RoaringIntSet.this.floor(Math.min(value, hi));
+            return found < lo ? NONE : found;
+        }
+
+        /**
+         * Build the sub view, the bounds are given in the iteration order of this view.
+         *
+         * @param from The first bound in the iteration order.
+         * @param to The last bound in the iteration order.
+         * @return A new view.
+         */
+        private View view(long from, long to) {
+            long low = descending ? to : from;
+            long high = descending ? from : to;
+            if (low < lo - 1 || hi + 1 < high) {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return new View(Math.max(low, lo), Math.min(high, hi), descending);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return (int) Math.min(countRange(lo, hi), Integer.MAX_VALUE);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isEmpty() {
+            return ceilInRange(lo) == NONE;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean add(Integer e) {
+            return add((int) e);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean add(int value) {
+            if (!inRange(value)) {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return RoaringIntSet.this.add(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean remove(Object o) {
+            return remove((int) o);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean remove(int value) {
+            return inRange(value) && RoaringIntSet.this.remove(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean contains(Object o) {
+            return contains((int) o);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean contains(int value) {
+            return inRange(value) && RoaringIntSet.this.contains(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public MemoryStats footprint() {
+            return RoaringIntSet.this.footprint();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            for (long value = ceilInRange(lo); value != NONE; value = ceilInRange(value + 1)) {
+                RoaringIntSet.this.remove((int) value);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<Integer> iterator() {
+            return descending ? new Cursor(floorInRange(hi), lo, hi, true) : new Cursor(ceilInRange(lo), lo, hi, false);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<Integer> descendingIterator() {
+            return descendingSet().iterator();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Comparator<? super Integer> comparator() {
+            return descending ? Collections.reverseOrder() : null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int firstInt() {
+            return element(descending ? floorInRange(hi) : ceilInRange(lo));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int lastInt() {
+            return element(descending ? ceilInRange(lo) : floorInRange(hi));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int lower(int e) {
+            return element(descending ? ceilInRange(e + 1L) : floorInRange(e - 1L));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int floor(int e) {
+            return element(descending ? ceilInRange(e) : floorInRange(e));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int ceiling(int e) {
+            return element(descending ? floorInRange(e) : ceilInRange(e));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int higher(int e) {
+            return element(descending ? floorInRange(e - 1L) : ceilInRange(e + 1L));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int pollFirstInt() {
+            int value = firstInt();
+            RoaringIntSet.this.remove(value);
+            return value;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int pollLastInt() {
+            int value = lastInt();
+            RoaringIntSet.this.remove(value);
+            return value;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet descendingSet() {
+            return new View(lo, hi, !descending);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet subSet(int fromElement, boolean fromInclusive, int toElement, boolean toInclusive) {
+            if (descending ? fromElement < toElement : toElement < fromElement) {
+                throw new IllegalArgumentException("inconsistent range");
+            }
+            long step = descending ? -1 : 1;
+            return view(fromInclusive ? fromElement : fromElement + step, toInclusive ? toElement : toElement - step);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet headSet(int toElement, boolean inclusive) {
+            long step = descending ? -1 : 1;
+            return view(descending ? hi : lo, inclusive ? toElement : toElement - step);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet tailSet(int fromElement, boolean inclusive) {
+            long step = descending ? -1 : 1;
+            return view(inclusive ? fromElement : fromElement + step, descending ? lo : hi);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet subSet(int fromElement, int toElement) {
+            return subSet(fromElement, true, toElement, false);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet headSet(int toElement) {
+            return headSet(toElement, false);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NavigableIntSet tailSet(int fromElement) {
+            return tailSet(fromElement, true);
+        }
+    }
+
+    /**
+     * The set of values in one chunk, the values are the low 16 bits in the range 0-65535.
+     */
+    private static abstract class Container {
+
+        /**
+         * Returns the number of values.
+         *
+         * @return The number of values.
+         */
+        abstract int cardinality();
+
+        /**
+         * Test whether the specified value is contained or not.
+         *
+         * @param value A target value.
+         * @return A result.
+         */
+        abstract boolean contains(int value);
+
+        /**
+         * Add the specified value.
+         *
+         * @param value A value to add.
+         * @return This container or the converted container holding the result.
+         */
+        abstract Container add(int value);
+
+        /**
+         * Remove the specified value.
+         *
+         * @param value A value to remove.
+         * @return This container or the converted container holding the result.
+         */
+        abstract Container remove(int value);
+
+        /**
+         * Returns the least value, the container is never empty.
+         *
+         * @return The least value.
+         */
+        abstract int first();
+
+        /**
+         * Returns the greatest value, the container is never empty.
+         *
+         * @return The greatest value.
+         */
+        abstract int last();
+
+        /**
+         * Find the least value greater than or equal to the specified value.
+         *
+         * @param value A target value.
+         * @return The found value or -1.
+         */
+        abstract int ceiling(int value);
+
+        /**
+         * Find the greatest value less than or equal to the specified value.
+         *
+         * @param value A target value.
+         * @return The found value or -1.
+         */
+        abstract int floor(int value);
+
+        /**
+         * Count the values in the specified range.
+         *
+         * @param from The lowest value (inclusive).
+         * @param to The highest value (inclusive).
+         * @return The number of values.
+         */
+        abstract int count(int from, int to);
+
+        /**
+         * Performs the given action for each value in ascending order.
+         *
+         * @param base The high bits of chunk.
+         * @param action An action to perform.
+         */
+        abstract void forEach(int base, IntConsumer action);
+
+        /**
+         * Write all values in ascending order to the specified array.
+         *
+         * @param array A destination array.
+         * @param index A start index.
+         * @param base The high bits of chunk.
+         * @return The next index.
+         */
+        abstract int fill(int[] array, int index, int base);
+
+        /**
+         * Set the bits of all values in the specified words.
+         *
+         * @param words A destination bitmap.
+         */
+        abstract void setTo(long[] words);
+
+        /**
+         * Clear the bits of all values in the specified words.
+         *
+         * @param words A destination bitmap.
+         */
+        abstract void clearFrom(long[] words);
+
+        /**
+         * Flip the bits of all values in the specified words.
+         *
+         * @param words A destination bitmap.
+         */
+        abstract void flipIn(long[] words);
+
+        /**
+         * Returns the bitmap container holding the same values, the bitmap container returns
+         * itself.
+         *
+         * @return A bitmap container.
+         */
+        abstract BitmapContainer toBitmap();
+
+        /**
+         * Returns the deep copy.
+         *
+         * @return A new container.
+         */
+        abstract Container copy();
+
+        /**
+         * Estimate the retained bytes of this container.
+         *
+         * @return The estimated bytes.
+         */
+        abstract long bytes();
+
+        /**
+         * Returns the run container holding the same values.
+         *
+         * @return A new container.
+         */
+        final RunContainer toRun() {
+            char[] runs = new char[8];
+            int size = 0;
+            int value = ceiling(0);
+
+            while (value != -1) {
+                int end = value;
+                while (end < 0xFFFF && contains(end + 1)) {
+                    end++;
+                }
+                if (runs.length == size) runs = Arrays.copyOf(runs, size << 1);
+                runs[size++] = (char) value;
+                runs[size++] = (char) (end - value);
+                value = end == 0xFFFF ? -1 : ceiling(end + 1);
+            }
+            return new RunContainer(Arrays.copyOf(runs, size), size >> 1, cardinality());
+        }
+
+        /**
+         * Returns the most compact container holding the same values.
+         *
+         * @return The optimized container.
+         */
+        Container optimize() {
+            RunContainer run = toRun();
+            int bytes = Math.min(cardinality() * 2, WORDS * 8);
+            return run.runs.length * 2 < bytes ? run : this;
+        }
+
+        /**
+         * Compute the intersection of containers, the left container may be reused.
+         *
+         * @param left The left operand.
+         * @param right The right operand, it is never modified.
+         * @return The result container, it may be empty.
+         */
+        static Container and(Container left, Container right) {
+            if (left instanceof ArrayContainer array) {
+                return array.retain(right, true);
+            }
+            if (right instanceof ArrayContainer array) {
+                ArrayContainer result = new ArrayContainer(array.cardinality);
+                for (int i = 0; i < array.cardinality; i++) {
+                    if (left.contains(array.values[i])) {
+                        result.values[result.cardinality++] = array.values[i];
+                    }
+                }
+                return result;
+            }
+
+            BitmapContainer bitmap = left.toBitmap();
+            if (right instanceof BitmapContainer other) {
+                for (int i = 0; i < WORDS; i++) {
+                    bitmap.words[i] &= other.words[i];
+                }
+            } else {
+                RunContainer run = (RunContainer) right;
+                int start = 0;
+                for (int i = 0; i < run.count; i++) {
+                    clearRange(bitmap.words, start, run.runs[i * 2] - 1);
+                    start = run.runs[i * 2] + run.runs[i * 2 + 1] + 1;
+                }
+                clearRange(bitmap.words, start, 0xFFFF);
+            }
+            return bitmap.repair();
+        }
+
+        /**
+         * Compute the union of containers, the left container may be reused.
+         *
+         * @param left The left operand.
+         * @param right The right operand, it is never modified.
+         * @return The result container.
+         */
+        static Container or(Container left, Container right) {
+            if (left instanceof ArrayContainer a && right instanceof ArrayContainer b && a.cardinality + b.cardinality <= ARRAY_LIMIT) {
+                return a.union(b);
+            }
+            BitmapContainer bitmap = left.toBitmap();
+            right.setTo(bitmap.words);
+            return bitmap.repair();
+        }
+
+        /**
+         * Compute the difference of containers, the left container may be reused.
+         *
+         * @param left The left operand.
+         * @param right The right operand, it is never modified.
+         * @return The result container, it may be empty.
+         */
+        static Container andNot(Container left, Container right) {
+            if (left instanceof ArrayContainer array) {
+                return array.retain(right, false);
+            }
+            BitmapContainer bitmap = left.toBitmap();
+            right.clearFrom(bitmap.words);
+            return bitmap.repair();
+        }
+
+        /**
+         * Compute the symmetric difference of containers, the left container may be reused.
+         *
+         * @param left The left operand.
+         * @param right The right operand, it is never modified.
+         * @return The result container, it may be empty.
+         */
+        static Container xor(Container left, Container right) {
+            if (left instanceof ArrayContainer a && right instanceof ArrayContainer b && a.cardinality + b.cardinality <= ARRAY_LIMIT) {
+                return a.difference(b);
+            }
+            BitmapContainer bitmap = left.toBitmap();
+            right.flipIn(bitmap.words);
+            return bitmap.repair();
+        }
+
+        /**
+         * Count the values in the intersection of containers without building it.
+         *
+         * @param left The left operand.
+         * @param right The right operand.
+         * @return The number of values.
+         */
+        static int andCardinality(Container left, Container right) {
+            if (right instanceof ArrayContainer) {
+                Container swap = left;
+                left = right;
+                right = swap;
+            }
+            if (left instanceof ArrayContainer array) {
+                int sum = 0;
+                for (int i = 0; i < array.cardinality; i++) {
+                    if (right.contains(array.values[i])) sum++;
+                }
+                return sum;
+            }
+
+            if (right instanceof RunContainer) {
+                Container swap = left;
+                left = right;
+                right = swap;
+            }
+            if (left instanceof RunContainer run) {
+                int sum = 0;
+                for (int i = 0; i < run.count; i++) {
+                    sum += right.count(run.runs[i * 2], run.runs[i * 2] + run.runs[i * 2 + 1]);
+                }
+                return sum;
+            }
+
+            long[] a = ((BitmapContainer) left).words;
+            long[] b = ((BitmapContainer) right).words;
+            int sum = 0;
+            for (int i = 0; i < WORDS; i++) {
+                sum += Long.bitCount(a[i] & b[i]);
+            }
+            return sum;
+        }
+
+        /**
+         * Set the bits in the specified range.
+         *
+         * @param words A target bitmap.
+         * @param from The lowest bit (inclusive).
+         * @param to The highest bit (inclusive).
+         */
+        static void setRange(long[] words, int from, int to) {
+            if (from <= to) {
+                int first = from >>> 6;
+                int last = to >>> 6;
+                long head = -1L << from;
+                long tail = -1L >>> (63 - (to & 63));
+
+                if (first == last) {
+                    words[first] |= head & tail;
+                } else {
+                    words[first] |= head;
+                    Arrays.fill(words, first + 1, last, -1L);
+                    words[last] |= tail;
+                }
+            }
+        }
+
+        /**
+         * Clear the bits in the specified range.
+         *
+         * @param words A target bitmap.
+         * @param from The lowest bit (inclusive).
+         * @param to The highest bit (inclusive).
+         */
+        static void clearRange(long[] words, int from, int to) {
+            if (from <= to) {
+                int first = from >>> 6;
+                int last = to >>> 6;
+                long head = -1L << from;
+                long tail = -1L >>> (63 - (to & 63));
+
+                if (first == last) {
+                    words[first] &= ~(head & tail);
+                } else {
+                    words[first] &= ~head;
+                    Arrays.fill(words, first + 1, last, 0L);
+                    words[last] &= ~tail;
+                }
+            }
+        }
+
+        /**
+         * Flip the bits in the specified range.
+         *
+         * @param words A target bitmap.
+         * @param from The lowest bit (inclusive).
+         * @param to The highest bit (inclusive).
+         */
+        static void flipRange(long[] words, int from, int to) {
+            if (from <= to) {
+                int first = from >>> 6;
+                int last = to >>> 6;
+                long head = -1L << from;
+                long tail = -1L >>> (63 - (to & 63));
+
+                if (first == last) {
+                    words[first] ^= head & tail;
+                } else {
+                    words[first] ^= head;
+                    for (int i = first + 1; i < last; i++) {
+                        words[i] = ~words[i];
+                    }
+                    words[last] ^= tail;
+                }
+            }
+        }
+    }
+
+    /**
+     * The container which holds the sorted values in the array.
+     */
+    private static final class ArrayContainer extends Container {
+
+        /** The sorted values. */
+        private char[] values;
+
+        /** The number of values. */
+        private int cardinality;
+
+        /**
+         * @param capacity The initial capacity.
+         */
+        private ArrayContainer(int capacity) {
+            values = new char[capacity];
+        }
+
+        /**
+         * @param values The sorted values.
+         * @param cardinality The number of values.
+         */
+        private ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Find the index of the specified value.
+         *
+         * @param value A target value.
+         * @return An index if the value is found, otherwise {@code -(insertion point) - 1}.
+         */
+        private int search(int value) {
+            return Arrays.binarySearch(values, 0, cardinality, (char) value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        boolean contains(int value) {
+            return 0 <= search(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        Container add(int value) {
+            int index = search(value);
+            if (0 <= index) {
+                return this;
+            }
+            if (cardinality == ARRAY_LIMIT) {
+                return toBitmap().add(value);
+            }
+
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, cardinality + (cardinality >> 1) + 1));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = (char) value;
+            cardinality++;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        Container remove(int value) {
+            int index = search(value);
+            if (0 <= index) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int first() {
+            return values[0];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int last() {
+            return values[cardinality - 1];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int ceiling(int value) {
+            int index = search(value);
+            if (0 <= index) {
+                return value;
+            }
+            index = -index - 1;
+            return index < cardinality ? values[index] : -1;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int floor(int value) {
+            int index = search(value);
+            if (0 <= index) {
+                return value;
+            }
+            index = -index - 2;
+            return 0 <= index ? values[index] : -1;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int count(int from, int to) {
+            int start = search(from);
+            if (start < 0) start = -start - 1;
+            int end = to == 0xFFFF ? cardinality : search(to + 1);
+            if (end < 0) end = -end - 1;
+            return Math.max(0, end - start);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(base | values[i]);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int fill(int[] array, int index, int base) {
+            for (int i = 0; i < cardinality; i++) {
+                array[index++] = base | values[i];
+            }
+            return index;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void setTo(long[] words) {
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void clearFrom(long[] words) {
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] &= ~(1L << values[i]);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void flipIn(long[] words) {
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] ^= 1L << values[i];
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            setTo(bitmap.words);
+            bitmap.cardinality = cardinality;
+            return bitmap;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        long bytes() {
+            return MemoryStats.sizeOfObject(MemoryStats.REFERENCE + 4) + MemoryStats.sizeOfArray(values.length, Character.BYTES);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        Container optimize() {
+            Container optimized = super.optimize();
+            if (optimized == this && cardinality < values.length) {
+                values = Arrays.copyOf(values, cardinality);
+            }
+            return optimized;
+        }
+
+        /**
+         * Keep only the values which are (or are not) contained in the specified container.
+         *
+         * @param other A container to test.
+         * @param contained {@code true} to keep the common values, {@code false} to keep the
+         *            others.
+         * @return This container.
+         */
+        private ArrayContainer retain(Container other, boolean contained) {
+            int size = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == contained) {
+                    values[size++] = values[i];
+                }
+            }
+            cardinality = size;
+            return this;
+        }
+
+        /**
+         * Merge the specified container, the values are written in place from the tail when the
+         * capacity is enough.
+         *
+         * @param other A container to merge.
+         * @return This container.
+         */
+        private ArrayContainer union(ArrayContainer other) {
+            int total = cardinality + other.cardinality;
+            if (values.length < total) {
+                values = Arrays.copyOf(values, total);
+            }
+
+            int i = cardinality - 1;
+            int j = other.cardinality - 1;
+            int k = total - 1;
+            while (0 <= j) {
+                if (0 <= i && other.values[j] < values[i]) {
+                    values[k--] = values[i--];
+                } else {
+                    if (0 <= i && other.values[j] == values[i]) i--;
+                    values[k--] = other.values[j--];
+                }
+            }
+
+            // the remaining head stays in place, close the gap between it and the merged tail
+            int head = i + 1;
+            int tail = total - 1 - k;
+            System.arraycopy(values, k + 1, values, head, tail);
+            cardinality = head + tail;
+            return this;
+        }
+
+        /**
+         * Compute the symmetric difference with the specified container.
+         *
+         * @param other A container to combine.
+         * @return This container.
+         */
+        private ArrayContainer difference(ArrayContainer other) {
+            char[] result = new char[cardinality + other.cardinality];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < cardinality && j < other.cardinality) {
+                char a = values[i];
+                char b = other.values[j];
+
+                if (a < b) {
+                    result[k++] = a;
+                    i++;
+                } else if (b < a) {
+                    result[k++] = b;
+                    j++;
+                } else {
+                    i++;
+                    j++;
+                }
+            }
+            while (i < cardinality) {
+                result[k++] = values[i++];
+            }
+            while (j < other.cardinality) {
+                result[k++] = other.values[j++];
+            }
+            values = result;
+            cardinality = k;
+            return this;
+        }
+    }
+
+    /**
+     * The container which holds the values as the fixed size bitmap.
+     */
+    private static final class BitmapContainer extends Container {
+
+        /** The bits of values. */
+        private final long[] words;
+
+        /** The number of values. */
+        private int cardinality;
+
+        /**
+         * Create the empty bitmap.
+         */
+        private BitmapContainer() {
+            words = new long[WORDS];
+        }
+
+        /**
+         * @param words The bits of values.
+         * @param cardinality The number of values.
+         */
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Recount the values after the bulk operation, and convert to the array container if it is
+         * smaller.
+         *
+         * @return This container or the converted container.
+         */
+        private Container repair() {
+            int sum = 0;
+            for (long word : words) {
+                sum += Long.bitCount(word);
+            }
+            cardinality = sum;
+            return sum <= ARRAY_LIMIT ? toArray() : this;
+        }
+
+        /**
+         * Convert to the array container.
+         *
+         * @return A new container.
+         */
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer(cardinality);
+            for (int i = 0; i < WORDS; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    array.values[array.cardinality++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return array;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        boolean contains(int value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        Container add(int value) {
+            long word = words[value >>> 6];
+            long bit = 1L << value;
+            if ((word & bit) == 0) {
+                words[value >>> 6] = word | bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        Container remove(int value) {
+            long word = words[value >>> 6];
+            long bit = 1L << value;
+            if ((word & bit) != 0) {
+                words[value >>> 6] = word & ~bit;
+                if (--cardinality <= ARRAY_LIMIT) {
+                    return toArray();
+                }
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int first() {
+            return ceiling(0);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int last() {
+            return floor(0xFFFF);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int ceiling(int value) {
+            int index = value >>> 6;
+            long word = words[index] & (-1L << value);
+
+            while (true) {
+                if (word != 0) {
+                    return (index << 6) + Long.numberOfTrailingZeros(word);
+                }
+                if (++index == WORDS) {
+                    return -1;
+                }
+                word = words[index];
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int floor(int value) {
+            int index = value >>> 6;
+            long word = words[index] & (-1L >>> (63 - (value & 63)));
+
+            while (true) {
+                if (word != 0) {
+                    return (index << 6) + 63 - Long.numberOfLeadingZeros(word);
+                }
+                if (--index < 0) {
+                    return -1;
+                }
+                word = words[index];
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int count(int from, int to) {
+            if (to < from) {
+                return 0;
+            }
+
+            int first = from >>> 6;
+            int last = to >>> 6;
+            long head = -1L << from;
+            long tail = -1L >>> (63 - (to & 63));
+            if (first == last) {
+                return Long.bitCount(words[first] & head & tail);
+            }
+
+            int sum = Long.bitCount(words[first] & head) + Long.bitCount(words[last] & tail);
+            for (int i = first + 1; i < last; i++) {
+                sum += Long.bitCount(words[i]);
+            }
+            return sum;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < WORDS; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    action.accept(base | (i << 6) + Long.numberOfTrailingZeros(word));
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int fill(int[] array, int index, int base) {
+            for (int i = 0; i < WORDS; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    array[index++] = base | (i << 6) + Long.numberOfTrailingZeros(word);
+                }
+            }
+            return index;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void setTo(long[] words) {
+            for (int i = 0; i < WORDS; i++) {
+                words[i] |= this.words[i];
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void clearFrom(long[] words) {
+            for (int i = 0; i < WORDS; i++) {
+                words[i] &= ~this.words[i];
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void flipIn(long[] words) {
+            for (int i = 0; i < WORDS; i++) {
+                words[i] ^= this.words[i];
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        BitmapContainer toBitmap() {
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        long bytes() {
+            return MemoryStats.sizeOfObject(MemoryStats.REFERENCE + 4) + MemoryStats.sizeOfArray(words.length, Long.BYTES);
+        }
+    }
+
+    /**
+     * The container which holds the values as the sorted ranges. Each range is stored as the pair
+     * of its start and its length minus one. This container is read-mostly, the mutation unpacks it
+     * into the array or bitmap container.
+     */
+    private static final class RunContainer extends Container {
+
+        /** The pairs of start and length minus one. */
+        private final char[] runs;
+
+        /** The number of ranges. */
+        private final int count;
+
+        /** The number of values. */
+        private final int cardinality;
+
+        /**
+         * @param runs The pairs of start and length minus one.
+         * @param count The number of ranges.
+         * @param cardinality The number of values.
+         */
+        private RunContainer(char[] runs, int count, int cardinality) {
+            this.runs = runs;
+            this.count = count;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Find the last range which starts at or before the specified value.
+         *
+         * @param value A target value.
+         * @return A range index or -1.
+         */
+        private int search(int value) {
+            int low = 0;
+            int high = count - 1;
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (runs[mid * 2] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+
+        /**
+         * Returns the end of the specified range.
+         *
+         * @param index A range index.
+         * @return The last value (inclusive).
+         */
+        private int end(int index) {
+            return runs[index * 2] + runs[index * 2 + 1];
+        }
+
+        /**
+         * Convert to the array or bitmap container which supports the mutation.
+         *
+         * @return A new container.
+         */
+        private Container unpack() {
+            if (ARRAY_LIMIT < cardinality) {
+                return toBitmap();
+            }
+
+            ArrayContainer array = new ArrayContainer(cardinality);
+            for (int i = 0; i < count; i++) {
+                for (int value = runs[i * 2], end = end(i); value <= end; value++) {
+                    array.values[array.cardinality++] = (char) value;
+                }
+            }
+            return array;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        boolean contains(int value) {
+            int index = search(value);
+            return 0 <= index && value <= end(index);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        Container add(int value) {
+            return contains(value) ? this : unpack().add(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        Container remove(int value) {
+            return contains(value) ? unpack().remove(value) : this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int first() {
+            return runs[0];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int last() {
+            return end(count - 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int ceiling(int value) {
+            int index = search(value);
+            if (0 <= index && value <= end(index)) {
+                return value;
+            }
+            return index + 1 < count ? runs[(index + 1) * 2] : -1;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int floor(int value) {
+            int index = search(value);
+            return index < 0 ? -1 : Math.min(value, end(index));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int count(int from, int to) {
+            int sum = 0;
+            for (int i = Math.max(0, search(from)); i < count && runs[i * 2] <= to; i++) {
+                sum += Math.max(0, Math.min(to, end(i)) - Math.max(from, runs[i * 2]) + 1);
+            }
+            return sum;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < count; i++) {
+                for (int value = runs[i * 2], end = end(i); value <= end; value++) {
+                    action.accept(base | value);
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int fill(int[] array, int index, int base) {
+            for (int i = 0; i < count; i++) {
+                for (int value = runs[i * 2], end = end(i); value <= end; value++) {
+                    array[index++] = base | value;
+                }
+            }
+            return index;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void setTo(long[] words) {
+            for (int i = 0; i < count; i++) {
+                setRange(words, runs[i * 2], end(i));
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void clearFrom(long[] words) {
+            for (int i = 0; i < count; i++) {
+                clearRange(words, runs[i * 2], end(i));
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void flipIn(long[] words) {
+            for (int i = 0; i < count; i++) {
+                flipRange(words, runs[i * 2], end(i));
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            setTo(bitmap.words);
+            bitmap.cardinality = cardinality;
+            return bitmap;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        Container copy() {
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        long bytes() {
+            return MemoryStats.sizeOfObject(MemoryStats.REFERENCE + 4 + 4) + MemoryStats.sizeOfArray(runs.length, Character.BYTES);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        Container optimize() {
+            int bytes = Math.min(cardinality * 2, WORDS * 8);
+            return runs.length * 2 < bytes ? this : unpack();
+        }
+    }
+}
\ No newline at end of file
@@ -1,27 +1,59 @@
-
-/*
- * Copyright (C) 2025 The PRIMAVERA Development Team
- *
- * Licensed under the MIT License (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *          https://opensource.org/licenses/MIT
- */
-import static bee.api.License.*;
-
-public class Project extends bee.api.Project {
-    {
-        product("com.github.teletha", "primavera", ref("version.txt"));
-        license(MIT);
-        versionControlSystem("https://github.com/teletha/primavera");
-        describe("""
-                Specialized primitive collections.
-                """);
-
-        require("com.github.teletha", "sinobu");
-        require("com.github.teletha", "antibug").atTest();
-        require("com.github.teletha", "psychopath").atTest();
-        require("com.google.guava", "guava").atTest();
-    }
+
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+import static bee.api.License.*;
+
+import java.io.File;
+import java.io.IOException;
+
+public class Project extends bee.api.Project {
+    {
+        product("com.github.teletha", "primavera", ref("version.txt"));
+        license(MIT);
+        versionControlSystem("https://github.com/teletha/primavera");
+        describe("""
+                Specialized primitive collections.
+                """);
+
+        require("com.github.teletha", "sinobu");
+        require("com.github.teletha", "antibug").atTest();
+        require("com.google.guava", "guava").atTest();
+        require("org.openjdk.jmh", "jmh-core").atTest();
+        require("org.openjdk.jmh", "jmh-generator-annprocess").atTest();
+
+        generateSpecializedCode();
+    }
+
+    /**
+     * Run the code generator before any task uses the sources, so the specialized code in
+     * src/main/auto is always up to date with its templates. The generator depends on nothing but
+     * JDK and rewrites only the stale files, so it is launched from its source file on the running
+     * JVM.
+     */
+    private void generateSpecializedCode() {
+        File generator = new File("src/test/java/primavera/SpecializedCodeGenerator.java");
+        if (!generator.isFile()) {
+            return;
+        }
+
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        try {
+            Process process = new ProcessBuilder(java, generator.getPath()).inheritIO().start();
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException("Fail to generate the specialized code.");
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
 }
\ No newline at end of file
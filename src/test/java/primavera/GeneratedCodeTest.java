@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Fail the build if the generated code is not up to date with the templates and the type matrix of
+ * {@link SpecializedCodeGenerator}. The Maven build regenerates the code before compiling, this test
+ * guards the build which doesn't (i.e. IDE). Run {@link SpecializedCodeGenerator#main(String[])} to
+ * fix it.
+ */
+class GeneratedCodeTest {
+
+    @Test
+    void upToDate() throws IOException {
+        Map<Path, List<String>> generated = SpecializedCodeGenerator.generate();
+
+        List<Path> stale = SpecializedCodeGenerator.stale(generated);
+        assert stale.isEmpty() : "Generated code is stale, run SpecializedCodeGenerator. " + stale;
+
+        List<Path> orphans = SpecializedCodeGenerator.orphans(generated.keySet());
+        assert orphans.isEmpty() : "Generated code has no template, run SpecializedCodeGenerator. " + orphans;
+    }
+
+    @Test
+    void allNumericTypes() throws IOException {
+        Map<Path, List<String>> generated = SpecializedCodeGenerator.generate();
+        for (String name : new String[] {"array/%sList", "ring/%sRingBuffer", "queue/%sQueue", "set/%sSet", "map/%sMap", "map/Hash%sLongMap",
+                "map/HashLong%sMap"}) {
+            for (String type : new String[] {"Int", "Long", "Float", "Double"}) {
+                Path path = Path.of("primavera/" + name.formatted(type) + ".java");
+                assert generated.containsKey(path) : path;
+            }
+        }
+    }
+
+    @Test
+    void smallIntegralTypes() throws IOException {
+        Map<Path, List<String>> generated = SpecializedCodeGenerator.generate();
+        for (String type : new String[] {"Short", "Char", "Byte"}) {
+            for (String name : new String[] {"array/%sList", "queue/%sQueue", "set/%sSet", "map/%sMap", "map/Hash%sLongMap"}) {
+                Path path = Path.of("primavera/" + name.formatted(type) + ".java");
+                assert generated.containsKey(path) : path;
+            }
+            // the arithmetic families and the primitive values are numeric only
+            assert !generated.containsKey(Path.of("primavera/ring/" + type + "RingBuffer.java"));
+            assert !generated.containsKey(Path.of("primavera/map/HashLong" + type + "Map.java"));
+        }
+    }
+}
\ No newline at end of file
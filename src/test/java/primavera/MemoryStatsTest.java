@@ -0,0 +1,314 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import primavera.array.LongList;
+import primavera.array.SegmentedLongList;
+import primavera.map.ConcurrentLongMap;
+import primavera.map.ConcurrentNavigableLongMap;
+import primavera.map.LongLongMap;
+import primavera.map.LongMap;
+import primavera.map.NavigableLongMap;
+import primavera.queue.LongQueue;
+import primavera.ring.LongRingBuffer;
+import primavera.set.ConcurrentNavigableLongSet;
+import primavera.set.LongSet;
+import primavera.set.RoaringIntSet;
+
+/**
+ * Validate the estimated footprint against the bytes which are actually allocated by the current
+ * thread to build the collection.
+ */
+class MemoryStatsTest {
+
+    private static final ThreadMXBean THREAD = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void list() {
+        LongList list = new LongList(100);
+        assert list.footprint().elements() == 0;
+        assert list.footprint().capacity() == 100;
+        assert list.footprint().slackBytes() == 800;
+
+        list.addAll(1, 2, 3);
+        MemoryStats stats = list.footprint();
+        assert stats.elements() == 3;
+        assert stats.slackCapacity() == 97;
+        assert stats.slackBytes() == 97 * Long.BYTES;
+        assert stats.nodes() == 0;
+        assert stats.averageLevel() == 0;
+
+        assertEstimate(() -> {
+            LongList built = new LongList(10000);
+            for (int i = 0; i < 10000; i++) {
+                built.add(i);
+            }
+            return built.footprint();
+        });
+    }
+
+    @Test
+    void segmentedList() {
+        SegmentedLongList list = new SegmentedLongList(4);
+        assert list.footprint().capacity() == 0;
+
+        list.add(1);
+        assert list.footprint().capacity() == 16;
+        assert list.footprint().slackCapacity() == 15;
+
+        list.set(40, 1);
+        assert list.footprint().capacity() == 48;
+
+        assertEstimate(() -> {
+            SegmentedLongList built = new SegmentedLongList(10);
+            for (int i = 0; i < 10000; i++) {
+                built.add(i);
+            }
+            return built.footprint();
+        });
+    }
+
+    @Test
+    void ringBuffer() {
+        LongRingBuffer buffer = new LongRingBuffer(8);
+        buffer.add(1);
+        MemoryStats stats = buffer.footprint();
+        assert stats.elements() == 1;
+        assert stats.capacity() == 8;
+        assert stats.slackBytes() == 7 * Long.BYTES;
+
+        assertEstimate(() -> new LongRingBuffer(10000).footprint());
+    }
+
+    @Test
+    void sortedMap() {
+        ConcurrentNavigableLongMap<Object> map = LongMap.createSortedMap();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, Boolean.TRUE);
+        }
+        MemoryStats stats = map.footprint();
+        assert stats.elements() == 1000;
+        assert stats.nodes() > 1000;
+        assert 0 < stats.indexes() && stats.indexes() < 1000;
+        assert 1 < stats.averageLevel() && stats.averageLevel() < 2;
+        assert map.headMap(10L).footprint().elements() == 1000;
+
+        assertEstimate(() -> {
+            ConcurrentNavigableLongMap<Object> built = LongMap.createSortedMap();
+            for (int i = 0; i < 10000; i++) {
+                built.put(i, Boolean.TRUE);
+            }
+            return built.footprint();
+        });
+    }
+
+    @Test
+    void hashMap() {
+        LongMap<Object> map = LongMap.createHashMap(10000);
+        map.put(1, Boolean.TRUE);
+        MemoryStats stats = map.footprint();
+        assert stats.elements() == 1;
+        assert stats.capacity() == 16384;
+        assert stats.slackBytes() == 16383 * (Long.BYTES + MemoryStats.REFERENCE);
+
+        assertEstimate(() -> {
+            LongMap<Object> built = LongMap.createHashMap(10000);
+            for (int i = 0; i < 10000; i++) {
+                built.put(i, Boolean.TRUE);
+            }
+            return built.footprint();
+        });
+    }
+
+    @Test
+    void concurrentHashMap() {
+        ConcurrentLongMap<Object> map = LongMap.createConcurrentHashMap();
+        map.put(1, Boolean.TRUE);
+        MemoryStats stats = map.footprint();
+        assert stats.elements() == 1;
+        assert stats.capacity() >= 16 * 4;
+
+        assertEstimate(() -> {
+            ConcurrentLongMap<Object> built = LongMap.createConcurrentHashMap(10000);
+            for (int i = 0; i < 10000; i++) {
+                built.put(i, Boolean.TRUE);
+            }
+            return built.footprint();
+        });
+    }
+
+    @Test
+    void primitiveValueMap() {
+        LongLongMap map = LongLongMap.createHashMap(10);
+        map.put(0, 1);
+        map.put(1, 1);
+        MemoryStats stats = map.footprint();
+        assert stats.elements() == 2;
+        assert stats.capacity() == 17;
+
+        assertEstimate(() -> {
+            LongLongMap built = LongLongMap.createHashMap(10000);
+            for (int i = 0; i < 10000; i++) {
+                built.put(i, i);
+            }
+            return built.footprint();
+        });
+    }
+
+    @Test
+    void indexedSortedMap() {
+        NavigableLongMap<Object> map = LongMap.createIndexedSortedMap();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, Boolean.TRUE);
+        }
+        MemoryStats stats = map.footprint();
+        assert stats.elements() == 1000;
+        assert stats.nodes() == 1001;
+        assert 1 < stats.averageLevel() && stats.averageLevel() < 2;
+        assert map.headMap(10L).footprint().retainedBytes() == stats.retainedBytes();
+        assert map.navigableKeySet().footprint().elements() == 1000;
+
+        // each insertion allocates the arrays of the search path, which are measured by overwriting
+        NavigableLongMap<Object> overwritten = LongMap.createIndexedSortedMap();
+        Runnable overwrite = () -> {
+            for (int i = 0; i < 10000; i++) {
+                overwritten.put(i, Boolean.TRUE);
+            }
+        };
+        for (int i = 0; i < 3; i++) {
+            overwrite.run();
+        }
+
+        assertEstimate(() -> {
+            NavigableLongMap<Object> built = LongMap.createIndexedSortedMap();
+            for (int i = 0; i < 10000; i++) {
+                built.put(i, Boolean.TRUE);
+            }
+            return built.footprint();
+        }, allocated(overwrite));
+    }
+
+    @Test
+    void hashSet() {
+        LongSet set = LongSet.createHashSet(10);
+        set.add(1);
+        MemoryStats stats = set.footprint();
+        assert stats.elements() == 1;
+        assert stats.capacity() == 16;
+        assert stats.slackBytes() == 15 * Long.BYTES;
+
+        assertEstimate(() -> {
+            LongSet built = LongSet.createHashSet(10000);
+            for (int i = 0; i < 10000; i++) {
+                built.add(i);
+            }
+            return built.footprint();
+        });
+    }
+
+    @Test
+    void sortedSet() {
+        ConcurrentNavigableLongSet set = LongSet.createSortedSet();
+        for (int i = 0; i < 1000; i++) {
+            set.add(i);
+        }
+        set.remove(0);
+        MemoryStats stats = set.footprint();
+        assert stats.elements() == 999;
+        assert stats.nodes() >= 1000;
+        assert 1 < stats.averageLevel() && stats.averageLevel() < 2;
+        assert set.headSet(10L).footprint().elements() == 999;
+
+        assertEstimate(() -> {
+            ConcurrentNavigableLongSet built = LongSet.createSortedSet();
+            for (int i = 0; i < 10000; i++) {
+                built.add(i);
+            }
+            return built.footprint();
+        });
+    }
+
+    @Test
+    void roaringSet() {
+        RoaringIntSet set = new RoaringIntSet();
+        assert set.footprint().nodes() == 0;
+
+        for (int i = 0; i < 65536; i++) {
+            set.add(i);
+        }
+        set.add(1 << 20);
+        MemoryStats stats = set.footprint();
+        assert stats.elements() == 65537;
+        assert stats.nodes() == 2;
+        assert 8192 < stats.retainedBytes() && stats.retainedBytes() < 8192 + 256;
+        assert set.headSet(10).footprint().elements() == 65537;
+    }
+
+    @Test
+    void queue() {
+        LongQueue spsc = LongQueue.createSpscQueue(8);
+        spsc.offer(1);
+        MemoryStats stats = spsc.footprint();
+        assert stats.elements() == 1;
+        assert stats.capacity() == 8;
+        assert stats.slackBytes() == 7 * Long.BYTES;
+
+        LongQueue mpsc = LongQueue.createMpscQueue(8);
+        mpsc.offer(1);
+        stats = mpsc.footprint();
+        assert stats.elements() == 1;
+        assert stats.slackBytes() == 7 * (Long.BYTES + Long.BYTES);
+
+        assertEstimate(() -> LongQueue.createSpscQueue(10000).footprint());
+        assertEstimate(() -> LongQueue.createMpscQueue(10000).footprint());
+    }
+
+    /**
+     * Assert that the estimated retained size is close to the allocated bytes. The builder must not
+     * allocate the garbage other than the growing arrays.
+     */
+    private void assertEstimate(Supplier<MemoryStats> builder) {
+        assertEstimate(builder, 0);
+    }
+
+    /**
+     * Assert that the estimated retained size is close to the allocated bytes except the known
+     * garbage.
+     */
+    private void assertEstimate(Supplier<MemoryStats> builder, long garbage) {
+        // warm up to exclude the class loading and the compilation
+        for (int i = 0; i < 3; i++) {
+            builder.get();
+        }
+
+        MemoryStats[] stats = new MemoryStats[1];
+        long allocated = allocated(() -> stats[0] = builder.get()) - garbage;
+
+        assert stats[0].retainedBytes() <= allocated : stats[0] + " allocated " + allocated;
+        assert allocated * 0.75 <= stats[0].retainedBytes() : stats[0] + " allocated " + allocated;
+    }
+
+    /**
+     * Measure the bytes which are allocated by the current thread to run the specified action.
+     */
+    private long allocated(Runnable action) {
+        long id = Thread.currentThread().threadId();
+        long start = THREAD.getThreadAllocatedBytes(id);
+        action.run();
+        return THREAD.getThreadAllocatedBytes(id) - start;
+    }
+}
\ No newline at end of file
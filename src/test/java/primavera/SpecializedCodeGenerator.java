@@ -1,307 +1,644 @@
-/*
- * Copyright (C) 2025 The PRIMAVERA Development Team
- *
- * Licensed under the MIT License (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *          https://opensource.org/licenses/MIT
- */
-package primavera;
-
-import java.util.List;
-import java.util.Objects;
-
-import primavera.array.WrapperList;
-import primavera.function.ToWrapperTriFunction;
-import primavera.function.WrapperPentaFunction;
-import primavera.function.WrapperTetraFunction;
-import primavera.function.WrapperTriFunction;
-import primavera.map.ConcurrentNavigableWrapperMap;
-import primavera.map.ConcurrentWrapperMap;
-import primavera.map.NavigableWrapperMap;
-import primavera.map.SkipListWrapperMap;
-import primavera.map.WrapperMap;
-import primavera.ring.WrapperRingBuffer;
-import primavera.set.NavigableWrapperSet;
-import primavera.set.SortedWrapperSet;
-import primavera.set.WrapperSet;
-import psychopath.File;
-import psychopath.Locator;
-
-public class SpecializedCodeGenerator {
-
-    /**
-     * Generates the specialized code for each type from the specified source code.
-     * 
-     * @param sourceCode
-     */
-    public static void write(Class sourceCode) {
-        write(sourceCode, Type.values());
-    }
-
-    /**
-     * Generates the specialized code for each type from the specified source code.
-     * 
-     * @param sourceCode
-     * @param types
-     */
-    public static void write(Class sourceCode, Type... types) {
-        write(sourceCode, false, types);
-    }
-
-    /**
-     * Generates the specialized code for each type from the specified source code.
-     * 
-     * @param sourceCode
-     */
-    public static void writeAsPackagePrivate(Class sourceCode) {
-        write(sourceCode, true, Type.values());
-    }
-
-    /**
-     * Generates the specialized code for each type from the specified source code.
-     * 
-     * @param sourceCode
-     * @param types
-     */
-    public static void writeAsPackagePrivate(Class sourceCode, Type... types) {
-        write(sourceCode, true, types);
-    }
-
-    /**
-     * Generates the specialized code for each type from the specified source code.
-     * 
-     * @param sourceCode
-     * @param types
-     */
-    private static void write(Class sourceCode, boolean packagePrivate, Type... types) {
-        Objects.requireNonNull(sourceCode);
-
-        // find source code
-        File sourceFile = Locator.directory("src/test/java").file(sourceCode.getName().replace('.', '/') + ".java");
-
-        for (Type type : types) {
-            File generateFile = Locator.directory("src/main/auto").file(type.replace(sourceCode.getName().replace('.', '/') + ".java"));
-            List<String> lines = sourceFile.lines().map(line -> type.replace(line)).skip(line -> line.equals("SKIPLINE")).toList();
-            if (packagePrivate) makePackagePrivate(lines);
-            generateFile.text(lines);
-            System.out.println("Generate " + generateFile);
-        }
-    }
-
-    /**
-     * Make the modifier of top-level type package-private.
-     * 
-     * @param lines
-     */
-    private static void makePackagePrivate(List<String> lines) {
-        for (int i = 0; i < lines.size(); i++) {
-            String line = lines.get(i);
-            if (line.startsWith("public ")) {
-                lines.set(i, line.replace("public ", ""));
-                return;
-            }
-        }
-    }
-
-    /**
-     * 
-     */
-    public enum Type {
-
-        Object(false, "E", "", "E", "null"),
-
-        Int(true, "int", "Int", "Integer", "0"),
-
-        Long(true, "long", "Long", "Long", "0L"),
-
-        Float(true, "float", "Float", "Float", "0f"),
-
-        Double(true, "double", "Double", "Double", "0d");
-
-        private final boolean numeric;
-
-        private final String primitiveName;
-
-        private final String wrapperName;
-
-        private final String wrapperType;
-
-        private final String initialValue;
-
-        /**
-         * @param specializedType
-         */
-        private Type(boolean numeric, String primitiveName, String wrapperName, String wrapperType, String initialValue) {
-            this.numeric = numeric;
-            this.primitiveName = primitiveName;
-            this.wrapperName = wrapperName;
-            this.wrapperType = wrapperType;
-            this.initialValue = initialValue;
-        }
-
-        String replace(String text) {
-            if (text.startsWith("import " + SpecializedCodeGenerator.class.getCanonicalName())) {
-                if (text.startsWith("import " + WrapperFunction.class.getCanonicalName())) {
-                    return "import java.util.function." + wrapperName + "Function;";
-                } else if (text.startsWith("import " + WrapperConsumer.class.getCanonicalName())) {
-                    return "import java.util.function." + wrapperName + "Consumer;";
-                } else if (text.startsWith("import " + WrapperBinaryOperator.class.getCanonicalName())) {
-                    return "import java.util.function." + wrapperName + "BinaryOperator;";
-                } else {
-                    return "SKIPLINE";
-                }
-            }
-
-            String primitiveFunction = WrapperFunction.class.getSimpleName();
-
-            // initial value
-            text = text.replaceAll("Wrapper\\.initital\\(\\)", initialValue);
-
-            // new int[size] or (E[]) Array.newInstance(Object.class, size)
-            text = text.replaceAll("Wrapper\\.newArray\\((.+)\\)", //
-                    numeric ? "new " + primitiveName + "[$1]" : "(E[]) java.lang.reflect.Array.newInstance(Object.class, $1)");
-
-            // comparing, increment and decrement
-            text = text.replaceAll("Primitive\\.compare\\((.+), (.+)\\)", wrapperType + ".compare($1, $2)");
-            text = text.replaceAll("Primitive\\.increment\\((.+), (.+)\\)", "$1 += $2");
-            text = text.replaceAll("Primitive\\.decrement\\((.+), (.+)\\)", "$1 -= $2");
-
-            // Primitive and Wrapper
-            text = text.replace(primitiveFunction, wrapperName + "Function");
-            text = text.replace("Primitive", primitiveName);
-            text = text.replaceAll("(\\w*)Wrapper\\d?(\\w*)<Wrapper\\d?>", //
-                    "$1" + wrapperName + "$2" + (numeric ? "" : "<" + wrapperType + ">"));
-            if (!numeric) text = text.replaceAll("AsWrapper\\d?", "");
-            text = text.replaceAll("(\\W)Wrapper\\d?(\\W)", "$1" + wrapperType + "$2");
-            text = text.replaceAll("Wrapper\\d?", wrapperName);
-            text = text.replaceAll("new List\\(\\)", "new ArrayList()");
-
-            return text;
-        }
-    }
-
-    /**
-     * Generate code.
-     */
-    public static void main(String[] args) {
-        // Array
-        SpecializedCodeGenerator.write(WrapperRingBuffer.class, Type.Int, Type.Long, Type.Double);
-        SpecializedCodeGenerator.write(WrapperList.class, Type.Int, Type.Long, Type.Float, Type.Double);
-
-        // Set
-        SpecializedCodeGenerator.write(WrapperSet.class, Type.Int, Type.Long, Type.Double);
-        SpecializedCodeGenerator.write(SortedWrapperSet.class, Type.Int, Type.Long, Type.Double);
-        SpecializedCodeGenerator.write(SortedWrapperSet.class, Type.Int, Type.Long, Type.Double);
-        SpecializedCodeGenerator.write(NavigableWrapperSet.class, Type.Int, Type.Long, Type.Double);
-
-        // Map
-        SpecializedCodeGenerator.write(WrapperMap.class, Type.Int, Type.Long, Type.Double);
-        SpecializedCodeGenerator.write(NavigableWrapperMap.class, Type.Int, Type.Long, Type.Double);
-        SpecializedCodeGenerator.write(ConcurrentWrapperMap.class, Type.Int, Type.Long, Type.Double);
-        SpecializedCodeGenerator.write(ConcurrentNavigableWrapperMap.class, Type.Int, Type.Long, Type.Double);
-        SpecializedCodeGenerator.writeAsPackagePrivate(SkipListWrapperMap.class, Type.Int, Type.Long, Type.Double);
-
-        // Function
-        SpecializedCodeGenerator.write(WrapperPentaFunction.class, Type.Int, Type.Long, Type.Double);
-        SpecializedCodeGenerator.write(WrapperTetraFunction.class, Type.Int, Type.Long, Type.Double);
-        SpecializedCodeGenerator.write(WrapperTriFunction.class, Type.Int, Type.Long, Type.Double);
-        SpecializedCodeGenerator.write(ToWrapperTriFunction.class, Type.Int, Type.Long, Type.Double);
-    }
-
-    /**
-     * Replaceable type for wrapper types.
-     */
-    public static interface Wrapper {
-
-        /** The minimum value of primitive type. */
-        Primitive MIN_VALUE = null;
-
-        /** The maximum value of primitive type. */
-        Primitive MAX_VALUE = null;
-
-        static int compare(Primitive one, Primitive other) {
-            throw new Error("Dummy code");
-        }
-
-        /**
-         * Create inital value.
-         * 
-         * @return
-         */
-        public static <AnyType> AnyType initital() {
-            throw new Error("Dummy code");
-        }
-
-        /**
-         * Create array.
-         * 
-         * @param size
-         * @return
-         */
-        public static <AnyType> AnyType[] newArray(int size) {
-            throw new Error("Dummy code");
-        }
-    }
-
-    /**
-     * Replaceable type for primitive function types.
-     */
-    public static interface WrapperFunction<V> {
-        V apply(Primitive value);
-    }
-
-    /**
-     * Replaceable type for primitive function types.
-     */
-    public static interface WrapperConsumer<V> {
-        void accept(Primitive value);
-    }
-
-    /**
-     * Replaceable type for primitive function types.
-     */
-    public static interface WrapperBinaryOperator<V> {
-        Primitive applyAsWrapper(Primitive left, Primitive right);
-    }
-
-    /**
-     * Replaceable type for primitive types.
-     */
-    public static interface Primitive extends Wrapper {
-
-        /**
-         * This code will be replaced by increment code of primitive type (i.e. base += 3).
-         * 
-         * @param base A base value.
-         * @param increment A increment size.
-         * @return Increment code.
-         */
-        public static Primitive increment(Primitive base, Primitive increment) {
-            throw new Error("Dummy code");
-        }
-
-        /**
-         * This code will be replaced by decrement code of primitive type (i.e. base -= 3).
-         * 
-         * @param base A base value.
-         * @param decrement A decrement size.
-         * @return Decrement code.
-         */
-        public static Primitive decrement(Primitive base, Primitive decrement) {
-            throw new Error("Dummy code");
-        }
-
-        /**
-         * This code will be replaced by comparing code of primitive type (i.e. Long.compare(a, b)).
-         * 
-         * @param a A target value.
-         * @param b A other value.
-         * @return Comparing code.
-         */
-        public static int compare(Primitive a, Primitive b) {
-            throw new Error("Dummy code");
-        }
-    }
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public class SpecializedCodeGenerator {
+
+    /** The numeric types for the arithmetic families and the primitive values of map. */
+    private static final Type[] NUMERIC = {Type.Int, Type.Long, Type.Float, Type.Double};
+
+    /**
+     * All types including the small integral types. Their own arithmetic overflows too easily for
+     * the aggregation over the window, so they are used only by the storage families (whose sum and
+     * dot product are accumulated in {@link SumPrimitive}).
+     */
+    private static final Type[] ALL = {Type.Int, Type.Long, Type.Float, Type.Double, Type.Short, Type.Char, Type.Byte};
+
+    /**
+     * The type matrix. Each template is specialized for all the listed types (and for all the pairs
+     * of key type and value type in the two-type specialization) on every generation, so the
+     * generated code never misses the type which is declared here.
+     */
+    private static final Template[] TEMPLATES = {
+            // Array
+            Template.of("ring/WrapperRingBuffer", NUMERIC),
+            Template.of("ring/WrapperSlidingWindow", NUMERIC),
+            Template.of("array/WrapperList", ALL),
+            Template.of("array/SegmentedWrapperList", ALL),
+            Template.of("array/WrapperArrays", ALL),
+            Template.of("array/ConcurrentWrapperList", ALL),
+
+            // Queue
+            Template.of("queue/WrapperQueue", ALL),
+            Template.packagePrivate("queue/SpscWrapperQueue", ALL),
+            Template.packagePrivate("queue/MpscWrapperQueue", ALL),
+
+            // Set
+            Template.of("set/WrapperSet", ALL),
+            Template.of("set/SortedWrapperSet", ALL),
+            Template.of("set/NavigableWrapperSet", ALL),
+            Template.of("set/ConcurrentNavigableWrapperSet", ALL),
+            Template.packagePrivate("set/HashWrapperSet", ALL),
+            Template.packagePrivate("set/SkipListWrapperSet", ALL),
+
+            // Map
+            Template.of("map/WrapperMap", ALL),
+            Template.of("map/WrapperMapCursor", ALL),
+            Template.of("map/NavigableWrapperMap", ALL),
+            Template.of("map/AggregatingNavigableWrapperMap", ALL),
+            Template.of("map/ConcurrentWrapperMap", ALL),
+            Template.of("map/ConcurrentNavigableWrapperMap", ALL),
+            Template.packagePrivate("map/SkipListWrapperMap", ALL),
+            Template.packagePrivate("map/IndexedSkipListWrapperMap", ALL),
+            Template.packagePrivate("map/HashWrapperMap", ALL),
+            Template.packagePrivate("map/ConcurrentHashWrapperMap", ALL),
+            Template.of("map/WrapperValueWrapperMap", ALL, NUMERIC),
+            Template.packagePrivate("map/HashWrapperValueWrapperMap", ALL, NUMERIC),
+
+            // Function
+            Template.of("function/WrapperPentaFunction", ALL),
+            Template.of("function/WrapperTetraFunction", ALL),
+            Template.of("function/WrapperTriFunction", ALL),
+            Template.of("function/ToWrapperTriFunction", ALL),
+            Template.of("function/WrapperObjConsumer", ALL)};
+
+    /** The source directory of templates. */
+    static final Path SOURCE = Path.of("src/test/java");
+
+    /** The output directory of generated code. */
+    static final Path OUTPUT = Path.of("src/main/auto");
+
+    /**
+     * Generate code. Only the stale file is written, so the up-to-date file keeps its timestamp for
+     * the incremental compilation. The generated file which is no longer declared in the type matrix
+     * is deleted.
+     * <p>
+     * This class depends on nothing but JDK, so the project definition of Bee runs it from the
+     * source file (i.e. {@code java src/test/java/primavera/SpecializedCodeGenerator.java}) before
+     * any task compiles the main code.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<Path, List<String>> generated = generate();
+        for (Path path : stale(generated)) {
+            Path file = OUTPUT.resolve(path);
+            Files.createDirectories(file.getParent());
+            Files.write(file, generated.get(path));
+            System.out.println("Generate " + file);
+        }
+
+        for (Path orphan : orphans(generated.keySet())) {
+            Files.delete(OUTPUT.resolve(orphan));
+            System.out.println("Delete " + orphan);
+        }
+    }
+
+    /**
+     * Generate the specialized code of all templates in memory.
+     * 
+     * @return The generated code, the key is the path relative to the output directory.
+     */
+    static Map<Path, List<String>> generate() throws IOException {
+        Map<Path, List<String>> generated = new TreeMap<>();
+        for (Template template : TEMPLATES) {
+            template.generate(generated);
+        }
+        return generated;
+    }
+
+    /**
+     * List up the generated code which is missing or different in the output directory.
+     * 
+     * @param generated The generated code.
+     * @return The paths relative to the output directory.
+     */
+    static List<Path> stale(Map<Path, List<String>> generated) throws IOException {
+        List<Path> stale = new ArrayList<>();
+        for (Entry<Path, List<String>> entry : generated.entrySet()) {
+            Path file = OUTPUT.resolve(entry.getKey());
+            if (Files.notExists(file) || !read(file).equals(entry.getValue())) {
+                stale.add(entry.getKey());
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * Read all lines of the specified file.
+     * 
+     * @param file A target file.
+     * @return The lines without line separators.
+     */
+    private static List<String> read(Path file) throws IOException {
+        return Files.readAllLines(file);
+    }
+
+    /**
+     * List up the files in the output directory which are not generated.
+     * 
+     * @param generated The paths of generated files.
+     * @return The paths relative to the output directory.
+     */
+    static List<Path> orphans(Set<Path> generated) throws IOException {
+        try (Stream<Path> files = Files.walk(OUTPUT)) {
+            return files.filter(Files::isRegularFile).map(OUTPUT::relativize).filter(path -> !generated.contains(path)).sorted().toList();
+        }
+    }
+
+    /**
+     * The declaration of template and its specialized types.
+     */
+    private static final class Template {
+
+        /** The template path relative to the root package without extension. */
+        private final String source;
+
+        /** The flag to make the generated type package-private. */
+        private final boolean packagePrivate;
+
+        /** The key types. */
+        private final Type[] keyTypes;
+
+        /** The value types, {@code null} element means that the template has no value type. */
+        private final Type[] valueTypes;
+
+        /**
+         * Hide constructor.
+         */
+        private Template(String source, boolean packagePrivate, Type[] keyTypes, Type[] valueTypes) {
+            this.source = Objects.requireNonNull(source);
+            this.packagePrivate = packagePrivate;
+            this.keyTypes = keyTypes;
+            this.valueTypes = valueTypes;
+        }
+
+        /**
+         * Declare the public template.
+         */
+        private static Template of(String source, Type... types) {
+            return new Template(source, false, types, new Type[] {null});
+        }
+
+        /**
+         * Declare the public template of the two-type specialization.
+         */
+        private static Template of(String source, Type[] keyTypes, Type[] valueTypes) {
+            return new Template(source, false, keyTypes, valueTypes);
+        }
+
+        /**
+         * Declare the package-private template.
+         */
+        private static Template packagePrivate(String source, Type... types) {
+            return new Template(source, true, types, new Type[] {null});
+        }
+
+        /**
+         * Declare the package-private template of the two-type specialization.
+         */
+        private static Template packagePrivate(String source, Type[] keyTypes, Type[] valueTypes) {
+            return new Template(source, true, keyTypes, valueTypes);
+        }
+
+        /**
+         * Generate the specialized code for each pair of key type and value type.
+         * 
+         * @param generated The output.
+         */
+        private void generate(Map<Path, List<String>> generated) throws IOException {
+            String path = "primavera/" + source + ".java";
+            List<String> sourceLines = read(SOURCE.resolve(path));
+
+            for (Type type : keyTypes) {
+                for (Type value : valueTypes) {
+                    Function<String, String> replacer = value == null ? type::replace : line -> type.replace(value.replaceValue(line));
+                    List<String> lines = new ArrayList<>();
+                    for (String line : sourceLines) {
+                        line = replacer.apply(line);
+                        if (!line.equals("SKIPLINE")) lines.add(line);
+                    }
+                    if (packagePrivate) makePackagePrivate(lines);
+                    generated.put(Path.of(replacer.apply(path)), lines);
+                }
+            }
+        }
+    }
+
+    /**
+     * Make the modifier of top-level type package-private.
+     * 
+     * @param lines
+     */
+    private static void makePackagePrivate(List<String> lines) {
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.startsWith("public ")) {
+                lines.set(i, line.replace("public ", ""));
+                return;
+            }
+        }
+    }
+
+    /**
+     * 
+     */
+    public enum Type {
+
+        Object(false, "E", "", "E", "null", "", "E", "null"),
+
+        Int(true, "int", "Int", "Integer", "0", "Int", "int", "0"),
+
+        Long(true, "long", "Long", "Long", "0L", "Long", "long", "0L"),
+
+        Float(true, "float", "Float", "Float", "0f", "Double", "float", "0f"),
+
+        Double(true, "double", "Double", "Double", "0d", "Double", "double", "0d"),
+
+        Short(true, "short", "Short", "Short", "(short) 0", "Int", "long", "0L"),
+
+        Char(true, "char", "Char", "Character", "(char) 0", "Int", "long", "0L"),
+
+        Byte(true, "byte", "Byte", "Byte", "(byte) 0", "Int", "long", "0L");
+
+        private final boolean numeric;
+
+        private final String primitiveName;
+
+        private final String wrapperName;
+
+        private final String wrapperType;
+
+        private final String initialValue;
+
+        /** The type name of JDK's consumer, predicate and stream (float is widened to double). */
+        private final String functionalName;
+
+        /** The primitive type of sum and dot product (the small integral types are widened to long). */
+        private final String sumName;
+
+        /** The initial value of sum and dot product. */
+        private final String sumInitialValue;
+
+        /**
+         * @param specializedType
+         */
+        private Type(boolean numeric, String primitiveName, String wrapperName, String wrapperType, String initialValue, String functionalName, String sumName, String sumInitialValue) {
+            this.numeric = numeric;
+            this.primitiveName = primitiveName;
+            this.wrapperName = wrapperName;
+            this.wrapperType = wrapperType;
+            this.initialValue = initialValue;
+            this.functionalName = functionalName;
+            this.sumName = sumName;
+            this.sumInitialValue = sumInitialValue;
+        }
+
+        String replace(String text) {
+            if (text.startsWith("import " + SpecializedCodeGenerator.class.getCanonicalName())) {
+                if (text.startsWith("import " + WrapperFunction.class.getCanonicalName())) {
+                    return "import java.util.function." + functionalName + "Function;";
+                } else if (text.startsWith("import " + WrapperConsumer.class.getCanonicalName())) {
+                    return "import java.util.function." + functionalName + "Consumer;";
+                } else if (text.startsWith("import " + WrapperPredicate.class.getCanonicalName())) {
+                    return "import java.util.function." + functionalName + "Predicate;";
+                } else if (text.startsWith("import " + WrapperStream.class.getCanonicalName())) {
+                    return "import java.util.stream." + functionalName + "Stream;";
+                } else if (text.startsWith("import " + WrapperBinaryOperator.class.getCanonicalName())) {
+                    return "import java.util.function." + functionalName + "BinaryOperator;";
+                } else {
+                    return "SKIPLINE";
+                }
+            }
+
+            String primitiveFunction = WrapperFunction.class.getSimpleName();
+
+            // the accumulator of sum and dot product, this must be replaced before the element type
+            text = text.replaceAll("SumWrapper\\.initital\\(\\)", sumInitialValue);
+            text = text.replace("SumPrimitive", sumName);
+
+            // initial value
+            text = text.replaceAll("Wrapper\\.initital\\(\\)", initialValue);
+
+            // new int[size] or (E[]) Array.newInstance(Object.class, size)
+            text = text.replaceAll("Wrapper\\.newArray\\((.+)\\)", //
+                    numeric ? "new " + primitiveName + "[$1]" : "(E[]) java.lang.reflect.Array.newInstance(Object.class, $1)");
+
+            // stream over the array range, float is widened to double and the small integrals to int
+            text = text.replaceAll("Wrapper\\.stream\\((\\w+), (.+), (.+)\\)", wrapperName.equals(functionalName) ? "Arrays.stream($1, $2, $3)"
+                    : "java.util.stream.IntStream.range($2, $3)." + (functionalName.equals("Int") ? "map" : "mapTo" + functionalName) + "(i -> $1[i])");
+
+            // multiplying (in the accumulator type) and widening, the arguments must not contain comma
+            // or parenthesis
+            text = text.replaceAll("Primitive\\.multiply\\(([^,()]+), ([^,()]+)\\)", sumName.equals(primitiveName) ? "$1 * $2" : "(" + sumName + ") $1 * $2");
+            text = text.replaceAll("Primitive\\.toDouble\\(([^,()]+)\\)", primitiveName.equals("double") ? "$1" : "(double) $1");
+
+            // comparing, increment and decrement
+            text = text.replaceAll("Primitive\\.compare\\((.+), (.+)\\)", wrapperType + ".compare($1, $2)");
+            text = text.replaceAll("Primitive\\.increment\\((.+), (.+)\\)", "$1 += $2");
+            text = text.replaceAll("Primitive\\.decrement\\((.+), (.+)\\)", "$1 -= $2");
+
+            // the result of widened operator is narrowed (i.e. (float) op.applyAsDouble(a, b))
+            if (numeric && !wrapperName.equals(functionalName)) {
+                text = text.replaceAll("(\\w+)\\.applyAsWrapper\\(", "(" + primitiveName + ") $1.applyAs" + functionalName + "(");
+                text = text.replaceAll("WrapperBinaryOperator<Wrapper\\d?>", functionalName + "BinaryOperator");
+            }
+
+            // Primitive and Wrapper
+            text = text.replaceAll("Wrapper(Consumer|Predicate|Stream)<Wrapper\\d?>", functionalName + "$1" + (numeric ? "" : "<" + wrapperType + ">"));
+            text = text.replace(primitiveFunction, functionalName + "Function");
+            text = text.replace("Primitive", primitiveName);
+            text = text.replaceAll("(\\w*)Wrapper\\d?(\\w*)<Wrapper\\d?>", //
+                    "$1" + wrapperName + "$2" + (numeric ? "" : "<" + wrapperType + ">"));
+            if (!numeric) text = text.replaceAll("AsWrapper\\d?", "");
+            text = text.replaceAll("(\\W)Wrapper\\d?(\\W)", "$1" + wrapperType + "$2");
+            text = text.replaceAll("Wrapper\\d?", wrapperName);
+            text = text.replaceAll("new List\\(\\)", "new ArrayList()");
+
+            return text;
+        }
+
+        /**
+         * Replace the value type placeholders ({@link ValuePrimitive} and {@link ValueWrapper}). This
+         * must be applied before {@link #replace(String)} because the value placeholders contain the
+         * key placeholders.
+         * 
+         * @param text
+         * @return
+         */
+        String replaceValue(String text) {
+            // initial value
+            text = text.replaceAll("ValueWrapper\\.initital\\(\\)", initialValue);
+
+            // new int[size]
+            text = text.replaceAll("ValueWrapper\\.newArray\\((.+)\\)", "new " + primitiveName + "[$1]");
+
+            // comparing, increment and decrement
+            text = text.replaceAll("ValuePrimitive\\.compare\\((.+), (.+)\\)", wrapperType + ".compare($1, $2)");
+            text = text.replaceAll("ValuePrimitive\\.increment\\((.+), (.+)\\)", "$1 += $2");
+            text = text.replaceAll("ValuePrimitive\\.decrement\\((.+), (.+)\\)", "$1 -= $2");
+
+            // ValuePrimitive and ValueWrapper
+            text = text.replace("ValuePrimitive", primitiveName);
+            text = text.replaceAll("(\\W)ValueWrapper(\\W)", "$1" + wrapperType + "$2");
+            text = text.replace("ValueWrapper", wrapperName);
+
+            return text;
+        }
+    }
+
+    /**
+     * Replaceable type for wrapper types.
+     */
+    public static interface Wrapper {
+
+        /** The minimum value of primitive type. */
+        Primitive MIN_VALUE = null;
+
+        /** The maximum value of primitive type. */
+        Primitive MAX_VALUE = null;
+
+        /** The number of bytes of primitive type. */
+        int BYTES = 0;
+
+        static int compare(Primitive one, Primitive other) {
+            throw new Error("Dummy code");
+        }
+
+        static int hashCode(Primitive value) {
+            throw new Error("Dummy code");
+        }
+
+        /**
+         * Create inital value.
+         * 
+         * @return
+         */
+        public static <AnyType> AnyType initital() {
+            throw new Error("Dummy code");
+        }
+
+        /**
+         * Create array.
+         * 
+         * @param size
+         * @return
+         */
+        public static <AnyType> AnyType[] newArray(int size) {
+            throw new Error("Dummy code");
+        }
+
+        /**
+         * Create the sequential stream over the specified range of array.
+         * 
+         * @param array
+         * @param from
+         * @param to
+         * @return
+         */
+        public static <AnyType> AnyType stream(Object array, int from, int to) {
+            throw new Error("Dummy code");
+        }
+    }
+
+    /**
+     * Replaceable type for primitive function types.
+     */
+    public static interface WrapperFunction<V> {
+        V apply(Primitive value);
+    }
+
+    /**
+     * Replaceable type for primitive function types.
+     */
+    public static interface WrapperConsumer<V> {
+        void accept(Primitive value);
+    }
+
+    /**
+     * Replaceable type for primitive function types.
+     */
+    public static interface WrapperBinaryOperator<V> {
+        Primitive applyAsWrapper(Primitive left, Primitive right);
+    }
+
+    /**
+     * Replaceable type for primitive function types.
+     */
+    public static interface WrapperPredicate<V> {
+        boolean test(Primitive value);
+    }
+
+    /**
+     * Replaceable type for primitive stream types.
+     */
+    public static interface WrapperStream<V> {
+    }
+
+    /**
+     * Replaceable type for wrapper types of the value side in the two-type specialization.
+     */
+    public static interface ValueWrapper {
+
+        /** The number of bytes of primitive type. */
+        int BYTES = 0;
+
+        /**
+         * Create inital value.
+         * 
+         * @return
+         */
+        public static <AnyType> AnyType initital() {
+            throw new Error("Dummy code");
+        }
+
+        /**
+         * Create array.
+         * 
+         * @param size
+         * @return
+         */
+        public static <AnyType> AnyType[] newArray(int size) {
+            throw new Error("Dummy code");
+        }
+    }
+
+    /**
+     * Replaceable type for primitive types of the value side in the two-type specialization.
+     */
+    public static interface ValuePrimitive extends ValueWrapper {
+
+        /**
+         * This code will be replaced by increment code of primitive type (i.e. base += 3).
+         * 
+         * @param base A base value.
+         * @param increment A increment size.
+         * @return Increment code.
+         */
+        public static ValuePrimitive increment(ValuePrimitive base, ValuePrimitive increment) {
+            throw new Error("Dummy code");
+        }
+
+        /**
+         * This code will be replaced by decrement code of primitive type (i.e. base -= 3).
+         * 
+         * @param base A base value.
+         * @param decrement A decrement size.
+         * @return Decrement code.
+         */
+        public static ValuePrimitive decrement(ValuePrimitive base, ValuePrimitive decrement) {
+            throw new Error("Dummy code");
+        }
+
+        /**
+         * This code will be replaced by comparing code of primitive type (i.e. Long.compare(a, b)).
+         * 
+         * @param a A target value.
+         * @param b A other value.
+         * @return Comparing code.
+         */
+        public static int compare(ValuePrimitive a, ValuePrimitive b) {
+            throw new Error("Dummy code");
+        }
+    }
+
+    /**
+     * Replaceable type for the accumulator types of sum and dot product.
+     */
+    public static interface SumWrapper {
+
+        /**
+         * Create inital value.
+         * 
+         * @return
+         */
+        public static <AnyType> AnyType initital() {
+            throw new Error("Dummy code");
+        }
+    }
+
+    /**
+     * Replaceable type for the accumulator types of sum and dot product. It is the element type
+     * itself except the small integral types, they are widened to long.
+     */
+    public static interface SumPrimitive extends SumWrapper, Primitive {
+    }
+
+    /**
+     * Replaceable type for primitive types.
+     */
+    public static interface Primitive extends Wrapper, Comparable<Primitive> {
+
+        /**
+         * This code will be replaced by increment code of primitive type (i.e. base += 3).
+         * 
+         * @param base A base value.
+         * @param increment A increment size.
+         * @return Increment code.
+         */
+        public static Primitive increment(Primitive base, Primitive increment) {
+            throw new Error("Dummy code");
+        }
+
+        /**
+         * This code will be replaced by decrement code of primitive type (i.e. base -= 3).
+         * 
+         * @param base A base value.
+         * @param decrement A decrement size.
+         * @return Decrement code.
+         */
+        public static Primitive decrement(Primitive base, Primitive decrement) {
+            throw new Error("Dummy code");
+        }
+
+        /**
+         * This code will be replaced by comparing code of primitive type (i.e. Long.compare(a, b)).
+         * 
+         * @param a A target value.
+         * @param b A other value.
+         * @return Comparing code.
+         */
+        public static int compare(Primitive a, Primitive b) {
+            throw new Error("Dummy code");
+        }
+
+        /**
+         * This code will be replaced by multiplying code of primitive type (i.e. a * b).
+         * 
+         * @param a A target value.
+         * @param b A other value.
+         * @return Multiplying code.
+         */
+        public static Primitive multiply(Primitive a, Primitive b) {
+            throw new Error("Dummy code");
+        }
+
+        /**
+         * This code will be replaced by widening code of primitive type (i.e. (double) a).
+         * 
+         * @param a A target value.
+         * @return Widening code.
+         */
+        public static double toDouble(Primitive a) {
+            throw new Error("Dummy code");
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.array;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLongListTest {
+
+    @Test
+    void add() {
+        ConcurrentLongList list = new ConcurrentLongList();
+        assert list.isEmpty();
+        assert list.first() == 0;
+        assert list.last() == 0;
+
+        for (int i = 0; i < 5000; i++) {
+            list.add(i);
+            assert list.size() == i + 1;
+            assert list.last() == i;
+        }
+        assert list.isNotEmpty();
+        assert list.first() == 0;
+
+        for (int i = 0; i < 5000; i++) {
+            assert list.get(i) == i;
+        }
+        assert list.get(-1) == 0;
+        assert list.get(5000) == 0;
+    }
+
+    @Test
+    void toArray() {
+        ConcurrentLongList list = new ConcurrentLongList();
+        assert list.toArray().length == 0;
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i * 2);
+        }
+        long[] array = list.toArray();
+        assert array.length == 100;
+        for (int i = 0; i < 100; i++) {
+            assert array[i] == i * 2;
+        }
+
+        long[] sum = {0};
+        list.forEach(value -> sum[0] += value);
+        assert sum[0] == Arrays.stream(array).sum();
+    }
+
+    @Test
+    void concurrentAdd() throws Exception {
+        int threads = 8;
+        int count = 20000;
+        ConcurrentLongList list = new ConcurrentLongList();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long base = (long) t * count;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < count; i++) {
+                        list.add(base + i + 1);
+
+                        // readers never see the unwritten slot
+                        int size = list.size();
+                        assert size == 0 || list.get(size - 1) != 0;
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assert list.size() == threads * count;
+        long[] array = list.toArray();
+        Arrays.sort(array);
+        for (int i = 0; i < array.length; i++) {
+            assert array[i] == i + 1;
+        }
+    }
+}
\ No newline at end of file
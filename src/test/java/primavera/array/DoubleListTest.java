@@ -1,138 +1,264 @@
-/*
- * Copyright (C) 2025 The PRIMAVERA Development Team
- *
- * Licensed under the MIT License (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *          https://opensource.org/licenses/MIT
- */
-package primavera.array;
-
-import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.Test;
-
-class DoubleListTest {
-
-    private int sizeForTest = 5000;
-
-    @Test
-    void size() {
-        DoubleList array = new DoubleList();
-        assert array.size() == 0;
-
-        array.add(0);
-        assert array.size() == 1;
-
-        array.add(1);
-        assert array.size() == 2;
-    }
-
-    @Test
-    void get() {
-        DoubleList array = new DoubleList();
-        for (int i = 0; i < sizeForTest; i++) {
-            array.add(i);
-        }
-
-        for (int i = 0; i < sizeForTest; i++) {
-            assert array.get(i) == i;
-        }
-    }
-
-    @Test
-    void getOutOfIndex() {
-        DoubleList array = new DoubleList();
-        for (int i = 0; i < sizeForTest; i++) {
-            assert array.get(i) == 0;
-            array.set(i, i);
-        }
-    }
-
-    @Test
-    void set() {
-        DoubleList array = new DoubleList();
-        for (int i = 0; i < sizeForTest; i++) {
-            array.set(i, i);
-        }
-
-        for (int i = 0; i < sizeForTest; i++) {
-            assert array.get(i) == i;
-        }
-    }
-
-    @Test
-    void setNegativeIndex() {
-        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> new DoubleList().set(-1, 10));
-    }
-
-    @Test
-    void setLargeStep() {
-        DoubleList array = new DoubleList();
-        for (int i = 0; i < 5; i++) {
-            array.set(i * 2000, i);
-        }
-
-        for (int i = 0; i < 5; i++) {
-            assert array.get(i * 2000) == i;
-        }
-    }
-
-    @Test
-    void increment() {
-        DoubleList array = new DoubleList();
-        for (int i = 0; i < sizeForTest; i++) {
-            array.increment(i, i);
-        }
-
-        for (int i = 0; i < sizeForTest; i++) {
-            assert array.get(i) == i;
-        }
-    }
-
-    @Test
-    void incrementLargeStep() {
-        DoubleList array = new DoubleList();
-        for (int i = 0; i < 5; i++) {
-            array.increment(i * 2000, i);
-        }
-
-        for (int i = 0; i < 5; i++) {
-            assert array.get(i * 2000) == i;
-        }
-    }
-
-    @Test
-    void incrementNegativeIndex() {
-        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> new DoubleList().increment(-1, 10));
-    }
-
-    @Test
-    void decrement() {
-        DoubleList array = new DoubleList();
-        for (int i = 0; i < sizeForTest; i++) {
-            array.decrement(i, i);
-        }
-
-        for (int i = 0; i < sizeForTest; i++) {
-            assert array.get(i) == -i;
-        }
-    }
-
-    @Test
-    void decrementLargeStep() {
-        DoubleList array = new DoubleList();
-        for (int i = 0; i < 5; i++) {
-            array.decrement(i * 2000, i);
-        }
-
-        for (int i = 0; i < 5; i++) {
-            assert array.get(i * 2000) == -i;
-        }
-    }
-
-    @Test
-    void decrementNegativeIndex() {
-        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> new DoubleList().decrement(-1, 10));
-    }
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class DoubleListTest {
+
+    private int sizeForTest = 5000;
+
+    @Test
+    void size() {
+        DoubleList array = new DoubleList();
+        assert array.size() == 0;
+
+        array.add(0);
+        assert array.size() == 1;
+
+        array.add(1);
+        assert array.size() == 2;
+    }
+
+    @Test
+    void get() {
+        DoubleList array = new DoubleList();
+        for (int i = 0; i < sizeForTest; i++) {
+            array.add(i);
+        }
+
+        for (int i = 0; i < sizeForTest; i++) {
+            assert array.get(i) == i;
+        }
+    }
+
+    @Test
+    void getOutOfIndex() {
+        DoubleList array = new DoubleList();
+        for (int i = 0; i < sizeForTest; i++) {
+            assert array.get(i) == 0;
+            array.set(i, i);
+        }
+    }
+
+    @Test
+    void set() {
+        DoubleList array = new DoubleList();
+        for (int i = 0; i < sizeForTest; i++) {
+            array.set(i, i);
+        }
+
+        for (int i = 0; i < sizeForTest; i++) {
+            assert array.get(i) == i;
+        }
+    }
+
+    @Test
+    void setNegativeIndex() {
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> new DoubleList().set(-1, 10));
+    }
+
+    @Test
+    void setLargeStep() {
+        DoubleList array = new DoubleList();
+        for (int i = 0; i < 5; i++) {
+            array.set(i * 2000, i);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assert array.get(i * 2000) == i;
+        }
+    }
+
+    @Test
+    void increment() {
+        DoubleList array = new DoubleList();
+        for (int i = 0; i < sizeForTest; i++) {
+            array.increment(i, i);
+        }
+
+        for (int i = 0; i < sizeForTest; i++) {
+            assert array.get(i) == i;
+        }
+    }
+
+    @Test
+    void incrementLargeStep() {
+        DoubleList array = new DoubleList();
+        for (int i = 0; i < 5; i++) {
+            array.increment(i * 2000, i);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assert array.get(i * 2000) == i;
+        }
+    }
+
+    @Test
+    void incrementNegativeIndex() {
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> new DoubleList().increment(-1, 10));
+    }
+
+    @Test
+    void decrement() {
+        DoubleList array = new DoubleList();
+        for (int i = 0; i < sizeForTest; i++) {
+            array.decrement(i, i);
+        }
+
+        for (int i = 0; i < sizeForTest; i++) {
+            assert array.get(i) == -i;
+        }
+    }
+
+    @Test
+    void decrementLargeStep() {
+        DoubleList array = new DoubleList();
+        for (int i = 0; i < 5; i++) {
+            array.decrement(i * 2000, i);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assert array.get(i * 2000) == -i;
+        }
+    }
+
+    @Test
+    void decrementNegativeIndex() {
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> new DoubleList().decrement(-1, 10));
+    }
+
+    @Test
+    void growthFactor() {
+        DoubleList array = new DoubleList(1, 2);
+        for (int i = 0; i < sizeForTest; i++) {
+            array.add(i);
+        }
+        assert array.asArray().length == 8192;
+
+        for (int i = 0; i < sizeForTest; i++) {
+            assert array.get(i) == i;
+        }
+    }
+
+    @Test
+    void invalidGrowthFactor() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DoubleList(16, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DoubleList(16, Float.NaN));
+    }
+
+    @Test
+    void addAll() {
+        DoubleList array = new DoubleList(2);
+        array.addAll(1, 2, 3);
+        array.addAll(new DoubleList().addAll(4, 5));
+        assert array.size() == 5;
+        for (int i = 0; i < 5; i++) {
+            assert array.get(i) == i + 1;
+        }
+    }
+
+    @Test
+    void sortAndSearch() {
+        DoubleList array = new DoubleList();
+        array.addAll(5, 3, 9, 1, 7);
+        array.asArray()[5] = -1; // out of size
+        array.sort();
+        assert array.get(0) == 1;
+        assert array.get(4) == 9;
+        assert array.asArray()[5] == -1;
+
+        assert array.binarySearch(7) == 3;
+        assert array.binarySearch(4) == -3;
+        assert array.indexOf(9) == 4;
+        assert array.indexOf(2) == -1;
+
+        // same total order as sort and binary search
+        DoubleList special = new DoubleList();
+        special.addAll(0.0, Double.NaN, -0.0);
+        assert special.indexOf(Double.NaN) == 1;
+        assert special.indexOf(-0.0) == 2;
+        assert special.indexOf(0.0) == 0;
+
+        DoubleList large = new DoubleList();
+        for (int i = 0; i < sizeForTest; i++) {
+            large.add(sizeForTest - i);
+        }
+        large.parallelSort();
+        for (int i = 0; i < sizeForTest; i++) {
+            assert large.get(i) == i + 1;
+        }
+    }
+
+    @Test
+    void fill() {
+        DoubleList array = new DoubleList();
+        array.addAll(1, 2, 3);
+        array.fill(7);
+        assert array.size() == 3;
+        assert array.stream().allMatch(value -> value == 7);
+    }
+
+    @Test
+    void removeRange() {
+        DoubleList array = new DoubleList();
+        array.addAll(0, 1, 2, 3, 4, 5);
+        array.removeRange(1, 3);
+        assert array.size() == 4;
+        assert array.get(0) == 0;
+        assert array.get(1) == 3;
+        assert array.get(3) == 5;
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> array.removeRange(2, 5));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> array.removeRange(2, 1));
+    }
+
+    @Test
+    void removeIf() {
+        DoubleList array = new DoubleList();
+        for (int i = 0; i < sizeForTest; i++) {
+            array.add(i);
+        }
+        assert array.removeIf(value -> value % 2 == 0);
+        assert !array.removeIf(value -> value < 0);
+        assert array.size() == sizeForTest / 2;
+        for (int i = 0; i < array.size(); i++) {
+            assert array.get(i) == i * 2 + 1;
+        }
+    }
+
+    @Test
+    void removeIfThrows() {
+        DoubleList array = new DoubleList();
+        array.addAll(0, 1, 2, 3, 4, 5);
+        Assertions.assertThrows(IllegalStateException.class, () -> array.removeIf(value -> {
+            if (value == 4) throw new IllegalStateException();
+            return value % 2 == 0;
+        }));
+        assert array.size() == 6;
+        for (int i = 0; i < 6; i++) {
+            assert array.get(i) == i;
+        }
+    }
+
+    @Test
+    void stream() {
+        DoubleList array = new DoubleList();
+        for (int i = 0; i < sizeForTest; i++) {
+            array.add(i);
+        }
+        assert array.stream().count() == sizeForTest;
+        assert array.stream().sum() == (sizeForTest - 1) * sizeForTest / 2;
+        assert array.stream().parallel().sum() == (sizeForTest - 1) * sizeForTest / 2;
+        assert array.stream().spliterator().getExactSizeIfKnown() == sizeForTest;
+        assert new DoubleList().stream().count() == 0;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.array;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LongArraysTest {
+
+    @Test
+    void kernels() {
+        Random random = new Random(13);
+
+        for (int length = 0; length < 40; length++) {
+            long[] array = random.longs(length + 6, -1000, 1000).toArray();
+            long[] other = random.longs(length, -1000, 1000).toArray();
+            int from = 3;
+            int to = from + length;
+
+            long sum = 0, dot = 0;
+            int greater = 0;
+            for (int i = from; i < to; i++) {
+                sum += array[i];
+                dot += array[i] * other[i - from];
+                if (array[i] > 100) greater++;
+            }
+
+            assert LongArrays.sum(array, from, to) == sum;
+            assert LongArrays.dot(array, from, other, 0, length) == dot;
+            assert LongArrays.countGreaterThan(array, from, to, 100) == greater;
+            if (length == 0) {
+                assert LongArrays.min(array, from, to) == 0;
+                assert LongArrays.max(array, from, to) == 0;
+                assert Double.isNaN(LongArrays.mean(array, from, to));
+            } else {
+                assert LongArrays.min(array, from, to) == Arrays.stream(array, from, to).min().getAsLong();
+                assert LongArrays.max(array, from, to) == Arrays.stream(array, from, to).max().getAsLong();
+                assert LongArrays.mean(array, from, to) == (double) sum / length;
+            }
+        }
+    }
+
+    @Test
+    void outOfRange() {
+        long[] array = new long[4];
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> LongArrays.sum(array, 2, 5));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> LongArrays.min(array, 3, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> LongArrays.dot(array, 0, new long[2], 0, 3));
+    }
+
+    @Test
+    void list() {
+        LongList list = new LongList();
+        list.addAll(3, -1, 4, 1, 5);
+        assert list.sum() == 12;
+        assert list.min() == -1;
+        assert list.max() == 5;
+        assert list.mean() == 2.4;
+        assert list.countGreaterThan(2) == 3;
+        assert list.dot(new LongList().addAll(1, 1, 1, 1, 2)) == 17;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> list.dot(new LongList()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SegmentedLongListTest {
+
+    private int sizeForTest = 5000;
+
+    @Test
+    void add() {
+        SegmentedLongList array = new SegmentedLongList(4);
+        assert array.isEmpty();
+        assert array.first() == 0;
+        assert array.last() == 0;
+
+        for (int i = 0; i < sizeForTest; i++) {
+            array.add(i);
+            assert array.size() == i + 1;
+            assert array.last() == i;
+        }
+        assert array.isNotEmpty();
+
+        for (int i = 0; i < sizeForTest; i++) {
+            assert array.get(i) == i;
+        }
+        assert array.get(-1) == 0;
+        assert array.get(sizeForTest) == 0;
+    }
+
+    @Test
+    void set() {
+        SegmentedLongList array = new SegmentedLongList(3);
+        array.set(100, 1);
+        assert array.size() == 101;
+        assert array.get(100) == 1;
+        assert array.get(50) == 0;
+
+        for (int i = 0; i < sizeForTest; i++) {
+            array.set(i, i);
+        }
+        for (int i = 0; i < sizeForTest; i++) {
+            assert array.get(i) == i;
+        }
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> array.set(-1, 0));
+    }
+
+    @Test
+    void incrementAndDecrement() {
+        SegmentedLongList array = new SegmentedLongList();
+        assert array.increment(20000, 3) == 3;
+        assert array.increment(20000, 2) == 5;
+        assert array.decrement(20000, 4) == 1;
+        assert array.size() == 20001;
+    }
+
+    @Test
+    void toArray() {
+        SegmentedLongList array = new SegmentedLongList(2);
+        for (int i = 0; i < 10; i++) {
+            array.add(i);
+        }
+
+        long[] values = array.toArray();
+        assert values.length == 10;
+        for (int i = 0; i < 10; i++) {
+            assert values[i] == i;
+        }
+
+        array.clear();
+        assert array.isEmpty();
+        assert array.toArray().length == 0;
+        array.add(7);
+        assert array.first() == 7;
+    }
+
+    @Test
+    void invalidSegment() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SegmentedLongList(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SegmentedLongList(31));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.array;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class ShortArraysTest {
+
+    @Test
+    void sumIsWidened() {
+        short[] array = new short[1000];
+        Arrays.fill(array, Short.MAX_VALUE);
+
+        assert ShortArrays.sum(array, 0, array.length) == 1000L * Short.MAX_VALUE;
+        assert ShortArrays.sum(array, 0, 3) == 3L * Short.MAX_VALUE;
+    }
+
+    @Test
+    void dotIsWidened() {
+        short[] array = new short[1000];
+        Arrays.fill(array, Short.MIN_VALUE);
+
+        assert ShortArrays.dot(array, 0, array, 0, array.length) == 1000L * Short.MIN_VALUE * Short.MIN_VALUE;
+        assert ShortArrays.dot(array, 0, array, 0, 3) == 3L * Short.MIN_VALUE * Short.MIN_VALUE;
+    }
+
+    @Test
+    void list() {
+        ByteList bytes = new ByteList();
+        CharList chars = new CharList();
+        for (int i = 0; i < 300; i++) {
+            bytes.add(Byte.MAX_VALUE);
+            chars.add(Character.MAX_VALUE);
+        }
+        assert bytes.sum() == 300L * Byte.MAX_VALUE;
+        assert bytes.dot(bytes) == 300L * Byte.MAX_VALUE * Byte.MAX_VALUE;
+        assert chars.sum() == 300L * Character.MAX_VALUE;
+        assert chars.dot(chars) == 300L * Character.MAX_VALUE * Character.MAX_VALUE;
+    }
+}
\ No newline at end of file
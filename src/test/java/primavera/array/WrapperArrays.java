@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.array;
+
+import java.util.Objects;
+
+import javax.annotation.processing.Generated;
+
+import primavera.SpecializedCodeGenerator.Primitive;
+import primavera.SpecializedCodeGenerator.SumPrimitive;
+import primavera.SpecializedCodeGenerator.SumWrapper;
+import primavera.SpecializedCodeGenerator.Wrapper;
+
+/**
+ * Aggregation kernels over the range of primitive array. The loops are unrolled by four with the
+ * independent accumulators, so the consecutive additions do not wait for each other and the JIT
+ * compiler can keep the loop body in registers (and vectorize it where the type allows).
+ */
+@Generated("SpecializedCodeGenerator")
+public final class WrapperArrays {
+
+    /**
+     * Hide constructor.
+     */
+    private WrapperArrays() {
+    }
+
+    /**
+     * Compute the sum of the specified range. The sum of int and long overflows silently like the
+     * Java arithmetic of the element type, use {@link #mean} which accumulates in double when the
+     * sum can exceed its range. The small integral types (short, char and byte) are accumulated in
+     * long, so their sum never overflows.
+     *
+     * @param array A target array.
+     * @param from The index of the first element (inclusive).
+     * @param to The index of the last element (exclusive).
+     * @return The sum, 0 if the range is empty.
+     */
+    public static SumPrimitive sum(Primitive[] array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.length);
+
+        SumPrimitive s0 = SumWrapper.initital(), s1 = SumWrapper.initital(), s2 = SumWrapper.initital(), s3 = SumWrapper.initital();
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            Primitive.increment(s0, array[i]);
+            Primitive.increment(s1, array[i + 1]);
+            Primitive.increment(s2, array[i + 2]);
+            Primitive.increment(s3, array[i + 3]);
+        }
+        for (; i < to; i++) {
+            Primitive.increment(s0, array[i]);
+        }
+        Primitive.increment(s0, s1);
+        Primitive.increment(s2, s3);
+        Primitive.increment(s0, s2);
+        return s0;
+    }
+
+    /**
+     * Compute the minimum value of the specified range in the order of {@link Wrapper#compare}.
+     *
+     * @param array A target array.
+     * @param from The index of the first element (inclusive).
+     * @param to The index of the last element (exclusive).
+     * @return The minimum value, 0 if the range is empty.
+     */
+    public static Primitive min(Primitive[] array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.length);
+        if (from == to) {
+            return Wrapper.initital();
+        }
+
+        Primitive m0 = array[from], m1 = m0, m2 = m0, m3 = m0;
+        int i = from + 1;
+        for (; i + 3 < to; i += 4) {
+            if (Primitive.compare(array[i], m0) < 0) m0 = array[i];
+            if (Primitive.compare(array[i + 1], m1) < 0) m1 = array[i + 1];
+            if (Primitive.compare(array[i + 2], m2) < 0) m2 = array[i + 2];
+            if (Primitive.compare(array[i + 3], m3) < 0) m3 = array[i + 3];
+        }
+        for (; i < to; i++) {
+            if (Primitive.compare(array[i], m0) < 0) m0 = array[i];
+        }
+        if (Primitive.compare(m1, m0) < 0) m0 = m1;
+        if (Primitive.compare(m3, m2) < 0) m2 = m3;
+        return Primitive.compare(m2, m0) < 0 ? m2 : m0;
+    }
+
+    /**
+     * Compute the maximum value of the specified range in the order of {@link Wrapper#compare}.
+     *
+     * @param array A target array.
+     * @param from The index of the first element (inclusive).
+     * @param to The index of the last element (exclusive).
+     * @return The maximum value, 0 if the range is empty.
+     */
+    public static Primitive max(Primitive[] array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.length);
+        if (from == to) {
+            return Wrapper.initital();
+        }
+
+        Primitive m0 = array[from], m1 = m0, m2 = m0, m3 = m0;
+        int i = from + 1;
+        for (; i + 3 < to; i += 4) {
+            if (Primitive.compare(array[i], m0) > 0) m0 = array[i];
+            if (Primitive.compare(array[i + 1], m1) > 0) m1 = array[i + 1];
+            if (Primitive.compare(array[i + 2], m2) > 0) m2 = array[i + 2];
+            if (Primitive.compare(array[i + 3], m3) > 0) m3 = array[i + 3];
+        }
+        for (; i < to; i++) {
+            if (Primitive.compare(array[i], m0) > 0) m0 = array[i];
+        }
+        if (Primitive.compare(m1, m0) > 0) m0 = m1;
+        if (Primitive.compare(m3, m2) > 0) m2 = m3;
+        return Primitive.compare(m2, m0) > 0 ? m2 : m0;
+    }
+
+    /**
+     * Compute the arithmetic mean of the specified range.
+     *
+     * @param array A target array.
+     * @param from The index of the first element (inclusive).
+     * @param to The index of the last element (exclusive).
+     * @return The mean, {@link Double#NaN} if the range is empty.
+     */
+    public static double mean(Primitive[] array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.length);
+        if (from == to) {
+            return Double.NaN;
+        }
+
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += Primitive.toDouble(array[i]);
+            s1 += Primitive.toDouble(array[i + 1]);
+            s2 += Primitive.toDouble(array[i + 2]);
+            s3 += Primitive.toDouble(array[i + 3]);
+        }
+        for (; i < to; i++) {
+            s0 += Primitive.toDouble(array[i]);
+        }
+        return (s0 + s1 + s2 + s3) / (to - from);
+    }
+
+    /**
+     * Compute the dot product of the specified ranges. The products and the sum of int and long
+     * overflow silently like the Java arithmetic of the element type. The small integral types are
+     * multiplied and accumulated in long, so their dot product never overflows.
+     *
+     * @param one A target array.
+     * @param oneFrom The index of the first element in the first array.
+     * @param other A target array.
+     * @param otherFrom The index of the first element in the second array.
+     * @param length The number of elements to multiply.
+     * @return The dot product, 0 if the length is zero.
+     */
+    public static SumPrimitive dot(Primitive[] one, int oneFrom, Primitive[] other, int otherFrom, int length) {
+        Objects.checkFromIndexSize(oneFrom, length, one.length);
+        Objects.checkFromIndexSize(otherFrom, length, other.length);
+
+        SumPrimitive s0 = SumWrapper.initital(), s1 = SumWrapper.initital(), s2 = SumWrapper.initital(), s3 = SumWrapper.initital();
+        int i = 0;
+        for (; i + 3 < length; i += 4) {
+            Primitive.increment(s0, Primitive.multiply(one[oneFrom + i], other[otherFrom + i]));
+            Primitive.increment(s1, Primitive.multiply(one[oneFrom + i + 1], other[otherFrom + i + 1]));
+            Primitive.increment(s2, Primitive.multiply(one[oneFrom + i + 2], other[otherFrom + i + 2]));
+            Primitive.increment(s3, Primitive.multiply(one[oneFrom + i + 3], other[otherFrom + i + 3]));
+        }
+        for (; i < length; i++) {
+            Primitive.increment(s0, Primitive.multiply(one[oneFrom + i], other[otherFrom + i]));
+        }
+        Primitive.increment(s0, s1);
+        Primitive.increment(s2, s3);
+        Primitive.increment(s0, s2);
+        return s0;
+    }
+
+    /**
+     * Count the elements in the specified range which are greater than the threshold in the order
+     * of {@link Wrapper#compare}.
+     *
+     * @param array A target array.
+     * @param from The index of the first element (inclusive).
+     * @param to The index of the last element (exclusive).
+     * @param threshold A threshold value.
+     * @return The number of the greater elements.
+     */
+    public static int countGreaterThan(Primitive[] array, int from, int to, Primitive threshold) {
+        Objects.checkFromToIndex(from, to, array.length);
+
+        int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            c0 += Primitive.compare(array[i], threshold) > 0 ? 1 : 0;
+            c1 += Primitive.compare(array[i + 1], threshold) > 0 ? 1 : 0;
+            c2 += Primitive.compare(array[i + 2], threshold) > 0 ? 1 : 0;
+            c3 += Primitive.compare(array[i + 3], threshold) > 0 ? 1 : 0;
+        }
+        for (; i < to; i++) {
+            c0 += Primitive.compare(array[i], threshold) > 0 ? 1 : 0;
+        }
+        return c0 + c1 + c2 + c3;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import primavera.map.ConcurrentNavigableLongMap;
+import primavera.map.LongMap;
+
+/**
+ * Measure the scalability of the skip list based {@link LongMap#createSortedMap()} under the mixed
+ * read and write workloads. Each group runs the readers and the writers against the same map, and
+ * both the throughput and the latency distribution (p50, p99, p99.9 ...) are reported per method.
+ * <p>
+ * The key distribution is one of the following.
+ * <ul>
+ * <li>uniform - all keys are accessed equally.</li>
+ * <li>zipfian - a few neighbouring keys are accessed most, so the writers contend on the same
+ * nodes.</li>
+ * <li>sequential - the writers append the increasing keys and remove the oldest ones like the time
+ * series, so every write contends on the tail of the list.</li>
+ * </ul>
+ * The ratio of readers and writers in each group is only the default, use {@code -tg} option to
+ * scale it (e.g. {@code -tg 12,4} runs 12 readers and 4 writers).
+ */
+@State(Scope.Group)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+public class ConcurrentSortedMapBenchmark {
+
+    @Param({"100000"})
+    int size;
+
+    @Param({"uniform", "zipfian", "sequential"})
+    String distribution;
+
+    private ConcurrentNavigableLongMap<Object> map;
+
+    /** The next key to append in the sequential workload. */
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void setup() {
+        map = LongMap.createSortedMap();
+
+        // the even keys are present, the odd keys are used to add and remove
+        for (long i = 0; i < size; i++) {
+            map.put(i * 2, Boolean.TRUE);
+        }
+        sequence.set(size * 2L);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(3)
+    public Object readHeavyGet(Keys keys) {
+        return get(keys);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public Object readHeavyPut(Keys keys) {
+        return write(keys);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public Object writeHeavyGet(Keys keys) {
+        return get(keys);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(3)
+    public Object writeHeavyPut(Keys keys) {
+        return write(keys);
+    }
+
+    private Object get(Keys keys) {
+        if (keys.sequential) {
+            // read the recent keys
+            return map.get(sequence.get() - 1 - keys.next() % size);
+        } else {
+            return map.get(keys.next());
+        }
+    }
+
+    private Object write(Keys keys) {
+        if (keys.sequential) {
+            // keep the size constant by removing the oldest key
+            long key = sequence.getAndIncrement();
+            map.put(key, Boolean.TRUE);
+            return map.remove(key - size * 2L);
+        } else {
+            long key = keys.next() | 1;
+            map.put(key, Boolean.TRUE);
+            return map.remove(key);
+        }
+    }
+
+    /**
+     * The pre-computed keys of each thread, so the key generation is not measured.
+     */
+    @State(Scope.Thread)
+    public static class Keys {
+
+        /** The number of pre-computed keys. */
+        private static final int LENGTH = 1 << 16;
+
+        /** The skew of the zipfian distribution. */
+        private static final double SKEW = 0.99;
+
+        private final long[] keys = new long[LENGTH];
+
+        private int index;
+
+        private boolean sequential;
+
+        @Setup
+        public void setup(ConcurrentSortedMapBenchmark benchmark) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int size = benchmark.size;
+            sequential = benchmark.distribution.equals("sequential");
+
+            switch (benchmark.distribution) {
+            case "zipfian":
+                // the rank is sampled by the inverse of cumulative distribution
+                double[] cumulative = new double[size];
+                double sum = 0;
+                for (int rank = 0; rank < size; rank++) {
+                    cumulative[rank] = sum += 1 / Math.pow(rank + 1, SKEW);
+                }
+                for (int i = 0; i < LENGTH; i++) {
+                    int rank = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+                    keys[i] = (rank < 0 ? -rank - 1 : rank) * 2L;
+                }
+                break;
+
+            default:
+                for (int i = 0; i < LENGTH; i++) {
+                    keys[i] = random.nextLong(size) * 2;
+                }
+                break;
+            }
+        }
+
+        private long next() {
+            return keys[index++ & (LENGTH - 1)];
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import primavera.array.LongList;
+
+/**
+ * Compare {@link LongList} with the boxed {@link ArrayList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ListBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private LongList primitive;
+
+    private List<Long> boxed;
+
+    private int[] indexes;
+
+    @Setup
+    public void setup() {
+        primitive = new LongList();
+        boxed = new ArrayList();
+        for (long i = 0; i < size; i++) {
+            primitive.add(i);
+            boxed.add(i);
+        }
+
+        indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = ThreadLocalRandom.current().nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public LongList addPrimitive() {
+        LongList list = new LongList();
+        for (long i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Long> addBoxed() {
+        List<Long> list = new ArrayList();
+        for (long i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long getPrimitive() {
+        long sum = 0;
+        for (int index : indexes) {
+            sum += primitive.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getBoxed() {
+        long sum = 0;
+        for (int index : indexes) {
+            sum += boxed.get(index);
+        }
+        return sum;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.benchmark;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import primavera.ring.LongRingBuffer;
+
+/**
+ * Compare {@link LongRingBuffer} with the bounded use of the boxed {@link ArrayDeque}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RingBufferBenchmark {
+
+    @Param({"64", "4096"})
+    int size;
+
+    private LongRingBuffer ring;
+
+    private ArrayDeque<Long> deque;
+
+    private long sequence;
+
+    @Setup
+    public void setup() {
+        ring = new LongRingBuffer(size);
+        deque = new ArrayDeque(size);
+        for (long i = 0; i < size; i++) {
+            ring.add(i);
+            deque.add(i);
+        }
+    }
+
+    @Benchmark
+    public long addRing() {
+        return ring.add(sequence++);
+    }
+
+    @Benchmark
+    public long addDeque() {
+        long removed = deque.pollFirst();
+        deque.addLast(sequence++);
+        return removed;
+    }
+
+    @Benchmark
+    public long reduceRing() {
+        return ring.reduce(0, Long::sum);
+    }
+
+    @Benchmark
+    public long sumRing() {
+        return ring.sum();
+    }
+
+    @Benchmark
+    public long reduceDeque() {
+        long sum = 0;
+        for (long value : deque) {
+            sum += value;
+        }
+        return sum;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.benchmark;
+
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import primavera.map.ConcurrentNavigableLongMap;
+import primavera.map.LongMap;
+import primavera.map.LongMapCursor;
+
+/**
+ * Compare the skip list based {@link LongMap#createSortedMap()} with the boxed
+ * {@link ConcurrentSkipListMap}. The maps are shared by all benchmark threads, so the thread count
+ * can be changed by {@code -t} option in addition to the fixed multi-threaded benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SortedMapBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private ConcurrentNavigableLongMap<Object> primitive;
+
+    private ConcurrentSkipListMap<Long, Object> boxed;
+
+    @Setup
+    public void setup() {
+        primitive = LongMap.createSortedMap();
+        boxed = new ConcurrentSkipListMap();
+        // the even keys are present, the odd keys are used to add and remove
+        for (long i = 0; i < size; i++) {
+            primitive.put(i * 2, Boolean.TRUE);
+            boxed.put(i * 2, Boolean.TRUE);
+        }
+    }
+
+    private long key() {
+        return ThreadLocalRandom.current().nextLong(size * 2L);
+    }
+
+    @Benchmark
+    public Object getPrimitive() {
+        return primitive.get(key());
+    }
+
+    @Benchmark
+    public Object getBoxed() {
+        return boxed.get(key());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object getPrimitiveConcurrently() {
+        return primitive.get(key());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object getBoxedConcurrently() {
+        return boxed.get(key());
+    }
+
+    @Benchmark
+    public Object putAndRemovePrimitive() {
+        long key = key() | 1;
+        primitive.put(key, Boolean.TRUE);
+        return primitive.remove(key);
+    }
+
+    @Benchmark
+    public Object putAndRemoveBoxed() {
+        long key = key() | 1;
+        boxed.put(key, Boolean.TRUE);
+        return boxed.remove(key);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object putAndRemovePrimitiveConcurrently() {
+        long key = key() | 1;
+        primitive.put(key, Boolean.TRUE);
+        return primitive.remove(key);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object putAndRemoveBoxedConcurrently() {
+        long key = key() | 1;
+        boxed.put(key, Boolean.TRUE);
+        return boxed.remove(key);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public long iteratePrimitive() {
+        long sum = 0;
+        LongMapCursor<Object> cursor = primitive.cursor();
+        while (cursor.next()) {
+            sum += cursor.key();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public long iterateBoxed() {
+        long sum = 0;
+        for (Long key : boxed.keySet()) {
+            sum += key;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long rangeScanPrimitive() {
+        long from = key();
+        long sum = 0;
+        LongMapCursor<Object> cursor = primitive.subMap(from, from + 64).cursor();
+        while (cursor.next()) {
+            sum += cursor.key();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long rangeScanBoxed() {
+        long from = key();
+        long sum = 0;
+        for (Entry<Long, Object> entry : boxed.subMap(from, from + 64).entrySet()) {
+            sum += entry.getKey();
+        }
+        return sum;
+    }
+}
\ No newline at end of file
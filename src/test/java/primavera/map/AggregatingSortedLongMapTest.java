@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AggregatingSortedLongMapTest {
+
+    @Test
+    void aggregate() {
+        AggregatingNavigableLongMap<Double> map = LongMap.createAggregatingSortedMap(Double::doubleValue);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, Double.valueOf(i));
+        }
+
+        DoubleSummaryStatistics stats = map.aggregate(10, 20);
+        assert stats.getCount() == 10;
+        assert stats.getSum() == 145;
+        assert stats.getMin() == 10;
+        assert stats.getMax() == 19;
+
+        stats = map.aggregate(10, false, 20, true);
+        assert stats.getCount() == 10;
+        assert stats.getMin() == 11;
+        assert stats.getMax() == 20;
+
+        stats = map.aggregate();
+        assert stats.getCount() == 100;
+        assert stats.getSum() == 4950;
+    }
+
+    @Test
+    void aggregateEmpty() {
+        AggregatingNavigableLongMap<Double> map = LongMap.createAggregatingSortedMap(Double::doubleValue);
+        assert map.aggregate().getCount() == 0;
+
+        map.put(5, 5d);
+        assert map.aggregate(6, 10).getCount() == 0;
+        assert map.aggregate(10, 0).getCount() == 0;
+        assert map.aggregate(5, 6).getCount() == 1;
+    }
+
+    @Test
+    void aggregateAfterUpdate() {
+        AggregatingNavigableLongMap<Double> map = LongMap.createAggregatingSortedMap(Double::doubleValue);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, Double.valueOf(i));
+        }
+
+        map.put(50, 1000d);
+        assert map.aggregate().getMax() == 1000;
+        map.remove(50L);
+        assert map.aggregate().getMax() == 99;
+        map.remove(0L);
+        assert map.aggregate().getMin() == 1;
+        assert map.aggregate().getCount() == 98;
+    }
+
+    @Test
+    void aggregateOnView() {
+        AggregatingNavigableLongMap<Double> map = LongMap.createAggregatingSortedMap(Double::doubleValue);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, Double.valueOf(i));
+        }
+
+        AggregatingNavigableLongMap<Double> sub = map.subMap(10L, 20L);
+        assert sub.aggregate().getCount() == 10;
+        assert sub.aggregate(0, 15).getCount() == 5;
+        assert sub.aggregate(15, 100).getMax() == 19;
+
+        AggregatingNavigableLongMap<Double> descending = sub.descendingMap();
+        assert descending.aggregate().getSum() == 145;
+        assert descending.aggregate(18, 12).getCount() == 6;
+        assert descending.aggregate(18, 12).getMax() == 18;
+    }
+
+    @Test
+    void compareWithScan() {
+        Random random = new Random(13);
+        AggregatingNavigableLongMap<Integer> map = LongMap.createAggregatingSortedMap(Integer::doubleValue);
+        NavigableMap<Long, Integer> expected = new TreeMap();
+
+        for (int i = 0; i < 30000; i++) {
+            long key = random.nextInt(3000);
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                Integer value = random.nextInt(100000) - 50000;
+                map.put(key, value);
+                expected.put(key, value);
+            }
+
+            if (i % 50 == 0) {
+                long from = random.nextInt(3000);
+                long to = from + random.nextInt(1000);
+                DoubleSummaryStatistics actual = map.aggregate(from, to);
+                DoubleSummaryStatistics scan = expected.subMap(from, to).values().stream().mapToDouble(Integer::doubleValue).summaryStatistics();
+
+                assert actual.getCount() == scan.getCount();
+                assert actual.getSum() == scan.getSum();
+                assert actual.getMin() == scan.getMin();
+                assert actual.getMax() == scan.getMax();
+            }
+        }
+    }
+
+    @Test
+    void withoutExtractor() {
+        NavigableLongMap<Double> map = LongMap.createIndexedSortedMap();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> ((AggregatingNavigableLongMap) map).aggregate());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentHashLongMapTest {
+
+    @Test
+    void putAndGet() {
+        ConcurrentLongMap<String> map = LongMap.createConcurrentHashMap();
+        for (int i = 0; i < 1000; i++) {
+            String value = String.valueOf(i);
+
+            assert map.put(i, value) == null;
+            assert map.get(i).equals(value);
+            assert map.size() == i + 1;
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assert map.get(i).equals(String.valueOf(i));
+        }
+        assert map.get(1000) == null;
+    }
+
+    @Test
+    void putNull() {
+        ConcurrentLongMap<Integer> map = LongMap.createConcurrentHashMap();
+        Assertions.assertThrows(NullPointerException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    void conditionalUpdates() {
+        ConcurrentLongMap<Integer> map = LongMap.createConcurrentHashMap();
+        assert map.putIfAbsent(1, Integer.valueOf(1)) == null;
+        assert map.putIfAbsent(1, Integer.valueOf(2)) == 1;
+        assert !map.replace(1, Integer.valueOf(2), Integer.valueOf(3));
+        assert map.replace(1, Integer.valueOf(1), Integer.valueOf(3));
+        assert map.replace(1, Integer.valueOf(4)) == 3;
+        assert map.replace(2, Integer.valueOf(4)) == null;
+        assert !map.remove(1, Integer.valueOf(3));
+        assert map.remove(1, Integer.valueOf(4));
+        assert map.isEmpty();
+    }
+
+    @Test
+    void computeIfAbsent() {
+        ConcurrentLongMap<String> map = LongMap.createConcurrentHashMap();
+        assert map.computeIfAbsent(1, key -> "A").equals("A");
+        assert map.computeIfAbsent(1, key -> "B").equals("A");
+        assert map.computeIfAbsent(2, key -> null) == null;
+        assert !map.containsKey(2);
+    }
+
+    @Test
+    void computeIfAbsentAccessesMap() {
+        ConcurrentLongMap<String> map = LongMap.createConcurrentHashMap();
+        map.put(2, "B");
+
+        // the function can read and update this map (the same key is in the same segment)
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assert map.computeIfAbsent(1, key -> map.containsKey(key) ? "X" : map.get(2) + "A").equals("BA");
+            assert map.computeIfAbsent(3, key -> {
+                map.put(key, "C");
+                return "X";
+            }).equals("C");
+        });
+        assert map.get(3).equals("C");
+    }
+
+    @Test
+    void merge() {
+        ConcurrentLongMap<Integer> map = LongMap.createConcurrentHashMap();
+        assert map.merge(1, Integer.valueOf(1), Integer::sum) == 1;
+        assert map.merge(1, Integer.valueOf(2), Integer::sum) == 3;
+        assert map.merge(1, Integer.valueOf(0), (a, b) -> null) == null;
+        assert !map.containsKey(1);
+    }
+
+    @Test
+    void mergeAccessesMap() {
+        ConcurrentLongMap<Integer> map = LongMap.createConcurrentHashMap();
+        map.put(1, 10);
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assert map.merge(1, Integer.valueOf(1), (a, b) -> a + b + map.get(1)) == 21;
+
+            // the concurrent change makes the remapping retried with the new value
+            AtomicInteger calls = new AtomicInteger();
+            assert map.merge(1, Integer.valueOf(1), (a, b) -> {
+                if (calls.getAndIncrement() == 0) map.put(1, 100);
+                return a + b;
+            }) == 101;
+            assert calls.get() == 2;
+        });
+    }
+
+    @Test
+    void compareWithHashMap() {
+        Random random = new Random(7);
+        ConcurrentLongMap<Long> map = LongMap.createConcurrentHashMap();
+        Map<Long, Long> expected = new HashMap();
+
+        for (int i = 0; i < 200000; i++) {
+            // narrow key range makes many collisions and removals
+            long key = random.nextInt(5000) * 1024L;
+            if (random.nextBoolean()) {
+                assert Objects.equals(map.put(key, Long.valueOf(key)), expected.put(key, key));
+            } else {
+                assert Objects.equals(map.remove(key), expected.remove(key));
+            }
+        }
+
+        assert map.size() == expected.size();
+        assert map.equals(expected);
+        assert expected.equals(map);
+    }
+
+    @Test
+    void iteratorRemove() {
+        ConcurrentLongMap<Integer> map = LongMap.createConcurrentHashMap();
+        for (int i = 0; i < 5000; i++) {
+            map.put(i * 31L, Integer.valueOf(i));
+        }
+
+        int count = 0;
+        Iterator<Integer> iterator = map.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 3 != 0) {
+                iterator.remove();
+            }
+            count++;
+        }
+
+        assert count == 5000;
+        assert map.size() == 1667;
+        for (int i = 0; i < 5000; i++) {
+            assert map.containsKey(i * 31L) == (i % 3 == 0);
+        }
+    }
+
+    @Test
+    void concurrentMerge() throws Exception {
+        ConcurrentLongMap<Integer> map = LongMap.createConcurrentHashMap();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Future[] futures = new Future[8];
+
+        for (int t = 0; t < futures.length; t++) {
+            futures[t] = executor.submit(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    map.merge(i % 1000, Integer.valueOf(1), Integer::sum);
+                }
+            });
+        }
+        for (Future future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assert executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assert map.size() == 1000;
+        for (int i = 0; i < 1000; i++) {
+            assert map.get(i) == 8 * 20;
+        }
+    }
+
+    @Test
+    void concurrentComputeIfAbsent() throws Exception {
+        ConcurrentLongMap<Integer> map = LongMap.createConcurrentHashMap();
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Future<Integer[]>[] futures = new Future[8];
+
+        for (int t = 0; t < futures.length; t++) {
+            futures[t] = executor.submit(() -> {
+                Integer[] values = new Integer[10000];
+                for (int i = 0; i < 10000; i++) {
+                    values[i] = map.computeIfAbsent(i, key -> calls.incrementAndGet());
+                }
+                return values;
+            });
+        }
+
+        // the racing threads may compute the same key, but all of them get the stored value
+        for (Future<Integer[]> future : futures) {
+            Integer[] values = future.get();
+            for (int i = 0; i < values.length; i++) {
+                assert values[i] == map.get(i);
+            }
+        }
+        executor.shutdown();
+        assert executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assert map.size() == 10000;
+        assert 10000 <= calls.get();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import org.junit.jupiter.api.Test;
+
+class FloatMapTest {
+
+    @Test
+    void sorted() {
+        ConcurrentNavigableFloatMap<String> map = FloatMap.createSortedMap();
+        map.put(1.5f, "1.5");
+        map.put(-0.5f, "-0.5");
+        map.put(Float.NaN, "NaN");
+        map.put(0.25f, "0.25");
+
+        assert map.size() == 4;
+        assert map.get(0.25f).equals("0.25");
+        assert map.get(0.3f) == null;
+        assert map.firstFloatKey() == -0.5f;
+        // NaN is the greatest in the order of Float.compare
+        assert Float.isNaN(map.lastFloatKey());
+        assert map.ceilingKey(0.3f) == 1.5f;
+        assert map.headMap(1f).size() == 2;
+        assert map.computeIfAbsent(2f, key -> String.valueOf(key)).equals("2.0");
+    }
+
+    @Test
+    void hash() {
+        FloatMap<String> map = FloatMap.createHashMap();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i / 4f, String.valueOf(i));
+        }
+        assert map.size() == 1000;
+        for (int i = 0; i < 1000; i++) {
+            assert map.get(i / 4f).equals(String.valueOf(i));
+        }
+        assert map.remove(0.25f).equals("1");
+        assert !map.containsKey(0.25f);
+    }
+
+    @Test
+    void primitiveValue() {
+        FloatFloatMap map = FloatFloatMap.createHashMap();
+        map.put(0.5f, 1.5f);
+        map.put(-1f, 2f);
+        assert map.size() == 2;
+        assert map.getOrDefault(0.5f, 0f) == 1.5f;
+        assert map.getOrDefault(3f, -1f) == -1f;
+    }
+}
\ No newline at end of file
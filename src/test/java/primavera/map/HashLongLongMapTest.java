@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class HashLongLongMapTest {
+
+    @Test
+    void putAndGet() {
+        LongLongMap map = LongLongMap.createHashMap();
+        for (int i = 0; i < 1000; i++) {
+            assert map.put(i, i * 10L) == 0;
+            assert map.get(i) == i * 10L;
+            assert map.size() == i + 1;
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assert map.get(i) == i * 10L;
+        }
+        assert map.get(1000) == 0;
+        assert map.getOrDefault(1000, -1) == -1;
+    }
+
+    @Test
+    void putOverwrite() {
+        LongLongMap map = LongLongMap.createHashMap();
+        assert map.put(1, 1) == 0;
+        assert map.put(1, 2) == 1;
+        assert map.get(1) == 2;
+        assert map.size() == 1;
+    }
+
+    @Test
+    void putIfAbsent() {
+        LongLongMap map = LongLongMap.createHashMap();
+        assert map.putIfAbsent(1, 10) == 0;
+        assert map.putIfAbsent(1, 20) == 10;
+        assert map.get(1) == 10;
+        assert map.size() == 1;
+    }
+
+    @Test
+    void addTo() {
+        LongLongMap map = LongLongMap.createHashMap();
+        assert map.addTo(5, 3) == 3;
+        assert map.addTo(5, 4) == 7;
+        assert map.addTo(5, -7) == 0;
+        assert map.containsKey(5);
+        assert map.size() == 1;
+    }
+
+    @Test
+    void zeroKey() {
+        LongLongMap map = LongLongMap.createHashMap();
+        assert !map.containsKey(0);
+
+        map.put(0, 0);
+        assert map.containsKey(0);
+        assert map.getOrDefault(0, -1) == 0;
+        assert map.size() == 1;
+
+        assert map.addTo(0, 5) == 5;
+        assert map.remove(0) == 5;
+        assert !map.containsKey(0);
+        assert map.isEmpty();
+    }
+
+    @Test
+    void edgeKeys() {
+        LongLongMap map = LongLongMap.createHashMap();
+        long[] keys = {Long.MIN_VALUE, Long.MAX_VALUE, 0, -1, 1};
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], i);
+        }
+
+        assert map.size() == keys.length;
+        for (int i = 0; i < keys.length; i++) {
+            assert map.containsKey(keys[i]);
+            assert map.get(keys[i]) == i;
+        }
+
+        long[] actual = map.keys();
+        Arrays.sort(actual);
+        long[] expected = keys.clone();
+        Arrays.sort(expected);
+        assert Arrays.equals(actual, expected);
+    }
+
+    @Test
+    void compareWithHashMap() {
+        Random random = new Random(7);
+        LongLongMap map = LongLongMap.createHashMap();
+        Map<Long, Long> expected = new HashMap();
+
+        for (int i = 0; i < 200000; i++) {
+            // narrow key range makes many collisions and removals
+            long key = random.nextInt(5000) * 1024L;
+            switch (random.nextInt(3)) {
+            case 0:
+                assert map.put(key, key + 1) == expected.getOrDefault(key, 0L);
+                expected.put(key, key + 1);
+                break;
+
+            case 1:
+                assert map.addTo(key, 2) == expected.merge(key, 2L, Long::sum);
+                break;
+
+            default:
+                Long removed = expected.remove(key);
+                assert map.remove(key) == (removed == null ? 0 : removed);
+                break;
+            }
+        }
+
+        assert map.size() == expected.size();
+        Map<Long, Long> actual = new HashMap();
+        map.forEach((key, value) -> actual.put(key, value));
+        assert actual.equals(expected);
+    }
+
+    @Test
+    void keysAndValues() {
+        LongLongMap map = LongLongMap.createHashMap(16);
+        for (int i = 0; i < 12; i++) {
+            map.put(i, i * 2L);
+        }
+
+        long[] keys = map.keys();
+        long[] values = map.values();
+        assert keys.length == 12;
+        assert values.length == 12;
+        for (int i = 0; i < keys.length; i++) {
+            assert values[i] == keys[i] * 2;
+        }
+    }
+
+    @Test
+    void clear() {
+        LongLongMap map = LongLongMap.createHashMap();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+        map.clear();
+
+        assert map.isEmpty();
+        assert !map.containsKey(0);
+        assert !map.containsKey(1);
+    }
+
+    @Test
+    void intDouble() {
+        IntDoubleMap map = IntDoubleMap.createHashMap();
+        assert map.addTo(1, 0.5) == 0.5;
+        assert map.addTo(1, 0.25) == 0.75;
+        assert map.get(2) == 0d;
+    }
+
+    @Test
+    void doubleKey() {
+        DoubleIntMap map = DoubleIntMap.createHashMap();
+        map.put(Double.NaN, 1);
+        map.put(0d, 2);
+        map.put(-0d, 3);
+
+        assert map.get(Double.NaN) == 1;
+        assert map.get(0d) == 2;
+        assert map.get(-0d) == 3;
+        assert map.size() == 3;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import primavera.map.LongMap.LongEntry;
+
+class HashLongMapTest {
+
+    @Test
+    void putAndGet() {
+        LongMap<String> map = LongMap.createHashMap();
+        for (int i = 0; i < 1000; i++) {
+            String value = String.valueOf(i);
+
+            assert map.put(i, value) == null;
+            assert map.get(i).equals(value);
+            assert map.size() == i + 1;
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assert map.get(i).equals(String.valueOf(i));
+        }
+        assert map.get(1000) == null;
+    }
+
+    @Test
+    void putOverwrite() {
+        LongMap<Integer> map = LongMap.createHashMap();
+        assert map.put(1, 1) == null;
+        assert map.put(1, 2) == 1;
+        assert map.get(1) == 2;
+        assert map.size() == 1;
+    }
+
+    @Test
+    void boxedKey() {
+        LongMap<Integer> map = LongMap.createHashMap();
+        Map<Long, Integer> boxed = map;
+        assert boxed.put(1L, 1) == null;
+        assert boxed.get(1L) == 1;
+        assert boxed.containsKey(1L);
+        assert boxed.remove(1L) == 1;
+        assert map.isEmpty();
+    }
+
+    @Test
+    void putNull() {
+        LongMap<Integer> map = LongMap.createHashMap();
+        Assertions.assertThrows(NullPointerException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    void edgeKeys() {
+        LongMap<Integer> map = LongMap.createHashMap();
+        long[] keys = {Long.MIN_VALUE, Long.MAX_VALUE, 0, -1, 1};
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], Integer.valueOf(i));
+        }
+
+        assert map.size() == keys.length;
+        for (int i = 0; i < keys.length; i++) {
+            assert map.containsKey(keys[i]);
+            assert map.get(keys[i]) == i;
+        }
+    }
+
+    @Test
+    void remove() {
+        LongMap<Integer> map = LongMap.createHashMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+
+        for (int i = 0; i < 100; i += 2) {
+            assert map.remove(i) == i;
+            assert map.remove(i) == null;
+        }
+
+        assert map.size() == 50;
+        for (int i = 0; i < 100; i++) {
+            assert map.containsKey(i) == (i % 2 == 1);
+        }
+    }
+
+    @Test
+    void compareWithHashMap() {
+        Random random = new Random(7);
+        LongMap<Long> map = LongMap.createHashMap();
+        Map<Long, Long> expected = new HashMap();
+
+        for (int i = 0; i < 200000; i++) {
+            // narrow key range makes many collisions and removals
+            long key = random.nextInt(5000) * 1024L;
+            if (random.nextBoolean()) {
+                assert Objects.equals(map.put(key, Long.valueOf(key)), expected.put(key, key));
+            } else {
+                assert Objects.equals(map.remove(key), expected.remove(key));
+            }
+        }
+
+        assert map.size() == expected.size();
+        assert map.equals(expected);
+        assert expected.equals(map);
+    }
+
+    @Test
+    void iteratorRemove() {
+        LongMap<Integer> map = LongMap.createHashMap();
+        for (int i = 0; i < 5000; i++) {
+            map.put(i * 31L, Integer.valueOf(i));
+        }
+
+        Set<Long> visited = new HashSet();
+        Iterator<LongEntry<Integer>> iterator = map.longEntrySet().iterator();
+        while (iterator.hasNext()) {
+            LongEntry<Integer> entry = iterator.next();
+            assert visited.add(entry.getLongKey());
+            if (entry.getValue() % 3 != 0) {
+                iterator.remove();
+            }
+        }
+
+        assert visited.size() == 5000;
+        assert map.size() == 1667;
+        for (int i = 0; i < 5000; i++) {
+            assert map.containsKey(i * 31L) == (i % 3 == 0);
+        }
+    }
+
+    @Test
+    void iteratorRemoveAll() {
+        LongMap<Integer> map = LongMap.createHashMap(16);
+        for (int i = 0; i < 12; i++) {
+            map.put(i, i);
+        }
+
+        int count = 0;
+        Iterator<Integer> iterator = map.values().iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            count++;
+        }
+        assert count == 12;
+        assert map.isEmpty();
+    }
+
+    @Test
+    void clear() {
+        LongMap<Integer> map = LongMap.createHashMap();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+        map.clear();
+
+        assert map.isEmpty();
+        assert map.get(1) == null;
+    }
+
+    @Test
+    void doubleKey() {
+        DoubleMap<Integer> map = DoubleMap.createHashMap();
+        map.put(Double.NaN, Integer.valueOf(1));
+        map.put(0d, Integer.valueOf(2));
+        map.put(-0d, Integer.valueOf(3));
+
+        assert map.get(Double.NaN) == 1;
+        assert map.get(0d) == 2;
+        assert map.get(-0d) == 3;
+        assert map.size() == 3;
+    }
+
+    @Test
+    void cursor() {
+        LongMap<Integer> map = LongMap.createHashMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, Integer.valueOf(i));
+        }
+
+        Set<Long> keys = new HashSet();
+        LongMapCursor<Integer> cursor = map.cursor();
+        while (cursor.next()) {
+            assert cursor.key() == cursor.value();
+            assert keys.add(cursor.key());
+        }
+        assert keys.size() == 100;
+        Assertions.assertThrows(NoSuchElementException.class, () -> cursor.key());
+
+        keys.clear();
+        map.forEachLong((key, value) -> keys.add(key));
+        assert keys.size() == 100;
+    }
+}
\ No newline at end of file
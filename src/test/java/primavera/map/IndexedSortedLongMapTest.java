@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IndexedSortedLongMapTest {
+
+    @Test
+    void putAndGet() {
+        NavigableLongMap<String> map = LongMap.createIndexedSortedMap();
+        for (int i = 0; i < 100; i++) {
+            String value = String.valueOf(i);
+
+            assert map.put(i, value) == null;
+            assert map.get(i).equals(value);
+            assert map.size() == i + 1;
+        }
+        assert map.put(5, "five").equals("5");
+        assert map.get(5L).equals("five");
+        assert map.get(100) == null;
+    }
+
+    @Test
+    void rankAndSelect() {
+        NavigableLongMap<Integer> map = LongMap.createIndexedSortedMap();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i * 10L, Integer.valueOf(i));
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assert map.rank(i * 10L) == i;
+            assert map.rank(i * 10L + 1) == i + 1;
+            assert map.select(i) == i * 10L;
+        }
+        assert map.rank(-1) == 0;
+        assert map.rank(Long.MAX_VALUE) == 1000;
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> map.select(-1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> map.select(1000));
+    }
+
+    @Test
+    void subMapSize() {
+        NavigableLongMap<Integer> map = LongMap.createIndexedSortedMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, Integer.valueOf(i));
+        }
+
+        assert map.subMap(10L, 20L).size() == 10;
+        assert map.subMap(10L, true, 20L, true).size() == 11;
+        assert map.subMap(10L, false, 20L, false).size() == 9;
+        assert map.headMap(50L).size() == 50;
+        assert map.tailMap(50L).size() == 50;
+        assert map.subMap(200L, 300L).size() == 0;
+        assert map.subMap(200L, 300L).isEmpty();
+
+        NavigableLongMap<Integer> sub = map.subMap(10L, 20L);
+        assert sub.rank(15) == 5;
+        assert sub.rank(0) == 0;
+        assert sub.rank(100) == 10;
+        assert sub.select(0) == 10;
+        assert sub.select(9) == 19;
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sub.select(10));
+
+        NavigableLongMap<Integer> descending = sub.descendingMap();
+        assert descending.size() == 10;
+        assert descending.select(0) == 19;
+        assert descending.select(9) == 10;
+        assert descending.rank(19) == 0;
+        assert descending.rank(15) == 4;
+        assert descending.rank(100) == 0;
+        assert descending.rank(0) == 10;
+
+        // view reflects the modification of the backing map
+        map.remove(15L);
+        assert sub.size() == 9;
+        assert descending.select(4) == 14;
+    }
+
+    @Test
+    void navigation() {
+        NavigableLongMap<String> map = LongMap.createIndexedSortedMap();
+        for (int i = 0; i < 10; i++) {
+            map.put(i * 2, String.valueOf(i * 2));
+        }
+
+        assert map.firstKey() == 0;
+        assert map.lastKey() == 18;
+        assert map.lowerKey(4) == 2;
+        assert map.floorKey(5) == 4;
+        assert map.ceilingKey(5) == 6;
+        assert map.higherKey(6) == 8;
+        assert map.lowerEntry(0) == null;
+        Assertions.assertThrows(NoSuchElementException.class, () -> map.higherKey(18));
+
+        NavigableLongMap<String> descending = map.descendingMap();
+        assert descending.firstKey() == 18;
+        assert descending.lowerKey(4) == 6;
+        assert descending.ceilingKey(5) == 4;
+        assert descending.headMap(10L).size() == 4;
+
+        NavigableLongMap<String> sub = map.subMap(4L, true, 12L, false);
+        assert sub.firstKey() == 4;
+        assert sub.lastKey() == 10;
+        assert sub.lowerKey(100) == 10;
+        assert sub.higherKey(-100) == 4;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sub.put(12, "out"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sub.subMap(0L, 8L));
+
+        assert map.pollFirstEntry().getLongKey() == 0;
+        assert map.pollLastEntry().getLongKey() == 18;
+        assert map.size() == 8;
+    }
+
+    @Test
+    void iterator() {
+        NavigableLongMap<Integer> map = LongMap.createIndexedSortedMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, Integer.valueOf(i));
+        }
+
+        List<Long> keys = new ArrayList();
+        map.subMap(10L, 15L).keySet().forEach(keys::add);
+        assert keys.equals(List.of(10L, 11L, 12L, 13L, 14L));
+
+        keys.clear();
+        map.subMap(10L, 15L).descendingKeySet().forEach(keys::add);
+        assert keys.equals(List.of(14L, 13L, 12L, 11L, 10L));
+
+        Iterator<Integer> iterator = map.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assert map.size() == 50;
+        assert map.select(0) == 1;
+
+        map.headMap(50L).clear();
+        assert map.size() == 25;
+        assert map.firstKey() == 51;
+    }
+
+    @Test
+    void compareWithTreeMap() {
+        Random random = new Random(11);
+        NavigableLongMap<Long> map = LongMap.createIndexedSortedMap();
+        NavigableMap<Long, Long> expected = new TreeMap();
+
+        for (int i = 0; i < 50000; i++) {
+            long key = random.nextInt(2000) - 1000;
+            if (random.nextInt(3) == 0) {
+                assert Objects.equals(map.remove(key), expected.remove(key));
+            } else {
+                assert Objects.equals(map.put(key, Long.valueOf(i)), expected.put(key, Long.valueOf(i)));
+            }
+
+            if (i % 100 == 0) {
+                long from = random.nextInt(2000) - 1000;
+                long to = from + random.nextInt(500);
+                NavigableLongMap<Long> sub = map.subMap(from, true, to, false);
+                NavigableMap<Long, Long> expectedSub = expected.subMap(from, true, to, false);
+                assert sub.size() == expectedSub.size();
+                assert map.rank(from) == expected.headMap(from).size();
+                if (!expectedSub.isEmpty()) {
+                    int index = random.nextInt(expectedSub.size());
+                    assert sub.select(index) == new ArrayList<>(expectedSub.keySet()).get(index);
+                }
+            }
+        }
+
+        assert map.size() == expected.size();
+        assert map.equals(expected);
+        assert expected.equals(map);
+        assert new ArrayList<>(map.keySet()).equals(new ArrayList<>(expected.keySet()));
+        assert new ArrayList<>(map.descendingKeySet()).equals(new ArrayList<>(expected.descendingKeySet()));
+    }
+
+    @Test
+    void edgeKeys() {
+        NavigableLongMap<String> map = LongMap.createIndexedSortedMap();
+        map.put(Long.MIN_VALUE, "min");
+        map.put(0, "zero");
+        map.put(Long.MAX_VALUE, "max");
+
+        assert map.rank(Long.MIN_VALUE) == 0;
+        assert map.rank(Long.MAX_VALUE) == 2;
+        assert map.select(0) == Long.MIN_VALUE;
+        assert map.headMap(Long.MIN_VALUE, true).size() == 1;
+        assert map.tailMap(Long.MAX_VALUE, true).size() == 1;
+        assert map.tailMap(Long.MIN_VALUE, false).size() == 2;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import org.junit.jupiter.api.Test;
+
+class ShortMapTest {
+
+    @Test
+    void sorted() {
+        ConcurrentNavigableShortMap<String> map = ShortMap.createSortedMap();
+        map.put((short) 300, "300");
+        map.put(Short.MIN_VALUE, "min");
+        map.put((short) -1, "-1");
+        map.put(Short.MAX_VALUE, "max");
+
+        assert map.size() == 4;
+        assert map.get((short) -1).equals("-1");
+        assert map.get((short) 1) == null;
+        assert map.firstShortKey() == Short.MIN_VALUE;
+        assert map.lastShortKey() == Short.MAX_VALUE;
+        assert map.ceilingKey((short) 0) == 300;
+        assert map.headMap((short) 0).size() == 2;
+    }
+
+    @Test
+    void hash() {
+        ShortMap<String> map = ShortMap.createHashMap();
+        for (int i = Short.MIN_VALUE; i <= Short.MAX_VALUE; i += 7) {
+            map.put((short) i, String.valueOf(i));
+        }
+        assert map.size() == 9363;
+        for (int i = Short.MIN_VALUE; i <= Short.MAX_VALUE; i += 7) {
+            assert map.get((short) i).equals(String.valueOf(i));
+        }
+        assert map.remove((short) 0) == null;
+        assert map.remove((short) -32768).equals("-32768");
+        assert !map.containsKey(Short.MIN_VALUE);
+    }
+
+    @Test
+    void primitiveValue() {
+        ShortLongMap map = ShortLongMap.createHashMap();
+        map.put((short) 0, 1L);
+        map.addTo((short) 0, 2L);
+        map.addTo((short) -5, 3L);
+        assert map.size() == 2;
+        assert map.getOrDefault((short) 0, 0L) == 3L;
+        assert map.getOrDefault((short) -5, 0L) == 3L;
+        assert map.getOrDefault((short) 5, -1L) == -1L;
+    }
+}
\ No newline at end of file
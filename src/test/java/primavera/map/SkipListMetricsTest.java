@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class SkipListMetricsTest {
+
+    @Test
+    void levels() {
+        ConcurrentNavigableLongMap<Object> map = LongMap.createSortedMap();
+        assert map.metrics().levels().length == 1;
+        assert map.metrics().levels()[0] == 0;
+
+        for (int i = 0; i < 10000; i++) {
+            map.put(i, Boolean.TRUE);
+        }
+        long[] levels = map.metrics().levels();
+        assert LongStream.of(levels).sum() == 10000;
+        assert 1 < levels.length;
+        // about 3/4 of entries have no index
+        assert 6000 < levels[0] && levels[0] < 9000;
+        assert levels[1] > levels[levels.length - 1];
+
+        for (int i = 0; i < 10000; i += 2) {
+            map.remove(i);
+        }
+        assert LongStream.of(map.metrics().levels()).sum() == 5000;
+        assert LongStream.of(map.tailMap(100L).metrics().levels()).sum() == 5000;
+    }
+
+    @Test
+    void counters() {
+        ConcurrentNavigableLongMap<Object> map = LongMap.createSortedMap();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, Boolean.TRUE);
+            map.get(i);
+        }
+
+        // the default build runs with the disabled metrics, see countersEnabled for the other side
+        SkipListMetrics metrics = map.metrics();
+        if (!SkipListMetrics.ENABLED) {
+            assert metrics.lookups() == 0;
+            assert metrics.averageHops() == 0;
+            assert metrics.maxHops() == 0;
+            assert metrics.casFailures() == 0;
+        }
+    }
+
+    @Test
+    void countersEnabled() throws Exception {
+        // the flag is fixed at the class initialization, so the enabled metrics run in the new JVM
+        List<String> command = new ArrayList();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-ea");
+        command.add("-Dprimavera.metrics=true");
+        command.add("-Dprimavera.metrics.slowHops=" + Enabled.SLOW_HOPS);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(Enabled.class.getName());
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assert process.waitFor() == 0 : output;
+    }
+
+    /**
+     * The checks which run in the JVM enabling the metrics.
+     */
+    static class Enabled {
+
+        /** The low threshold, so that the ordinary operations on the large map are reported. */
+        static final int SLOW_HOPS = 16;
+
+        public static void main(String[] args) throws Exception {
+            assert SkipListMetrics.ENABLED;
+
+            try (Recording recording = new Recording()) {
+                recording.enable("primavera.SlowSkipListOperation");
+                recording.start();
+
+                hops();
+                restarts();
+
+                recording.stop();
+                Path file = Files.createTempFile("metrics", ".jfr");
+                try {
+                    recording.dump(file);
+                    events(RecordingFile.readAllEvents(file));
+                } finally {
+                    Files.delete(file);
+                }
+            }
+        }
+
+        /**
+         * Every operation counts its lookup and the traversed links.
+         */
+        private static void hops() {
+            ConcurrentNavigableLongMap<Object> map = LongMap.createSortedMap();
+            for (int i = 0; i < 1000; i++) {
+                map.put(i, Boolean.TRUE);
+                map.get(i);
+            }
+
+            SkipListMetrics metrics = map.metrics();
+            assert metrics.lookups() == 2000;
+            assert 0 < metrics.averageHops();
+            assert metrics.averageHops() <= metrics.maxHops();
+            double hops = metrics.averageHops() * metrics.lookups();
+
+            for (int i = 0; i < 1000; i += 2) {
+                map.remove(i);
+            }
+            assert metrics.lookups() == 2500;
+            assert hops < metrics.averageHops() * metrics.lookups();
+
+            // the single thread never restarts and never fails CAS
+            assert metrics.putRestarts() == 0;
+            assert metrics.removeRestarts() == 0;
+            assert metrics.casFailures() == 0;
+
+            // the view shares the metrics of the backing map
+            assert map.headMap(10L).metrics().lookups() == metrics.lookups();
+        }
+
+        /**
+         * The contended updates count all attempts exactly once, and count the restarts or the CAS
+         * failures. The contention depends on the scheduling, so the updates are repeated on the new
+         * map until it is observed.
+         */
+        private static void restarts() throws Exception {
+            int threads = 4, count = 20000;
+            for (int round = 0; round < 50; round++) {
+                ConcurrentNavigableLongMap<Object> map = LongMap.createSortedMap();
+                contend(map, threads, count);
+
+                SkipListMetrics metrics = map.metrics();
+                assert metrics.lookups() == 2L * threads * count;
+                assert map.isEmpty();
+                if (0 < metrics.putRestarts() + metrics.removeRestarts() + metrics.casFailures()) {
+                    return;
+                }
+            }
+            throw new AssertionError("No restart or CAS failure is counted.");
+        }
+
+        /**
+         * Put and remove the same 16 keys from the multiple threads.
+         */
+        private static void contend(ConcurrentNavigableLongMap<Object> map, int threads, int count) throws Exception {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> workers = new ArrayList();
+            for (int t = 0; t < threads; t++) {
+                Thread worker = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    for (int i = 0; i < count; i++) {
+                        long key = i & 15;
+                        map.put(key, Boolean.TRUE);
+                        map.remove(key);
+                    }
+                });
+                worker.start();
+                workers.add(worker);
+            }
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        }
+
+        /**
+         * The operations beyond the hop threshold are reported.
+         */
+        private static void events(List<RecordedEvent> events) {
+            Set<String> operations = new HashSet();
+            for (RecordedEvent event : events) {
+                assert event.getEventType().getName().equals("primavera.SlowSkipListOperation");
+                assert SLOW_HOPS <= event.getInt("hops") || 8 <= event.getInt("restarts");
+                operations.add(event.getString("operation"));
+            }
+            assert operations.equals(Set.of("get", "put", "remove")) : operations;
+        }
+    }
+}
\ No newline at end of file
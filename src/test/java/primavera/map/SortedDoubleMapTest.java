@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SortedDoubleMapTest {
+
+    @Test
+    void edgeKeys() {
+        double[] keys = {Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -Double.MIN_VALUE, -0d, 0d, Double.MIN_VALUE,
+                Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN};
+
+        ConcurrentNavigableDoubleMap<Integer> map = DoubleMap.createSortedMap();
+        for (int i = 0; i < keys.length; i++) {
+            assert !map.containsKey(keys[i]);
+            assert map.put(keys[i], Integer.valueOf(i)) == null;
+        }
+        assert map.size() == keys.length;
+
+        for (int i = 0; i < keys.length; i++) {
+            assert map.get(keys[i]) == i;
+            assert map.get(Double.valueOf(keys[i])) == i;
+        }
+
+        List<Double> iterated = new ArrayList();
+        map.forEachDouble((key, value) -> iterated.add(key));
+        for (int i = 0; i < keys.length; i++) {
+            assert Double.compare(iterated.get(i), keys[i]) == 0;
+        }
+
+        assert map.higherKey(0d) == Double.MIN_VALUE;
+        assert map.lowerKey(Double.MIN_VALUE) == 0d;
+        assert Double.isNaN(map.lastKey());
+        assert map.computeIfAbsent(Double.MIN_VALUE, key -> 100) == 5;
+        assert map.remove(Double.MIN_VALUE) == 5;
+        assert !map.containsKey(Double.MIN_VALUE);
+        assert map.containsKey(0d);
+    }
+
+    @Test
+    void edgeKeysOnSubMap() {
+        ConcurrentNavigableDoubleMap<String> map = DoubleMap.createSortedMap();
+        map.put(0d, "zero");
+        map.put(Double.MIN_VALUE, "min");
+        map.put(1d, "one");
+
+        ConcurrentNavigableDoubleMap<String> head = map.headMap(Double.MIN_VALUE, true);
+        assert head.size() == 2;
+        assert head.lastKey() == Double.MIN_VALUE;
+
+        ConcurrentNavigableDoubleMap<String> tail = map.tailMap(Double.MIN_VALUE, true);
+        assert tail.size() == 2;
+        assert tail.firstKey() == Double.MIN_VALUE;
+        assert tail.descendingMap().lastKey() == Double.MIN_VALUE;
+    }
+}
\ No newline at end of file
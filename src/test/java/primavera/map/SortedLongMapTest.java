@@ -1,294 +1,607 @@
-/*
- * Copyright (C) 2025 The PRIMAVERA Development Team
- *
- * Licensed under the MIT License (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *          https://opensource.org/licenses/MIT
- */
-package primavera.map;
-
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.NoSuchElementException;
-import java.util.Set;
-
-import javax.annotation.processing.Generated;
-
-import org.junit.jupiter.api.Test;
-
-import com.google.common.base.Objects;
-import com.google.common.collect.Iterators;
-
-import primavera.map.LongMap.LongEntry;
-
-@Generated("SpecializedCodeGenerator")
-class SortedLongMapTest {
-
-    @Test
-    void putAndGet() {
-        ConcurrentNavigableLongMap<String> map = LongMap.createSortedMap();
-        for (int i = 0; i < 10; i++) {
-            String value = String.valueOf(i);
-
-            map.put(i, value);
-            assert map.get(i).equals(value);
-        }
-    }
-
-    @Test
-    void size() {
-        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
-        for (int i = 1; i < 10; i++) {
-            map.put(i, i);
-            assert map.size() == i;
-        }
-    }
-
-    @Test
-    void remove() {
-        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
-        for (int i = 1; i < 10; i++) {
-            map.put(i, i);
-            assert map.remove(i) == i;
-            assert map.get(i) == null;
-        }
-    }
-
-    @Test
-    void longEntrySet() {
-        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
-        Set<LongEntry<Integer>> liveView = map.longEntrySet();
-
-        for (int i = 0; i < 10; i++) {
-            map.put(i, i);
-
-            // map
-            assert liveView.size() == i + 1;
-            assert liveView.contains(LongEntry.immutable(i, i));
-
-            // iterator
-            assert Iterators.size(liveView.iterator()) == i + 1;
-            assert findLast(liveView.iterator()).getLongKey() == i;
-        }
-
-        for (int i = 0; i < 9; i++) {
-            // remove from iterator
-            removeFisrt(liveView.iterator());
-            assert findFirst(liveView.iterator()).getLongKey() == i + 1;
-            assert map.firstLongKey() == i + 1;
-        }
-    }
-
-    @Test
-    void keySet() {
-        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
-        Set<Long> liveView = map.keySet();
-
-        for (int i = 0; i < 10; i++) {
-            map.put(i, i);
-
-            // map
-            assert liveView.size() == i + 1;
-            assert liveView.contains((long) i);
-
-            // iterator
-            assert Iterators.size(liveView.iterator()) == i + 1;
-            assert findLast(liveView.iterator()) == i;
-        }
-
-        for (int i = 0; i < 9; i++) {
-            // remove from iterator
-            removeFisrt(liveView.iterator());
-            assert findFirst(liveView.iterator()) == i + 1;
-            assert map.firstLongKey() == i + 1;
-        }
-    }
-
-    @Test
-    void values() {
-        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
-        Collection<Integer> liveView = map.values();
-
-        for (int i = 0; i < 10; i++) {
-            map.put(i, i);
-
-            // map
-            assert liveView.size() == i + 1;
-            assert liveView.contains(i);
-
-            // iterator
-            assert Iterators.size(liveView.iterator()) == i + 1;
-            assert findLast(liveView.iterator()) == i;
-        }
-
-        for (int i = 0; i < 9; i++) {
-            // remove from iterator
-            removeFisrt(liveView.iterator());
-            assert findFirst(liveView.iterator()) == i + 1;
-            assert map.firstLongKey() == i + 1;
-        }
-    }
-
-    @Test
-    void subMapSize() {
-        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
-        ConcurrentNavigableLongMap<Integer> sub = map.subMap(5, 15);
-
-        for (int i = 0; i < 10; i++) {
-            map.put(i, i);
-            assert sub.size() == Math.max(0, i - 4);
-        }
-
-        // add from sub
-        sub.put(10, 10);
-        assert map.size() == 11;
-    }
-
-    @Test
-    void subMapContainsKey() {
-        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
-        ConcurrentNavigableLongMap<Integer> sub = map.subMap(5, 15);
-
-        for (int i = 0; i < 10; i++) {
-            map.put(i, i);
-            assert sub.containsKey(i) == 5 <= i;
-        }
-
-        // add from sub
-        sub.put(10, 10);
-        assert map.containsKey(10);
-    }
-
-    @Test
-    void subMapGet() {
-        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
-        ConcurrentNavigableLongMap<Integer> sub = map.subMap(5, 15);
-
-        for (int i = 0; i < 10; i++) {
-            map.put(i, i);
-            assert sub.get(i) == (i < 5 ? null : i);
-        }
-
-        // add from sub
-        sub.put(10, 10);
-        assert map.get(10) == 10;
-    }
-
-    @Test
-    void subMapRemove() {
-        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
-        ConcurrentNavigableLongMap<Integer> sub = map.subMap(5, 15);
-
-        for (int i = 0; i < 10; i++) {
-            map.put(i, i);
-            assert sub.remove(i) == (i < 5 ? null : i);
-            assert map.get(i) == (i < 5 ? i : null);
-        }
-    }
-
-    @Test
-    void subMapKeySet() {
-        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
-        ConcurrentNavigableLongMap<Integer> sub = map.subMap(5, 15);
-
-        Set<Long> liveView = sub.keySet();
-        for (int i = 0; i < 10; i++) {
-            map.put(i, i);
-
-            // map
-            assert liveView.size() == (i < 5 ? 0 : i - 4);
-            assert liveView.contains((long) i) == 5 <= i;
-
-            // iterator
-            assert Iterators.size(liveView.iterator()) == (i < 5 ? 0 : i - 4);
-            assert findLast(liveView.iterator()) == (i < 5 ? null : (long) i);
-        }
-
-        for (int i = 0; i < 4; i++) {
-            // remove from iterator
-            removeFisrt(liveView.iterator());
-            assert findFirst(liveView.iterator()) == i + 6;
-            assert map.firstLongKey() == 0;
-            assert map.size() == 9 - i;
-        }
-    }
-
-    @Test
-    void subMapValues() {
-        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
-        ConcurrentNavigableLongMap<Integer> sub = map.subMap(5, 15);
-
-        Collection<Integer> liveView = sub.values();
-        for (int i = 0; i < 10; i++) {
-            map.put(i, i);
-
-            // map
-            assert liveView.size() == (i < 5 ? 0 : i - 4);
-            assert liveView.contains(i) == 5 <= i;
-
-            // iterator
-            assert Iterators.size(liveView.iterator()) == (i < 5 ? 0 : i - 4);
-            assert findLast(liveView.iterator()) == (i < 5 ? null : i);
-        }
-
-        for (int i = 0; i < 4; i++) {
-            // remove from iterator
-            removeFisrt(liveView.iterator());
-            assert findFirst(liveView.iterator()) == i + 6;
-            assert map.firstLongKey() == 0;
-            assert map.size() == 9 - i;
-        }
-    }
-
-    @Test
-    void subMapLongEntrySet() {
-        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
-        ConcurrentNavigableLongMap<Integer> sub = map.subMap(5, 15);
-
-        Set<LongEntry<Integer>> liveView = sub.longEntrySet();
-        for (int i = 0; i < 10; i++) {
-            map.put(i, i);
-
-            // map
-            assert liveView.size() == (i < 5 ? 0 : i - 4);
-            assert liveView.contains(LongEntry.immutable(i, i)) == 5 <= i;
-
-            // iterator
-            assert Iterators.size(liveView.iterator()) == (i < 5 ? 0 : i - 4);
-            assert Objects.equal(findLast(liveView.iterator()), i < 5 ? null : LongEntry.immutable(i, i));
-        }
-
-        for (int i = 0; i < 4; i++) {
-            // remove from iterator
-            removeFisrt(liveView.iterator());
-            assert findFirst(liveView.iterator()).getLongKey() == i + 6;
-            assert map.firstLongKey() == 0;
-            assert map.size() == 9 - i;
-        }
-    }
-
-    private <V> V findFirst(Iterator<V> iterator) {
-        try {
-            return Iterators.get(iterator, 0);
-        } catch (IndexOutOfBoundsException e) {
-            return null;
-        }
-    }
-
-    private <V> V findLast(Iterator<V> iterator) {
-        try {
-            return Iterators.getLast(iterator);
-        } catch (NoSuchElementException e) {
-            return null;
-        }
-    }
-
-    private void removeFisrt(Iterator iterator) {
-        if (iterator.hasNext()) {
-            iterator.next();
-            iterator.remove();
-        }
-    }
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+
+import javax.annotation.processing.Generated;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.Iterators;
+
+import primavera.array.LongList;
+import primavera.map.LongMap.LongEntry;
+
+@Generated("SpecializedCodeGenerator")
+class SortedLongMapTest {
+
+    @Test
+    void putAndGet() {
+        ConcurrentNavigableLongMap<String> map = LongMap.createSortedMap();
+        for (int i = 0; i < 10; i++) {
+            String value = String.valueOf(i);
+
+            map.put(i, value);
+            assert map.get(i).equals(value);
+        }
+    }
+
+    @Test
+    void size() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        for (int i = 1; i < 10; i++) {
+            map.put(i, i);
+            assert map.size() == i;
+        }
+    }
+
+    @Test
+    void remove() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        for (int i = 1; i < 10; i++) {
+            map.put(i, i);
+            assert map.remove(i) == i;
+            assert map.get(i) == null;
+        }
+    }
+
+    @Test
+    void longEntrySet() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        Set<LongEntry<Integer>> liveView = map.longEntrySet();
+
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+
+            // map
+            assert liveView.size() == i + 1;
+            assert liveView.contains(LongEntry.immutable(i, i));
+
+            // iterator
+            assert Iterators.size(liveView.iterator()) == i + 1;
+            assert findLast(liveView.iterator()).getLongKey() == i;
+        }
+
+        for (int i = 0; i < 9; i++) {
+            // remove from iterator
+            removeFisrt(liveView.iterator());
+            assert findFirst(liveView.iterator()).getLongKey() == i + 1;
+            assert map.firstLongKey() == i + 1;
+        }
+    }
+
+    @Test
+    void keySet() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        Set<Long> liveView = map.keySet();
+
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+
+            // map
+            assert liveView.size() == i + 1;
+            assert liveView.contains((long) i);
+
+            // iterator
+            assert Iterators.size(liveView.iterator()) == i + 1;
+            assert findLast(liveView.iterator()) == i;
+        }
+
+        for (int i = 0; i < 9; i++) {
+            // remove from iterator
+            removeFisrt(liveView.iterator());
+            assert findFirst(liveView.iterator()) == i + 1;
+            assert map.firstLongKey() == i + 1;
+        }
+    }
+
+    @Test
+    void values() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        Collection<Integer> liveView = map.values();
+
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+
+            // map
+            assert liveView.size() == i + 1;
+            assert liveView.contains(i);
+
+            // iterator
+            assert Iterators.size(liveView.iterator()) == i + 1;
+            assert findLast(liveView.iterator()) == i;
+        }
+
+        for (int i = 0; i < 9; i++) {
+            // remove from iterator
+            removeFisrt(liveView.iterator());
+            assert findFirst(liveView.iterator()) == i + 1;
+            assert map.firstLongKey() == i + 1;
+        }
+    }
+
+    @Test
+    void subMapSize() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        ConcurrentNavigableLongMap<Integer> sub = map.subMap(5, 15);
+
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+            assert sub.size() == Math.max(0, i - 4);
+        }
+
+        // add from sub
+        sub.put(10, 10);
+        assert map.size() == 11;
+    }
+
+    @Test
+    void subMapContainsKey() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        ConcurrentNavigableLongMap<Integer> sub = map.subMap(5, 15);
+
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+            assert sub.containsKey(i) == 5 <= i;
+        }
+
+        // add from sub
+        sub.put(10, 10);
+        assert map.containsKey(10);
+    }
+
+    @Test
+    void subMapGet() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        ConcurrentNavigableLongMap<Integer> sub = map.subMap(5, 15);
+
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+            assert sub.get(i) == (i < 5 ? null : i);
+        }
+
+        // add from sub
+        sub.put(10, 10);
+        assert map.get(10) == 10;
+    }
+
+    @Test
+    void subMapRemove() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        ConcurrentNavigableLongMap<Integer> sub = map.subMap(5, 15);
+
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+            assert sub.remove(i) == (i < 5 ? null : i);
+            assert map.get(i) == (i < 5 ? i : null);
+        }
+    }
+
+    @Test
+    void subMapKeySet() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        ConcurrentNavigableLongMap<Integer> sub = map.subMap(5, 15);
+
+        Set<Long> liveView = sub.keySet();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+
+            // map
+            assert liveView.size() == (i < 5 ? 0 : i - 4);
+            assert liveView.contains((long) i) == 5 <= i;
+
+            // iterator
+            assert Iterators.size(liveView.iterator()) == (i < 5 ? 0 : i - 4);
+            assert findLast(liveView.iterator()) == (i < 5 ? null : (long) i);
+        }
+
+        for (int i = 0; i < 4; i++) {
+            // remove from iterator
+            removeFisrt(liveView.iterator());
+            assert findFirst(liveView.iterator()) == i + 6;
+            assert map.firstLongKey() == 0;
+            assert map.size() == 9 - i;
+        }
+    }
+
+    @Test
+    void subMapValues() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        ConcurrentNavigableLongMap<Integer> sub = map.subMap(5, 15);
+
+        Collection<Integer> liveView = sub.values();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+
+            // map
+            assert liveView.size() == (i < 5 ? 0 : i - 4);
+            assert liveView.contains(i) == 5 <= i;
+
+            // iterator
+            assert Iterators.size(liveView.iterator()) == (i < 5 ? 0 : i - 4);
+            assert findLast(liveView.iterator()) == (i < 5 ? null : i);
+        }
+
+        for (int i = 0; i < 4; i++) {
+            // remove from iterator
+            removeFisrt(liveView.iterator());
+            assert findFirst(liveView.iterator()) == i + 6;
+            assert map.firstLongKey() == 0;
+            assert map.size() == 9 - i;
+        }
+    }
+
+    @Test
+    void subMapLongEntrySet() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        ConcurrentNavigableLongMap<Integer> sub = map.subMap(5, 15);
+
+        Set<LongEntry<Integer>> liveView = sub.longEntrySet();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+
+            // map
+            assert liveView.size() == (i < 5 ? 0 : i - 4);
+            assert liveView.contains(LongEntry.immutable(i, i)) == 5 <= i;
+
+            // iterator
+            assert Iterators.size(liveView.iterator()) == (i < 5 ? 0 : i - 4);
+            assert Objects.equal(findLast(liveView.iterator()), i < 5 ? null : LongEntry.immutable(i, i));
+        }
+
+        for (int i = 0; i < 4; i++) {
+            // remove from iterator
+            removeFisrt(liveView.iterator());
+            assert findFirst(liveView.iterator()).getLongKey() == i + 6;
+            assert map.firstLongKey() == 0;
+            assert map.size() == 9 - i;
+        }
+    }
+
+    private <V> V findFirst(Iterator<V> iterator) {
+        try {
+            return Iterators.get(iterator, 0);
+        } catch (IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    private <V> V findLast(Iterator<V> iterator) {
+        try {
+            return Iterators.getLast(iterator);
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    private void removeFisrt(Iterator iterator) {
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    @Test
+    void spliteratorSplits() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        for (int i = 0; i < 10000; i++) {
+            map.put(i, Integer.valueOf(i));
+        }
+
+        Spliterator<Long> right = map.keySet().spliterator();
+        Spliterator<Long> left = right.trySplit();
+        assert left != null;
+
+        List<Long> keys = new ArrayList();
+        left.forEachRemaining(keys::add);
+        int splitted = keys.size();
+        right.forEachRemaining(keys::add);
+
+        assert 0 < splitted && splitted < 10000;
+        assert keys.size() == 10000;
+        for (int i = 0; i < keys.size(); i++) {
+            assert keys.get(i) == i;
+        }
+    }
+
+    @Test
+    void parallelStream() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        for (int i = 0; i < 100000; i++) {
+            map.put(i, Integer.valueOf(i));
+        }
+
+        assert map.keySet().parallelStream().mapToLong(Long::longValue).sum() == 4999950000L;
+        assert map.values().parallelStream().mapToLong(Integer::longValue).sum() == 4999950000L;
+        assert map.entrySet().parallelStream().count() == 100000;
+        assert map.keySet().parallelStream().toList().equals(map.keySet().stream().toList());
+    }
+
+    @Test
+    void parallelStreamOnSubMap() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        for (int i = 0; i < 100000; i++) {
+            map.put(i, Integer.valueOf(i));
+        }
+
+        ConcurrentNavigableLongMap<Integer> sub = map.subMap(20000L, true, 30000L, true);
+        List<Long> keys = sub.keySet().parallelStream().toList();
+        assert keys.size() == 10001;
+        for (int i = 0; i < keys.size(); i++) {
+            assert keys.get(i) == 20000 + i;
+        }
+
+        sub = map.subMap(20000L, false, 30000L, false);
+        assert sub.values().parallelStream().count() == 9999;
+        assert sub.descendingMap().keySet().stream().findFirst().get() == 29999;
+    }
+
+    @Test
+    void cursor() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, Integer.valueOf(i * 10));
+        }
+
+        LongMapCursor<Integer> cursor = map.cursor();
+        Assertions.assertThrows(NoSuchElementException.class, () -> cursor.key());
+        for (int i = 0; i < 10; i++) {
+            assert cursor.next();
+            assert cursor.key() == i;
+            assert cursor.value() == i * 10;
+        }
+        assert !cursor.next();
+        assert !cursor.next();
+        Assertions.assertThrows(NoSuchElementException.class, () -> cursor.value());
+    }
+
+    @Test
+    void cursorOnSubMap() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, Integer.valueOf(i));
+        }
+
+        LongMapCursor<Integer> cursor = map.subMap(2L, true, 5L, false).cursor();
+        for (int i = 2; i < 5; i++) {
+            assert cursor.next();
+            assert cursor.key() == i;
+        }
+        assert !cursor.next();
+
+        cursor = map.headMap(3L, true).descendingMap().cursor();
+        for (int i = 3; 0 <= i; i--) {
+            assert cursor.next();
+            assert cursor.key() == i;
+        }
+        assert !cursor.next();
+
+        cursor = map.subMap(20L, 30L).cursor();
+        assert !cursor.next();
+    }
+
+    @Test
+    void forEachLong() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, Integer.valueOf(i));
+        }
+
+        List<Long> keys = new ArrayList();
+        map.forEachLong((key, value) -> {
+            assert key == value;
+            keys.add(key);
+        });
+        assert keys.equals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L));
+
+        keys.clear();
+        map.tailMap(7L, true).forEachLong((key, value) -> keys.add(key));
+        assert keys.equals(List.of(7L, 8L, 9L));
+    }
+
+    @Test
+    void edgeKeys() {
+        long[] keys = {Long.MIN_VALUE, Long.MIN_VALUE + 1, -1, 0, 1, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+
+        ConcurrentNavigableLongMap<String> map = LongMap.createSortedMap();
+        for (long key : keys) {
+            assert !map.containsKey(key);
+            assert map.put(key, String.valueOf(key)) == null;
+        }
+        assert map.size() == keys.length;
+
+        for (long key : keys) {
+            assert map.containsKey(key);
+            assert map.containsKey(Long.valueOf(key));
+            assert map.get(key).equals(String.valueOf(key));
+            assert map.get(Long.valueOf(key)).equals(String.valueOf(key));
+        }
+        assert map.firstKey() == Long.MIN_VALUE;
+        assert map.lastKey() == Long.MAX_VALUE;
+        assert map.ceilingKey(Long.MIN_VALUE) == Long.MIN_VALUE;
+        assert map.floorKey(Long.MAX_VALUE) == Long.MAX_VALUE;
+        assert map.higherKey(Long.MIN_VALUE) == Long.MIN_VALUE + 1;
+        assert map.lowerKey(Long.MAX_VALUE) == Long.MAX_VALUE - 1;
+        Assertions.assertThrows(NoSuchElementException.class, () -> map.lowerKey(Long.MIN_VALUE));
+        Assertions.assertThrows(NoSuchElementException.class, () -> map.higherKey(Long.MAX_VALUE));
+
+        List<Long> iterated = new ArrayList();
+        map.keySet().forEach(iterated::add);
+        assert iterated.equals(List.of(Long.MIN_VALUE, Long.MIN_VALUE + 1, -1L, 0L, 1L, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+        assert map.remove(Long.MIN_VALUE).equals(String.valueOf(Long.MIN_VALUE));
+        assert !map.containsKey(Long.MIN_VALUE);
+        assert map.firstKey() == Long.MIN_VALUE + 1;
+        assert map.pollLastEntry().getLongKey() == Long.MAX_VALUE;
+        assert map.size() == keys.length - 2;
+    }
+
+    @Test
+    void edgeKeysByCompute() {
+        ConcurrentNavigableLongMap<String> map = LongMap.createSortedMap();
+        assert map.computeIfAbsent(Long.MIN_VALUE, key -> "min").equals("min");
+        assert map.computeIfAbsent(Long.MIN_VALUE, key -> "other").equals("min");
+        assert map.merge(Long.MIN_VALUE, "!", String::concat).equals("min!");
+        assert map.putIfAbsent(Long.MAX_VALUE, "max") == null;
+        assert map.replace(Long.MAX_VALUE, "max", "MAX");
+        assert map.replace(Long.MIN_VALUE, "MIN").equals("min!");
+        assert map.remove(Long.MIN_VALUE, "MIN");
+        assert map.size() == 1;
+    }
+
+    @Test
+    void edgeKeysOnSubMap() {
+        ConcurrentNavigableLongMap<String> map = LongMap.createSortedMap();
+        map.put(Long.MIN_VALUE, "min");
+        map.put(0, "zero");
+        map.put(Long.MAX_VALUE, "max");
+
+        ConcurrentNavigableLongMap<String> head = map.headMap(Long.MIN_VALUE, true);
+        assert head.size() == 1;
+        assert head.firstKey() == Long.MIN_VALUE;
+        assert head.lastKey() == Long.MIN_VALUE;
+        assert head.containsKey(Long.MIN_VALUE);
+        assert !head.containsKey(0);
+
+        ConcurrentNavigableLongMap<String> exclusive = map.headMap(Long.MIN_VALUE, false);
+        assert exclusive.isEmpty();
+        Assertions.assertThrows(NoSuchElementException.class, () -> exclusive.firstKey());
+
+        ConcurrentNavigableLongMap<String> tail = map.tailMap(Long.MIN_VALUE, false);
+        assert tail.size() == 2;
+        assert tail.firstKey() == 0;
+        assert tail.lastKey() == Long.MAX_VALUE;
+        Assertions.assertThrows(NoSuchElementException.class, () -> tail.lowerKey(0));
+
+        ConcurrentNavigableLongMap<String> all = map.subMap(Long.MIN_VALUE, true, Long.MAX_VALUE, true);
+        assert all.size() == 3;
+        assert all.descendingMap().firstKey() == Long.MAX_VALUE;
+        assert all.descendingMap().lastKey() == Long.MIN_VALUE;
+        assert all.descendingMap().headMap(0L).size() == 1;
+        assert all.ceilingKey(Long.MIN_VALUE) == Long.MIN_VALUE;
+
+        Iterator<Long> iterator = all.keySet().iterator();
+        assert iterator.next() == Long.MIN_VALUE;
+        iterator.remove();
+        assert !map.containsKey(Long.MIN_VALUE);
+    }
+
+    @Test
+    void createFromSorted() {
+        long[] keys = new long[1000];
+        Integer[] values = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i * 2 - 1000;
+            values[i] = i;
+        }
+
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap(keys, values);
+        assert map.size() == keys.length;
+        assert map.firstKey() == -1000;
+        assert map.lastKey() == 998;
+        for (int i = 0; i < keys.length; i++) {
+            assert map.get(keys[i]) == i;
+            assert !map.containsKey(keys[i] + 1);
+        }
+        assert map.ceilingKey(-999) == -998;
+        assert map.subMap(0L, 100L).size() == 50;
+
+        // the built map is fully modifiable
+        assert map.put(-999, -1) == null;
+        assert map.remove(-1000L) == 0;
+        assert map.firstKey() == -999;
+        assert map.size() == keys.length;
+    }
+
+    @Test
+    void createFromSortedIndexRows() {
+        long[] keys = new long[64];
+        Integer[] values = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i + 1;
+            values[i] = i;
+        }
+
+        // every fourth node is indexed and each upper row doubles the spacing
+        SkipListLongMap<Integer> map = (SkipListLongMap<Integer>) LongMap.createSortedMap(keys, values);
+        assert Arrays.equals(map.indexRow(1), LongStream.rangeClosed(1, 16).map(i -> i * 4).toArray());
+        assert Arrays.equals(map.indexRow(2), new long[] {8, 16, 24, 32, 40, 48, 56, 64});
+        assert Arrays.equals(map.indexRow(3), new long[] {16, 32, 48, 64});
+        assert Arrays.equals(map.indexRow(4), new long[] {32, 64});
+        assert Arrays.equals(map.indexRow(5), new long[] {64});
+        assert map.indexRow(6).length == 0;
+    }
+
+    @Test
+    void createFromSortedList() {
+        LongList keys = new LongList(4);
+        for (int i = 0; i < 100; i++) {
+            keys.add(Long.MIN_VALUE + i);
+        }
+        String[] values = new String[100];
+        Arrays.fill(values, "value");
+
+        ConcurrentNavigableLongMap<String> map = LongMap.createSortedMap(keys, values);
+        assert map.size() == 100;
+        assert map.firstKey() == Long.MIN_VALUE;
+        assert map.lastKey() == Long.MIN_VALUE + 99;
+    }
+
+    @Test
+    void createFromEmpty() {
+        ConcurrentNavigableLongMap<String> map = LongMap.createSortedMap(new long[0], new String[0]);
+        assert map.isEmpty();
+        map.put(1, "one");
+        assert map.size() == 1;
+    }
+
+    @Test
+    void createFromUnsorted() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongMap
+                .createSortedMap(new long[] {1, 3, 2}, new String[] {"a", "b", "c"}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongMap
+                .createSortedMap(new long[] {1, 1}, new String[] {"a", "b"}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongMap.createSortedMap(new long[] {1, 2}, new String[1]));
+        Assertions.assertThrows(NullPointerException.class, () -> LongMap.createSortedMap(new long[] {1, 2}, new String[2]));
+    }
+
+    @Test
+    void rankAndSelect() {
+        ConcurrentNavigableLongMap<Integer> map = LongMap.createSortedMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(i * 2, Integer.valueOf(i));
+        }
+
+        assert map.rank(0) == 0;
+        assert map.rank(1) == 1;
+        assert map.rank(2) == 1;
+        assert map.rank(1000) == 100;
+        assert map.select(0) == 0;
+        assert map.select(99) == 198;
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> map.select(100));
+
+        ConcurrentNavigableLongMap<Integer> descending = map.subMap(10L, 20L).descendingMap();
+        assert descending.rank(18) == 0;
+        assert descending.rank(15) == 2;
+        assert descending.select(0) == 18;
+        assert descending.select(4) == 10;
+    }
 }
\ No newline at end of file
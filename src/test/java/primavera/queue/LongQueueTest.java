@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.queue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LongQueueTest {
+
+    @Test
+    void spsc() {
+        assertOfferAndPoll(LongQueue.createSpscQueue(3));
+        assertDrain(LongQueue.createSpscQueue(8));
+    }
+
+    @Test
+    void mpsc() {
+        assertOfferAndPoll(LongQueue.createMpscQueue(3));
+        assertDrain(LongQueue.createMpscQueue(8));
+    }
+
+    @Test
+    void capacity() {
+        assert LongQueue.createSpscQueue(1).capacity() == 1;
+        assert LongQueue.createSpscQueue(100).capacity() == 128;
+        assert LongQueue.createMpscQueue(64).capacity() == 64;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongQueue.createSpscQueue(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongQueue.createMpscQueue(-1));
+    }
+
+    @Test
+    void concurrentSpsc() throws Exception {
+        assertConcurrent(LongQueue.createSpscQueue(64), 1);
+    }
+
+    @Test
+    void concurrentMpsc() throws Exception {
+        assertConcurrent(LongQueue.createMpscQueue(64), 4);
+    }
+
+    private void assertOfferAndPoll(LongQueue queue) {
+        assert queue.capacity() == 4;
+        assert queue.isEmpty();
+        assert queue.poll(-1) == -1;
+        Assertions.assertThrows(NoSuchElementException.class, queue::remove);
+
+        assert queue.offer(1);
+        assert queue.offer(2);
+        assert queue.offer(3);
+        assert queue.offer(4);
+        assert !queue.offer(5);
+        assert queue.size() == 4;
+
+        assert queue.remove() == 1;
+        assert queue.offer(5);
+        assert queue.poll(-1) == 2;
+        assert queue.remove() == 3;
+        assert queue.poll(-1) == 4;
+        assert queue.poll(-1) == 5;
+        assert queue.isEmpty();
+        assert queue.size() == 0;
+        assert queue.poll(-1) == -1;
+        Assertions.assertThrows(NoSuchElementException.class, queue::remove);
+    }
+
+    private void assertDrain(LongQueue queue) {
+        for (int i = 0; i < 6; i++) {
+            queue.offer(i);
+        }
+
+        List<Long> values = new ArrayList();
+        assert queue.drainTo(values::add, 4) == 4;
+        assert values.equals(List.of(0L, 1L, 2L, 3L));
+        assert queue.drainTo(values::add, 0) == 0;
+        assert queue.drainTo(values::add, 10) == 2;
+        assert queue.drainTo(values::add, 10) == 0;
+        assert values.size() == 6;
+        assert queue.isEmpty();
+    }
+
+    private void assertConcurrent(LongQueue queue, int producers) throws Exception {
+        int count = 100000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> futures = new ArrayList();
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (long i = 0; i < count; i++) {
+                        // the producer is encoded in the remainder to check the per-producer order
+                        while (!queue.offer(i * producers + producer)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            long[] last = new long[producers];
+            Arrays.fill(last, -1);
+            int received = 0;
+            while (received < count * producers) {
+                received += queue.drainTo(value -> {
+                    int producer = (int) (value % producers);
+                    assert last[producer] < value;
+                    last[producer] = value;
+                }, 16);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            assert queue.isEmpty();
+            for (int p = 0; p < producers; p++) {
+                assert last[p] == (long) (count - 1) * producers + p;
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.ring;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class DoubleSlidingWindowTest {
+
+    @Test
+    void empty() {
+        DoubleSlidingWindow window = new DoubleSlidingWindow(3);
+        assert window.size() == 0;
+        assert window.sum() == 0;
+        assert window.min() == 0;
+        assert window.max() == 0;
+        assert window.latest() == 0;
+        assert Double.isNaN(window.mean());
+        assert Double.isNaN(window.variance());
+        assert Double.isNaN(window.stddev());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DoubleSlidingWindow(0));
+    }
+
+    @Test
+    void add() {
+        DoubleSlidingWindow window = new DoubleSlidingWindow(3);
+        assert window.add(2) == 0;
+        assert window.add(4) == 0;
+        assert window.add(9) == 0;
+        assert window.size() == 3;
+        assert window.sum() == 15;
+        assert window.mean() == 5;
+        assert window.min() == 2;
+        assert window.max() == 9;
+
+        assert window.add(1) == 2;
+        assert window.size() == 3;
+        assert window.sum() == 14;
+        assert window.min() == 1;
+        assert window.max() == 9;
+        assert window.latest() == 1;
+    }
+
+    @Test
+    void random() {
+        Random random = new Random(17);
+
+        for (int size : new int[] {1, 2, 7, 64}) {
+            DoubleSlidingWindow window = new DoubleSlidingWindow(size);
+            ArrayDeque<Double> expected = new ArrayDeque();
+
+            for (int i = 0; i < 2000; i++) {
+                // large offset with small spread makes the naive sum of squares lose precision
+                double value = 1e6 + random.nextInt(100) / 10d;
+                window.add(value);
+                expected.addLast(value);
+                if (size < expected.size()) expected.removeFirst();
+
+                double sum = 0, min = Double.MAX_VALUE, max = -Double.MAX_VALUE;
+                for (double v : expected) {
+                    sum += v;
+                    min = Math.min(min, v);
+                    max = Math.max(max, v);
+                }
+                double mean = sum / expected.size();
+                double variance = 0;
+                for (double v : expected) {
+                    variance += (v - mean) * (v - mean);
+                }
+                variance /= expected.size();
+
+                assert window.size() == expected.size();
+                assert window.min() == min;
+                assert window.max() == max;
+                assert Math.abs(window.mean() - mean) < 1e-6;
+                assert Math.abs(window.variance() - variance) < 1e-4;
+                assert Math.abs(window.stddev() - Math.sqrt(variance)) < 1e-3;
+            }
+        }
+    }
+
+    @Test
+    void integral() {
+        LongSlidingWindow window = new LongSlidingWindow(4);
+        for (long i = 1; i <= 10; i++) {
+            window.add(i);
+        }
+        // items are 7, 8, 9, 10
+        assert window.sum() == 34;
+        assert window.mean() == 8.5;
+        assert window.variance() == 1.25;
+        assert window.min() == 7;
+        assert window.max() == 10;
+    }
+}
\ No newline at end of file
@@ -1,112 +1,248 @@
-/*
- * Copyright (C) 2025 The PRIMAVERA Development Team
- *
- * Licensed under the MIT License (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *          https://opensource.org/licenses/MIT
- */
-package primavera.ring;
-
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Function;
-
-import org.junit.jupiter.api.Test;
-
-class IntRingBufferTest {
-
-    @Test
-    void add() {
-        IntRingBuffer buffer = new IntRingBuffer(3);
-        assert buffer.add(1) == 0;
-        assert buffer.add(2) == 0;
-        assert buffer.add(3) == 0;
-        assert buffer.add(4) == 1;
-        assert buffer.add(5) == 2;
-        assert buffer.add(6) == 3;
-        assert buffer.add(7) == 4;
-        assert buffer.add(8) == 5;
-    }
-
-    @Test
-    void forEach() {
-        Function<IntRingBuffer, int[]> array = buffer -> {
-            AtomicInteger index = new AtomicInteger();
-            int[] all = new int[3];
-            buffer.forEach(value -> {
-                all[index.getAndIncrement()] = value;
-            });
-            return all;
-        };
-
-        IntRingBuffer buffer = new IntRingBuffer(3);
-        buffer.add(1);
-        buffer.add(2);
-        buffer.add(3);
-        int[] set = array.apply(buffer);
-        assert set[0] == 1;
-        assert set[1] == 2;
-        assert set[2] == 3;
-
-        buffer.add(4);
-        set = array.apply(buffer);
-        assert set[0] == 2;
-        assert set[1] == 3;
-        assert set[2] == 4;
-
-        buffer.add(5);
-        set = array.apply(buffer);
-        assert set[0] == 3;
-        assert set[1] == 4;
-        assert set[2] == 5;
-    }
-
-    @Test
-    void forEachFromLatest() {
-        Function<IntRingBuffer, int[]> array = buffer -> {
-            AtomicInteger index = new AtomicInteger();
-            int[] all = new int[3];
-            buffer.forEachFromLatest(value -> {
-                all[index.getAndIncrement()] = value;
-            });
-            return all;
-        };
-
-        IntRingBuffer buffer = new IntRingBuffer(3);
-        buffer.add(1);
-        buffer.add(2);
-        buffer.add(3);
-        int[] set = array.apply(buffer);
-        assert set[0] == 3;
-        assert set[1] == 2;
-        assert set[2] == 1;
-
-        buffer.add(4);
-        set = array.apply(buffer);
-        assert set[0] == 4;
-        assert set[1] == 3;
-        assert set[2] == 2;
-
-        buffer.add(5);
-        set = array.apply(buffer);
-        assert set[0] == 5;
-        assert set[1] == 4;
-        assert set[2] == 3;
-    }
-
-    @Test
-    void reduce() {
-        IntRingBuffer buffer = new IntRingBuffer(3);
-        buffer.add(1);
-        buffer.add(2);
-        buffer.add(3);
-        assert buffer.reduce(Math::max) == 3;
-
-        buffer.add(4);
-        assert buffer.reduce(Math::max) == 4;
-
-        buffer.add(3);
-        assert buffer.reduce(Math::max) == 4;
-    }
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.ring;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IntRingBufferTest {
+
+    @Test
+    void add() {
+        IntRingBuffer buffer = new IntRingBuffer(3);
+        assert buffer.add(1) == 0;
+        assert buffer.add(2) == 0;
+        assert buffer.add(3) == 0;
+        assert buffer.add(4) == 1;
+        assert buffer.add(5) == 2;
+        assert buffer.add(6) == 3;
+        assert buffer.add(7) == 4;
+        assert buffer.add(8) == 5;
+    }
+
+    @Test
+    void forEach() {
+        Function<IntRingBuffer, int[]> array = buffer -> {
+            AtomicInteger index = new AtomicInteger();
+            int[] all = new int[3];
+            buffer.forEach(value -> {
+                all[index.getAndIncrement()] = value;
+            });
+            return all;
+        };
+
+        IntRingBuffer buffer = new IntRingBuffer(3);
+        buffer.add(1);
+        buffer.add(2);
+        buffer.add(3);
+        int[] set = array.apply(buffer);
+        assert set[0] == 1;
+        assert set[1] == 2;
+        assert set[2] == 3;
+
+        buffer.add(4);
+        set = array.apply(buffer);
+        assert set[0] == 2;
+        assert set[1] == 3;
+        assert set[2] == 4;
+
+        buffer.add(5);
+        set = array.apply(buffer);
+        assert set[0] == 3;
+        assert set[1] == 4;
+        assert set[2] == 5;
+    }
+
+    @Test
+    void forEachFromLatest() {
+        Function<IntRingBuffer, int[]> array = buffer -> {
+            AtomicInteger index = new AtomicInteger();
+            int[] all = new int[3];
+            buffer.forEachFromLatest(value -> {
+                all[index.getAndIncrement()] = value;
+            });
+            return all;
+        };
+
+        IntRingBuffer buffer = new IntRingBuffer(3);
+        buffer.add(1);
+        buffer.add(2);
+        buffer.add(3);
+        int[] set = array.apply(buffer);
+        assert set[0] == 3;
+        assert set[1] == 2;
+        assert set[2] == 1;
+
+        buffer.add(4);
+        set = array.apply(buffer);
+        assert set[0] == 4;
+        assert set[1] == 3;
+        assert set[2] == 2;
+
+        buffer.add(5);
+        set = array.apply(buffer);
+        assert set[0] == 5;
+        assert set[1] == 4;
+        assert set[2] == 3;
+    }
+
+    @Test
+    void reduce() {
+        IntRingBuffer buffer = new IntRingBuffer(3);
+        buffer.add(1);
+        buffer.add(2);
+        buffer.add(3);
+        assert buffer.reduce(Math::max) == 3;
+
+        buffer.add(4);
+        assert buffer.reduce(Math::max) == 4;
+
+        buffer.add(3);
+        assert buffer.reduce(Math::max) == 4;
+    }
+
+    @Test
+    void reduceZero() {
+        IntRingBuffer buffer = new IntRingBuffer(3);
+        buffer.add(-1);
+        buffer.add(0);
+        assert buffer.reduce(Math::max) == 0;
+        assert buffer.reduce(Math::min) == -1;
+
+        buffer.add(-2);
+        buffer.add(0);
+        assert buffer.reduce(Math::max) == 0;
+        assert buffer.reduce(Math::min) == -2;
+    }
+
+    @Test
+    void reduceWithIdentity() {
+        IntRingBuffer buffer = new IntRingBuffer(4);
+        assert buffer.reduce(7, Integer::sum) == 7;
+
+        // the order is from oldest to latest
+        buffer.add(1);
+        buffer.add(2);
+        assert buffer.reduce(0, (a, b) -> a * 10 + b) == 12;
+
+        for (int i = 3; i <= 6; i++) {
+            buffer.add(i);
+        }
+        assert buffer.reduce(0, (a, b) -> a * 10 + b) == 3456;
+        assert buffer.reduce((a, b) -> a * 10 + b) == 3456;
+    }
+
+    @Test
+    void partiallyFilled() {
+        IntRingBuffer buffer = new IntRingBuffer(5);
+        assert buffer.isEmpty();
+        assert buffer.size() == 0;
+        assert buffer.capacity() == 5;
+        assert buffer.sum() == 0;
+        assert Double.isNaN(buffer.mean());
+        Assertions.assertThrows(NoSuchElementException.class, buffer::latest);
+        Assertions.assertThrows(NoSuchElementException.class, () -> buffer.reduce(Integer::sum));
+
+        buffer.add(-3);
+        buffer.add(-1);
+        assert buffer.size() == 2;
+        assert buffer.latest() == -1;
+        assert buffer.sum() == -4;
+        assert buffer.max() == -1;
+        assert buffer.min() == -3;
+        assert buffer.mean() == -2;
+        assert buffer.countGreaterThan(-2) == 1;
+        assert buffer.dot(new int[] {100, 100, 100, 2, 1}) == -7;
+
+        int[] visited = {0};
+        buffer.forEach(value -> visited[0]++);
+        buffer.forEachFromLatest(value -> visited[0]++);
+        assert visited[0] == 4;
+
+        int[] items = new int[5];
+        assert buffer.copyTo(items) == 2;
+        assert items[0] == -3;
+        assert items[1] == -1;
+    }
+
+    @Test
+    void aggregate() {
+        IntRingBuffer buffer = new IntRingBuffer(5);
+        for (int i = 1; i <= 7; i++) {
+            buffer.add(i);
+        }
+        // items are 3, 4, 5, 6, 7
+        assert buffer.sum() == 25;
+        assert buffer.min() == 3;
+        assert buffer.max() == 7;
+        assert buffer.mean() == 5;
+        assert buffer.countGreaterThan(5) == 2;
+        assert buffer.dot(new int[] {1, 0, 0, 0, 0}) == 3;
+        assert buffer.dot(new int[] {0, 0, 0, 0, 1}) == 7;
+        assert buffer.dot(new int[] {1, 2, 3, 4, 5}) == 3 + 8 + 15 + 24 + 35;
+    }
+
+    @Test
+    void powerOfTwo() {
+        IntRingBuffer buffer = new IntRingBuffer(4);
+        for (int i = 1; i <= 10; i++) {
+            buffer.add(i);
+        }
+        assert buffer.latest() == 10;
+
+        int[] all = new int[4];
+        buffer.copyTo(all);
+        assert all[0] == 7;
+        assert all[1] == 8;
+        assert all[2] == 9;
+        assert all[3] == 10;
+    }
+
+    @Test
+    void invalidSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new IntRingBuffer(0));
+    }
+
+    @Test
+    void addAll() {
+        for (int size : new int[] {4, 5}) {
+            for (int length = 0; length <= 12; length++) {
+                IntRingBuffer buffer = new IntRingBuffer(size);
+                IntRingBuffer expected = new IntRingBuffer(size);
+                buffer.add(-1);
+                expected.add(-1);
+                buffer.add(-2);
+                expected.add(-2);
+
+                int[] items = new int[length + 2];
+                for (int i = 0; i < items.length; i++) {
+                    items[i] = i;
+                }
+                buffer.addAll(items, 1, length);
+                for (int i = 1; i <= length; i++) {
+                    expected.add(items[i]);
+                }
+
+                int[] actualItems = new int[size];
+                int[] expectedItems = new int[size];
+                buffer.copyTo(actualItems);
+                expected.copyTo(expectedItems);
+                assert Arrays.equals(actualItems, expectedItems);
+                assert buffer.latest() == expected.latest();
+            }
+        }
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> new IntRingBuffer(3).addAll(new int[2], 1, 2));
+    }
 }
\ No newline at end of file
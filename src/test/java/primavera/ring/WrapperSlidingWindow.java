@@ -0,0 +1,261 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.ring;
+
+import javax.annotation.processing.Generated;
+
+import primavera.SpecializedCodeGenerator.Primitive;
+import primavera.SpecializedCodeGenerator.Wrapper;
+
+/**
+ * {@link WrapperRingBuffer} variant which maintains the statistics of the latest items. Every
+ * statistic is updated incrementally in {@link #add(Primitive)}, so both adding and querying are
+ * O(1) (amortized for min and max) regardless of the window size.
+ * <p>
+ * The mean and variance are maintained by the sliding version of Welford's method instead of the
+ * running sum of squares, which loses all significant digits when the variance is small compared
+ * to the mean. The minimum and maximum are maintained by the monotonic deques of the items which
+ * can still become the extreme value.
+ */
+@Generated("SpecializedCodeGenerator")
+public class WrapperSlidingWindow {
+
+    /** The fixed window size. */
+    private final int size;
+
+    /** The items in the window. */
+    private final Primitive[] items;
+
+    /** The index of the latest item. */
+    private int index = -1;
+
+    /** The number of items in the window. */
+    private int count;
+
+    /** The total number of added items. */
+    private long sequence;
+
+    /** The running sum. */
+    private Primitive sum = Wrapper.initital();
+
+    /** The running mean. */
+    private double mean;
+
+    /** The running sum of squared differences from the mean. */
+    private double m2;
+
+    /** The increasing deque of the minimum candidates. */
+    private final Deque min;
+
+    /** The decreasing deque of the maximum candidates. */
+    private final Deque max;
+
+    /**
+     * Create new window.
+     *
+     * @param size A fixed window size.
+     */
+    public WrapperSlidingWindow(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Window size must be positive. [" + size + "]");
+        }
+        this.size = size;
+        this.items = Wrapper.newArray(size);
+        this.min = new Deque(size);
+        this.max = new Deque(size);
+    }
+
+    /**
+     * Add an item at tail.
+     *
+     * @param item An item to add.
+     * @return Removed item, 0 if the window is not full.
+     */
+    public Primitive add(Primitive item) {
+        int next = index + 1 == size ? 0 : index + 1;
+        Primitive removed = items[next];
+        items[next] = item;
+        index = next;
+
+        double value = Primitive.toDouble(item);
+        if (count < size) {
+            removed = Wrapper.initital();
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        } else {
+            Primitive.decrement(sum, removed);
+            double old = Primitive.toDouble(removed);
+            double previous = mean;
+            mean += (value - old) / count;
+            m2 += (value - old) * (value - mean + old - previous);
+        }
+        Primitive.increment(sum, item);
+
+        long oldest = sequence - count + 1;
+        min.expire(oldest);
+        max.expire(oldest);
+        while (!min.isEmpty() && Primitive.compare(item, min.last()) <= 0) {
+            min.removeLast();
+        }
+        while (!max.isEmpty() && Primitive.compare(item, max.last()) >= 0) {
+            max.removeLast();
+        }
+        min.addLast(item, sequence);
+        max.addLast(item, sequence);
+        sequence++;
+
+        return removed;
+    }
+
+    /**
+     * Get the latest item.
+     *
+     * @return A latest item, 0 if the window is empty.
+     */
+    public Primitive latest() {
+        return count == 0 ? Wrapper.initital() : items[index];
+    }
+
+    /**
+     * Get the number of items in the window.
+     *
+     * @return The number of items.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Compute the sum of the items in the window.
+     *
+     * @return The sum, 0 if the window is empty.
+     */
+    public Primitive sum() {
+        return sum;
+    }
+
+    /**
+     * Compute the arithmetic mean of the items in the window.
+     *
+     * @return The mean, {@link Double#NaN} if the window is empty.
+     */
+    public double mean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * Compute the population variance of the items in the window.
+     *
+     * @return The variance, {@link Double#NaN} if the window is empty.
+     */
+    public double variance() {
+        return count == 0 ? Double.NaN : Math.max(0, m2 / count);
+    }
+
+    /**
+     * Compute the population standard deviation of the items in the window.
+     *
+     * @return The standard deviation, {@link Double#NaN} if the window is empty.
+     */
+    public double stddev() {
+        return Math.sqrt(variance());
+    }
+
+    /**
+     * Get the minimum item in the window.
+     *
+     * @return The minimum item, 0 if the window is empty.
+     */
+    public Primitive min() {
+        return count == 0 ? Wrapper.initital() : min.first();
+    }
+
+    /**
+     * Get the maximum item in the window.
+     *
+     * @return The maximum item, 0 if the window is empty.
+     */
+    public Primitive max() {
+        return count == 0 ? Wrapper.initital() : max.first();
+    }
+
+    /**
+     * The bounded deque of the items with their sequence number.
+     */
+    private static final class Deque {
+
+        /** The items. */
+        private final Primitive[] items;
+
+        /** The sequence numbers of items. */
+        private final long[] sequences;
+
+        /** The index of the first item. */
+        private int head;
+
+        /** The number of items. */
+        private int count;
+
+        /**
+         * @param size The maximum number of items.
+         */
+        private Deque(int size) {
+            this.items = Wrapper.newArray(size);
+            this.sequences = new long[size];
+        }
+
+        /**
+         * Wrap the index into the deque.
+         *
+         * @param index An index which is less than twice the size.
+         * @return The wrapped index.
+         */
+        private int wrap(int index) {
+            return index < items.length ? index : index - items.length;
+        }
+
+        private boolean isEmpty() {
+            return count == 0;
+        }
+
+        private Primitive first() {
+            return items[head];
+        }
+
+        private Primitive last() {
+            return items[wrap(head + count - 1)];
+        }
+
+        private void removeLast() {
+            count--;
+        }
+
+        private void addLast(Primitive item, long sequence) {
+            int index = wrap(head + count);
+            items[index] = item;
+            sequences[index] = sequence;
+            count++;
+        }
+
+        /**
+         * Remove the items which are older than the specified sequence number.
+         *
+         * @param oldest The sequence number of the oldest item in the window.
+         */
+        private void expire(long oldest) {
+            while (count != 0 && sequences[head] < oldest) {
+                head = wrap(head + 1);
+                count--;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.set;
+
+import org.junit.jupiter.api.Test;
+
+import primavera.array.CharList;
+import primavera.queue.CharQueue;
+
+class ByteSetTest {
+
+    @Test
+    void hash() {
+        ByteSet set = ByteSet.createHashSet();
+        for (int i = Byte.MIN_VALUE; i <= Byte.MAX_VALUE; i++) {
+            assert set.add((byte) i);
+        }
+        assert set.size() == 256;
+        assert !set.add((byte) 0);
+        assert set.remove((byte) 0);
+        assert !set.contains((byte) 0);
+        assert set.contains(Byte.MIN_VALUE);
+        assert set.toByteArray().length == 255;
+    }
+
+    @Test
+    void sorted() {
+        ConcurrentNavigableByteSet set = ByteSet.createSortedSet();
+        set.add((byte) 10);
+        set.add((byte) -10);
+        set.add(Byte.MAX_VALUE);
+        assert set.firstByte() == -10;
+        assert set.lastByte() == Byte.MAX_VALUE;
+        assert set.higher((byte) -10) == 10;
+        assert set.headSet((byte) 0).size() == 1;
+    }
+
+    @Test
+    void charStorage() {
+        CharList list = new CharList();
+        for (char c : "primavera".toCharArray()) {
+            list.add(c);
+        }
+        assert list.size() == 9;
+        assert list.get(0) == 'p';
+        assert list.indexOf('v') == 5;
+
+        CharQueue queue = CharQueue.createSpscQueue(4);
+        assert queue.offer('a');
+        assert queue.offer(Character.MAX_VALUE);
+        assert queue.poll('x') == 'a';
+        assert queue.remove() == Character.MAX_VALUE;
+        assert queue.poll('x') == 'x';
+    }
+}
\ No newline at end of file
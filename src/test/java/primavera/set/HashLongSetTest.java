@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.set;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class HashLongSetTest {
+
+    @Test
+    void addAndContains() {
+        LongSet set = LongSet.createHashSet();
+        for (int i = 0; i < 1000; i++) {
+            assert set.add(i);
+            assert !set.add(i);
+            assert set.contains(i);
+            assert set.size() == i + 1;
+        }
+        assert !set.contains(1000);
+        assert !set.contains(-1);
+    }
+
+    @Test
+    void remove() {
+        LongSet set = LongSet.createHashSet(16);
+        set.add(1);
+        set.add(2);
+        assert set.remove(1);
+        assert !set.remove(1);
+        assert !set.contains(1);
+        assert set.contains(2);
+        assert set.size() == 1;
+    }
+
+    @Test
+    void zero() {
+        LongSet set = LongSet.createHashSet();
+        assert !set.contains(0);
+        assert set.add(0);
+        assert !set.add(0);
+        assert set.contains(0);
+        assert set.size() == 1;
+        assert Arrays.equals(set.toLongArray(), new long[] {0});
+        assert set.iterator().next() == 0;
+        assert set.remove(0);
+        assert set.isEmpty();
+    }
+
+    @Test
+    void boxed() {
+        LongSet set = LongSet.createHashSet();
+        Set<Long> boxed = set;
+        assert boxed.add(Long.valueOf(3));
+        assert boxed.contains(Long.valueOf(3));
+        assert boxed.equals(Set.of(3L));
+        assert boxed.hashCode() == Set.of(3L).hashCode();
+        assert boxed.remove(Long.valueOf(3));
+        assert boxed.isEmpty();
+    }
+
+    @Test
+    void toArray() {
+        LongSet set = LongSet.createHashSet();
+        for (long i = -5; i < 5; i++) {
+            set.add(i * 1000);
+        }
+
+        long[] values = set.toLongArray();
+        Arrays.sort(values);
+        for (int i = 0; i < 10; i++) {
+            assert values[i] == (i - 5) * 1000;
+        }
+
+        Long[] boxed = set.toArray(new Long[0]);
+        Arrays.sort(boxed);
+        assert boxed.length == 10;
+        assert boxed[0] == -5000;
+        assert set.toArray().length == 10;
+    }
+
+    @Test
+    void forEachLong() {
+        LongSet set = LongSet.createHashSet();
+        for (int i = 0; i < 100; i++) {
+            set.add(i);
+        }
+
+        long[] sum = {0};
+        set.forEachLong(value -> sum[0] += value);
+        assert sum[0] == 4950;
+    }
+
+    @Test
+    void iteratorRemove() {
+        LongSet set = LongSet.createHashSet();
+        for (int i = 0; i < 1000; i++) {
+            set.add(i);
+        }
+
+        Set<Long> visited = new HashSet();
+        Iterator<Long> iterator = set.iterator();
+        while (iterator.hasNext()) {
+            long value = iterator.next();
+            assert visited.add(value);
+            if (value % 3 != 0) iterator.remove();
+        }
+        assert visited.size() == 1000;
+        assert set.size() == 334;
+        for (int i = 0; i < 1000; i++) {
+            assert set.contains(i) == (i % 3 == 0);
+        }
+    }
+
+    @Test
+    void iteratorRemoveAll() {
+        // clustered elements wrap around the end of small table
+        LongSet set = LongSet.createHashSet();
+        Random random = new Random(7);
+        for (int i = 0; i < 10000; i++) {
+            set.add(random.nextInt(64));
+
+            Set<Long> visited = new HashSet();
+            Iterator<Long> iterator = set.iterator();
+            while (iterator.hasNext()) {
+                assert visited.add(iterator.next());
+                iterator.remove();
+            }
+            assert set.isEmpty();
+        }
+    }
+
+    @Test
+    void randomOperations() {
+        LongSet set = LongSet.createHashSet();
+        Set<Long> expected = new HashSet();
+        Random random = new Random(1);
+
+        for (int i = 0; i < 100000; i++) {
+            long value = random.nextInt(2000) - 1000;
+            switch (random.nextInt(3)) {
+            case 0 -> {
+                assert set.add(value) == expected.add(value);
+            }
+            case 1 -> {
+                assert set.remove(value) == expected.remove(value);
+            }
+            default -> {
+                assert set.contains(value) == expected.contains(value);
+            }
+            }
+            assert set.size() == expected.size();
+        }
+        assert set.equals(expected);
+        assert expected.equals(set);
+    }
+
+    @Test
+    void clear() {
+        LongSet set = LongSet.createHashSet();
+        set.add(0);
+        set.add(1);
+        set.clear();
+        assert set.isEmpty();
+        assert !set.contains(0);
+        assert !set.contains(1);
+    }
+
+    @Test
+    void negativeSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongSet.createHashSet(-1));
+    }
+
+    @Test
+    void doubleSpecialValues() {
+        DoubleSet set = DoubleSet.createHashSet();
+        assert set.add(0d);
+        assert set.add(-0d);
+        assert set.add(Double.NaN);
+        assert !set.add(Double.NaN);
+        assert set.size() == 3;
+        assert set.contains(Double.NaN);
+        assert set.remove(-0d);
+        assert set.contains(0d);
+        assert !set.contains(-0d);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,295 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.set;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RoaringIntSetTest {
+
+    /**
+     * Build the random set, the elements are clustered so that all container types are used.
+     */
+    private static RoaringIntSet random(Random random, TreeSet<Integer> expected) {
+        RoaringIntSet set = new RoaringIntSet();
+        for (int chunk = -3; chunk < 3; chunk++) {
+            int base = chunk << 16;
+            switch (random.nextInt(3)) {
+            case 0 -> {
+                // sparse
+                for (int i = 0; i < 100; i++) {
+                    int value = base + random.nextInt(65536);
+                    set.add(value);
+                    expected.add(value);
+                }
+            }
+            case 1 -> {
+                // dense
+                for (int i = 0; i < 20000; i++) {
+                    int value = base + random.nextInt(65536);
+                    set.add(value);
+                    expected.add(value);
+                }
+            }
+            default -> {
+                // ranges
+                for (int i = 0; i < 10; i++) {
+                    int start = base + random.nextInt(60000);
+                    int length = random.nextInt(2000);
+                    for (int j = 0; j < length; j++) {
+                        set.add(start + j);
+                        expected.add(start + j);
+                    }
+                }
+            }
+            }
+        }
+        if (random.nextBoolean()) set.optimize();
+        return set;
+    }
+
+    private static void assertSame(NavigableIntSet set, NavigableSet<Integer> expected) {
+        assert set.size() == expected.size();
+        assert set.equals(expected);
+        assert expected.equals(set);
+        assert set.hashCode() == expected.hashCode();
+
+        List<Integer> values = new ArrayList();
+        set.iterator().forEachRemaining(values::add);
+        assert values.equals(new ArrayList(expected));
+    }
+
+    @Test
+    void empty() {
+        RoaringIntSet set = new RoaringIntSet();
+        assert !set.iterator().hasNext();
+        assert !set.descendingIterator().hasNext();
+        Assertions.assertThrows(NoSuchElementException.class, set::firstInt);
+        Assertions.assertThrows(NoSuchElementException.class, set::lastInt);
+
+        // emptied by removal
+        set.add(5);
+        set.remove(5);
+        assert set.isEmpty();
+        assert !set.iterator().hasNext();
+        assert !set.descendingIterator().hasNext();
+        assert !set.descendingSet().iterator().hasNext();
+    }
+
+    @Test
+    void addAndContains() {
+        RoaringIntSet set = new RoaringIntSet();
+        assert set.isEmpty();
+        assert set.add(1);
+        assert !set.add(1);
+        assert set.add(-1);
+        assert set.add(Integer.MIN_VALUE);
+        assert set.add(Integer.MAX_VALUE);
+        assert set.size() == 4;
+        assert set.contains(1);
+        assert set.contains(-1);
+        assert set.contains(Integer.MIN_VALUE);
+        assert set.contains(Integer.MAX_VALUE);
+        assert !set.contains(0);
+
+        assert set.firstInt() == Integer.MIN_VALUE;
+        assert set.lastInt() == Integer.MAX_VALUE;
+        assert set.remove(1);
+        assert !set.remove(1);
+        assert set.size() == 3;
+    }
+
+    @Test
+    void navigation() {
+        RoaringIntSet set = new RoaringIntSet(-70000, -5, 0, 10, 65536, 200000);
+        assert set.lower(0) == -5;
+        assert set.floor(0) == 0;
+        assert set.ceiling(1) == 10;
+        assert set.higher(10) == 65536;
+        assert set.ceiling(-69999) == -5;
+        assert set.floor(199999) == 65536;
+        Assertions.assertThrows(NoSuchElementException.class, () -> set.lower(-70000));
+        Assertions.assertThrows(NoSuchElementException.class, () -> set.higher(200000));
+        Assertions.assertThrows(NoSuchElementException.class, () -> new RoaringIntSet().firstInt());
+
+        assert set.pollFirstInt() == -70000;
+        assert set.pollLastInt() == 200000;
+        assert set.size() == 4;
+    }
+
+    @Test
+    void containerConversion() {
+        RoaringIntSet set = new RoaringIntSet();
+        TreeSet<Integer> expected = new TreeSet();
+        for (int i = 0; i < 10000; i++) {
+            set.add(i * 3);
+            expected.add(i * 3);
+        }
+        assertSame(set, expected);
+
+        for (int i = 0; i < 10000; i += 2) {
+            set.remove(i * 3);
+            expected.remove(i * 3);
+        }
+        assertSame(set, expected);
+    }
+
+    @Test
+    void optimize() {
+        RoaringIntSet set = new RoaringIntSet();
+        TreeSet<Integer> expected = new TreeSet();
+        for (int i = 0; i < 200000; i++) {
+            set.add(i);
+            expected.add(i);
+        }
+        set.optimize();
+        assertSame(set, expected);
+        assert set.lower(100000) == 99999;
+        assert set.ceiling(-5) == 0;
+
+        // mutation of run container
+        assert set.remove(500);
+        assert !set.contains(500);
+        assert set.add(500);
+        assert set.size() == 200000;
+    }
+
+    @Test
+    void toIntArray() {
+        RoaringIntSet set = new RoaringIntSet(5, -3, 100000, 7);
+        int[] values = set.toIntArray();
+        assert values.length == 4;
+        assert values[0] == -3;
+        assert values[1] == 5;
+        assert values[2] == 7;
+        assert values[3] == 100000;
+
+        long[] sum = {0};
+        set.forEachInt(value -> sum[0] += value);
+        assert sum[0] == 100009;
+    }
+
+    @Test
+    void algebra() {
+        Random random = new Random(3);
+
+        for (int round = 0; round < 20; round++) {
+            TreeSet<Integer> a = new TreeSet();
+            TreeSet<Integer> b = new TreeSet();
+            RoaringIntSet x = random(random, a);
+            RoaringIntSet y = random(random, b);
+
+            TreeSet<Integer> and = new TreeSet(a);
+            and.retainAll(b);
+            TreeSet<Integer> or = new TreeSet(a);
+            or.addAll(b);
+            TreeSet<Integer> andNot = new TreeSet(a);
+            andNot.removeAll(b);
+            TreeSet<Integer> xor = new TreeSet(or);
+            xor.removeAll(and);
+
+            assert x.andCardinality(y) == and.size();
+            assert x.orCardinality(y) == or.size();
+            assert x.andNotCardinality(y) == andNot.size();
+            assert x.xorCardinality(y) == xor.size();
+            assert x.intersects(y) == !and.isEmpty();
+
+            assertSame(new RoaringIntSet(x).and(y), and);
+            assertSame(new RoaringIntSet(x).or(y), or);
+            assertSame(new RoaringIntSet(x).andNot(y), andNot);
+            assertSame(new RoaringIntSet(x).xor(y), xor);
+
+            // operands are not modified
+            assertSame(x, a);
+            assertSame(y, b);
+        }
+    }
+
+    @Test
+    void algebraWithSelf() {
+        RoaringIntSet set = new RoaringIntSet(1, 2, 3);
+        assert set.and(set).size() == 3;
+        assert set.or(set).size() == 3;
+        assert set.xor(set).isEmpty();
+        set.add(1);
+        assert set.andNot(set).isEmpty();
+    }
+
+    @Test
+    void views() {
+        Random random = new Random(5);
+        TreeSet<Integer> expected = new TreeSet();
+        RoaringIntSet set = random(random, expected);
+
+        for (int i = 0; i < 50; i++) {
+            int from = random.nextInt(6 << 16) - (3 << 16);
+            int to = from + random.nextInt(100000);
+            boolean fromInclusive = random.nextBoolean();
+            boolean toInclusive = random.nextBoolean();
+
+            assertSame(set.subSet(from, fromInclusive, to, toInclusive), expected.subSet(from, fromInclusive, to, toInclusive));
+            assertSame(set.headSet(to, toInclusive), expected.headSet(to, toInclusive));
+            assertSame(set.tailSet(from, fromInclusive), expected.tailSet(from, fromInclusive));
+            assertSame(set.descendingSet().subSet(to, toInclusive, from, fromInclusive), expected.descendingSet()
+                    .subSet(to, toInclusive, from, fromInclusive));
+
+            NavigableIntSet view = set.subSet(from, true, to, true);
+            NavigableSet<Integer> expectedView = expected.subSet(from, true, to, true);
+            if (!expectedView.isEmpty()) {
+                assert view.firstInt() == expectedView.first();
+                assert view.lastInt() == expectedView.last();
+                assert view.descendingSet().firstInt() == expectedView.last();
+                assert view.ceiling(from + 1) == expectedView.ceiling(from + 1);
+            }
+        }
+    }
+
+    @Test
+    void viewUpdate() {
+        RoaringIntSet set = new RoaringIntSet(1, 2, 3, 4, 5);
+        NavigableIntSet view = set.subSet(2, true, 4, true);
+        assert view.size() == 3;
+        assert view.add(3) == false;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> view.add(10));
+        assert view.remove(2);
+        assert !view.remove(5);
+        view.clear();
+        assert set.equals(new RoaringIntSet(1, 5));
+    }
+
+    @Test
+    void iteratorRemove() {
+        RoaringIntSet set = new RoaringIntSet();
+        for (int i = 0; i < 10000; i++) {
+            set.add(i);
+        }
+
+        Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) iterator.remove();
+        }
+        assert set.size() == 5000;
+        assert set.firstInt() == 1;
+
+        Iterator<Integer> descending = set.descendingIterator();
+        assert descending.next() == 9999;
+        descending.remove();
+        assert descending.next() == 9997;
+        assert set.size() == 4999;
+    }
+}
\ No newline at end of file
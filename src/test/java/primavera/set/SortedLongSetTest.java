@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2025 The PRIMAVERA Development Team
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          https://opensource.org/licenses/MIT
+ */
+package primavera.set;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SortedLongSetTest {
+
+    private static void assertSame(NavigableLongSet set, NavigableSet<Long> expected) {
+        assert set.size() == expected.size();
+        assert set.equals(expected);
+        assert expected.equals(set);
+
+        List<Long> values = new ArrayList();
+        set.iterator().forEachRemaining(values::add);
+        assert values.equals(new ArrayList(expected));
+
+        List<Long> each = new ArrayList();
+        set.forEachLong(each::add);
+        assert each.equals(values);
+
+        List<Long> descending = new ArrayList();
+        set.descendingIterator().forEachRemaining(descending::add);
+        assert descending.equals(new ArrayList(expected.descendingSet()));
+    }
+
+    @Test
+    void addAndContains() {
+        ConcurrentNavigableLongSet set = LongSet.createSortedSet();
+        assert set.isEmpty();
+        assert set.add(5);
+        assert !set.add(5);
+        assert set.add(0);
+        assert set.add(Long.MIN_VALUE);
+        assert set.add(Long.MAX_VALUE);
+        assert set.size() == 4;
+        assert set.contains(0);
+        assert set.contains(Long.MIN_VALUE);
+        assert !set.contains(1);
+
+        assert set.firstLong() == Long.MIN_VALUE;
+        assert set.lastLong() == Long.MAX_VALUE;
+        assert set.remove(0);
+        assert !set.remove(0);
+        assert set.size() == 3;
+    }
+
+    @Test
+    void navigation() {
+        ConcurrentNavigableLongSet set = LongSet.createSortedSet();
+        for (long value : new long[] {-10, -5, 0, 10, 20}) {
+            set.add(value);
+        }
+        assert set.lower(0) == -5;
+        assert set.floor(0) == 0;
+        assert set.ceiling(1) == 10;
+        assert set.higher(10) == 20;
+        Assertions.assertThrows(NoSuchElementException.class, () -> set.lower(-10));
+        Assertions.assertThrows(NoSuchElementException.class, () -> set.higher(20));
+        Assertions.assertThrows(NoSuchElementException.class, () -> LongSet.createSortedSet().firstLong());
+
+        assert set.pollFirstLong() == -10;
+        assert set.pollLastLong() == 20;
+        assert set.size() == 3;
+        set.clear();
+        assert set.isEmpty();
+        Assertions.assertThrows(NoSuchElementException.class, () -> set.pollFirstLong());
+    }
+
+    @Test
+    void comparator() {
+        ConcurrentNavigableLongSet set = LongSet.createSortedSet((a, b) -> Long.compare(b, a));
+        set.add(1);
+        set.add(3);
+        set.add(2);
+        assert set.firstLong() == 3;
+        assert set.lastLong() == 1;
+        assert set.toLongArray()[1] == 2;
+    }
+
+    @Test
+    void random() {
+        Random random = new Random(7);
+        ConcurrentNavigableLongSet set = LongSet.createSortedSet();
+        TreeSet<Long> expected = new TreeSet();
+
+        for (int i = 0; i < 20000; i++) {
+            long value = random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                assert set.remove(value) == expected.remove(value);
+            } else {
+                assert set.add(value) == expected.add(value);
+            }
+        }
+        assertSame(set, expected);
+    }
+
+    @Test
+    void views() {
+        Random random = new Random(11);
+        ConcurrentNavigableLongSet set = LongSet.createSortedSet();
+        TreeSet<Long> expected = new TreeSet();
+        for (int i = 0; i < 2000; i++) {
+            long value = random.nextInt(10000);
+            set.add(value);
+            expected.add(value);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            long from = random.nextInt(10000);
+            long to = from + random.nextInt(3000);
+            boolean fromInclusive = random.nextBoolean();
+            boolean toInclusive = random.nextBoolean();
+
+            assertSame(set.subSet(from, fromInclusive, to, toInclusive), expected.subSet(from, fromInclusive, to, toInclusive));
+            assertSame(set.headSet(to, toInclusive), expected.headSet(to, toInclusive));
+            assertSame(set.tailSet(from, fromInclusive), expected.tailSet(from, fromInclusive));
+            assertSame(set.descendingSet(), expected.descendingSet());
+            assertSame(set.descendingSet().subSet(to, toInclusive, from, fromInclusive), expected.descendingSet()
+                    .subSet(to, toInclusive, from, fromInclusive));
+
+            NavigableLongSet view = set.subSet(from, true, to, true);
+            NavigableSet<Long> expectedView = expected.subSet(from, true, to, true);
+            if (!expectedView.isEmpty()) {
+                assert view.firstLong() == expectedView.first();
+                assert view.lastLong() == expectedView.last();
+                assert view.descendingSet().firstLong() == expectedView.last();
+                assert view.ceiling(from + 1) == expectedView.ceiling(from + 1);
+            }
+        }
+    }
+
+    @Test
+    void viewUpdate() {
+        ConcurrentNavigableLongSet set = LongSet.createSortedSet();
+        for (long i = 1; i <= 5; i++) {
+            set.add(i);
+        }
+        ConcurrentNavigableLongSet view = set.subSet(2, true, 4, true);
+        assert view.size() == 3;
+        assert !view.add(3);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> view.add(10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> view.subSet(0, 3));
+        assert view.remove(2);
+        assert !view.remove(5);
+        assert view.pollLastLong() == 4;
+        assert view.descendingSet().pollFirstLong() == 3;
+        assert view.isEmpty();
+        assert set.size() == 2;
+        assert set.contains(1);
+        assert set.contains(5);
+    }
+
+    @Test
+    void iteratorRemove() {
+        ConcurrentNavigableLongSet set = LongSet.createSortedSet();
+        for (int i = 0; i < 1000; i++) {
+            set.add(i);
+        }
+
+        Iterator<Long> iterator = set.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) iterator.remove();
+        }
+        assert set.size() == 500;
+        assert set.firstLong() == 1;
+
+        Iterator<Long> descending = set.descendingIterator();
+        assert descending.next() == 999;
+        descending.remove();
+        assert descending.next() == 997;
+        assert set.size() == 499;
+    }
+
+    @Test
+    void concurrent() throws Exception {
+        ConcurrentNavigableLongSet set = LongSet.createSortedSet();
+        ConcurrentSkipListSet<Long> expected = new ConcurrentSkipListSet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    // each thread owns the disjoint range, so the final content is deterministic
+                    for (long i = 0; i < 5000; i++) {
+                        long value = i * 4 + thread;
+                        set.add(value);
+                        if (i % 3 == 0) {
+                            set.remove(value);
+                        } else {
+                            expected.add(value);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertSame(set, expected);
+    }
+}
\ No newline at end of file